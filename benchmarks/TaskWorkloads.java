@@ -0,0 +1,464 @@
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import jmh.Workload;
+import jmh.WorkloadFactory;
+
+/**
+* @author Ayra Babar
+* @file TaskWorkloads.java
+* @brief This file contains the benchmark workloads for the task data structures and the Task
+*        Manager. Each workload runs one operation per call against a pre-built data set, and
+*        mutating workloads undo themselves (delete + re-add) so the data set size stays fixed.
+*        Only the Task Manager and write pipeline workloads are thread-safe and shared by every
+*        benchmark thread (-t), to see how its locking scales. The tree, ID map, queue and history
+*        workloads change unsynchronized structures, so each thread gets its own data set and
+*        workload
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Calendar queue workloads next to the binary heap ones
+* 10/18/2026 - History workloads on the ring buffer history log
+* 10/18/2026 - Text search workloads
+* 10/18/2026 - Composite query workload
+* 10/18/2026 - Churn workload through the write pipeline, for comparing writer thread counts
+* 10/18/2026 - Raw data structure workloads built per thread instead of shared
+*/
+
+public class TaskWorkloads implements WorkloadFactory {
+
+	private static final int STREAM_LENGTH = 1 << 16;	// length of the pre-generated key streams
+	private static final int TOP_K = 50;
+	private static final int RANGE_DAYS = 7;
+	private static final int HISTORY_CAPACITY = 1_000_000;
+	private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+	private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	/**
+    * Builds a workload over a freshly generated data set
+    *
+    * @param operation name of the operation to measure
+    * @param size number of tasks in the data set
+    * @param distribution key distribution: SEQUENTIAL, RANDOM or SKEWED
+    *
+    * @return the workload, ready to run
+    */
+	@Override
+	public Workload create(String operation, int size, String distribution) {
+
+		Dataset data = new Dataset(size, distribution);
+
+		switch(operation) {
+
+		case "tree.lookup": {
+			BinarySearchTree tree = data.buildTree();
+			return new StreamWorkload(data) {
+				public Object run() {
+					return tree.search(nextTask().getID());
+				}
+			};
+		}
+
+		case "tree.churn": {
+			BinarySearchTree tree = data.buildTree();
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					tree.delete(task);
+					return tree.add(task);
+				}
+			};
+		}
+
+		case "idmap.lookup": {
+			TaskIdMap map = data.buildIdMap();
+			return new StreamWorkload(data) {
+				public Object run() {
+					return map.get(nextTask().getID());
+				}
+			};
+		}
+
+		case "idmap.churn": {
+			TaskIdMap map = data.buildIdMap();
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					map.remove(task.getID());
+					return map.put(task);
+				}
+			};
+		}
+
+		case "heap.churn":
+		case "calendar.churn": {
+			TaskScheduler queue = data.buildScheduler(operation);
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					queue.remove(task);
+					queue.add(task);
+					return queue.peek();
+				}
+			};
+		}
+
+		case "heap.rekey":
+		case "calendar.rekey": {
+			TaskScheduler queue = data.buildScheduler(operation);
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					task.setDueDate(nextDueDate());
+					queue.update(task);
+					return queue.peek();
+				}
+			};
+		}
+
+		case "heap.topK":
+		case "calendar.topK": {
+			TaskScheduler queue = data.buildScheduler(operation);
+			return () -> queue.topK(TOP_K);
+		}
+
+		case "pq.churn": {
+			// java.util.PriorityQueue baseline: remove(Object) is a linear scan
+			PriorityQueue<Task> queue = new PriorityQueue<>(new TaskComparator());
+			for(Task task : data.tasks) {
+				queue.add(task);
+			}
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					queue.remove(task);
+					queue.add(task);
+					return queue.peek();
+				}
+			};
+		}
+
+		case "manager.search": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					return manager.search(nextTask().getID());
+				}
+			};
+		}
+
+		case "manager.churn": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task added = manager.addTask("Benchmark task", "Added and deleted again", 3, nextDueDate());
+					return manager.deleteTask(added.getID());
+				}
+			};
+		}
+
+		case "pipeline.churn": {
+			// Same change as manager.churn, queued through the single-writer pipeline
+			TaskWritePipeline pipeline = new TaskWritePipeline(data.buildManager());
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task added = pipeline.addTask("Benchmark task", "Added and deleted again", 3, nextDueDate()).join();
+					return pipeline.deleteTask(added.getID()).join();
+				}
+			};
+		}
+
+		case "manager.editDueDate": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					return manager.editDueDate(nextTask().getID(), nextDueDate());
+				}
+			};
+		}
+
+		case "manager.range": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					int low = nextDueDate();
+					return manager.range(low, rangeEnd());
+				}
+			};
+		}
+
+		case "manager.textSearch": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					return manager.searchText(nextTask().getName());
+				}
+			};
+		}
+
+		case "manager.textPrefix": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					String name = nextTask().getName();
+					return manager.searchPrefix(name.substring(0, Math.min(name.length(), 9)));
+				}
+			};
+		}
+
+		case "manager.query": {
+			TaskManager manager = data.buildManager();
+			return new StreamWorkload(data) {
+				public Object run() {
+					int low = nextDueDate();
+					return manager.query(new TaskQuery().priorityBetween(1, 2).dueBetween(low, rangeEnd()).containing("benchmark"));
+				}
+			};
+		}
+
+		case "manager.topK": {
+			TaskManager manager = data.buildManager();
+			return () -> manager.topK(TOP_K);
+		}
+
+		case "history.append": {
+			HistoryLog historyLog = new HistoryLog(HISTORY_CAPACITY);
+			return new StreamWorkload(data) {
+				public Object run() {
+					Task task = nextTask();
+					historyLog.insertion(task.getID(), task.getName());
+					return historyLog.getEntry(1);
+				}
+			};
+		}
+
+		case "history.read": {
+			HistoryLog historyLog = new HistoryLog(HISTORY_CAPACITY);
+			for(Task task : data.tasks) {
+				historyLog.insertion(task.getID(), task.getName());
+			}
+			return () -> historyLog.getEntries();
+		}
+
+		default:
+			throw new IllegalArgumentException("Unknown benchmark operation: " + operation);
+		}
+	}
+
+	/**
+    * Tells whether a workload can be run by several benchmark threads at once: only the ones
+    * going through a Task Manager or a write pipeline
+    *
+    * @param operation name of the operation to measure
+    *
+    * @return true for "manager." and "pipeline." operations
+    */
+	@Override
+	public boolean isThreadSafe(String operation) {
+		return operation.startsWith("manager.") || operation.startsWith("pipeline.");
+	}
+
+	/**
+	* Generated tasks plus pre-computed streams of task picks and due dates, so the measured
+	* operations never spend time on random number generation
+	*/
+	private static class Dataset {
+
+		final Task[] tasks;		// in insertion order
+		final int[] picks;		// indexes into tasks
+		final int[] dueDates;	// YYYYMMDD values
+		final int[] rangeEnds;	// last day of a range starting at the matching due date
+
+		/**
+	    * Generates a data set
+	    *
+	    * @param size number of tasks
+	    * @param distribution SEQUENTIAL (ascending IDs and dates), RANDOM (shuffled, uniform),
+	    *        or SKEWED (shuffled, 80% of accesses and due dates on a hot 20%)
+	    */
+		Dataset(int size, String distribution) {
+
+			Random random = new Random(42);
+			boolean sequential = distribution.equals("SEQUENTIAL");
+			boolean skewed = distribution.equals("SKEWED");
+
+			if(!sequential && !skewed && !distribution.equals("RANDOM")) {
+				throw new IllegalArgumentException("Unknown key distribution: " + distribution);
+			}
+
+			tasks = new Task[size];
+			for(int i = 0; i < size; i++) {
+				int day = sequential ? (int) ((long) i * 365 / size) : pickDay(random, skewed);
+				tasks[i] = new Task("Task " + i, "Benchmark task number " + i, 1 + random.nextInt(5), dueDate(day));
+			}
+
+			if(!sequential) {
+				for(int i = size - 1; i > 0; i--) {
+					int j = random.nextInt(i + 1);
+					Task swap = tasks[i];
+					tasks[i] = tasks[j];
+					tasks[j] = swap;
+				}
+			}
+
+			picks = new int[STREAM_LENGTH];
+			dueDates = new int[STREAM_LENGTH];
+			rangeEnds = new int[STREAM_LENGTH];
+			int hot = Math.max(1, size / 5);
+
+			for(int i = 0; i < STREAM_LENGTH; i++) {
+				if(sequential) {
+					picks[i] = i % size;
+				} else if(skewed && random.nextInt(10) < 8) {
+					picks[i] = random.nextInt(hot);
+				} else {
+					picks[i] = random.nextInt(size);
+				}
+
+				int day = sequential ? i % 365 : pickDay(random, skewed);
+				dueDates[i] = dueDate(day);
+				rangeEnds[i] = dueDate(day + RANGE_DAYS - 1);
+			}
+		}
+
+		/**
+	    * Picks a day offset within the year
+	    *
+	    * @param random random source
+	    * @param skewed true to put 80% of the days within the first two weeks
+	    *
+	    * @return day offset from the first day
+	    */
+		private static int pickDay(Random random, boolean skewed) {
+			if(skewed && random.nextInt(10) < 8) {
+				return random.nextInt(14);
+			}
+			return random.nextInt(365);
+		}
+
+		/**
+	    * Converts a day offset to a due date
+	    *
+	    * @param day day offset from the first day
+	    *
+	    * @return due date (format: YYYYMMDD)
+	    */
+		private static int dueDate(int day) {
+			return Integer.parseInt(FIRST_DAY.plusDays(day).format(YYYYMMDD));
+		}
+
+		/**
+	    * Builds a BST by inserting the tasks one by one in insertion order
+	    *
+	    * @return the filled tree
+	    */
+		BinarySearchTree buildTree() {
+			BinarySearchTree tree = new BinarySearchTree();
+			for(Task task : tasks) {
+				tree.add(task);
+			}
+			return tree;
+		}
+
+		/**
+	    * Builds an ID map of the tasks
+	    *
+	    * @return the filled map
+	    */
+		TaskIdMap buildIdMap() {
+			TaskIdMap map = new TaskIdMap();
+			for(Task task : tasks) {
+				map.put(task);
+			}
+			return map;
+		}
+
+		/**
+	    * Builds a scheduler by adding the tasks one by one
+	    *
+	    * @param operation a "calendar." operation for a calendar queue, otherwise an indexed 
+	    *        priority queue
+	    *
+	    * @return the filled scheduler
+	    */
+		TaskScheduler buildScheduler(String operation) {
+			TaskScheduler queue = operation.startsWith("calendar.")
+					? new CalendarQueue() : new IndexedPriorityQueue(new TaskComparator());
+			for(Task task : tasks) {
+				queue.add(task);
+			}
+			return queue;
+		}
+
+		/**
+	    * Builds a Task Manager holding all the tasks through the bulk import path
+	    *
+	    * @return the filled Task Manager
+	    */
+		TaskManager buildManager() {
+			List<Task> batch = new ArrayList<>(tasks.length);
+			for(Task task : tasks) {
+				batch.add(task);
+			}
+
+			TaskManager manager = new TaskManager();
+			manager.addTasks(batch);
+			return manager;
+		}
+	}
+
+	/**
+	* Workload that walks the pre-computed task and due date streams. The cursors are not
+	* synchronized: threads sharing a Task Manager workload may repeat or skip a pick, which only
+	* changes which task an operation reads
+	*/
+	private abstract static class StreamWorkload implements Workload {
+
+		private final Dataset data;
+		private int taskCursor;
+		private int dateCursor;
+
+		/**
+	    * Constructs a workload positioned at the start of both streams
+	    *
+	    * @param data the data set to read from
+	    */
+		StreamWorkload(Dataset data) {
+			this.data = data;
+		}
+
+		/**
+	    * Returns the next task from the pick stream
+	    *
+	    * @return a task of the data set
+	    */
+		protected Task nextTask() {
+			taskCursor = (taskCursor + 1) & (STREAM_LENGTH - 1);
+			return data.tasks[data.picks[taskCursor]];
+		}
+
+		/**
+	    * Returns the next due date from the date stream
+	    *
+	    * @return due date (format: YYYYMMDD)
+	    */
+		protected int nextDueDate() {
+			dateCursor = (dateCursor + 1) & (STREAM_LENGTH - 1);
+			return data.dueDates[dateCursor];
+		}
+
+		/**
+	    * Returns the end of a date range starting at the last due date returned
+	    *
+	    * @return due date a week after the last one (format: YYYYMMDD)
+	    */
+		protected int rangeEnd() {
+			return data.rangeEnds[dateCursor];
+		}
+	}
+}
+
+// END OF TaskWorkloads.java
\ No newline at end of file
@@ -0,0 +1,111 @@
+package jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+* @author Ayra Babar
+* @file TaskBenchmarks.java
+* @brief This file contains the JMH benchmark suite for every task data structure and the
+*        TaskManager operations, parameterized by data set size and key distribution. With several
+*        threads (-t), thread-safe workloads are shared by every thread and the others are built
+*        once per thread
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Calendar queue operations
+* 10/18/2026 - Text search operations
+* 10/18/2026 - Composite query operation
+* 10/18/2026 - Write pipeline churn operation
+* 10/18/2026 - Workloads that are not thread-safe built per thread
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TaskBenchmarks {
+
+	@Param({
+		"tree.lookup", "tree.churn",
+		"idmap.lookup", "idmap.churn",
+		"heap.churn", "heap.rekey", "heap.topK",
+		"calendar.churn", "calendar.rekey", "calendar.topK",
+		"pq.churn",
+		"manager.search", "manager.churn", "pipeline.churn", "manager.editDueDate", "manager.range", "manager.topK",
+		"manager.textSearch", "manager.textPrefix", "manager.query",
+		"history.append", "history.read"
+	})
+	public String operation;
+
+	@Param({"1000", "100000", "1000000"})
+	public int size;
+
+	@Param({"SEQUENTIAL", "RANDOM", "SKEWED"})
+	public String distribution;
+
+	private WorkloadFactory factory;
+	private Workload shared;		// null unless the workload is thread-safe
+
+	/**
+    * Loads the workload factory, and builds the data set and workload for the current parameter
+    * combination if every thread can share it
+    *
+    * @throws ReflectiveOperationException if the workload factory cannot be loaded
+    */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		factory = (WorkloadFactory) Class.forName("TaskWorkloads")
+			.getDeclaredConstructor().newInstance();
+		if(factory.isThreadSafe(operation)) {
+			shared = factory.create(operation, size, distribution);
+		}
+	}
+
+	/**
+	* The workload run by one benchmark thread: the shared one, or a thread's own copy of one
+	* that is not thread-safe
+	*/
+	@State(Scope.Thread)
+	public static class ThreadWorkload {
+
+		private Workload workload;
+
+		/**
+	    * Picks the shared workload, or builds this thread's own data set and workload
+	    *
+	    * @param benchmark the benchmark state holding the parameters
+	    */
+		@Setup
+		public void setUp(TaskBenchmarks benchmark) {
+			workload = (benchmark.shared != null) ? benchmark.shared
+				: benchmark.factory.create(benchmark.operation, benchmark.size, benchmark.distribution);
+		}
+	}
+
+	/**
+    * Runs one operation of the selected workload
+    *
+    * @param thread the calling thread's workload
+    *
+    * @return the operation result, consumed by JMH
+    */
+	@Benchmark
+	public Object run(ThreadWorkload thread) {
+		return thread.workload.run();
+	}
+}
+
+// END OF TaskBenchmarks.java
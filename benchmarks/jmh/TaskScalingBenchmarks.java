@@ -0,0 +1,107 @@
+package jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+* @author Ayra Babar
+* @file TaskScalingBenchmarks.java
+* @brief This file contains the JMH benchmarks for how Task Manager throughput changes with the
+*        number of threads. One Task Manager is shared by every thread, and each operation is run
+*        with 1, 2, 4 and 8 threads, so the scores of one operation read as its scaling curve.
+*        Every mutation takes the manager's single write lock, so write throughput is expected to
+*        stay flat (or drop) as threads are added, while lookups share the read lock
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TaskScalingBenchmarks {
+
+	// Only Task Manager level workloads, which are safe to share between threads
+	@Param({"manager.churn", "manager.editDueDate", "pipeline.churn", "manager.search"})
+	public String operation;
+
+	@Param({"100000"})
+	public int size;
+
+	@Param({"RANDOM"})
+	public String distribution;
+
+	private Workload workload;
+
+	/**
+    * Builds the data set and the shared workload for the current parameter combination
+    *
+    * @throws ReflectiveOperationException if the workload factory cannot be loaded
+    */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		WorkloadFactory factory = (WorkloadFactory) Class.forName("TaskWorkloads")
+			.getDeclaredConstructor().newInstance();
+		workload = factory.create(operation, size, distribution);
+	}
+
+	/**
+    * Runs the operation on one thread
+    *
+    * @return the operation result, consumed by JMH
+    */
+	@Benchmark
+	@Threads(1)
+	public Object threads1() {
+		return workload.run();
+	}
+
+	/**
+    * Runs the operation on two threads sharing the Task Manager
+    *
+    * @return the operation result, consumed by JMH
+    */
+	@Benchmark
+	@Threads(2)
+	public Object threads2() {
+		return workload.run();
+	}
+
+	/**
+    * Runs the operation on four threads sharing the Task Manager
+    *
+    * @return the operation result, consumed by JMH
+    */
+	@Benchmark
+	@Threads(4)
+	public Object threads4() {
+		return workload.run();
+	}
+
+	/**
+    * Runs the operation on eight threads sharing the Task Manager
+    *
+    * @return the operation result, consumed by JMH
+    */
+	@Benchmark
+	@Threads(8)
+	public Object threads8() {
+		return workload.run();
+	}
+}
+
+// END OF TaskScalingBenchmarks.java
@@ -0,0 +1,21 @@
+package jmh;
+
+/**
+* @author Ayra Babar
+* @file Workload.java
+* @brief This file contains the single operation measured by a benchmark run
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public interface Workload {
+
+	/**
+    * Performs one benchmarked operation
+    *
+    * @return a value derived from the operation so the JIT cannot remove it
+    */
+	Object run();
+}
+
+// END OF Workload.java
@@ -0,0 +1,38 @@
+package jmh;
+
+/**
+* @author Ayra Babar
+* @file WorkloadFactory.java
+* @brief This file contains the factory that builds benchmark workloads. JMH does not allow
+*        benchmarks in the default package and the task classes live there, so the workloads
+*        are built by a default package class (TaskWorkloads) behind this interface
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Thread safety of a workload, so only safe ones are shared between threads
+*/
+
+public interface WorkloadFactory {
+
+	/**
+    * Builds a workload over a freshly generated data set
+    *
+    * @param operation name of the operation to measure (for example "tree.lookup")
+    * @param size number of tasks in the data set
+    * @param distribution key distribution: SEQUENTIAL, RANDOM or SKEWED
+    *
+    * @return the workload, ready to run
+    */
+	Workload create(String operation, int size, String distribution);
+
+	/**
+    * Tells whether a workload can be run by several benchmark threads at once
+    *
+    * @param operation name of the operation to measure
+    *
+    * @return true if one workload can be shared by every thread, false if each thread needs
+    *         its own
+    */
+	boolean isThreadSafe(String operation);
+}
+
+// END OF WorkloadFactory.java
@@ -0,0 +1,1240 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+* @author Ayra Babar
+* @file AuditTrail.java
+* @brief This file contains the audit trail, an unbounded record of every history event kept
+*        in time order and indexed by task ID and by operation. Each index is a list of event
+*        numbers in time order, so "all changes to task X" and "all deletions between T1 and
+*        T2" are one index lookup per segment, a binary search for the start time, then a walk
+*        over the k matching events, instead of scanning the whole trail. An import or a clear
+*        is one shared event that is also posted under every task it added or removed, and
+*        under CREATED or DELETED respectively, so both kinds of lookup see every task that was
+*        added or removed
+*
+* The trail is a directory of segments, each named after the number of its first event. Only the
+* newest segment is held in memory, in column chunks of a fixed size that are never copied, and
+* each of its events is also appended to the segment's log file. Once it holds SEGMENT_EVENTS
+* events (or an import or clear posted it under many tasks), the next flush() writes it out as a
+* segment file with its task and operation indexes and deletes its log. Segment files never
+* change and are memory-mapped only when a lookup first needs them, so opening the trail reads
+* one log and lists the directory however long the history is. Event numbers are longs; inside
+* a segment they are int offsets from its first event.
+*
+* Events are buffered in memory and written and fsynced by flush(), which a durable Task Manager
+* runs inside each write-ahead log group commit, before the log itself is forced. flush() only
+* holds the lock long enough to take the buffered bytes, so appends and lookups carry on while
+* the files are written, and lookups read segment files without the lock. Log record layout:
+* int payload length, int CRC32 of the payload, then the payload (operation, field, task ID,
+* timestamp, name, and for IMPORTED and CLEARED the number of affected tasks followed by their
+* IDs). Loading stops at the first incomplete or corrupt record and cuts the log there.
+*
+* Segment file layout: int magic, int version, int event count, int number of tasks, int task
+* postings, int operation postings, long first and last timestamp; one entry per event (byte
+* operation, byte field, long task ID, long timestamp, int name offset, int name length or -1);
+* the task index (long task ID and int start of its postings, by ascending ID); the task
+* postings; the start of each operation's postings plus one end; the operation postings; and the
+* UTF-8 names. It is written to a temporary file, forced and renamed before its log is deleted.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Lock instead of synchronized methods, like the write-ahead log; it guards memory
+*              only and is never held across file I/O
+* 10/18/2026 - Events forced to disk with the write-ahead log, imports and clears indexed per task
+* 10/18/2026 - File written outside the lock, so an fsync no longer holds up appends
+* 10/18/2026 - Indexed segment files read lazily, only the newest segment kept in memory, long
+*              event numbers
+*/
+
+public class AuditTrail implements Closeable, Flushable {
+
+	static final int SEGMENT_EVENTS = 1 << 16;			// events per segment
+	private static final int CHUNK_EVENTS = 1 << 12;	// events per column chunk of the segment in memory
+	private static final int POSTINGS_PER_EVENT = 4;	// a segment is also full at this many task postings per event
+
+	private static final HistoryEvent.Operation[] OPERATIONS = HistoryEvent.Operation.values();
+	private static final HistoryEvent.Field[] FIELDS = HistoryEvent.Field.values();
+	private static final byte NO_FIELD = -1;
+	private static final int HEADER_BYTES = 8;
+	private static final long[] NO_TASKS = new long[0];
+
+	private static final int SEGMENT_MAGIC = 0x41554454;	// "AUDT"
+	private static final int SEGMENT_VERSION = 1;
+	private static final int SEGMENT_HEADER_BYTES = 40;
+	private static final int EVENT_BYTES = 26;
+	private static final int TASK_ENTRY_BYTES = 12;
+	private static final String LOG_SUFFIX = ".log";
+	private static final String SEGMENT_SUFFIX = ".seg";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	/**
+	* Offsets of events in one segment, in the order the events happened
+	*/
+	private interface EventList {
+
+		/**
+	    * @return number of events in the list
+	    */
+		int size();
+
+		/**
+	    * @param index position in the list
+	    *
+	    * @return offset of the event in its segment
+	    */
+		int get(int index);
+	}
+
+	/**
+	* Growable list of event offsets in the segment held in memory. A segment is written out
+	* before any list outgrows its postings limit, so a copy stays small
+	*/
+	private static final class Postings implements EventList {
+
+		private int[] events;
+		private int size;
+
+		/**
+	    * @param capacity number of offsets held before the list grows
+	    */
+		Postings(int capacity) {
+			this.events = new int[capacity];
+		}
+
+		/**
+	    * @param event event offset to append
+	    */
+		void add(int event) {
+			if(size == events.length) {
+				events = Arrays.copyOf(events, size * 2);
+			}
+			events[size++] = event;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		public int get(int index) {
+			return events[index];
+		}
+	}
+
+	/**
+	* Event offsets stored in a segment file
+	*/
+	private static final class MappedPostings implements EventList {
+
+		private final ByteBuffer buffer;
+		private final int offset;
+		private final int size;
+
+		/**
+	    * @param buffer the mapped segment file
+	    * @param offset byte position of the first offset
+	    * @param size number of offsets
+	    */
+		MappedPostings(ByteBuffer buffer, int offset, int size) {
+			this.buffer = buffer;
+			this.offset = offset;
+			this.size = size;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		public int get(int index) {
+			return buffer.getInt(offset + index * 4);
+		}
+	}
+
+	/**
+	* A run of consecutive events in time order, with their task and operation indexes
+	*/
+	private abstract static class Segment {
+
+		final long firstEvent;		// number of the segment's first event
+
+		/**
+	    * @param firstEvent number of the segment's first event
+	    */
+		Segment(long firstEvent) {
+			this.firstEvent = firstEvent;
+		}
+
+		/**
+	    * @return number of events in the segment
+	    */
+		abstract int count();
+
+		/**
+	    * @param event offset of the event
+	    *
+	    * @return when it happened, in milliseconds since the epoch
+	    */
+		abstract long timestampAt(int event);
+
+		/**
+	    * @param event offset of the event
+	    *
+	    * @return the event copied out into an event object
+	    */
+		abstract HistoryEvent eventAt(int event);
+
+		/**
+	    * @param ID the task ID
+	    *
+	    * @return the events about the task, or null if there are none
+	    */
+		abstract EventList forTask(long ID);
+
+		/**
+	    * @param operation operation ordinal
+	    *
+	    * @return the events of that kind
+	    */
+		abstract EventList ofOperation(int operation);
+
+		/**
+	    * @return every event of the segment
+	    */
+		EventList all() {
+			int count = count();
+			return new EventList() {
+				public int size() {
+					return count;
+				}
+				public int get(int index) {
+					return index;
+				}
+			};
+		}
+
+		/**
+	    * Checks whether any event of the segment can lie between two times (inclusive)
+	    *
+	    * @param from earliest time
+	    * @param to latest time
+	    *
+	    * @return false if the segment can be skipped
+	    */
+		boolean overlaps(long from, long to) {
+			int count = count();
+			return count > 0 && timestampAt(0) <= to && timestampAt(count - 1) >= from;
+		}
+
+		/**
+	    * Adds the events of a list that lie between two times (inclusive) to a result
+	    *
+	    * @param events event offsets in time order, may be null
+	    * @param from earliest time
+	    * @param to latest time
+	    * @param found where the events are added, oldest first
+	    */
+		void collect(EventList events, long from, long to, List<HistoryEvent> found) {
+
+			if(events == null) {
+				return;
+			}
+
+			// Binary search for the first event at or after the start time
+			int low = 0;
+			int high = events.size();
+			while(low < high) {
+				int middle = (low + high) >>> 1;
+				if(timestampAt(events.get(middle)) < from) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+
+			for(int i = low; i < events.size() && timestampAt(events.get(i)) <= to; i++) {
+				found.add(eventAt(events.get(i)));
+			}
+		}
+	}
+
+	/**
+	* The newest events, held in memory and logged to the segment's log file until the segment
+	* is full and written out as a segment file. Once full it no longer changes
+	*/
+	private static final class OpenSegment extends Segment {
+
+		private final int capacity;		// events the segment takes
+		private final int chunkEvents;
+
+		// One column per event part, each split into chunks that are allocated as the segment fills
+		private final byte[][] operations;
+		private final byte[][] fields;
+		private final long[][] taskIDs;		// number of tasks for IMPORTED events (the IDs are only in the postings)
+		private final long[][] timestamps;	// milliseconds since the epoch, never decreasing
+		private final String[][] taskNames;
+		private int size;
+		private int postingCount;		// entries in all task postings
+
+		private final Map<Long, Postings> byTask = new HashMap<>();
+		private final Postings[] byOperation = new Postings[OPERATIONS.length];
+
+		private final Path logFile;
+		private FileChannel channel;	// opened by the first flush with records for it, only flush() writes it
+		private ByteArrayOutputStream pending = new ByteArrayOutputStream();	// records not yet written
+
+		/**
+	    * @param firstEvent number of the segment's first event
+	    * @param logFile path of the segment's log file
+	    * @param capacity events the segment takes
+	    */
+		OpenSegment(long firstEvent, Path logFile, int capacity) {
+			super(firstEvent);
+			this.logFile = logFile;
+			this.capacity = capacity;
+			this.chunkEvents = Math.min(CHUNK_EVENTS, capacity);
+
+			int chunks = (capacity + chunkEvents - 1) / chunkEvents;
+			this.operations = new byte[chunks][];
+			this.fields = new byte[chunks][];
+			this.taskIDs = new long[chunks][];
+			this.timestamps = new long[chunks][];
+			this.taskNames = new String[chunks][];
+
+			// Each event is posted under at most two operations, once under each
+			for(int i = 0; i < byOperation.length; i++) {
+				byOperation[i] = new Postings(Math.min(capacity, CHUNK_EVENTS));
+			}
+		}
+
+		/**
+	    * Checks whether the segment takes no more events
+	    *
+	    * @return true once it holds its capacity of events or of task postings
+	    */
+		boolean isFull() {
+			return size == capacity || postingCount >= (long) capacity * POSTINGS_PER_EVENT;
+		}
+
+		/**
+	    * Adds an event to the columns and indexes
+	    *
+	    * @param operation operation ordinal
+	    * @param field field ordinal, or NO_FIELD
+	    * @param ID the task ID, or the number of tasks for IMPORTED
+	    * @param timestamp when it happened, in milliseconds since the epoch
+	    * @param taskName name of the task at the time, may be null
+	    * @param affected IDs of the tasks added or removed by IMPORTED and CLEARED
+	    * @param affectedCount number of IDs to take from the start of the array
+	    */
+		void store(byte operation, byte field, long ID, long timestamp, String taskName, long[] affected, int affectedCount) {
+
+			int chunk = size / chunkEvents;
+			int slot = size % chunkEvents;
+
+			if(operations[chunk] == null) {
+				operations[chunk] = new byte[chunkEvents];
+				fields[chunk] = new byte[chunkEvents];
+				taskIDs[chunk] = new long[chunkEvents];
+				timestamps[chunk] = new long[chunkEvents];
+				taskNames[chunk] = new String[chunkEvents];
+			}
+
+			operations[chunk][slot] = operation;
+			fields[chunk][slot] = field;
+			taskIDs[chunk][slot] = ID;
+			timestamps[chunk][slot] = timestamp;
+			taskNames[chunk][slot] = taskName;
+
+			HistoryEvent.Operation kind = OPERATIONS[operation];
+			if(kind == HistoryEvent.Operation.IMPORTED || kind == HistoryEvent.Operation.CLEARED) {
+				// The shared event stands for one creation or deletion of each affected task
+				for(int i = 0; i < affectedCount; i++) {
+					byTask.computeIfAbsent(affected[i], key -> new Postings(2)).add(size);
+				}
+				postingCount += affectedCount;
+				HistoryEvent.Operation counted = (kind == HistoryEvent.Operation.IMPORTED
+						? HistoryEvent.Operation.CREATED : HistoryEvent.Operation.DELETED);
+				byOperation[counted.ordinal()].add(size);
+			} else {
+				byTask.computeIfAbsent(ID, key -> new Postings(2)).add(size);
+				postingCount++;
+			}
+			byOperation[operation].add(size);
+			size++;
+		}
+
+		int count() {
+			return size;
+		}
+
+		long timestampAt(int event) {
+			return timestamps[event / chunkEvents][event % chunkEvents];
+		}
+
+		HistoryEvent eventAt(int event) {
+			int chunk = event / chunkEvents;
+			int slot = event % chunkEvents;
+			byte field = fields[chunk][slot];
+			return new HistoryEvent(OPERATIONS[operations[chunk][slot]], taskIDs[chunk][slot],
+					field == NO_FIELD ? null : FIELDS[field], taskNames[chunk][slot], timestamps[chunk][slot]);
+		}
+
+		EventList forTask(long ID) {
+			return byTask.get(ID);
+		}
+
+		EventList ofOperation(int operation) {
+			return byOperation[operation];
+		}
+
+		/**
+	    * Appends records to the log file and forces them to disk, opening the file the first time
+	    *
+	    * @param records the framed records
+	    *
+	    * @throws IOException if the log cannot be written
+	    */
+		void writeLog(ByteArrayOutputStream records) throws IOException {
+
+			if(channel == null) {
+				channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				channel.position(channel.size());
+			}
+
+			ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(false);
+		}
+
+		/**
+	    * Closes the log file if it is open
+	    *
+	    * @throws IOException if the file cannot be closed
+	    */
+		void closeLog() throws IOException {
+			if(channel != null) {
+				channel.close();
+				channel = null;
+			}
+		}
+
+		/**
+	    * Writes the full segment out as a segment file with its indexes. The file is written
+	    * under a temporary name, forced to disk and then renamed, so it is either whole or absent
+	    *
+	    * @param file path of the segment file
+	    *
+	    * @throws IOException if the file cannot be written
+	    */
+		void writeSegment(Path file) throws IOException {
+
+			long[] IDs = new long[byTask.size()];
+			int tasks = 0;
+			for(long ID : byTask.keySet()) {
+				IDs[tasks++] = ID;
+			}
+			Arrays.sort(IDs);
+
+			int operationPostings = 0;
+			for(Postings postings : byOperation) {
+				operationPostings += postings.size;
+			}
+
+			byte[][] names = new byte[size][];
+			for(int i = 0; i < size; i++) {
+				String name = taskNames[i / chunkEvents][i % chunkEvents];
+				names[i] = (name == null ? null : name.getBytes(StandardCharsets.UTF_8));
+			}
+
+			Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+
+			try(FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+				DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16));
+
+				data.writeInt(SEGMENT_MAGIC);
+				data.writeInt(SEGMENT_VERSION);
+				data.writeInt(size);
+				data.writeInt(IDs.length);
+				data.writeInt(postingCount);
+				data.writeInt(operationPostings);
+				data.writeLong(timestampAt(0));
+				data.writeLong(timestampAt(size - 1));
+
+				int nameOffset = 0;
+				for(int i = 0; i < size; i++) {
+					int chunk = i / chunkEvents;
+					int slot = i % chunkEvents;
+					data.writeByte(operations[chunk][slot]);
+					data.writeByte(fields[chunk][slot]);
+					data.writeLong(taskIDs[chunk][slot]);
+					data.writeLong(timestamps[chunk][slot]);
+					data.writeInt(nameOffset);
+					data.writeInt(names[i] == null ? -1 : names[i].length);
+					nameOffset += (names[i] == null ? 0 : names[i].length);
+				}
+
+				int start = 0;
+				for(long ID : IDs) {
+					data.writeLong(ID);
+					data.writeInt(start);
+					start += byTask.get(ID).size;
+				}
+				for(long ID : IDs) {
+					Postings postings = byTask.get(ID);
+					for(int i = 0; i < postings.size; i++) {
+						data.writeInt(postings.events[i]);
+					}
+				}
+
+				start = 0;
+				for(Postings postings : byOperation) {
+					data.writeInt(start);
+					start += postings.size;
+				}
+				data.writeInt(start);
+				for(Postings postings : byOperation) {
+					for(int i = 0; i < postings.size; i++) {
+						data.writeInt(postings.events[i]);
+					}
+				}
+
+				for(byte[] name : names) {
+					if(name != null) {
+						data.write(name);
+					}
+				}
+
+				data.flush();
+				out.force(true);
+			}
+
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			TaskSnapshot.syncDirectory(file);
+		}
+	}
+
+	/**
+	* A segment written out to its own file. The file is mapped by the first lookup that needs
+	* it, and never changes
+	*/
+	private static final class SealedSegment extends Segment {
+
+		private final Path file;
+		private volatile ByteBuffer mapped;
+
+		// Section positions, set before the mapping is published
+		private int count;
+		private int taskCount;
+		private int taskPostingCount;
+		private int taskIndex;
+		private int taskPostings;
+		private int operationStarts;
+		private int operationPostings;
+		private int names;
+
+		/**
+	    * @param firstEvent number of the segment's first event
+	    * @param file path of the segment file
+	    */
+		SealedSegment(long firstEvent, Path file) {
+			super(firstEvent);
+			this.file = file;
+		}
+
+		/**
+	    * Returns the mapped file, mapping it the first time
+	    *
+	    * @return the segment file's bytes
+	    *
+	    * @throws UncheckedIOException if the file cannot be read or is not a segment file
+	    */
+		private ByteBuffer map() {
+
+			ByteBuffer buffer = mapped;
+			if(buffer != null) {
+				return buffer;
+			}
+
+			// Two lookups may both map the file, they find the same sections
+			try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				long size = channel.size();
+				if(size < SEGMENT_HEADER_BYTES || size > Integer.MAX_VALUE) {
+					throw new IOException("Not an audit segment: " + file);
+				}
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+				if(buffer.getInt(0) != SEGMENT_MAGIC || buffer.getInt(4) != SEGMENT_VERSION) {
+					throw new IOException("Not an audit segment: " + file);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			count = buffer.getInt(8);
+			taskCount = buffer.getInt(12);
+			taskPostingCount = buffer.getInt(16);
+			taskIndex = SEGMENT_HEADER_BYTES + count * EVENT_BYTES;
+			taskPostings = taskIndex + taskCount * TASK_ENTRY_BYTES;
+			operationStarts = taskPostings + taskPostingCount * 4;
+			operationPostings = operationStarts + (OPERATIONS.length + 1) * 4;
+			names = operationPostings + buffer.getInt(20) * 4;
+
+			mapped = buffer;
+			return buffer;
+		}
+
+		int count() {
+			map();
+			return count;
+		}
+
+		long timestampAt(int event) {
+			return map().getLong(SEGMENT_HEADER_BYTES + event * EVENT_BYTES + 10);
+		}
+
+		HistoryEvent eventAt(int event) {
+
+			ByteBuffer buffer = map();
+			int position = SEGMENT_HEADER_BYTES + event * EVENT_BYTES;
+			byte field = buffer.get(position + 1);
+			int nameLength = buffer.getInt(position + 22);
+
+			String taskName = null;
+			if(nameLength >= 0) {
+				byte[] bytes = new byte[nameLength];
+				buffer.get(names + buffer.getInt(position + 18), bytes);
+				taskName = new String(bytes, StandardCharsets.UTF_8);
+			}
+
+			return new HistoryEvent(OPERATIONS[buffer.get(position)], buffer.getLong(position + 2),
+					field == NO_FIELD ? null : FIELDS[field], taskName, buffer.getLong(position + 10));
+		}
+
+		EventList forTask(long ID) {
+
+			ByteBuffer buffer = map();
+
+			// Binary search of the task index, sorted by task ID
+			int low = 0;
+			int high = taskCount - 1;
+			while(low <= high) {
+				int middle = (low + high) >>> 1;
+				long key = buffer.getLong(taskIndex + middle * TASK_ENTRY_BYTES);
+
+				if(key < ID) {
+					low = middle + 1;
+				} else if(key > ID) {
+					high = middle - 1;
+				} else {
+					int start = buffer.getInt(taskIndex + middle * TASK_ENTRY_BYTES + 8);
+					int end = (middle + 1 < taskCount ? buffer.getInt(taskIndex + (middle + 1) * TASK_ENTRY_BYTES + 8) : taskPostingCount);
+					return new MappedPostings(buffer, taskPostings + start * 4, end - start);
+				}
+			}
+			return null;
+		}
+
+		EventList ofOperation(int operation) {
+			ByteBuffer buffer = map();
+			int start = buffer.getInt(operationStarts + operation * 4);
+			int end = buffer.getInt(operationStarts + (operation + 1) * 4);
+			return new MappedPostings(buffer, operationPostings + start * 4, end - start);
+		}
+	}
+
+	private final Path directory;
+	private final int segmentEvents;
+
+	private SealedSegment[] sealed;					// written out, oldest first; replaced, never changed
+	private final List<OpenSegment> filled = new ArrayList<>();	// full, waiting for flush() to write them out
+	private OpenSegment tail;						// takes new events
+	private long lastTimestamp = Long.MIN_VALUE;
+
+	private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+	private final DataOutputStream recordOut = new DataOutputStream(record);
+	private final CRC32 checksum = new CRC32();
+	private final ReentrantLock lock = new ReentrantLock();			// guards the segments in memory and pending bytes
+	private final ReentrantLock flushLock = new ReentrantLock();	// one writer of the files at a time, in order
+
+	/**
+    * Opens (or creates) an audit trail directory. Only the log of the newest segment is read;
+    * segment files are read when a lookup needs them
+    *
+    * @param directory path of the audit directory
+    *
+    * @throws IOException if the directory cannot be created or read
+    */
+	public AuditTrail(Path directory) throws IOException {
+		this(directory, SEGMENT_EVENTS);
+	}
+
+	/**
+    * Opens (or creates) an audit trail directory with segments of a given size
+    *
+    * @param directory path of the audit directory
+    * @param segmentEvents events per segment (1 or more)
+    *
+    * @throws IOException if the directory cannot be created or read
+    */
+	AuditTrail(Path directory, int segmentEvents) throws IOException {
+
+		if(segmentEvents < 1) {
+			throw new IllegalArgumentException("Segments must take at least one event");
+		}
+
+		this.directory = directory;
+		this.segmentEvents = segmentEvents;
+		Files.createDirectories(directory);
+
+		TreeMap<Long, Path> segmentFiles = new TreeMap<>();
+		TreeMap<Long, Path> logFiles = new TreeMap<>();
+
+		try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for(Path file : files) {
+				String name = file.getFileName().toString();
+
+				if(name.endsWith(TEMPORARY_SUFFIX)) {
+					// A segment file whose write was interrupted, its log is still there
+					Files.delete(file);
+				} else if(eventNumber(name, SEGMENT_SUFFIX) >= 0) {
+					segmentFiles.put(eventNumber(name, SEGMENT_SUFFIX), file);
+				} else if(eventNumber(name, LOG_SUFFIX) >= 0) {
+					logFiles.put(eventNumber(name, LOG_SUFFIX), file);
+				}
+			}
+		}
+
+		List<SealedSegment> onDisk = new ArrayList<>();
+		for(Map.Entry<Long, Path> entry : segmentFiles.entrySet()) {
+			onDisk.add(new SealedSegment(entry.getKey(), entry.getValue()));
+		}
+		this.sealed = onDisk.toArray(new SealedSegment[0]);
+
+		long nextEvent = 0;
+		if(sealed.length > 0) {
+			SealedSegment last = sealed[sealed.length - 1];
+			nextEvent = last.firstEvent + last.count();
+			lastTimestamp = last.timestampAt(last.count() - 1);
+		}
+
+		List<OpenSegment> loaded = new ArrayList<>();
+		try {
+			for(Map.Entry<Long, Path> entry : logFiles.entrySet()) {
+				if(segmentFiles.containsKey(entry.getKey())) {
+					// Written out before a crash that came before its log was deleted
+					Files.delete(entry.getValue());
+					continue;
+				}
+
+				OpenSegment segment = new OpenSegment(entry.getKey(), entry.getValue(), segmentEvents);
+				loaded.add(segment);
+				load(segment);
+				if(segment.size > 0) {
+					nextEvent = Math.max(nextEvent, segment.firstEvent + segment.size);
+					lastTimestamp = Math.max(lastTimestamp, segment.timestampAt(segment.size - 1));
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			for(OpenSegment segment : loaded) {
+				try {
+					segment.closeLog();
+				} catch (IOException closeFailure) {
+					e.addSuppressed(closeFailure);
+				}
+			}
+			throw e;
+		}
+
+		// Every log but the newest belongs to a segment that was full
+		for(OpenSegment segment : loaded) {
+			boolean newest = (segment == loaded.get(loaded.size() - 1));
+
+			if(newest && !segment.isFull()) {
+				tail = segment;
+			} else if(segment.size > 0) {
+				filled.add(segment);
+			} else {
+				segment.closeLog();
+				Files.delete(segment.logFile);
+			}
+		}
+		if(tail == null) {
+			tail = newSegment(nextEvent);
+		}
+
+		if(!filled.isEmpty()) {
+			flush();
+		}
+	}
+
+	/**
+	* Returns the number of events in the audit trail
+	*
+	* @return number of events
+	*/
+	public long size() {
+		lock.lock();
+		try {
+			return tail.firstEvent + tail.size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	* Returns the number of events held in memory: the newest segment and any full segments not
+	* yet written out
+	*
+	* @return number of events in memory
+	*/
+	int residentEvents() {
+		lock.lock();
+		try {
+			int events = tail.size;
+			for(OpenSegment segment : filled) {
+				events += segment.size;
+			}
+			return events;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	* Records an event at the current time
+	*
+	* @param operation what happened
+	* @param ID the task ID, or the number of tasks for IMPORTED
+	* @param field the changed field for UPDATED, otherwise null
+	* @param taskName name of the task at the time, or null when there is no single task
+	*/
+	public void append(HistoryEvent.Operation operation, long ID, HistoryEvent.Field field, String taskName) {
+
+		lock.lock();
+		try {
+			byte fieldCode = (field == null ? NO_FIELD : (byte) field.ordinal());
+			store((byte) operation.ordinal(), fieldCode, ID, taskName, NO_TASKS, 0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	* Records an import or a clear at the current time, as one event posted under every task
+	* it added or removed
+	*
+	* @param operation IMPORTED or CLEARED
+	* @param ID the number of tasks for IMPORTED, 0 for CLEARED
+	* @param taskIDs IDs of the tasks added or removed
+	* @param count number of IDs to take from the start of the array
+	*/
+	public void appendForTasks(HistoryEvent.Operation operation, long ID, long[] taskIDs, int count) {
+
+		lock.lock();
+		try {
+			store((byte) operation.ordinal(), NO_FIELD, ID, null, taskIDs, count);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	* Returns every event about one task, including imports that added it and clears that
+	* removed it, oldest first
+	*
+	* @param ID the task ID
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> forTask(long ID) {
+		return forTask(ID, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	* Returns the events about one task between two times (inclusive), oldest first
+	*
+	* @param ID the task ID
+	* @param from earliest time, in milliseconds since the epoch
+	* @param to latest time, in milliseconds since the epoch
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> forTask(long ID, long from, long to) {
+		return lookup(segment -> segment.forTask(ID), from, to);
+	}
+
+	/**
+	* Returns the events of one kind between two times (inclusive), oldest first. CREATED also
+	* returns IMPORTED events and DELETED also returns CLEARED events, since those added or
+	* removed tasks too
+	*
+	* @param operation the kind of event
+	* @param from earliest time, in milliseconds since the epoch
+	* @param to latest time, in milliseconds since the epoch
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> ofOperation(HistoryEvent.Operation operation, long from, long to) {
+		return lookup(segment -> segment.ofOperation(operation.ordinal()), from, to);
+	}
+
+	/**
+	* Returns every event between two times (inclusive), oldest first
+	*
+	* @param from earliest time, in milliseconds since the epoch
+	* @param to latest time, in milliseconds since the epoch
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> between(long from, long to) {
+		return lookup(Segment::all, from, to);
+	}
+
+	/**
+	* Writes the events recorded since the last flush to their logs and forces them to disk, then
+	* writes out every full segment and deletes its log. The buffered bytes are taken under the
+	* lock and written after it is released, so appends wait for a buffer swap rather than an fsync
+	*
+	* @throws IOException if a file cannot be written
+	*/
+	@Override
+	public void flush() throws IOException {
+
+		// Held across the swap and the writes, so batches reach the files in the order they were taken
+		flushLock.lock();
+		try {
+			List<OpenSegment> segments = new ArrayList<>();
+			List<ByteArrayOutputStream> batches = new ArrayList<>();
+			List<OpenSegment> full;
+
+			lock.lock();
+			try {
+				full = new ArrayList<>(filled);
+				List<OpenSegment> open = new ArrayList<>(filled);
+				open.add(tail);
+
+				for(OpenSegment segment : open) {
+					if(segment.pending.size() > 0) {
+						segments.add(segment);
+						batches.add(segment.pending);
+						segment.pending = new ByteArrayOutputStream(Math.max(32, segment.pending.size()));
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+
+			for(int i = 0; i < segments.size(); i++) {
+				segments.get(i).writeLog(batches.get(i));
+			}
+
+			// A full segment no longer changes, so it is written out without the lock
+			for(OpenSegment segment : full) {
+				Path file = directory.resolve(fileName(segment.firstEvent, SEGMENT_SUFFIX));
+				segment.writeSegment(file);
+				segment.closeLog();
+				Files.deleteIfExists(segment.logFile);
+
+				SealedSegment written = new SealedSegment(segment.firstEvent, file);
+				lock.lock();
+				try {
+					filled.remove(segment);
+					sealed = Arrays.copyOf(sealed, sealed.length + 1);
+					sealed[sealed.length - 1] = written;
+				} finally {
+					lock.unlock();
+				}
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	* Writes out any buffered events and full segments, forces them to disk, and closes the
+	* newest segment's log
+	*
+	* @throws IOException if the final write fails
+	*/
+	@Override
+	public void close() throws IOException {
+
+		flushLock.lock();
+		try {
+			try {
+				flush();
+			} finally {
+				for(OpenSegment segment : filled) {
+					segment.closeLog();
+				}
+				tail.closeLog();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	* Adds an event to the newest segment and its pending log bytes, then starts a new segment
+	* if it is full. Caller holds the lock
+	*
+	* @param operation operation ordinal
+	* @param field field ordinal, or NO_FIELD
+	* @param ID the task ID, or the number of tasks for IMPORTED
+	* @param taskName name of the task at the time, may be null
+	* @param affected IDs of the tasks added or removed by IMPORTED and CLEARED
+	* @param affectedCount number of IDs to take from the start of the array
+	*/
+	private void store(byte operation, byte field, long ID, String taskName, long[] affected, int affectedCount) {
+
+		// The clock may step back, the time indexes need times that never decrease
+		long timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+		lastTimestamp = timestamp;
+
+		tail.store(operation, field, ID, timestamp, taskName, affected, affectedCount);
+		encode(tail.pending, operation, field, ID, timestamp, taskName, affected, affectedCount);
+
+		if(tail.isFull()) {
+			filled.add(tail);
+			tail = newSegment(tail.firstEvent + tail.size);
+		}
+	}
+
+	/**
+	* Creates an empty segment held in memory; its log file is created by the first flush
+	*
+	* @param firstEvent number of the segment's first event
+	*
+	* @return the segment
+	*/
+	private OpenSegment newSegment(long firstEvent) {
+		return new OpenSegment(firstEvent, directory.resolve(fileName(firstEvent, LOG_SUFFIX)), segmentEvents);
+	}
+
+	/**
+	* Collects the events of an index between two times (inclusive) from every segment. The
+	* segments in memory are read under the lock, segment files after it is released
+	*
+	* @param index picks the event list of a segment
+	* @param from earliest time
+	* @param to latest time
+	*
+	* @return list of events, oldest first
+	*/
+	private List<HistoryEvent> lookup(Function<Segment, EventList> index, long from, long to) {
+
+		SealedSegment[] onDisk;
+		List<HistoryEvent> recent = new ArrayList<>();
+
+		lock.lock();
+		try {
+			onDisk = sealed;
+			for(OpenSegment segment : filled) {
+				segment.collect(index.apply(segment), from, to, recent);
+			}
+			tail.collect(index.apply(tail), from, to, recent);
+		} finally {
+			lock.unlock();
+		}
+
+		// Segment files never change, so reading them holds up no append
+		List<HistoryEvent> found = new ArrayList<>();
+		for(SealedSegment segment : onDisk) {
+			if(segment.overlaps(from, to)) {
+				segment.collect(index.apply(segment), from, to, found);
+			}
+		}
+		found.addAll(recent);
+		return found;
+	}
+
+	/**
+	* Frames one event as a log record and adds it to a segment's pending bytes
+	*
+	* @param pending the segment's pending bytes
+	* @param operation operation ordinal
+	* @param field field ordinal, or NO_FIELD
+	* @param ID the task ID, or the number of tasks for IMPORTED
+	* @param timestamp when it happened
+	* @param taskName name of the task at the time, may be null
+	* @param affected IDs of the tasks added or removed by IMPORTED and CLEARED
+	* @param affectedCount number of IDs to take from the start of the array
+	*/
+	private void encode(ByteArrayOutputStream pending, byte operation, byte field, long ID, long timestamp,
+			String taskName, long[] affected, int affectedCount) {
+
+		try {
+			record.reset();
+			recordOut.writeByte(operation);
+			recordOut.writeByte(field);
+			recordOut.writeLong(ID);
+			recordOut.writeLong(timestamp);
+
+			if(taskName == null) {
+				recordOut.writeInt(-1);
+			} else {
+				byte[] bytes = taskName.getBytes(StandardCharsets.UTF_8);
+				recordOut.writeInt(bytes.length);
+				recordOut.write(bytes);
+			}
+
+			if(affectedCount > 0) {
+				recordOut.writeInt(affectedCount);
+				for(int i = 0; i < affectedCount; i++) {
+					recordOut.writeLong(affected[i]);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		int length = record.size();
+		byte[] payload = record.toByteArray();
+
+		checksum.reset();
+		checksum.update(payload, 0, length);
+		int crc = (int) checksum.getValue();
+
+		pending.write(length >>> 24);
+		pending.write(length >>> 16);
+		pending.write(length >>> 8);
+		pending.write(length);
+		pending.write(crc >>> 24);
+		pending.write(crc >>> 16);
+		pending.write(crc >>> 8);
+		pending.write(crc);
+		pending.write(payload, 0, length);
+	}
+
+	/**
+	* Reads every complete record of a segment's log into the segment and leaves the log open for
+	* new records. A torn or corrupt tail is cut off so new events are appended after the last
+	* good one
+	*
+	* @param segment the segment, still empty
+	*
+	* @throws IOException if the log cannot be read
+	*/
+	private void load(OpenSegment segment) throws IOException {
+
+		FileChannel channel = FileChannel.open(segment.logFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		segment.channel = channel;
+
+		long fileSize = channel.size();
+		long position = 0;
+		DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0)), 1 << 16));
+
+		try {
+			while(position + HEADER_BYTES <= fileSize) {
+				int length = in.readInt();
+				int crc = in.readInt();
+
+				if(length <= 0 || position + HEADER_BYTES + length > fileSize) {
+					break;
+				}
+
+				byte[] payload = new byte[length];
+				in.readFully(payload);
+
+				checksum.reset();
+				checksum.update(payload, 0, length);
+				if((int) checksum.getValue() != crc) {
+					break;
+				}
+
+				ByteBuffer buffer = ByteBuffer.wrap(payload);
+				byte operation = buffer.get();
+				byte field = buffer.get();
+				long ID = buffer.getLong();
+				long timestamp = buffer.getLong();
+				int nameLength = buffer.getInt();
+				String taskName = (nameLength < 0 ? null
+						: new String(payload, buffer.position(), nameLength, StandardCharsets.UTF_8));
+				buffer.position(buffer.position() + Math.max(nameLength, 0));
+
+				long[] affected = NO_TASKS;
+				if(buffer.remaining() >= 4) {
+					affected = new long[buffer.getInt()];
+					for(int i = 0; i < affected.length; i++) {
+						affected[i] = buffer.getLong();
+					}
+				}
+
+				segment.store(operation, field, ID, timestamp, taskName, affected, affected.length);
+				position += HEADER_BYTES + length;
+			}
+		} catch (EOFException e) {
+			// A torn record at the end of the file, cut off below
+		}
+
+		if(position < fileSize) {
+			channel.truncate(position);
+			channel.force(true);
+		}
+		channel.position(position);
+	}
+
+	/**
+	* Names a segment's file after the number of its first event
+	*
+	* @param firstEvent number of the segment's first event
+	* @param suffix LOG_SUFFIX or SEGMENT_SUFFIX
+	*
+	* @return the file name
+	*/
+	private static String fileName(long firstEvent, String suffix) {
+		return String.format("%020d", firstEvent) + suffix;
+	}
+
+	/**
+	* Reads the first event number out of a segment's file name
+	*
+	* @param name the file name
+	* @param suffix the suffix the name must end with
+	*
+	* @return the event number, or -1 if the name is not a segment file of that kind
+	*/
+	private static long eventNumber(String name, String suffix) {
+
+		if(name.length() != 20 + suffix.length() || !name.endsWith(suffix)) {
+			return -1;
+		}
+		for(int i = 0; i < 20; i++) {
+			if(name.charAt(i) < '0' || name.charAt(i) > '9') {
+				return -1;
+			}
+		}
+		return Long.parseLong(name.substring(0, 20));
+	}
+}
+
+// END OF AuditTrail.java
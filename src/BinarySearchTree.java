@@ -1,21 +1,119 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
 * @author Ayra Babar
 * @file BinarySearchTree.java
-* @brief This file contains the implementation of a binary search tree with the use of 
-*        tree node objects
+* @brief This file contains the implementation of a self-balancing (red-black) binary search 
+*        tree with the use of tree node objects, keyed on task ID. Every node also keeps the size 
+*        of its subtree, so ID ranges are counted in O(log n). Since task IDs are handed out in 
+*        increasing order, the tree grows to nearly twice the minimal height, but the extra depth 
+*        sits on few paths and the average lookup stays within one level of a perfectly balanced 
+*        tree. Red-black balancing already keeps the height within 2 log2(n + 1), so the tree 
+*        is never rebuilt once it is in use
 * 
 * 06/28/2025 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Red-black balancing with iterative insertion and deletion
+* 10/18/2026 - 64-bit task IDs, duplicate IDs reported to the caller
+* 10/18/2026 - Search no longer prints to the console
+* 10/18/2026 - Bottom-up O(n) build from sorted tasks for bulk imports
+* 10/18/2026 - Ascending ID order copy of the tasks for snapshots
+* 10/18/2026 - Lazy ID range iterator for the query planner
+* 10/18/2026 - Tree height for the metrics gauges
+* 10/18/2026 - Subtree sizes for range counts, shape diagnostics and O(n) rebuild
+* 10/18/2026 - O(log n) height bound for the metrics gauges
+* 10/18/2026 - Unused due date range printing removed, the due date index answers ranges
+* 10/18/2026 - Unused O(n) rebuild removed, red-black balancing already bounds the height
 */
 
 public class BinarySearchTree {
 
+	/**
+	* Shape diagnostics of a tree, taken at one point in time
+	*/
+	public static final class Shape {
+		
+		private final int size;
+		private final int height;
+		private final int minimalHeight;
+		private final int blackHeight;
+		private final double averageDepth;
+		
+		/**
+	    * @param size number of nodes
+	    * @param height nodes on the longest root-to-leaf path
+	    * @param minimalHeight height of a perfectly balanced tree of the same size
+	    * @param blackHeight black nodes on every root-to-leaf path
+	    * @param averageDepth mean number of nodes visited to find a task
+	    */
+		private Shape(int size, int height, int minimalHeight, int blackHeight, double averageDepth) {
+			this.size = size;
+			this.height = height;
+			this.minimalHeight = minimalHeight;
+			this.blackHeight = blackHeight;
+			this.averageDepth = averageDepth;
+		}
+		
+		/**
+	    * @return number of nodes
+	    */
+		public int getSize() {
+			return size;
+		}
+		
+		/**
+	    * @return nodes on the longest root-to-leaf path, the worst-case lookup cost
+	    */
+		public int getHeight() {
+			return height;
+		}
+		
+		/**
+	    * @return height of a perfectly balanced tree of the same size
+	    */
+		public int getMinimalHeight() {
+			return minimalHeight;
+		}
+		
+		/**
+	    * @return black nodes on every root-to-leaf path
+	    */
+		public int getBlackHeight() {
+			return blackHeight;
+		}
+		
+		/**
+	    * @return mean number of nodes visited to find a task
+	    */
+		public double getAverageDepth() {
+			return averageDepth;
+		}
+		
+		/**
+	    * Returns how much deeper the tree is than it has to be
+	    *
+	    * @return height over minimal height, 1.0 for a perfectly balanced (or empty) tree
+	    */
+		public double getImbalance() {
+			return (minimalHeight == 0) ? 1.0 : (double) height / minimalHeight;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format("size=%d height=%d minimalHeight=%d blackHeight=%d averageDepth=%.2f imbalance=%.2f",
+					size, height, minimalHeight, blackHeight, averageDepth, getImbalance());
+		}
+	}
+
 	private TreeNode root;
+	private int size;
 	
 	/**
     * Constructs a new Binary Search Tree with default values
     */
 	public BinarySearchTree() {
 		this.root = null;
+		this.size = 0;
 	}
 	
 	/**
@@ -28,202 +126,424 @@ public class BinarySearchTree {
 	}
 	
 	/**
-    * Adds a new task to BST
+    * Returns the number of tasks stored in the BST
+    *
+    * @return number of tree nodes in the BST
+    */
+	public int getSize() {
+		return this.size;
+	}
+	
+	/**
+    * Adds a new task to BST, rebalancing as needed. A task whose ID already 
+    * exists in the tree is not added
     * 
     * @param newTask the new task object to add to tree
+    * 
+    * @return true if the task was added, false if its ID was already in the tree
     */	
-	public void add(Task newTask) {
-		this.root = addHelper(this.root, newTask);
+	public boolean add(Task newTask) {
+		
+		long newID = newTask.getID();
+		TreeNode parent = null;
+		TreeNode current = this.root;
+		
+		// Count the new node in every subtree on the way down
+		while(current != null) {
+			parent = current;
+			current.setSize(current.getSize() + 1);
+			
+			if(newID < current.getTask().getID()) {
+				current = current.getLeft();
+				
+			} else if(newID > current.getTask().getID()) {
+				current = current.getRight();
+				
+			} else {
+				for(TreeNode node = current; node != null; node = node.getParent()) {
+					node.setSize(node.getSize() - 1);
+				}
+				return false;
+			}
+		}
+		
+		TreeNode newNode = new TreeNode(newTask);
+		newNode.setParent(parent);
+		
+		if(parent == null) {
+			this.root = newNode;
+		} else if(newID < parent.getTask().getID()) {
+			parent.setLeft(newNode);
+		} else {
+			parent.setRight(newNode);
+		}
+		
+		size++;
+		addFixup(newNode);
+		return true;
 	}
 	
 	/**
-    * Recursive helper method for task addition
+    * Restores the red-black properties after a red node has been linked in
     * 
-    * @param root the root of the entire task tree to add to
-    * @param newTask the new task object to add
-    *
-    * @return the root TreeNode
+    * @param node the newly added node
     */
-	private TreeNode addHelper(TreeNode root, Task newTask) {
+	private void addFixup(TreeNode node) {
 		
-		if(root == null) {
-			root = new TreeNode(newTask);
-			return root;
+		while(isRed(node.getParent())) {
+			TreeNode parent = node.getParent();
+			TreeNode grandparent = parent.getParent();
+			
+			if(parent == grandparent.getLeft()) {
+				TreeNode uncle = grandparent.getRight();
+				
+				if(isRed(uncle)) {	// Recolor and continue from the grandparent
+					parent.setRed(false);
+					uncle.setRed(false);
+					grandparent.setRed(true);
+					node = grandparent;
+					continue;
+				}
+				
+				if(node == parent.getRight()) {	// Turn the zig-zag into a straight line
+					node = parent;
+					rotateLeft(node);
+					parent = node.getParent();
+				}
+				
+				parent.setRed(false);
+				grandparent.setRed(true);
+				rotateRight(grandparent);
+				
+			} else {
+				TreeNode uncle = grandparent.getLeft();
+				
+				if(isRed(uncle)) {
+					parent.setRed(false);
+					uncle.setRed(false);
+					grandparent.setRed(true);
+					node = grandparent;
+					continue;
+				}
+				
+				if(node == parent.getLeft()) {
+					node = parent;
+					rotateRight(node);
+					parent = node.getParent();
+				}
+				
+				parent.setRed(false);
+				grandparent.setRed(true);
+				rotateLeft(grandparent);
+			}
 		}
 		
-		if(newTask.getID() < root.getTask().getID()) {
-			root.setLeft(addHelper(root.getLeft(), newTask));
-			
-		} else if(newTask.getID() > root.getTask().getID()) {
-			root.setRight(addHelper(root.getRight(), newTask));
-			
+		this.root.setRed(false);
+	}
+	
+	/**
+    * Replaces the contents of the BST with tasks already sorted by ascending ID, building a 
+    * balanced tree bottom-up in O(n) instead of n separate insertions
+    * 
+    * @param sortedTasks tasks in strictly ascending ID order
+    * @param count number of tasks to take from the start of the array
+    */
+	public void buildFromSorted(Task[] sortedTasks, int count) {
+		
+		TreeNode[] nodes = new TreeNode[count];
+		for(int i = 0; i < count; i++) {
+			nodes[i] = new TreeNode(sortedTasks[i]);
+		}
+		link(nodes);
+	}
+	
+	/**
+    * Makes the BST a perfectly balanced tree of the given nodes
+    * 
+    * @param nodes nodes in strictly ascending ID order
+    */
+	private void link(TreeNode[] nodes) {
+		
+		// Every level above the last one is full and colored black; the nodes on a partially
+		// filled last level are colored red so each path has the same number of black nodes
+		int fullLevels = 31 - Integer.numberOfLeadingZeros(nodes.length + 1);
+		
+		this.root = linkHelper(nodes, 0, nodes.length - 1, 0, fullLevels, null);
+		this.size = nodes.length;
+	}
+	
+	/**
+    * Recursive helper method linking a balanced subtree from a sorted slice of nodes
+    * 
+    * @param nodes nodes in strictly ascending ID order
+    * @param low first index of the slice
+    * @param high last index of the slice
+    * @param depth depth of the subtree root
+    * @param redDepth depth at which nodes are colored red
+    * @param parent parent of the subtree root
+    *
+    * @return the root TreeNode of the subtree, or null for an empty slice
+    */
+	private TreeNode linkHelper(TreeNode[] nodes, int low, int high, int depth, int redDepth, TreeNode parent) {
+		
+		if(low > high) {
+			return null;
 		}
 		
-		return root;
+		int middle = (low + high) >>> 1;
+		TreeNode node = nodes[middle];
+		node.setParent(parent);
+		node.setRed(depth == redDepth);
+		node.setSize(high - low + 1);
+		node.setLeft(linkHelper(nodes, low, middle - 1, depth + 1, redDepth, node));
+		node.setRight(linkHelper(nodes, middle + 1, high, depth + 1, redDepth, node));
+		
+		return node;
 	}
 	
 	/**
     * Searches for a specific task based on ID value
     * 
-    * @param searchID the integer ID to find
+    * @param searchID the ID to find
     * 
     * @return the task object if found, null if it doesn't exist
     */
-	public Task search(int searchID) {
-		return searchHelper(this.root, searchID);
+	public Task search(long searchID) {
+		TreeNode found = findNode(searchID);
+		return (found == null) ? null : found.getTask();
 	}
 	
 	/**
-    * Recursive helper method for task search based on ID
+    * Iterative helper method to find the tree node holding an ID
     * 
-    * @param root the root of the entire task tree
-    * @param searchID the integer ID to find
+    * @param searchID the ID to find
     *
-    * @return the task object if found, null if it doesn't exist
+    * @return the tree node if found, null if it doesn't exist
     */
-	private Task searchHelper(TreeNode root, int searchID) {
+	private TreeNode findNode(long searchID) {
+		
+		TreeNode current = this.root;
 		
-	    while (root != null) {
+	    while (current != null) {
 	        
-	    	if (root.getTask().getID() == searchID) {
-	    		System.out.println("Task Found successfully!");
-	            return root.getTask();  
+	    	if (current.getTask().getID() == searchID) {
+	            return current;  
 	            
-	        } else if (root.getTask().getID() > searchID) {
-	        	root = root.getLeft(); 
+	        } else if (current.getTask().getID() > searchID) {
+	        	current = current.getLeft(); 
 	        	
 	        } else {
-	        	root = root.getRight();  
+	        	current = current.getRight();  
 	        }
 	    }
 	    return null; 
 	}
 	
 	/**
-    * Deletes a task from tree
+    * Deletes a task from tree, rebalancing as needed
     *
     * @param taskToDelete the task that needs to be deleted
     */
 	public void delete(Task taskToDelete) {
 		
-		int deleteID = taskToDelete.getID();
-		if(root == null) {
+		TreeNode current = findNode(taskToDelete.getID());
+		if(current == null) {
 			return;
 		}
-
-		TreeNode current = root;
-		TreeNode parent = null;
-
-		while (current != null) {
-			if (deleteID == current.getTask().getID()) {
-				break;
-
-			} else if(deleteID < current.getTask().getID()) {
-				parent = current;
-				current = current.getLeft();
-
-			} else {
-				parent = current;
-				current = current.getRight();
+		
+		// If the node to delete has two children, move the in-order successor's task 
+		// up and remove the successor's node instead
+		if(current.getLeft() != null && current.getRight() != null) {
+			TreeNode successor = current.getRight();
+			
+			while(successor.getLeft() != null) {
+				successor = successor.getLeft();
 			}
+			
+			current.setTask(successor.getTask());
+			current = successor;
 		}
-
-		// Case 1: If the node to delete is a leaf node
-		if ((current.getRight() == null) && (current.getLeft() == null)) {
-			if (current == root) return;
-
-			if(parent.getRight() == current) {
-				parent.setRight(null);
-			} else {
-				parent.setLeft(null);
-			}
-
-			return;
+		
+		// The node to remove now has at most one child
+		TreeNode child = (current.getLeft() != null) ? current.getLeft() : current.getRight();
+		TreeNode parent = current.getParent();
+		
+		if(child != null) {
+			child.setParent(parent);
 		}
-
-		// Case 2: If the node to delete has one child
-		if((current.getRight() == null) || (current.getLeft() == null)) {
-
-			TreeNode child = (current.getLeft() == null) ? current.getRight() : current.getLeft();
-
-			if(current == root) {
-				root = child;
-			} else if (parent.getRight() == current) {
-				parent.setRight(child);
+		replaceChild(parent, current, child);
+		size--;
+		
+		for(TreeNode node = parent; node != null; node = node.getParent()) {
+			node.setSize(node.getSize() - 1);
+		}
+		
+		if(!current.isRed()) {
+			deleteFixup(child, parent);
+		}
+	}
+	
+	/**
+    * Restores the red-black properties after a black node has been unlinked
+    * 
+    * @param node the node that took the removed node's place (may be null)
+    * @param parent the parent of that position
+    */
+	private void deleteFixup(TreeNode node, TreeNode parent) {
+		
+		while(node != this.root && !isRed(node)) {
+			
+			if(node == parent.getLeft()) {
+				TreeNode sibling = parent.getRight();
+				
+				if(isRed(sibling)) {
+					sibling.setRed(false);
+					parent.setRed(true);
+					rotateLeft(parent);
+					sibling = parent.getRight();
+				}
+				
+				if(!isRed(sibling.getLeft()) && !isRed(sibling.getRight())) {
+					sibling.setRed(true);
+					node = parent;
+					parent = node.getParent();
+					continue;
+				}
+				
+				if(!isRed(sibling.getRight())) {
+					sibling.getLeft().setRed(false);
+					sibling.setRed(true);
+					rotateRight(sibling);
+					sibling = parent.getRight();
+				}
+				
+				sibling.setRed(parent.isRed());
+				parent.setRed(false);
+				sibling.getRight().setRed(false);
+				rotateLeft(parent);
+				node = this.root;
+				
 			} else {
-				parent.setLeft(child);
+				TreeNode sibling = parent.getLeft();
+				
+				if(isRed(sibling)) {
+					sibling.setRed(false);
+					parent.setRed(true);
+					rotateRight(parent);
+					sibling = parent.getLeft();
+				}
+				
+				if(!isRed(sibling.getLeft()) && !isRed(sibling.getRight())) {
+					sibling.setRed(true);
+					node = parent;
+					parent = node.getParent();
+					continue;
+				}
+				
+				if(!isRed(sibling.getLeft())) {
+					sibling.getRight().setRed(false);
+					sibling.setRed(true);
+					rotateLeft(sibling);
+					sibling = parent.getLeft();
+				}
+				
+				sibling.setRed(parent.isRed());
+				parent.setRed(false);
+				sibling.getLeft().setRed(false);
+				rotateRight(parent);
+				node = this.root;
 			}
-			
-			return;
 		}
-
-		// Case 3: If the node to delete has two children
-		TreeNode parentOfSuccessor = current;
-		TreeNode successor = current.getRight();
-
-		// Find the in-order successor (smallest in the right subtree)
-		while (successor.getLeft() != null) {
-		    parentOfSuccessor = successor;
-		    successor = successor.getLeft();
+		
+		if(node != null) {
+			node.setRed(false);
 		}
-
-		// Replace current's task with successor's task
-		current.setTask(successor.getTask());
-
-		// Remove the successor node
-		if (successor.getRight() == null) { // Successor has no children
-		    if (successor != current.getRight()) {
-		        parentOfSuccessor.setLeft(null);
-		    } else {
-		        current.setRight(null);
-		    }
-		} else if (successor == current.getRight()) {	// Successor is current's immediate right child
-		    current.setRight(successor.getRight());
-		} else {
-		    parentOfSuccessor.setLeft(successor.getRight());	// Successor has right child
+	}
+	
+	/**
+    * Rotates a subtree to the left around the given node
+    * 
+    * @param node the node whose right child moves up
+    */
+	private void rotateLeft(TreeNode node) {
+		
+		TreeNode pivot = node.getRight();
+		pivot.setSize(node.getSize());
+		
+		node.setRight(pivot.getLeft());
+		if(pivot.getLeft() != null) {
+			pivot.getLeft().setParent(node);
 		}
+		
+		pivot.setParent(node.getParent());
+		replaceChild(node.getParent(), node, pivot);
+		
+		pivot.setLeft(node);
+		node.setParent(pivot);
+		node.setSize(1 + sizeOf(node.getLeft()) + sizeOf(node.getRight()));
 	}
 	
 	/**
-    * Prints tasks in a range from a beginning date to an end date
+    * Rotates a subtree to the right around the given node
     * 
-    * @param low due date
-    * @param high due date
+    * @param node the node whose left child moves up
     */
-	public void printRange(int low, int high) {
+	private void rotateRight(TreeNode node) {
+		
+		TreeNode pivot = node.getLeft();
+		pivot.setSize(node.getSize());
 		
-		int yearL = low / 10000;
-		int monthL = (low % 10000) / 100;
-		int dayL = low % 100;
+		node.setLeft(pivot.getRight());
+		if(pivot.getRight() != null) {
+			pivot.getRight().setParent(node);
+		}
 		
-		int yearH = high / 10000;
-		int monthH = (high % 10000) / 100;
-		int dayH = high % 100;
+		pivot.setParent(node.getParent());
+		replaceChild(node.getParent(), node, pivot);
 		
-	    System.out.println("Printing Range from " + yearL + "-" +
-	    monthL + "-" + dayL + " to " + yearH + "-" + monthH + "-" + dayH);
-	    printRangeHelper(root, low, high);
+		pivot.setRight(node);
+		node.setParent(pivot);
+		node.setSize(1 + sizeOf(node.getLeft()) + sizeOf(node.getRight()));
 	}
-
+	
 	/**
-    * Prints tasks in a range from a beginning date to an end date
+    * Points a parent (or the root) at a replacement for one of its children
     * 
-    * @param node is the root node of the entire task BST
-    * @param low due date
-    * @param high due date
-    */
-	private void printRangeHelper(TreeNode node, int low, int high) {
-	    
-		if (node == null) return;
-	    
-	    printRangeHelper(node.getLeft(), low, high);
-	    
-	    int due = node.getTask().getDueDate();
-	    if(due >= low && due <= high) {
-	    	node.getTask().showOneTask();
-	    }
-	    
-	    printRangeHelper(node.getRight(), low, high);
+    * @param parent the parent node, or null if the old child is the root
+    * @param oldChild the child being replaced
+    * @param newChild the replacement node (may be null)
+    */
+	private void replaceChild(TreeNode parent, TreeNode oldChild, TreeNode newChild) {
+		
+		if(parent == null) {
+			this.root = newChild;
+		} else if(parent.getLeft() == oldChild) {
+			parent.setLeft(newChild);
+		} else {
+			parent.setRight(newChild);
+		}
+	}
+	
+	/**
+    * Checks the color of a node, treating empty links as black
+    * 
+    * @param node the node to check (may be null)
+    * 
+    * @return true if the node exists and is red
+    */
+	private static boolean isRed(TreeNode node) {
+		return (node != null && node.isRed());
+	}
+	
+	/**
+    * Returns the size of a subtree, treating empty links as empty subtrees
+    * 
+    * @param node the subtree root (may be null)
+    * 
+    * @return number of nodes in the subtree
+    */
+	private static int sizeOf(TreeNode node) {
+		return (node == null) ? 0 : node.getSize();
 	}
 	
 	/**
@@ -235,9 +555,255 @@ public class BinarySearchTree {
 			return;
 		} else {
 			root = null;
+			size = 0;
 		}
 	}
 	
+	/**
+    * Returns the tasks in ascending ID order, walking the tree iteratively with parent links
+    *
+    * @return array of every task in the BST
+    */
+	public Task[] toArray() {
+		
+		Task[] tasks = new Task[size];
+		int count = 0;
+		
+		for(TreeNode node = first(); node != null; node = successor(node)) {
+			tasks[count++] = node.getTask();
+		}
+		
+		return tasks;
+	}
+	
+	/**
+    * Returns the node with the smallest ID
+    * 
+    * @return the leftmost node, or null for an empty tree
+    */
+	private TreeNode first() {
+		
+		TreeNode node = this.root;
+		while(node != null && node.getLeft() != null) {
+			node = node.getLeft();
+		}
+		return node;
+	}
+	
+	/**
+    * Returns the node that follows a node in ascending ID order, using the parent links
+    * 
+    * @param node the current node
+    * 
+    * @return the next node, or null if the node holds the largest ID
+    */
+	private static TreeNode successor(TreeNode node) {
+		
+		if(node.getRight() != null) {
+			node = node.getRight();
+			while(node.getLeft() != null) {
+				node = node.getLeft();
+			}
+			return node;
+		}
+		
+		TreeNode child = node;
+		node = node.getParent();
+		while(node != null && child == node.getRight()) {
+			child = node;
+			node = node.getParent();
+		}
+		return node;
+	}
+	
+	/**
+    * Counts the tasks with an ID between two values (inclusive) in O(log n), using the 
+    * subtree sizes
+    * 
+    * @param lowID smallest ID to count
+    * @param highID largest ID to count
+    * 
+    * @return number of tasks in the range
+    */
+	public int countRange(long lowID, long highID) {
+		
+		if(lowID > highID) {
+			return 0;
+		}
+		return countBelow(highID, true) - countBelow(lowID, false);
+	}
+	
+	/**
+    * Counts the tasks with an ID below a value
+    * 
+    * @param ID the bound
+    * @param inclusive true to also count a task with exactly that ID
+    * 
+    * @return number of tasks below the bound
+    */
+	private int countBelow(long ID, boolean inclusive) {
+		
+		int count = 0;
+		TreeNode current = this.root;
+		
+		while(current != null) {
+			long currentID = current.getTask().getID();
+			
+			if(currentID < ID || (inclusive && currentID == ID)) {
+				count += sizeOf(current.getLeft()) + 1;
+				current = current.getRight();
+			} else {
+				current = current.getLeft();
+			}
+		}
+		return count;
+	}
+	
+	/**
+    * Returns the number of nodes on the longest path from the root down to a leaf. Visits 
+    * every node, so it is meant for occasional diagnostics
+    *
+    * @return the tree height, 0 for an empty tree
+    */
+	public int getHeight() {
+		return heightHelper(this.root);
+	}
+	
+	/**
+    * Returns an upper bound on the tree height from the black height of the leftmost path. 
+    * Every root-to-leaf path has the same number of black nodes and never two red nodes in a 
+    * row, so no path is longer than twice that number. Walks one path, so it is O(log n) and 
+    * cheap enough for metrics polled in production
+    *
+    * @return at most twice the black height, never below the real height, 0 for an empty tree
+    */
+	public int getHeightBound() {
+		return 2 * blackHeight();
+	}
+	
+	/**
+    * Counts the black nodes on the leftmost path, which every root-to-leaf path shares
+    *
+    * @return the black height, 0 for an empty tree
+    */
+	private int blackHeight() {
+		
+		int blackHeight = 0;
+		for(TreeNode node = this.root; node != null; node = node.getLeft()) {
+			if(!node.isRed()) {
+				blackHeight++;
+			}
+		}
+		return blackHeight;
+	}
+	
+	/**
+    * Recursive helper to measure the height of a subtree. Red-black balancing keeps the 
+    * recursion depth within 2 log2(n + 1)
+    *
+    * @param node root of the subtree
+    *
+    * @return height of the subtree
+    */
+	private int heightHelper(TreeNode node) {
+		
+		if(node == null) {
+			return 0;
+		}
+		return 1 + Math.max(heightHelper(node.getLeft()), heightHelper(node.getRight()));
+	}
+	
+	/**
+    * Measures the shape of the tree: its height against the minimal height for its size, the 
+    * average depth of a task and the black height. Visits every node, so it is meant for 
+    * occasional diagnostics
+    *
+    * @return the current tree shape
+    */
+	public Shape getShape() {
+		
+		double averageDepth = (size == 0) ? 0 : (double) depthSumHelper(this.root, 1) / size;
+		return new Shape(size, getHeight(), minimalHeight(size), blackHeight(), averageDepth);
+	}
+	
+	/**
+    * Recursive helper to add up the depths of every node of a subtree
+    *
+    * @param node root of the subtree
+    * @param depth depth of that root, 1 for the tree root
+    *
+    * @return sum of the depths
+    */
+	private long depthSumHelper(TreeNode node, int depth) {
+		
+		if(node == null) {
+			return 0;
+		}
+		return depth + depthSumHelper(node.getLeft(), depth + 1) + depthSumHelper(node.getRight(), depth + 1);
+	}
+	
+	/**
+    * Returns the height of a perfectly balanced tree
+    * 
+    * @param count number of nodes in the tree
+    * 
+    * @return floor(log2(count)) + 1, 0 for an empty tree
+    */
+	private static int minimalHeight(int count) {
+		return 32 - Integer.numberOfLeadingZeros(count);
+	}
+	
+	/**
+    * Returns a lazy iterator over the tasks with an ID between two values (inclusive), in 
+    * ascending ID order. The tree must not be modified while iterating
+    *
+    * @param lowID smallest ID to return
+    * @param highID largest ID to return
+    *
+    * @return read-only iterator over tasks in the range
+    */
+	public Iterator<Task> rangeIterator(long lowID, long highID) {
+		
+		// Start at the node with the smallest ID not below lowID
+		TreeNode start = null;
+		TreeNode current = this.root;
+		
+		while(current != null) {
+			if(current.getTask().getID() >= lowID) {
+				start = current;
+				current = current.getLeft();
+			} else {
+				current = current.getRight();
+			}
+		}
+		
+		TreeNode first = start;
+		
+		return new Iterator<Task>() {
+			
+			private TreeNode next = (first != null && first.getTask().getID() <= highID) ? first : null;
+			
+			@Override
+			public boolean hasNext() {
+				return (next != null);
+			}
+			
+			@Override
+			public Task next() {
+				
+				if(next == null) {
+					throw new NoSuchElementException();
+				}
+				
+				Task task = next.getTask();
+				TreeNode node = successor(next);
+				
+				next = (node != null && node.getTask().getID() <= highID) ? node : null;
+				return task;
+			}
+		};
+	}
+	
 	/**
     * Prints tasks from task BST in ascending order
     */
@@ -0,0 +1,541 @@
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+* @author Ayra Babar
+* @file CalendarQueue.java
+* @brief This file contains a calendar (bucket) queue of tasks. Due dates are whole days and
+*        priorities are small numbers, so instead of comparing tasks the queue files each one in
+*        a bucket for its exact (day, priority) pair and keeps the buckets in order. Adding and
+*        removing a task is O(1), and finding the next task only walks forward over empty buckets,
+*        which is amortized O(1) per task polled
+*
+* The buckets form a ring covering a window of WINDOW_DAYS consecutive days. Buckets due after the
+* window are kept in a sorted map instead (O(log n) for those tasks only) and are spliced into the
+* ring whole as the window slides forward; adding a task due before the window slides it back.
+* Tasks in the same bucket are kept first in, first out, so a task whose due date or priority
+* changes goes to the back of its new bucket.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class CalendarQueue implements TaskScheduler {
+
+	private static final int PRIORITY_LEVELS = 8;	// priorities 0-7, the 3 bits of the sort key
+	private static final int WINDOW_DAYS = 512;
+	private static final int SLOTS = WINDOW_DAYS * PRIORITY_LEVELS;
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	// Window buckets, a ring indexed by (bucket key & SLOT_MASK)
+	private final Task[] heads = new Task[SLOTS];
+	private final Task[] tails = new Task[SLOTS];
+	private final int[] counts = new int[SLOTS];
+	private int baseKey;		// first bucket key in the window
+	private int cursor;			// no bucket in the window before this key holds a task
+	private int windowSize;		// tasks in window buckets
+
+	// Buckets due after the window, by bucket key
+	private final TreeMap<Integer, Bucket> later = new TreeMap<>();
+	private int laterSize;		// tasks in later buckets
+
+	private int modCount;		// bumped on every change so open iterators can detect it
+
+	/**
+    * Checks if the queue is empty or not
+    *
+    * @return true if there are no tasks in the queue, false if otherwise
+    */
+	@Override
+	public boolean isEmpty() {
+		return (size() == 0);
+	}
+
+	/**
+    * Returns the number of tasks in the queue
+    *
+    * @return number of queued tasks
+    */
+	@Override
+	public int size() {
+		return windowSize + laterSize;
+	}
+
+	/**
+    * Checks whether a task is currently in this queue
+    *
+    * @param task the task object to look for
+    *
+    * @return true if the task is queued, false if otherwise
+    */
+	@Override
+	public boolean contains(Task task) {
+
+		int key = task.getCalendarSlot();
+
+		if(key < 0) {
+			return false;
+		}
+
+		Task previous = task.getCalendarPrev();
+		if(previous != null) {
+			return (previous.getCalendarNext() == task);
+		}
+
+		if(inWindow(key)) {
+			return (heads[key & SLOT_MASK] == task);
+		}
+
+		Bucket bucket = later.get(key);
+		return (bucket != null && bucket.head == task);
+	}
+
+	/**
+    * Adds a task to the back of its bucket, in O(1) when it is due within the window. A task
+    * that is already queued is ignored
+    *
+    * @param task the task object to add
+    */
+	@Override
+	public void add(Task task) {
+
+		if(contains(task)) {
+			return;
+		}
+
+		int key = keyOf(task);
+		modCount++;
+
+		if(size() == 0) {
+			baseKey = key;
+			cursor = key;
+		} else if(key < baseKey) {
+			slideBack(key);
+		} else if(!inWindow(key) && cursor > baseKey && key - cursor < SLOTS) {
+			slideForward(cursor);
+		}
+
+		link(task, key);
+	}
+
+	/**
+    * Adds many tasks at once
+    *
+    * @param tasks the task objects to add
+    * @param count number of tasks to take from the start of the array
+    */
+	@Override
+	public void addAll(Task[] tasks, int count) {
+		for(int i = 0; i < count; i++) {
+			add(tasks[i]);
+		}
+	}
+
+	/**
+    * Returns the first task in the queue without removing it
+    *
+    * @return the first task, or null if the queue is empty
+    */
+	@Override
+	public Task peek() {
+
+		if(size() == 0) {
+			return null;
+		}
+
+		if(windowSize == 0) {
+			slideForward(later.firstKey());
+		}
+
+		while(heads[cursor & SLOT_MASK] == null) {
+			cursor++;
+		}
+
+		return heads[cursor & SLOT_MASK];
+	}
+
+	/**
+    * Removes and returns the first task in the queue
+    *
+    * @return the first task, or null if the queue is empty
+    */
+	@Override
+	public Task poll() {
+
+		Task first = peek();
+
+		if(first != null) {
+			modCount++;
+			unlink(first);
+		}
+
+		return first;
+	}
+
+	/**
+    * Removes a specific task from the queue, in O(1) when it is due within the window
+    *
+    * @param task the task object to remove
+    *
+    * @return true if the task was queued and has been removed, false if otherwise
+    */
+	@Override
+	public boolean remove(Task task) {
+
+		if(!contains(task)) {
+			return false;
+		}
+
+		modCount++;
+		unlink(task);
+		return true;
+	}
+
+	/**
+    * Moves a task to the back of the bucket for its new due date and priority
+    *
+    * @param task the task object whose key changed
+    */
+	@Override
+	public void update(Task task) {
+
+		if(remove(task)) {
+			add(task);
+		}
+	}
+
+	/**
+    * Returns the first k tasks in queue order without removing them
+    *
+    * @param k the maximum number of tasks to return
+    *
+    * @return list of at most k tasks, first task first
+    */
+	@Override
+	public List<Task> topK(int k) {
+
+		List<Task> result = new ArrayList<>(Math.max(0, Math.min(k, size())));
+		Iterator<Task> ordered = iterator();
+
+		while(result.size() < k && ordered.hasNext()) {
+			result.add(ordered.next());
+		}
+
+		return result;
+	}
+
+	/**
+    * Returns a lazy, read-only iterator over the tasks in queue order: bucket by bucket through
+    * the window, then through the later buckets. The queue must not be modified while iterating
+    *
+    * @return iterator from the first task to the last
+    */
+	@Override
+	public Iterator<Task> iterator() {
+		return new BucketIterator();
+	}
+
+	/**
+    * Clears the entire queue
+    */
+	@Override
+	public void clear() {
+
+		for(int slot = 0; slot < SLOTS && windowSize > 0; slot++) {
+			while(heads[slot] != null) {
+				unlink(heads[slot]);
+			}
+		}
+
+		while(!later.isEmpty()) {
+			unlink(later.firstEntry().getValue().head);
+		}
+
+		modCount++;
+	}
+
+	/**
+    * Checks whether a bucket key falls inside the window
+    *
+    * @param key the bucket key
+    *
+    * @return true if the bucket is in the ring, false if it is a later bucket
+    */
+	private boolean inWindow(int key) {
+		return (key >= baseKey && key - baseKey < SLOTS);
+	}
+
+	/**
+    * Appends a task to the bucket for its key
+    *
+    * @param task the task object to file
+    * @param key the task's bucket key, not before the window
+    */
+	private void link(Task task, int key) {
+
+		Task last;
+
+		if(inWindow(key)) {
+			int slot = key & SLOT_MASK;
+			last = tails[slot];
+			if(last == null) {
+				heads[slot] = task;
+			}
+			tails[slot] = task;
+			counts[slot]++;
+			windowSize++;
+
+			if(key < cursor) {
+				cursor = key;
+			}
+		} else {
+			Bucket bucket = later.computeIfAbsent(key, unused -> new Bucket());
+			last = bucket.tail;
+			if(last == null) {
+				bucket.head = task;
+			}
+			bucket.tail = task;
+			bucket.count++;
+			laterSize++;
+		}
+
+		if(last != null) {
+			last.setCalendarNext(task);
+		}
+
+		task.setCalendarSlot(key);
+		task.setCalendarPrev(last);
+		task.setCalendarNext(null);
+	}
+
+	/**
+    * Takes a task out of its bucket
+    *
+    * @param task the queued task object
+    */
+	private void unlink(Task task) {
+
+		int key = task.getCalendarSlot();
+		Task previous = task.getCalendarPrev();
+		Task next = task.getCalendarNext();
+
+		if(previous != null) {
+			previous.setCalendarNext(next);
+		}
+		if(next != null) {
+			next.setCalendarPrev(previous);
+		}
+
+		if(inWindow(key)) {
+			int slot = key & SLOT_MASK;
+			if(previous == null) {
+				heads[slot] = next;
+			}
+			if(next == null) {
+				tails[slot] = previous;
+			}
+			counts[slot]--;
+			windowSize--;
+		} else {
+			Bucket bucket = later.get(key);
+			if(previous == null) {
+				bucket.head = next;
+			}
+			if(next == null) {
+				bucket.tail = previous;
+			}
+			if(--bucket.count == 0) {
+				later.remove(key);
+			}
+			laterSize--;
+		}
+
+		task.setCalendarSlot(-1);
+		task.setCalendarPrev(null);
+		task.setCalendarNext(null);
+	}
+
+	/**
+    * Moves the window forward to start at a new key and splices in the later buckets that now
+    * fall inside it. No window bucket before the new start may hold a task
+    *
+    * @param newBaseKey the new first key of the window
+    */
+	private void slideForward(int newBaseKey) {
+
+		baseKey = newBaseKey;
+		if(cursor < baseKey) {
+			cursor = baseKey;
+		}
+
+		while(!later.isEmpty() && inWindow(later.firstKey())) {
+			Map.Entry<Integer, Bucket> entry = later.pollFirstEntry();
+			int key = entry.getKey();
+			int slot = key & SLOT_MASK;
+			Bucket bucket = entry.getValue();
+
+			heads[slot] = bucket.head;
+			tails[slot] = bucket.tail;
+			counts[slot] = bucket.count;
+			windowSize += bucket.count;
+			laterSize -= bucket.count;
+
+			if(key < cursor) {
+				cursor = key;
+			}
+		}
+	}
+
+	/**
+    * Moves the window back to start at an earlier key, splicing the window buckets that no
+    * longer fit at its end out into later buckets
+    *
+    * @param newBaseKey the new first key of the window
+    */
+	private void slideBack(int newBaseKey) {
+
+		int newEnd = newBaseKey + SLOTS;
+
+		for(int key = baseKey + SLOTS - 1; key >= newEnd && key >= baseKey && windowSize > 0; key--) {
+			int slot = key & SLOT_MASK;
+
+			if(heads[slot] != null) {
+				Bucket bucket = new Bucket();
+				bucket.head = heads[slot];
+				bucket.tail = tails[slot];
+				bucket.count = counts[slot];
+				later.put(key, bucket);
+
+				windowSize -= counts[slot];
+				laterSize += counts[slot];
+				heads[slot] = null;
+				tails[slot] = null;
+				counts[slot] = 0;
+			}
+		}
+
+		baseKey = newBaseKey;
+		if(cursor < baseKey || cursor - baseKey >= SLOTS) {
+			cursor = baseKey;
+		}
+	}
+
+	/**
+    * Returns the bucket key of a task: its due date as a day number, then its priority
+    *
+    * @param task the task object
+    *
+    * @return the bucket key (never negative for years 0-9999)
+    */
+	private static int keyOf(Task task) {
+		return dayNumber(task.getDueDate()) * PRIORITY_LEVELS + (task.getPriority() & (PRIORITY_LEVELS - 1));
+	}
+
+	/**
+    * Converts a due date to a count of days, so consecutive dates get consecutive numbers
+    *
+    * @param dueDate the due date (format: YYYYMMDD)
+    *
+    * @return days since 0000-03-01
+    */
+	private static int dayNumber(int dueDate) {
+
+		int year = dueDate / 10000;
+		int month = (dueDate / 100) % 100;
+		int day = dueDate % 100;
+
+		// Counting from March puts the leap day at the end of the year
+		if(month <= 2) {
+			year--;
+			month += 12;
+		}
+
+		int era = Math.floorDiv(year, 400);
+		int yearOfEra = year - era * 400;
+		int dayOfYear = (153 * (month - 3) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+		return Math.max(0, era * 146097 + dayOfEra);
+	}
+
+	/**
+	* A bucket due after the window: the ends of its task list and its length
+	*/
+	private static class Bucket {
+		Task head;
+		Task tail;
+		int count;
+	}
+
+	/**
+	* Iterator that walks the window buckets in key order and then the later buckets, each
+	* bucket front to back
+	*/
+	private class BucketIterator implements Iterator<Task> {
+
+		private final int expectedModCount = modCount;
+		private int key = cursor;
+		private Iterator<Bucket> laterBuckets;
+		private Task next;
+
+		/**
+	    * Constructs an iterator positioned before the first task
+	    */
+		BucketIterator() {
+			next = nextBucketHead();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (next != null);
+		}
+
+		@Override
+		public Task next() {
+
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			if(next == null) {
+				throw new NoSuchElementException();
+			}
+
+			Task current = next;
+			next = current.getCalendarNext();
+
+			if(next == null) {
+				next = nextBucketHead();
+			}
+
+			return current;
+		}
+
+		/**
+	    * Moves on to the next non-empty bucket
+	    *
+	    * @return the first task of that bucket, or null if there are no more buckets
+	    */
+		private Task nextBucketHead() {
+
+			if(laterBuckets == null) {
+				while(windowSize > 0 && key - baseKey < SLOTS) {
+					Task head = heads[key++ & SLOT_MASK];
+					if(head != null) {
+						return head;
+					}
+				}
+
+				laterBuckets = later.values().iterator();
+			}
+
+			return (laterBuckets.hasNext() ? laterBuckets.next().head : null);
+		}
+	}
+}
+
+// END OF CalendarQueue.java
@@ -0,0 +1,430 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+* @author Ayra Babar
+* @file DueDateIndex.java
+* @brief This file contains a secondary index of tasks ordered by due date, so that date
+*        range queries only visit the dates inside the requested window
+*
+* Range counts do not walk the dates. Each well-formed date (month 1-12, day 1-31) is given a
+* day slot, 372 per year in date order, and a Fenwick tree over the slots keeps the number of
+* tasks per slot as running sums, so count() is two prefix sums: O(log d) for a window of d
+* slots instead of one step per distinct date. The tree covers only the slots between the
+* earliest and latest dates seen, and doubles when a date falls outside. Dates that are not
+* well-formed are counted in a small sorted map and scanned as before.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Range counts for the query planner
+* 10/18/2026 - Range counts from a Fenwick tree over day slots instead of a walk over every date
+* 10/18/2026 - Range printing left to the console
+*/
+
+public class DueDateIndex {
+
+	private static final int SLOTS_PER_YEAR = 12 * 31;
+	private static final int SLOT_COUNT = 10_000 * SLOTS_PER_YEAR;	// years 0000 to 9999
+	private static final int INITIAL_SLOTS = 512;
+
+	private TreeMap<Integer, LinkedHashSet<Task>> tasksByDate;
+	private int size;
+
+	// Fenwick tree of task counts per day slot, 1-based, covering slots firstSlot to
+	// firstSlot + counts.length - 2; null while no well-formed date has been added
+	private int[] counts;
+	private int firstSlot;
+	private TreeMap<Integer, Integer> unslotted = new TreeMap<>();	// tasks per date that has no slot
+
+	/**
+    * Constructs a new, empty due date index
+    */
+	public DueDateIndex() {
+		this.tasksByDate = new TreeMap<>();
+		this.size = 0;
+	}
+
+	/**
+    * Checks if the index is empty or not
+    *
+    * @return true if no tasks are indexed, false if otherwise
+    */
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+    * Returns the number of tasks in the index
+    *
+    * @return number of indexed tasks
+    */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+    * Adds a task under its current due date
+    *
+    * @param task the task object to index
+    */
+	public void add(Task task) {
+
+		LinkedHashSet<Task> sameDate = tasksByDate.computeIfAbsent(task.getDueDate(), date -> new LinkedHashSet<>());
+
+		if(sameDate.add(task)) {
+			size++;
+			countDate(task.getDueDate(), 1);
+		}
+	}
+
+	/**
+    * Removes a task from the index. Must be called before the task's due date changes
+    *
+    * @param task the task object to remove
+    */
+	public void delete(Task task) {
+		delete(task, task.getDueDate());
+	}
+
+	/**
+    * Re-files a task whose due date has already been changed
+    *
+    * @param task the task object with its new due date set
+    * @param oldDueDate the due date the task was indexed under (format: YYYYMMDD)
+    */
+	public void update(Task task, int oldDueDate) {
+		delete(task, oldDueDate);
+		add(task);
+	}
+
+	/**
+    * Removes a task from the bucket of the given due date
+    *
+    * @param task the task object to remove
+    * @param dueDate the due date the task is indexed under
+    */
+	private void delete(Task task, int dueDate) {
+
+		LinkedHashSet<Task> sameDate = tasksByDate.get(dueDate);
+
+		if(sameDate == null || !sameDate.remove(task)) {
+			return;
+		}
+
+		size--;
+		countDate(dueDate, -1);
+
+		if(sameDate.isEmpty()) {
+			tasksByDate.remove(dueDate);
+		}
+	}
+
+	/**
+    * Clears the entire index
+    */
+	public void clear() {
+		tasksByDate.clear();
+		size = 0;
+		counts = null;
+		unslotted.clear();
+	}
+
+	/**
+    * Returns all tasks due between two dates (inclusive), earliest due date first
+    *
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    *
+    * @return list of tasks in the range, empty if there are none
+    */
+	public List<Task> range(int low, int high) {
+
+		if(low > high) {
+			return Collections.emptyList();
+		}
+
+		List<Task> result = new ArrayList<>();
+
+		for(LinkedHashSet<Task> sameDate : tasksByDate.subMap(low, true, high, true).values()) {
+			result.addAll(sameDate);
+		}
+
+		return result;
+	}
+
+	/**
+    * Counts the tasks due between two dates (inclusive) without collecting them or visiting
+    * each date: two prefix sums of the Fenwick tree, plus the dates without a slot in range
+    *
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    *
+    * @return number of tasks in the range
+    */
+	public int count(int low, int high) {
+
+		if(low > high) {
+			return 0;
+		}
+
+		int count = 0;
+
+		if(counts != null) {
+			int from = Math.max(ceilingSlot(low), firstSlot);
+			int to = Math.min(floorSlot(high), firstSlot + counts.length - 2);
+			if(from <= to) {
+				count = prefixSum(to - firstSlot + 1) - prefixSum(from - firstSlot);
+			}
+		}
+
+		if(!unslotted.isEmpty()) {
+			for(int sameDate : unslotted.subMap(low, true, high, true).values()) {
+				count += sameDate;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+    * Returns a lazy iterator over the tasks due between two dates (inclusive), earliest
+    * due date first. The index must not be modified while iterating
+    *
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    *
+    * @return read-only iterator over tasks in the range
+    */
+	public Iterator<Task> rangeIterator(int low, int high) {
+
+		if(low > high) {
+			return Collections.emptyIterator();
+		}
+
+		Iterator<LinkedHashSet<Task>> dates = tasksByDate.subMap(low, true, high, true).values().iterator();
+
+		return new Iterator<Task>() {
+
+			private Iterator<Task> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while(!current.hasNext() && dates.hasNext()) {
+					current = dates.next().iterator();
+				}
+				return current.hasNext();
+			}
+
+			@Override
+			public Task next() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return current.next();
+			}
+		};
+	}
+
+	/**
+    * Adds to the number of tasks counted under a due date. Called after the task was put in
+    * or taken out of its date bucket
+    *
+    * @param dueDate the due date (format: YYYYMMDD)
+    * @param change +1 for an added task, -1 for a removed one
+    */
+	private void countDate(int dueDate, int change) {
+
+		if(!hasSlot(dueDate)) {
+			unslotted.merge(dueDate, change, (old, added) -> (old + added == 0 ? null : old + added));
+			return;
+		}
+
+		int slot = slot(dueDate);
+
+		// A rebuild counts the buckets as they are now, the change included
+		if(counts == null || slot < firstSlot || slot > firstSlot + counts.length - 2) {
+			cover(slot);
+			return;
+		}
+
+		for(int i = slot - firstSlot + 1; i < counts.length; i += i & -i) {
+			counts[i] += change;
+		}
+	}
+
+	/**
+    * Grows the Fenwick tree to cover a slot, at least doubling it, and rebuilds it from the
+    * date buckets in O(slots + dates)
+    *
+    * @param slot the slot to cover
+    */
+	private void cover(int slot) {
+
+		int low = slot, high = slot;
+		int length = INITIAL_SLOTS;
+
+		if(counts != null) {
+			low = Math.min(slot, firstSlot);
+			high = Math.max(slot, firstSlot + counts.length - 2);
+			length = Math.max(2 * (counts.length - 1), high - low + 1);
+		}
+		length = Math.min(length, SLOT_COUNT);
+
+		// Leave the spare room on the side the tree is growing towards
+		if(counts != null && slot < firstSlot) {
+			firstSlot = Math.max(0, high - length + 1);
+		} else {
+			firstSlot = Math.min(low, SLOT_COUNT - length);
+		}
+		counts = new int[length + 1];
+
+		for(Map.Entry<Integer, LinkedHashSet<Task>> sameDate : tasksByDate.entrySet()) {
+			if(hasSlot(sameDate.getKey())) {
+				counts[slot(sameDate.getKey()) - firstSlot + 1] += sameDate.getValue().size();
+			}
+		}
+
+		// Turn the per-slot counts into running sums in one pass
+		for(int i = 1; i <= length; i++) {
+			int parent = i + (i & -i);
+			if(parent <= length) {
+				counts[parent] += counts[i];
+			}
+		}
+	}
+
+	/**
+    * Sums the task counts of the first slots of the Fenwick tree
+    *
+    * @param slots number of slots from firstSlot on
+    *
+    * @return number of tasks in those slots
+    */
+	private int prefixSum(int slots) {
+
+		int sum = 0;
+		for(int i = slots; i > 0; i -= i & -i) {
+			sum += counts[i];
+		}
+		return sum;
+	}
+
+	/**
+    * Checks whether a due date is well-formed enough to have a day slot
+    *
+    * @param date the due date (format: YYYYMMDD)
+    *
+    * @return true if the year is 0 to 9999, the month 1 to 12 and the day 1 to 31
+    */
+	private static boolean hasSlot(int date) {
+		int month = (date / 100) % 100;
+		int day = date % 100;
+		return (date >= 0 && date <= 99991231 && month >= 1 && month <= 12 && day >= 1 && day <= 31);
+	}
+
+	/**
+    * Returns the day slot of a well-formed due date. Slots follow date order, with 31 days in
+    * every month
+    *
+    * @param date the due date (format: YYYYMMDD)
+    *
+    * @return the slot
+    */
+	private static int slot(int date) {
+		return slot(date / 10000, (date / 100) % 100, date % 100);
+	}
+
+	/**
+    * @param year the year, 0 to 10000
+    * @param month the month, 1 to 12
+    * @param day the day, 1 to 31
+    *
+    * @return the day slot
+    */
+	private static int slot(int year, int month, int day) {
+		return year * SLOTS_PER_YEAR + (month - 1) * 31 + (day - 1);
+	}
+
+	/**
+    * Returns the slot of the earliest well-formed date on or after a date
+    *
+    * @param date any due date (format: YYYYMMDD)
+    *
+    * @return the slot, SLOT_COUNT if there is no such date
+    */
+	private static int ceilingSlot(int date) {
+
+		if(date < 101) {
+			return 0;
+		}
+		if(date > 99991231) {
+			return SLOT_COUNT;
+		}
+
+		int year = date / 10000, month = (date / 100) % 100, day = date % 100;
+
+		if(month < 1) {
+			month = 1;
+			day = 1;
+		} else if(month > 12) {
+			year++;
+			month = 1;
+			day = 1;
+		} else if(day < 1) {
+			day = 1;
+		} else if(day > 31) {
+			day = 1;
+			if(++month > 12) {
+				year++;
+				month = 1;
+			}
+		}
+
+		return slot(year, month, day);
+	}
+
+	/**
+    * Returns the slot of the latest well-formed date on or before a date
+    *
+    * @param date any due date (format: YYYYMMDD)
+    *
+    * @return the slot, -1 if there is no such date
+    */
+	private static int floorSlot(int date) {
+
+		if(date < 101) {
+			return -1;
+		}
+		if(date > 99991231) {
+			return SLOT_COUNT - 1;
+		}
+
+		int year = date / 10000, month = (date / 100) % 100, day = date % 100;
+
+		if(month < 1) {
+			year--;
+			month = 12;
+			day = 31;
+		} else if(month > 12) {
+			month = 12;
+			day = 31;
+		} else if(day < 1) {
+			day = 31;
+			if(--month < 1) {
+				year--;
+				month = 12;
+			}
+		} else if(day > 31) {
+			day = 31;
+		}
+
+		return slot(year, month, day);
+	}
+}
+
+// END OF DueDateIndex.java
\ No newline at end of file
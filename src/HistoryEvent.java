@@ -0,0 +1,162 @@
+/**
+* @author Ayra Babar
+* @file HistoryEvent.java
+* @brief This file contains one task history event: what happened, to which task, which field
+*        changed, and when. The readable history message is only built when toString() is called
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public final class HistoryEvent {
+
+	/**
+	* Kind of change recorded in the history
+	*/
+	public enum Operation {
+		CREATED,
+		DELETED,
+		UPDATED,
+		IMPORTED,	// a batch of tasks added at once
+		CLEARED
+	}
+
+	/**
+	* Task field changed by an UPDATED event
+	*/
+	public enum Field {
+
+		NAME("Task Name"),
+		DESCRIPTION("Description"),
+		DUE_DATE("Due Date"),
+		PRIORITY("Task Priority");
+
+		private final String label;
+
+		/**
+	    * @param label the field name shown in history messages
+	    */
+		Field(String label) {
+			this.label = label;
+		}
+
+		/**
+	    * Returns the field name shown in history messages
+	    *
+	    * @return the display label
+	    */
+		public String getLabel() {
+			return this.label;
+		}
+	}
+
+	private final Operation operation;
+	private final long taskID;		// for IMPORTED, the number of tasks imported
+	private final Field field;		// null unless the operation is UPDATED
+	private final String taskName;
+	private final long timestamp;	// milliseconds since the epoch
+
+	/**
+    * Constructs a history event
+    *
+    * @param operation what happened
+    * @param taskID ID of the task, or the number of tasks for IMPORTED
+    * @param field the changed field for UPDATED, otherwise null
+    * @param taskName name of the task at the time, or null when there is no single task
+    * @param timestamp when it happened, in milliseconds since the epoch
+    */
+	public HistoryEvent(Operation operation, long taskID, Field field, String taskName, long timestamp) {
+		this.operation = operation;
+		this.taskID = taskID;
+		this.field = field;
+		this.taskName = taskName;
+		this.timestamp = timestamp;
+	}
+
+	/**
+	* Returns what happened
+	*
+	* @return the operation
+	*/
+	public Operation getOperation() {
+		return this.operation;
+	}
+
+	/**
+	* Returns the ID of the task the event is about
+	*
+	* @return the task ID, or the number of tasks imported for IMPORTED events
+	*/
+	public long getTaskID() {
+		return this.taskID;
+	}
+
+	/**
+	* Returns the field an UPDATED event changed
+	*
+	* @return the field, or null for other operations
+	*/
+	public Field getField() {
+		return this.field;
+	}
+
+	/**
+	* Returns the task's name when the event happened
+	*
+	* @return the task name, or null for IMPORTED and CLEARED events
+	*/
+	public String getTaskName() {
+		return this.taskName;
+	}
+
+	/**
+	* Returns when the event happened
+	*
+	* @return milliseconds since the epoch
+	*/
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	* Builds the readable history message
+	*
+	* @return the history entry text
+	*/
+	@Override
+	public String toString() {
+		return render(operation, taskID, field, taskName);
+	}
+
+	/**
+	* Builds a readable history message from the parts of an event
+	*
+	* @param operation what happened
+	* @param taskID ID of the task, or the number of tasks for IMPORTED
+	* @param field the changed field for UPDATED, otherwise null
+	* @param taskName name of the task at the time
+	*
+	* @return the history entry text
+	*/
+	static String render(Operation operation, long taskID, Field field, String taskName) {
+
+		switch(operation) {
+
+		case CREATED:
+			return "Task " + taskID + ", '" + taskName + "' created and added to task list";
+
+		case DELETED:
+			return "Task " + taskID + ", '" + taskName + "' deleted from task list";
+
+		case UPDATED:
+			return "Task " + taskID + ", '" + taskName + "' had its " + field.getLabel() + " updated";
+
+		case IMPORTED:
+			return taskID + " tasks imported and added to task list";
+
+		default:
+			return "Task History and List cleared";
+		}
+	}
+}
+
+// END OF HistoryEvent.java
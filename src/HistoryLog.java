@@ -0,0 +1,402 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+* @author Ayra Babar
+* @file HistoryLog.java
+* @brief This file contains the task history log, a fixed-capacity ring buffer of history events.
+*        Each event is kept as primitive columns (operation, task ID, changed field, time) plus a
+*        reference to the task's existing name string, all allocated once, so recording a change
+*        allocates nothing. Readable messages are only built when the history is read. Once full,
+*        each new event overwrites the oldest one, and any event can be read in O(1) counting from
+*        either the latest or the oldest end
+*
+* 10/18/2026 - Initial creation, replaces the DoublyLinkedList history log
+* 10/18/2026 - Structured events rendered on read, queries by task ID and operation
+*/
+
+public class HistoryLog {
+
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	private static final HistoryEvent.Operation[] OPERATIONS = HistoryEvent.Operation.values();
+	private static final HistoryEvent.Field[] FIELDS = HistoryEvent.Field.values();
+	private static final byte NO_FIELD = -1;
+
+	// One column per event part, all indexed by ring slot
+	private byte[] operations;
+	private long[] taskIDs;		// number of tasks for IMPORTED events
+	private byte[] fields;
+	private long[] timestamps;	// milliseconds since the epoch
+	private String[] taskNames;
+	private int next;	// slot the next event is written to
+	private int size;
+
+	/**
+    * Constructs an empty history log holding up to DEFAULT_CAPACITY entries
+    */
+	public HistoryLog() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+    * Constructs an empty history log
+    *
+    * @param capacity maximum number of entries kept
+    */
+	public HistoryLog(int capacity) {
+
+		if(capacity < 1) {
+			throw new IllegalArgumentException("History capacity must be at least 1");
+		}
+
+		allocate(capacity);
+		this.next = 0;
+		this.size = 0;
+	}
+
+	/**
+	* Checks whether the log is empty
+	*
+	* @return true if there are no entries, otherwise returns false
+	*/
+	public boolean isEmpty() {
+		return (size == 0);
+	}
+
+	/**
+	* Returns the number of entries in the log
+	*
+	* @return number of entries kept
+	*/
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	* Returns the maximum number of entries the log keeps
+	*
+	* @return the capacity
+	*/
+	public int getCapacity() {
+		return operations.length;
+	}
+
+	/**
+	* Changes the maximum number of entries, keeping the latest entries that still fit
+	*
+	* @param capacity the new capacity
+	*/
+	public void setCapacity(int capacity) {
+
+		if(capacity < 1) {
+			throw new IllegalArgumentException("History capacity must be at least 1");
+		}
+
+		byte[] oldOperations = operations;
+		long[] oldTaskIDs = taskIDs;
+		byte[] oldFields = fields;
+		long[] oldTimestamps = timestamps;
+		String[] oldTaskNames = taskNames;
+		int kept = Math.min(size, capacity);
+		int first = slot(next - kept);
+
+		allocate(capacity);
+
+		for(int i = 0; i < kept; i++) {
+			int from = (first + i) % oldOperations.length;
+			operations[i] = oldOperations[from];
+			taskIDs[i] = oldTaskIDs[from];
+			fields[i] = oldFields[from];
+			timestamps[i] = oldTimestamps[from];
+			taskNames[i] = oldTaskNames[from];
+		}
+
+		size = kept;
+		next = (kept == capacity ? 0 : kept);
+	}
+
+	/**
+	* Returns a specific history entry counting from the latest one (1-based index)
+	*
+	* @param logValue the entry number to return (1 = most recent)
+	*
+	* @return the history entry message
+	*/
+	public String getEntry(int logValue) {
+		checkIndex(logValue);
+		return render(slot(next - logValue));
+	}
+
+	/**
+	* Returns a specific history entry counting from the oldest one (1-based index)
+	*
+	* @param logValue the entry number to return (1 = oldest)
+	*
+	* @return the history entry message
+	*/
+	public String getEntryFromOldest(int logValue) {
+		checkIndex(logValue);
+		return render(slot(next - size + logValue - 1));
+	}
+
+	/**
+	* Returns a specific history event counting from the latest one (1-based index)
+	*
+	* @param logValue the event number to return (1 = most recent)
+	*
+	* @return the history event
+	*/
+	public HistoryEvent getEvent(int logValue) {
+		checkIndex(logValue);
+		return eventAt(slot(next - logValue));
+	}
+
+	/**
+	* Returns every event still in the log about one task, from latest to oldest
+	*
+	* @param ID the task ID
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> getEvents(long ID) {
+
+		List<HistoryEvent> found = new ArrayList<>();
+
+		for(int i = 1; i <= size; i++) {
+			int slot = slot(next - i);
+			if(taskIDs[slot] == ID && OPERATIONS[operations[slot]] != HistoryEvent.Operation.IMPORTED
+					&& OPERATIONS[operations[slot]] != HistoryEvent.Operation.CLEARED) {
+				found.add(eventAt(slot));
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	* Returns every event still in the log of one kind, from latest to oldest
+	*
+	* @param operation the kind of event
+	*
+	* @return list of events, empty if there are none
+	*/
+	public List<HistoryEvent> getEvents(HistoryEvent.Operation operation) {
+
+		List<HistoryEvent> found = new ArrayList<>();
+		byte code = (byte) operation.ordinal();
+
+		for(int i = 1; i <= size; i++) {
+			int slot = slot(next - i);
+			if(operations[slot] == code) {
+				found.add(eventAt(slot));
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	* Returns every history entry
+	*
+	* @param latestFirst true for latest to oldest, false for oldest to latest
+	*
+	* @return list of history entry messages, empty if there are none
+	*/
+	public List<String> getEntries(boolean latestFirst) {
+
+		List<String> copy = new ArrayList<>(size);
+
+		for(int i = 1; i <= size; i++) {
+			copy.add(latestFirst ? getEntry(i) : getEntryFromOldest(i));
+		}
+
+		return copy;
+	}
+
+	/**
+	* Returns every history entry from latest to oldest
+	*
+	* @return list of history entry messages, empty if there are none
+	*/
+	public List<String> getEntries() {
+		return getEntries(true);
+	}
+
+	/**
+	* Prints the entire task history log from latest entry to oldest entry
+	*/
+	public void printInOrderHistory() {
+		printHistory(true);
+	}
+
+	/**
+	* Prints the entire task history log from oldest entry to latest entry
+	*/
+	public void printReverseHistory() {
+		printHistory(false);
+	}
+
+	/**
+	* Prints a specific history log (1-based index)
+	*
+	* @param logValue the entry number to print (1 = most recent)
+	*/
+	public void printSpecificHistoryLog(int logValue) {
+		System.out.println("Task History Entry " + logValue + ": " + getEntry(logValue));
+	}
+
+	/**
+	* Inserts new task history log when a new task is created
+	*
+	* @param ID number ID of task
+	* @param taskName string name of task
+	*/
+	public void insertion(long ID, String taskName) {
+		append(HistoryEvent.Operation.CREATED, ID, NO_FIELD, taskName);
+	}
+
+	/**
+	* Inserts a new task history log when a task is deleted
+	*
+	* @param taskToDelete the task that was deleted
+	*/
+	public void deletion(Task taskToDelete) {
+		append(HistoryEvent.Operation.DELETED, taskToDelete.getID(), NO_FIELD, taskToDelete.getName());
+	}
+
+	/**
+	* Inserts one task history log for a batch of tasks imported at once
+	*
+	* @param count number of tasks imported
+	*/
+	public void bulkInsertion(int count) {
+		append(HistoryEvent.Operation.IMPORTED, count, NO_FIELD, null);
+	}
+
+	/**
+	* Inserts a new task history log when a task is updated or changed
+	*
+	* @param field the task field that was changed
+	* @param ID number ID of task
+	* @param taskName string name of task
+	*/
+	public void taskUpdate(HistoryEvent.Field field, long ID, String taskName) {
+		append(HistoryEvent.Operation.UPDATED, ID, (byte) field.ordinal(), taskName);
+	}
+
+	/**
+	* Clears entire task history and documents the action
+	*/
+	public void clear() {
+		Arrays.fill(taskNames, null);
+		next = 0;
+		size = 0;
+		append(HistoryEvent.Operation.CLEARED, 0, NO_FIELD, null);
+	}
+
+	/**
+	* Writes an event into the next slot, overwriting the oldest event once the log is full
+	*
+	* @param operation what happened
+	* @param ID the task ID, or the number of tasks for IMPORTED
+	* @param field ordinal of the changed field, or NO_FIELD
+	* @param taskName the task's name (kept by reference, not copied)
+	*/
+	private void append(HistoryEvent.Operation operation, long ID, byte field, String taskName) {
+
+		operations[next] = (byte) operation.ordinal();
+		taskIDs[next] = ID;
+		fields[next] = field;
+		timestamps[next] = System.currentTimeMillis();
+		taskNames[next] = taskName;
+		next = (next + 1 == operations.length ? 0 : next + 1);
+
+		if(size < operations.length) {
+			size++;
+		}
+	}
+
+	/**
+	* Builds the readable message of the event in a slot
+	*
+	* @param slot the ring slot
+	*
+	* @return the history entry message
+	*/
+	private String render(int slot) {
+		return HistoryEvent.render(OPERATIONS[operations[slot]], taskIDs[slot],
+				fields[slot] == NO_FIELD ? null : FIELDS[fields[slot]], taskNames[slot]);
+	}
+
+	/**
+	* Copies the event in a slot out into an event object
+	*
+	* @param slot the ring slot
+	*
+	* @return the history event
+	*/
+	private HistoryEvent eventAt(int slot) {
+		return new HistoryEvent(OPERATIONS[operations[slot]], taskIDs[slot],
+				fields[slot] == NO_FIELD ? null : FIELDS[fields[slot]], taskNames[slot], timestamps[slot]);
+	}
+
+	/**
+	* Allocates empty columns
+	*
+	* @param capacity number of events the columns hold
+	*/
+	private void allocate(int capacity) {
+		operations = new byte[capacity];
+		taskIDs = new long[capacity];
+		fields = new byte[capacity];
+		timestamps = new long[capacity];
+		taskNames = new String[capacity];
+	}
+
+	/**
+	* Prints the entire task history log in either order
+	*
+	* @param latestFirst true for latest to oldest, false for oldest to latest
+	*/
+	private void printHistory(boolean latestFirst) {
+
+		if(isEmpty()) {
+			System.out.println("Nothing in Task History Log\n");
+			return;
+		}
+
+		System.out.println("Task History Log from " + (latestFirst ? "Latest to Oldest" : "Oldest to Latest")
+				+ " (Max Capacity of " + operations.length + " Entries)");
+
+		for(int i = 1; i <= size; i++) {
+			System.out.println("- " + (latestFirst ? getEntry(i) : getEntryFromOldest(i)));
+		}
+		System.out.println();
+	}
+
+	/**
+	* Wraps a position into the ring
+	*
+	* @param position a position that may be up to one capacity below zero
+	*
+	* @return the slot index
+	*/
+	private int slot(int position) {
+		return (position < 0 ? position + operations.length : position);
+	}
+
+	/**
+	* Checks a 1-based entry number
+	*
+	* @param logValue the entry number
+	*/
+	private void checkIndex(int logValue) {
+		if(logValue < 1 || logValue > size) {
+			throw new IndexOutOfBoundsException("No history entry " + logValue + ", log has " + size);
+		}
+	}
+}
+
+// END OF HistoryLog.java
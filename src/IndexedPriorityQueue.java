@@ -0,0 +1,465 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+* @author Ayra Babar
+* @file IndexedPriorityQueue.java
+* @brief This file contains the implementation of an indexed binary heap of tasks. Every task
+*        remembers its own position in the heap, so removing a task or re-ordering it after a
+*        due date or priority change costs O(log n) instead of a linear scan
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Lazy sorted iteration and top-K paging without copying the heap
+* 10/18/2026 - Bulk add with O(n) heapify
+* 10/18/2026 - Implements TaskScheduler
+*/
+
+public class IndexedPriorityQueue implements TaskScheduler {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Task[] heap;
+	private int size;
+	private final Comparator<Task> comparator;
+	private int modCount;	// bumped on every change so open iterators can detect it
+
+	/**
+    * Constructs an empty queue ordered by the given comparator
+    *
+    * @param comparator ordering of the tasks, the smallest task is polled first
+    */
+	public IndexedPriorityQueue(Comparator<Task> comparator) {
+		this.heap = new Task[DEFAULT_CAPACITY];
+		this.size = 0;
+		this.comparator = comparator;
+	}
+
+	/**
+    * Checks if the queue is empty or not
+    *
+    * @return true if there are no tasks in the queue, false if otherwise
+    */
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+    * Returns the number of tasks in the queue
+    *
+    * @return number of queued tasks
+    */
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+    * Returns the comparator that orders this queue
+    *
+    * @return the task comparator
+    */
+	public Comparator<Task> comparator() {
+		return this.comparator;
+	}
+
+	/**
+    * Checks whether a task is currently in this queue
+    *
+    * @param task the task object to look for
+    *
+    * @return true if the task is queued, false if otherwise
+    */
+	@Override
+	public boolean contains(Task task) {
+		int index = task.getQueueIndex();
+		return (index >= 0 && index < size && heap[index] == task);
+	}
+
+	/**
+    * Adds a task to the queue. A task that is already queued is ignored
+    *
+    * @param task the task object to add
+    */
+	@Override
+	public void add(Task task) {
+
+		if(contains(task)) {
+			return;
+		}
+
+		if(size == heap.length) {
+			heap = Arrays.copyOf(heap, heap.length * 2);
+		}
+
+		heap[size] = task;
+		task.setQueueIndex(size);
+		size++;
+		modCount++;
+		siftUp(size - 1);
+	}
+
+	/**
+    * Adds many tasks at once. When the batch is at least as large as the queue already is, 
+    * the whole heap is rebuilt bottom-up in O(n) instead of sifting up every task
+    *
+    * @param tasks the task objects to add
+    * @param count number of tasks to take from the start of the array
+    */
+	@Override
+	public void addAll(Task[] tasks, int count) {
+
+		if(size + count > heap.length) {
+			heap = Arrays.copyOf(heap, Math.max(size + count, heap.length * 2));
+		}
+
+		int oldSize = size;
+
+		for(int i = 0; i < count; i++) {
+			if(!contains(tasks[i])) {
+				heap[size] = tasks[i];
+				tasks[i].setQueueIndex(size);
+				size++;
+			}
+		}
+
+		modCount++;
+
+		if(size - oldSize >= oldSize) {
+			for(int i = (size >>> 1) - 1; i >= 0; i--) {
+				siftDown(i);
+			}
+		} else {
+			for(int i = oldSize; i < size; i++) {
+				siftUp(i);
+			}
+		}
+	}
+
+	/**
+    * Returns the first task in the queue without removing it
+    *
+    * @return the first task, or null if the queue is empty
+    */
+	@Override
+	public Task peek() {
+		return (isEmpty() ? null : heap[0]);
+	}
+
+	/**
+    * Removes and returns the first task in the queue
+    *
+    * @return the first task, or null if the queue is empty
+    */
+	@Override
+	public Task poll() {
+
+		if(isEmpty()) {
+			return null;
+		}
+
+		Task first = heap[0];
+		removeAt(0);
+		return first;
+	}
+
+	/**
+    * Removes a specific task from the queue in O(log n)
+    *
+    * @param task the task object to remove
+    *
+    * @return true if the task was queued and has been removed, false if otherwise
+    */
+	@Override
+	public boolean remove(Task task) {
+
+		if(!contains(task)) {
+			return false;
+		}
+
+		removeAt(task.getQueueIndex());
+		return true;
+	}
+
+	/**
+    * Restores the ordering of a task after its due date or priority has changed. Moves the
+    * task up if its key decreased and down if its key increased
+    *
+    * @param task the task object whose key changed
+    */
+	@Override
+	public void update(Task task) {
+
+		if(!contains(task)) {
+			return;
+		}
+
+		int index = task.getQueueIndex();
+		modCount++;
+		siftUp(index);
+
+		if(heap[index] == task) {
+			siftDown(index);
+		}
+	}
+
+	/**
+    * Returns the first k tasks in queue order without removing them, in O(k log k)
+    *
+    * @param k the maximum number of tasks to return
+    *
+    * @return list of at most k tasks, first task first
+    */
+	@Override
+	public List<Task> topK(int k) {
+
+		List<Task> result = new ArrayList<>(Math.max(0, Math.min(k, size)));
+		Iterator<Task> ordered = iterator();
+
+		while(result.size() < k && ordered.hasNext()) {
+			result.add(ordered.next());
+		}
+
+		return result;
+	}
+
+	/**
+    * Returns a lazy, read-only iterator over the tasks in queue order. Only the tasks that
+    * are actually read are ordered, so reading k tasks costs O(k log k) and the heap itself
+    * is never copied. The queue must not be modified while iterating
+    *
+    * @return iterator from the first task to the last
+    */
+	@Override
+	public Iterator<Task> iterator() {
+		return new OrderedIterator();
+	}
+
+	/**
+    * Returns a copy of the queued tasks in heap (not sorted) order
+    *
+    * @return array of the queued tasks
+    */
+	public Task[] toArray() {
+		return Arrays.copyOf(heap, size);
+	}
+
+	/**
+    * Clears the entire queue
+    */
+	@Override
+	public void clear() {
+
+		for(int i = 0; i < size; i++) {
+			heap[i].setQueueIndex(-1);
+			heap[i] = null;
+		}
+
+		size = 0;
+		modCount++;
+	}
+
+	/**
+    * Removes the task at a heap position and fills the hole with the last task
+    *
+    * @param index the heap position to remove
+    */
+	private void removeAt(int index) {
+
+		Task removed = heap[index];
+		removed.setQueueIndex(-1);
+		modCount++;
+
+		size--;
+		Task last = heap[size];
+		heap[size] = null;
+
+		if(index == size) {
+			return;
+		}
+
+		heap[index] = last;
+		last.setQueueIndex(index);
+		siftUp(index);
+
+		if(heap[index] == last) {
+			siftDown(index);
+		}
+	}
+
+	/**
+    * Moves the task at a heap position up until its parent is not larger
+    *
+    * @param index the heap position to start from
+    */
+	private void siftUp(int index) {
+
+		Task task = heap[index];
+
+		while(index > 0) {
+			int parent = (index - 1) >>> 1;
+			Task parentTask = heap[parent];
+
+			if(comparator.compare(task, parentTask) >= 0) {
+				break;
+			}
+
+			heap[index] = parentTask;
+			parentTask.setQueueIndex(index);
+			index = parent;
+		}
+
+		heap[index] = task;
+		task.setQueueIndex(index);
+	}
+
+	/**
+    * Moves the task at a heap position down until neither child is smaller
+    *
+    * @param index the heap position to start from
+    */
+	private void siftDown(int index) {
+
+		Task task = heap[index];
+		int half = size >>> 1;
+
+		while(index < half) {
+			int child = (index << 1) + 1;
+			int right = child + 1;
+
+			if(right < size && comparator.compare(heap[right], heap[child]) < 0) {
+				child = right;
+			}
+
+			if(comparator.compare(task, heap[child]) <= 0) {
+				break;
+			}
+
+			heap[index] = heap[child];
+			heap[index].setQueueIndex(index);
+			index = child;
+		}
+
+		heap[index] = task;
+		task.setQueueIndex(index);
+	}
+
+	/**
+	* Iterator that walks the heap in order using a small frontier heap of heap positions.
+	* The frontier starts at the root; each time a position is returned, its two children
+	* (the only tasks that can come next from that branch) are added to the frontier
+	*/
+	private class OrderedIterator implements Iterator<Task> {
+
+		private int[] frontier = new int[DEFAULT_CAPACITY];
+		private int frontierSize;
+		private final int expectedModCount = modCount;
+
+		/**
+	    * Constructs an iterator positioned before the first task
+	    */
+		OrderedIterator() {
+			if(size > 0) {
+				frontier[frontierSize++] = 0;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (frontierSize > 0);
+		}
+
+		@Override
+		public Task next() {
+
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			if(frontierSize == 0) {
+				throw new NoSuchElementException();
+			}
+
+			int index = frontier[0];
+			frontierSize--;
+
+			if(frontierSize > 0) {
+				frontier[0] = frontier[frontierSize];
+				frontierDown(0);
+			}
+
+			int child = (index << 1) + 1;
+			if(child < size) {
+				frontierAdd(child);
+			}
+			if(child + 1 < size) {
+				frontierAdd(child + 1);
+			}
+
+			return heap[index];
+		}
+
+		/**
+	    * Adds a heap position to the frontier
+	    *
+	    * @param index the heap position to add
+	    */
+		private void frontierAdd(int index) {
+
+			if(frontierSize == frontier.length) {
+				frontier = Arrays.copyOf(frontier, frontier.length * 2);
+			}
+
+			int slot = frontierSize++;
+
+			while(slot > 0) {
+				int parent = (slot - 1) >>> 1;
+
+				if(comparator.compare(heap[index], heap[frontier[parent]]) >= 0) {
+					break;
+				}
+
+				frontier[slot] = frontier[parent];
+				slot = parent;
+			}
+
+			frontier[slot] = index;
+		}
+
+		/**
+	    * Moves a frontier entry down until neither child is smaller
+	    *
+	    * @param slot the frontier position to start from
+	    */
+		private void frontierDown(int slot) {
+
+			int index = frontier[slot];
+			int half = frontierSize >>> 1;
+
+			while(slot < half) {
+				int child = (slot << 1) + 1;
+				int right = child + 1;
+
+				if(right < frontierSize && comparator.compare(heap[frontier[right]], heap[frontier[child]]) < 0) {
+					child = right;
+				}
+
+				if(comparator.compare(heap[index], heap[frontier[child]]) <= 0) {
+					break;
+				}
+
+				frontier[slot] = frontier[child];
+				slot = child;
+			}
+
+			frontier[slot] = index;
+		}
+	}
+}
+
+// END OF IndexedPriorityQueue.java
\ No newline at end of file
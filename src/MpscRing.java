@@ -0,0 +1,139 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+* @author Ayra Babar
+* @file MpscRing.java
+* @brief This file contains a bounded, lock-free ring buffer for many producer threads and one
+*        consumer thread. Every slot carries a sequence number: a producer claims the next slot
+*        with one compare-and-set on the shared tail, fills it, then publishes it by advancing
+*        the slot's sequence; the consumer takes slots in order once they are published and
+*        hands them back by advancing the sequence one lap ahead. Nobody ever blocks, and a
+*        full ring is reported to the producer instead of growing
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - isFull() so producers can park instead of spinning on a full ring
+*/
+
+public class MpscRing<E> {
+
+	private final Object[] slots;
+	private final AtomicLongArray sequences;	// position a slot is ready for: filled when it is one past
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();	// next position producers claim
+	private long head;		// next position the consumer takes, only the consumer touches it
+
+	/**
+    * Constructs an empty ring
+    *
+    * @param capacity minimum number of elements the ring holds, rounded up to a power of two
+    *
+    * @throws IllegalArgumentException if the capacity is not positive or too large
+    */
+	public MpscRing(int capacity) {
+
+		if(capacity < 1 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Ring capacity must be between 1 and 2^30: " + capacity);
+		}
+
+		int size = Integer.highestOneBit(capacity);
+		if(size < capacity) {
+			size <<= 1;
+		}
+
+		this.slots = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+
+		for(int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+    * Returns the number of elements the ring holds
+    *
+    * @return the capacity, a power of two
+    */
+	public int capacity() {
+		return slots.length;
+	}
+
+	/**
+    * Adds an element at the tail. Safe to call from any number of threads at once
+    *
+    * @param element the element to add
+    *
+    * @return true if it was added, false if the ring is full
+    */
+	public boolean offer(E element) {
+
+		while(true) {
+			long position = tail.get();
+			int index = (int) (position & mask);
+			long sequence = sequences.get(index);
+
+			if(sequence == position) {
+				if(tail.compareAndSet(position, position + 1)) {
+					slots[index] = element;
+					sequences.set(index, position + 1);		// publishes the element to the consumer
+					return true;
+				}
+			} else if(sequence < position) {
+				return false;		// the consumer has not taken this slot's last element yet
+			}
+			// Otherwise another producer claimed the position first, try the next one
+		}
+	}
+
+	/**
+    * Checks whether the slot producers claim next is still taken. Safe to call from any thread,
+    * though the answer may be stale by the time it returns
+    *
+    * @return true if offer() would currently fail
+    */
+	public boolean isFull() {
+
+		long position = tail.get();
+		return sequences.get((int) (position & mask)) < position;
+	}
+
+	/**
+    * Takes published elements from the head, oldest first. Only the consumer thread may call it
+    *
+    * @param into array receiving the elements from index 0
+    * @param max most elements to take
+    *
+    * @return number of elements taken, 0 if none is ready
+    */
+	@SuppressWarnings("unchecked")
+	public int drain(E[] into, int max) {
+
+		int count = 0;
+
+		while(count < max) {
+			int index = (int) (head & mask);
+			if(sequences.get(index) != head + 1) {
+				break;
+			}
+
+			into[count++] = (E) slots[index];
+			slots[index] = null;
+			sequences.set(index, head + slots.length);		// hands the slot back for the next lap
+			head++;
+		}
+
+		return count;
+	}
+
+	/**
+    * Checks whether an element is ready at the head. Only the consumer thread may call it
+    *
+    * @return true if drain() would take nothing
+    */
+	public boolean isEmpty() {
+		return sequences.get((int) (head & mask)) != head + 1;
+	}
+}
+
+// END OF MpscRing.java
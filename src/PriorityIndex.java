@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+* @author Ayra Babar
+* @file PriorityIndex.java
+* @brief This file contains a secondary index of tasks bucketed by manual priority (1-5), so
+*        queries for a few priority levels only visit those buckets
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class PriorityIndex {
+
+	public static final int LOWEST = 1;
+	public static final int HIGHEST = 5;
+
+	private List<LinkedHashSet<Task>> buckets;	// index 0 holds priority LOWEST
+	private int size;
+
+	/**
+    * Constructs a new, empty priority index
+    */
+	public PriorityIndex() {
+		this.buckets = new ArrayList<>(HIGHEST - LOWEST + 1);
+		for(int priority = LOWEST; priority <= HIGHEST; priority++) {
+			buckets.add(new LinkedHashSet<>());
+		}
+		this.size = 0;
+	}
+
+	/**
+    * Checks if the index is empty or not
+    *
+    * @return true if no tasks are indexed, false if otherwise
+    */
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+    * Returns the number of tasks in the index
+    *
+    * @return number of indexed tasks
+    */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+    * Adds a task under its current priority
+    *
+    * @param task the task object to index
+    */
+	public void add(Task task) {
+		if(buckets.get(task.getPriority() - LOWEST).add(task)) {
+			size++;
+		}
+	}
+
+	/**
+    * Removes a task from the index. Must be called before the task's priority changes
+    *
+    * @param task the task object to remove
+    */
+	public void delete(Task task) {
+		delete(task, task.getPriority());
+	}
+
+	/**
+    * Re-files a task whose priority has already been changed
+    *
+    * @param task the task object with its new priority set
+    * @param oldPriority the priority the task was indexed under
+    */
+	public void update(Task task, int oldPriority) {
+		delete(task, oldPriority);
+		add(task);
+	}
+
+	/**
+    * Removes a task from the bucket of the given priority
+    *
+    * @param task the task object to remove
+    * @param priority the priority the task is indexed under
+    */
+	private void delete(Task task, int priority) {
+		if(buckets.get(priority - LOWEST).remove(task)) {
+			size--;
+		}
+	}
+
+	/**
+    * Clears the entire index
+    */
+	public void clear() {
+		for(LinkedHashSet<Task> bucket : buckets) {
+			bucket.clear();
+		}
+		size = 0;
+	}
+
+	/**
+    * Counts the tasks with a priority between two levels (inclusive)
+    *
+    * @param low lowest priority level
+    * @param high highest priority level
+    *
+    * @return number of tasks in the range
+    */
+	public int count(int low, int high) {
+
+		int count = 0;
+		for(int priority = Math.max(low, LOWEST); priority <= Math.min(high, HIGHEST); priority++) {
+			count += buckets.get(priority - LOWEST).size();
+		}
+		return count;
+	}
+
+	/**
+    * Returns a lazy iterator over the tasks with a priority between two levels (inclusive),
+    * lowest level first. The index must not be modified while iterating
+    *
+    * @param low lowest priority level
+    * @param high highest priority level
+    *
+    * @return read-only iterator over tasks in the range
+    */
+	public Iterator<Task> rangeIterator(int low, int high) {
+
+		int first = Math.max(low, LOWEST);
+		int last = Math.min(high, HIGHEST);
+
+		if(first > last) {
+			return Collections.emptyIterator();
+		}
+
+		Iterator<LinkedHashSet<Task>> levels = buckets.subList(first - LOWEST, last - LOWEST + 1).iterator();
+
+		return new Iterator<Task>() {
+
+			private Iterator<Task> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while(!current.hasNext() && levels.hasNext()) {
+					current = levels.next().iterator();
+				}
+				return current.hasNext();
+			}
+
+			@Override
+			public Task next() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return current.next();
+			}
+		};
+	}
+}
+
+// END OF PriorityIndex.java
@@ -0,0 +1,251 @@
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+* @author Ayra Babar
+* @file QueryPlanner.java
+* @brief This file contains the query planner for TaskQuery. For each query it estimates how
+*        many tasks every usable index would hand back (the ID map or tree for ID filters, the
+*        due date index, the priority buckets, the text index) and reads from the one with the
+*        fewest, falling back to a full scan of the tree. Every candidate is then checked
+*        against the whole query, one at a time, so results stream lazily and a query with a
+*        limit stops as soon as it has enough tasks
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Exact ID range counts from the tree's subtree sizes
+* 10/18/2026 - Text candidates intersected lazily instead of all at once before the limit
+*/
+
+public class QueryPlanner {
+
+	/**
+	* Where a plan reads its candidate tasks from
+	*/
+	public enum AccessPath {
+		ID_LOOKUP,	// one ID from the ID map
+		ID_RANGE,	// an ID range of the tree
+		DUE_DATE,	// a date range of the due date index
+		PRIORITY,	// some buckets of the priority index
+		TEXT,		// the tasks holding every query word, from the text index
+		FULL_SCAN,	// every task, in ID order
+		NONE		// the query can never match
+	}
+
+	/**
+	* A chosen access path for one query, iterable once over the matching tasks
+	*/
+	public static final class Plan implements Iterable<Task> {
+
+		private final AccessPath accessPath;
+		private final long estimate;
+		private final Iterator<Task> candidates;
+		private final TaskQuery query;
+
+		/**
+	    * @param accessPath where the candidates come from
+	    * @param estimate expected number of candidates
+	    * @param candidates the candidate tasks
+	    * @param query the query every candidate is checked against
+	    */
+		private Plan(AccessPath accessPath, long estimate, Iterator<Task> candidates, TaskQuery query) {
+			this.accessPath = accessPath;
+			this.estimate = estimate;
+			this.candidates = candidates;
+			this.query = query;
+		}
+
+		/**
+	    * Returns where the plan reads its candidate tasks from
+	    *
+	    * @return the access path
+	    */
+		public AccessPath getAccessPath() {
+			return accessPath;
+		}
+
+		/**
+	    * Returns the number of candidate tasks the planner expected to read
+	    *
+	    * @return the estimate (an upper bound)
+	    */
+		public long getEstimate() {
+			return estimate;
+		}
+
+		/**
+	    * Returns a lazy iterator over the matching tasks, up to the query's limit. The stores
+	    * must not be modified while iterating
+	    *
+	    * @return read-only iterator over matching tasks
+	    */
+		@Override
+		public Iterator<Task> iterator() {
+
+			return new Iterator<Task>() {
+
+				private Task next;
+				private int returned;
+
+				@Override
+				public boolean hasNext() {
+
+					if(next != null) {
+						return true;
+					}
+					if(returned >= query.getLimit()) {
+						return false;
+					}
+
+					while(candidates.hasNext()) {
+						Task candidate = candidates.next();
+						if(candidate != null && query.matches(candidate)) {
+							next = candidate;
+							return true;
+						}
+					}
+					return false;
+				}
+
+				@Override
+				public Task next() {
+
+					if(!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					Task task = next;
+					next = null;
+					returned++;
+					return task;
+				}
+			};
+		}
+	}
+
+	private final BinarySearchTree taskTree;
+	private final TaskIdMap taskIndex;
+	private final DueDateIndex dueDateIndex;
+	private final PriorityIndex priorityIndex;
+	private final TextIndex textIndex;
+
+	/**
+    * Constructs a planner over a set of stores kept in step by the caller
+    *
+    * @param taskTree tasks by ID, in order
+    * @param taskIndex tasks by ID, hashed
+    * @param dueDateIndex tasks by due date
+    * @param priorityIndex tasks by priority
+    * @param textIndex tasks by the words of their name and description
+    */
+	public QueryPlanner(BinarySearchTree taskTree, TaskIdMap taskIndex, DueDateIndex dueDateIndex,
+			PriorityIndex priorityIndex, TextIndex textIndex) {
+		this.taskTree = taskTree;
+		this.taskIndex = taskIndex;
+		this.dueDateIndex = dueDateIndex;
+		this.priorityIndex = priorityIndex;
+		this.textIndex = textIndex;
+	}
+
+	/**
+    * Chooses the most selective access path for a query
+    *
+    * @param query the query to plan
+    *
+    * @return the plan, ready to iterate
+    */
+	public Plan plan(TaskQuery query) {
+
+		if(query.isEmpty()) {
+			return new Plan(AccessPath.NONE, 0, Collections.emptyIterator(), query);
+		}
+
+		if(query.getLowID() == query.getHighID()) {
+			Task task = taskIndex.get(query.getLowID());
+			Iterator<Task> one = (task == null ? Collections.emptyIterator() : Collections.singleton(task).iterator());
+			return new Plan(AccessPath.ID_LOOKUP, (task == null ? 0 : 1), one, query);
+		}
+
+		AccessPath best = AccessPath.FULL_SCAN;
+		long bestEstimate = taskIndex.size();
+
+		if(query.hasIDRange()) {
+			long estimate = taskTree.countRange(query.getLowID(), query.getHighID());
+			if(estimate < bestEstimate) {
+				best = AccessPath.ID_RANGE;
+				bestEstimate = estimate;
+			}
+		}
+
+		if(query.hasDueDateRange()) {
+			long estimate = dueDateIndex.count(query.getLowDueDate(), query.getHighDueDate());
+			if(estimate < bestEstimate) {
+				best = AccessPath.DUE_DATE;
+				bestEstimate = estimate;
+			}
+		}
+
+		if(query.hasPriorityRange()) {
+			long estimate = priorityIndex.count(query.getLowPriority(), query.getHighPriority());
+			if(estimate < bestEstimate) {
+				best = AccessPath.PRIORITY;
+				bestEstimate = estimate;
+			}
+		}
+
+		if(query.hasWords()) {
+			long estimate = textIndex.estimate(query.getWords());
+			if(estimate >= 0 && estimate < bestEstimate) {
+				best = AccessPath.TEXT;
+				bestEstimate = estimate;
+			}
+		}
+
+		return new Plan(best, bestEstimate, candidates(best, query), query);
+	}
+
+	/**
+    * Opens the candidate iterator of an access path
+    *
+    * @param accessPath the chosen access path
+    * @param query the query being planned
+    *
+    * @return lazy iterator over the candidate tasks
+    */
+	private Iterator<Task> candidates(AccessPath accessPath, TaskQuery query) {
+
+		switch(accessPath) {
+
+		case ID_RANGE:
+			return taskTree.rangeIterator(query.getLowID(), query.getHighID());
+
+		case DUE_DATE:
+			return dueDateIndex.rangeIterator(query.getLowDueDate(), query.getHighDueDate());
+
+		case PRIORITY:
+			return priorityIndex.rangeIterator(query.getLowPriority(), query.getHighPriority());
+
+		case TEXT: {
+			PrimitiveIterator.OfLong IDs = textIndex.allIterator(query.getWords());
+			return new Iterator<Task>() {
+
+				@Override
+				public boolean hasNext() {
+					return IDs.hasNext();
+				}
+
+				@Override
+				public Task next() {
+					return taskIndex.get(IDs.nextLong());
+				}
+			};
+		}
+
+		default:
+			return taskTree.rangeIterator(Long.MIN_VALUE, Long.MAX_VALUE);
+		}
+	}
+}
+
+// END OF QueryPlanner.java
@@ -1,4 +1,6 @@
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
 * @author Ayra Babar
@@ -6,19 +8,44 @@ import java.time.LocalDateTime;
 * @brief This file contains the implementation of a task object
 * 
 * 06/28/2025 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Queue position tracking for the indexed priority queue
+* 10/18/2026 - 64-bit IDs handed out by TaskIdAllocator instead of random 4-digit IDs
+* 10/18/2026 - Constructor restoring a saved task with its original ID and creation time
+* 10/18/2026 - Primitive creation time-stamp and packed 64-bit sort key
+* 10/18/2026 - Bucket links for the calendar queue scheduler
+* 10/18/2026 - Creation time conversion shared with task queries
+* 10/18/2026 - Sort key ties broken by the full ID, creation time kept as epoch time
+* 10/18/2026 - Creation sequence packed into the low bits of the sort key
+* 10/18/2026 - Restored tasks reject IDs below the first allocated one, sequence never negative
 */
 
 public class Task {
 		
-	private final int ID;	// unique, unchangeable ID for each task
+	private final long ID;	// unique, unchangeable ID for each task
 	private String name;
 	private String description;
 	private int manualPriority;
 	private int dueDate;
-	private LocalDateTime createdAt;
+	private final long createdAtNanos;	// creation instant, as nanoseconds since the epoch (UTC)
+	private long sortKey;	// due date, priority and creation sequence packed for a single compare
+	private int queueIndex;	// position in the indexed priority queue, -1 when not queued
+	private int calendarSlot;	// calendar queue bucket key, -1 when not in a bucket
+	private Task calendarPrev;	// neighbours in the calendar queue bucket
+	private Task calendarNext;
+	
+	// Sort key layout, from the least significant bit: 33 bits creation sequence, 3 bits priority, 
+	// 27 bits due date (YYYYMMDD), top bit clear so keys are never negative. The sequence is the 
+	// ID, which is handed out in creation order, capped at 2^33 - 1: only tasks past the first 
+	// 8.5 billion IDs share a sequence, and TaskComparator orders those by the full ID
+	private static final int SEQUENCE_BITS = 33;
+	private static final long SEQUENCE_MAX = (1L << SEQUENCE_BITS) - 1;
+	private static final int PRIORITY_BITS = 3;
+	private static final long PRIORITY_MASK = (1L << PRIORITY_BITS) - 1;
+	private static final long DUE_DATE_MASK = (1L << 27) - 1;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
 		
 	/**
-    * Constructs a new task object with a unique and random ID and given data
+    * Constructs a new task object with a unique, sequential ID and given data
     * 
     * @param name string name of task
     * @param description explanation of the task
@@ -26,20 +53,67 @@ public class Task {
     * @param priority manual integer priority of task
     */
 	public Task(String name, String description, int priority, int dueDate) {
-		this.ID = (int) (Math.random() * 9000) + 1000;
+		this.ID = TaskIdAllocator.nextID();
+		this.name = name;
+		this.description = description;
+		this.manualPriority = priority;
+		this.dueDate = dueDate;
+		this.createdAtNanos = toNanos(Instant.now());
+		this.queueIndex = -1;
+		this.calendarSlot = -1;
+		updateSortKey();
+	}
+	
+	/**
+    * Restores a previously saved task object with its original ID and creation time
+    * 
+    * @param ID the task's saved ID
+    * @param name string name of task
+    * @param description explanation of the task
+    * @param priority manual integer priority of task
+    * @param dueDate integer due date in the form: YYYYMMDD
+    * @param createdAt the local time-stamp at which the task was originally created
+    * 
+    * @throws IllegalArgumentException if the ID is below TaskIdAllocator.FIRST_ID
+    */
+	public Task(long ID, String name, String description, int priority, int dueDate, LocalDateTime createdAt) {
+		this(ID, name, description, priority, dueDate, toNanos(createdAt));
+	}
+	
+	/**
+    * Restores a previously saved task object from its primitive creation time-stamp
+    * 
+    * @param ID the task's saved ID
+    * @param name string name of task
+    * @param description explanation of the task
+    * @param priority manual integer priority of task
+    * @param dueDate integer due date in the form: YYYYMMDD
+    * @param createdAtNanos the creation time-stamp, as returned by getCreatedAtNanos()
+    * 
+    * @throws IllegalArgumentException if the ID is below TaskIdAllocator.FIRST_ID
+    */
+	public Task(long ID, String name, String description, int priority, int dueDate, long createdAtNanos) {
+		if(ID < TaskIdAllocator.FIRST_ID) {
+			throw new IllegalArgumentException("Task ID must be at least " + TaskIdAllocator.FIRST_ID + ": " + ID);
+		}
+		TaskIdAllocator.reserveThrough(ID);
+		this.ID = ID;
 		this.name = name;
 		this.description = description;
 		this.manualPriority = priority;
 		this.dueDate = dueDate;
-		this.createdAt = LocalDateTime.now();
+		this.createdAtNanos = createdAtNanos;
+		this.queueIndex = -1;
+		this.calendarSlot = -1;
+		updateSortKey();
 	}
 	
 	/**
-	* Returns the integer ID of the task
+	* Returns the ID of the task
 	*
-	* @return the unique and random number ID
+	* @return the unique number ID
 	*/
-	public int getID() {
+	public long getID() {
 		return this.ID;
 	}
 	
@@ -82,10 +156,31 @@ public class Task {
 	/**
 	* Returns the exact time when the task was made
 	*
-	* @return the time-stamp at which the task was created
+	* @return the local time-stamp at which the task was created
 	*/
 	public LocalDateTime getCreatedAt() {
-	    return this.createdAt;
+	    return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(createdAtNanos, NANOS_PER_SECOND), 
+	    		Math.floorMod(createdAtNanos, NANOS_PER_SECOND)), ZoneId.systemDefault());
+	}
+	
+	/**
+	* Returns the time when the task was made without creating a date-time object
+	*
+	* @return the creation instant, as nanoseconds since the epoch (UTC)
+	*/
+	public long getCreatedAtNanos() {
+		return this.createdAtNanos;
+	}
+	
+	/**
+	* Returns the packed sort key: ordering tasks by this key is the same as ordering them by 
+	* due date, then priority, then creation order. Two different tasks only share a key once 
+	* both IDs are past the 33-bit sequence limit; those are ordered by ID (see TaskComparator)
+	*
+	* @return the sort key (never negative)
+	*/
+	public long getSortKey() {
+		return this.sortKey;
 	}
 	
 	/**
@@ -113,6 +208,7 @@ public class Task {
 	*/
 	public void setPriority(int newPriority) {
 		this.manualPriority = newPriority;
+		updateSortKey();
 	}
 	
 	/**
@@ -122,6 +218,109 @@ public class Task {
 	*/
 	public void setDueDate(int newDate) {
 		this.dueDate = newDate;
+		updateSortKey();
+	}
+	
+	/**
+	* Recomputes the packed sort key from the due date and priority
+	*/
+	private void updateSortKey() {
+		this.sortKey = ((dueDate & DUE_DATE_MASK) << (PRIORITY_BITS + SEQUENCE_BITS)) 
+				| ((manualPriority & PRIORITY_MASK) << SEQUENCE_BITS) | Math.max(0, Math.min(ID, SEQUENCE_MAX));
+	}
+	
+	/**
+	* Converts a local date-time, in the system time zone, to the primitive creation time-stamp
+	*
+	* @param dateTime the date-time to convert
+	*
+	* @return nanoseconds since the epoch (UTC)
+	*/
+	static long toNanos(LocalDateTime dateTime) {
+		return toNanos(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+	}
+	
+	/**
+	* Converts an instant to the primitive creation time-stamp
+	*
+	* @param instant the instant to convert
+	*
+	* @return nanoseconds since the epoch (UTC)
+	*/
+	static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+	}
+	
+	/**
+	* Returns the task's position in the indexed priority queue
+	*
+	* @return the heap position, or -1 if the task is not queued
+	*/
+	int getQueueIndex() {
+		return this.queueIndex;
+	}
+	
+	/**
+	* Sets the task's position in the indexed priority queue
+	* 
+	* @param newQueueIndex the new heap position, or -1 once the task leaves the queue
+	*/
+	void setQueueIndex(int newQueueIndex) {
+		this.queueIndex = newQueueIndex;
+	}
+	
+	/**
+	* Returns the calendar queue bucket the task is filed under
+	*
+	* @return the bucket key, or -1 if the task is not in a bucket
+	*/
+	int getCalendarSlot() {
+		return this.calendarSlot;
+	}
+	
+	/**
+	* Sets the calendar queue bucket the task is filed under
+	* 
+	* @param newCalendarSlot the bucket key, or -1 once the task leaves its bucket
+	*/
+	void setCalendarSlot(int newCalendarSlot) {
+		this.calendarSlot = newCalendarSlot;
+	}
+	
+	/**
+	* Returns the task before this one in its calendar queue bucket
+	*
+	* @return the previous task, or null if this task is first
+	*/
+	Task getCalendarPrev() {
+		return this.calendarPrev;
+	}
+	
+	/**
+	* Sets the task before this one in its calendar queue bucket
+	* 
+	* @param newCalendarPrev the previous task, or null
+	*/
+	void setCalendarPrev(Task newCalendarPrev) {
+		this.calendarPrev = newCalendarPrev;
+	}
+	
+	/**
+	* Returns the task after this one in its calendar queue bucket
+	*
+	* @return the next task, or null if this task is last
+	*/
+	Task getCalendarNext() {
+		return this.calendarNext;
+	}
+	
+	/**
+	* Sets the task after this one in its calendar queue bucket
+	* 
+	* @param newCalendarNext the next task, or null
+	*/
+	void setCalendarNext(Task newCalendarNext) {
+		this.calendarNext = newCalendarNext;
 	}
 	
 	/**
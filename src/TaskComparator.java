@@ -7,13 +7,18 @@ import java.util.Comparator;
 * 
 * 06/29/2025 - Initial creation & complete implementation of all methods
 * 08/12/2025 - Method header comments added
+* 10/18/2026 - Single long compare on the packed sort key
+* 10/18/2026 - Ties on the sort key broken by the full task ID
+* 10/18/2026 - Creation sequence packed into the sort key, the ID compare only settles ties
 */
 
 public class TaskComparator implements Comparator<Task> {
     
 	/**
 	* Compares two task objects based on inserted due date, then inserted priority value, 
-	* and lastly by time-stamp at which the tasks were created
+	* and lastly by the order in which the tasks were created. All three are packed into the 
+	* tasks' sort keys, so this is one long compare. The keys of two different tasks only tie 
+	* once both are past the key's 33-bit creation sequence, and then the IDs decide
 	* 
 	* @param a first task object for comparison
 	* @param b second task object
@@ -22,15 +27,13 @@ public class TaskComparator implements Comparator<Task> {
 	*/
 	@Override
     public int compare(Task a, Task b) {
-        if (a.getDueDate() != b.getDueDate()) {
-            return Integer.compare(a.getDueDate(), b.getDueDate());
-        }
+        int order = Long.compare(a.getSortKey(), b.getSortKey());
         
-        if(a.getPriority() != b.getPriority()) {
-            return Integer.compare(a.getPriority(), b.getPriority());
+        if(order != 0) {
+            return order;
         }
-    
-        return a.getCreatedAt().compareTo(b.getCreatedAt());
+        
+        return Long.compare(a.getID(), b.getID());
     }
 }
 
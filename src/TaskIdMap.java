@@ -0,0 +1,291 @@
+import java.util.Arrays;
+
+/**
+* @author Ayra Babar
+* @file TaskIdMap.java
+* @brief This file contains an open-addressing hash map from task ID to task object. Keys are kept
+*        in a primitive long array next to a parallel task array, so there is no boxing and no
+*        entry object per task, and a lookup is usually a single array probe
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class TaskIdMap {
+
+	private static final long EMPTY = 0;	// task IDs start at 1, so 0 marks a free slot
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] keys;
+	private Task[] values;
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	/**
+    * Constructs an empty map with a default capacity
+    */
+	public TaskIdMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+    * Constructs an empty map sized to hold a number of tasks without resizing
+    *
+    * @param expectedSize number of tasks the map should hold before growing
+    */
+	public TaskIdMap(int expectedSize) {
+		allocate(tableSizeFor(expectedSize));
+	}
+
+	/**
+    * Checks if the map is empty or not
+    *
+    * @return true if there are no tasks in the map, false if otherwise
+    */
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+    * Returns the number of tasks in the map
+    *
+    * @return number of mapped tasks
+    */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+    * Looks up a task by ID
+    *
+    * @param ID the task ID to find
+    *
+    * @return the task object if found, null if it doesn't exist
+    */
+	public Task get(long ID) {
+
+		if(ID == EMPTY) {
+			return null;
+		}
+
+		int slot = slotOf(ID);
+
+		while(true) {
+			long key = keys[slot];
+
+			if(key == ID) {
+				return values[slot];
+			}
+
+			if(key == EMPTY) {
+				return null;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	/**
+    * Checks whether a task ID is in the map
+    *
+    * @param ID the task ID to find
+    *
+    * @return true if the ID is mapped, false if otherwise
+    */
+	public boolean containsKey(long ID) {
+		return (get(ID) != null);
+	}
+
+	/**
+    * Maps a task under its own ID, replacing any task already stored under that ID
+    *
+    * @param task the task object to store
+    *
+    * @return the task previously stored under the same ID, or null if there was none
+    */
+	public Task put(Task task) {
+
+		long ID = task.getID();
+
+		if(ID == EMPTY) {
+			throw new IllegalArgumentException("Task ID 0 is reserved");
+		}
+
+		int slot = slotOf(ID);
+
+		while(keys[slot] != EMPTY) {
+
+			if(keys[slot] == ID) {
+				Task previous = values[slot];
+				values[slot] = task;
+				return previous;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		keys[slot] = ID;
+		values[slot] = task;
+		size++;
+
+		if(size >= resizeAt) {
+			rehash(keys.length * 2);
+		}
+
+		return null;
+	}
+
+	/**
+    * Removes a task by ID
+    *
+    * @param ID the task ID to remove
+    *
+    * @return the removed task object, or null if the ID was not mapped
+    */
+	public Task remove(long ID) {
+
+		if(ID == EMPTY) {
+			return null;
+		}
+
+		int slot = slotOf(ID);
+
+		while(keys[slot] != ID) {
+
+			if(keys[slot] == EMPTY) {
+				return null;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		Task removed = values[slot];
+		size--;
+		closeGap(slot);
+		return removed;
+	}
+
+	/**
+    * Grows the map ahead of time so a number of tasks fit without resizing
+    *
+    * @param expectedSize total number of tasks the map should hold
+    */
+	public void ensureCapacity(int expectedSize) {
+
+		int capacity = tableSizeFor(expectedSize);
+
+		if(capacity > keys.length) {
+			rehash(capacity);
+		}
+	}
+
+	/**
+    * Clears the entire map, keeping its current capacity
+    */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+    * Fills a freed slot by shifting back later entries of the same probe run, so lookups
+    * never need tombstones
+    *
+    * @param gap the slot that has just been freed
+    */
+	private void closeGap(int gap) {
+
+		int slot = (gap + 1) & mask;
+
+		while(keys[slot] != EMPTY) {
+			int home = slotOf(keys[slot]);
+
+			// The entry can move into the gap only if the gap lies between its home slot and
+			// its current slot (cyclically)
+			if(((slot - home) & mask) >= ((slot - gap) & mask)) {
+				keys[gap] = keys[slot];
+				values[gap] = values[slot];
+				gap = slot;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		keys[gap] = EMPTY;
+		values[gap] = null;
+	}
+
+	/**
+    * Moves every entry into new arrays of the given capacity
+    *
+    * @param capacity the new table length (a power of two)
+    */
+	private void rehash(int capacity) {
+
+		long[] oldKeys = keys;
+		Task[] oldValues = values;
+		allocate(capacity);
+
+		for(int i = 0; i < oldKeys.length; i++) {
+
+			if(oldKeys[i] == EMPTY) {
+				continue;
+			}
+
+			int slot = slotOf(oldKeys[i]);
+			while(keys[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+
+	/**
+    * Allocates empty tables of the given capacity
+    *
+    * @param capacity the table length (a power of two)
+    */
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Task[capacity];
+		mask = capacity - 1;
+		resizeAt = (int) (capacity * 0.7);
+	}
+
+	/**
+    * Returns the home slot of an ID, spreading sequential IDs over the whole table
+    *
+    * @param ID the task ID
+    *
+    * @return slot index in the tables
+    */
+	private int slotOf(long ID) {
+		long hash = ID * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	/**
+    * Returns the smallest power of two table length that holds a number of tasks under
+    * the load factor
+    *
+    * @param expectedSize number of tasks to hold
+    *
+    * @return table length
+    */
+	private static int tableSizeFor(int expectedSize) {
+
+		int needed = (int) Math.min(1L << 30, (long) Math.ceil(Math.max(expectedSize, 1) / 0.7) + 1);
+		int capacity = DEFAULT_CAPACITY;
+
+		while(capacity < needed) {
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+}
+
+// END OF TaskIdMap.java
\ No newline at end of file
@@ -1,438 +1,1515 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
 * @author Ayra Babar
 * @file TaskManager.java
-* @brief This file contains the implementation of a Task Manager using a doubly linked list for history,
-*        a binary search tree for fast & easy task lookup and query based ranges, and a priority queue to
-*        sort tasks based on date and/or user input priority
+* @brief This file contains the implementation of a Task Manager using a ring buffer of events for
+*        history, a hash map for fast task lookup by ID, a binary search tree for ordered
+*        traversals, a due date index for query based ranges, priority buckets, an inverted text
+*        index for word searches, a query planner that picks the most selective of these indexes
+*        for composite filters, and an indexed priority queue to sort tasks based on date and/or
+*        user input priority. All stores are guarded by one read-write lock so the manager can be
+*        shared between threads. Reads run in parallel, but mutations are serialized on the write
+*        lock and do not get faster with more writer threads (TaskScalingBenchmarks measures the
+*        curve); callers that write from many threads should queue their changes through a
+*        TaskWritePipeline, which applies them in batches with one lock acquisition and one log
+*        sync per batch, but still on one thread. Operations take typed arguments and
+*        return results without any console input or output (see TaskManagerConsole for the menu).
+*        A Task Manager opened on a log file records every mutation in a write-ahead log and
+*        rebuilds itself on startup from its latest binary snapshot plus the mutations logged after
+*        it. Every public operation is timed into TaskMetrics, which can be read as a snapshot or
+*        over JMX. A durable manager also keeps every history event in an unbounded audit trail on
+*        disk next to its log, which can be queried by task ID, operation, and time; a manager
+*        kept in memory only has its recent history in the history log
 *        
 * 06/29/2025 - Initial creation & complete implementation of all methods
 * 07/02/2025 - Changes and updates to methods for edge case verification
 * 08/13/2025 - Final changes made
+* 10/18/2026 - Date range queries served from a due date index instead of a full tree walk
+* 10/18/2026 - Indexed priority queue for O(log n) task removal and re-ordering on edits
+* 10/18/2026 - Priority listing reads the queue in order without copying it
+* 10/18/2026 - 64-bit task IDs
+* 10/18/2026 - ID lookups served from an open-addressing hash map instead of the tree
+* 10/18/2026 - Thread-safe typed operations shared by the console menu and other callers
+* 10/18/2026 - Console menu moved to TaskManagerConsole, history readable as entries
+* 10/18/2026 - Bulk import of large task sets
+* 10/18/2026 - Durable write-ahead log with group commit and replay on startup
+* 10/18/2026 - Periodic binary snapshots for fast restarts
+* 10/18/2026 - Choice of binary heap or calendar queue scheduling
+* 10/18/2026 - Ring buffer history log with configurable capacity
+* 10/18/2026 - History kept as structured events, queryable by task ID and operation
+* 10/18/2026 - Persistent audit trail indexed by task ID, operation, and time
+* 10/18/2026 - Word, prefix, and AND/OR searches over task names and descriptions
+* 10/18/2026 - Composite filter queries planned over the best available index
+* 10/18/2026 - Call counts, latency histograms and gauges for every operation
+* 10/18/2026 - Task tree shape diagnostics
+* 10/18/2026 - Batched apply for the single-writer pipeline
+* 10/18/2026 - Documented the write pipeline as the path for many concurrent writers
+* 10/18/2026 - Priority order visitor that reads the queue without copying it
+* 10/18/2026 - Log file closed when its replay fails
+* 10/18/2026 - Audit events forced inside the log's group commit, imports and clears audited per task
+* 10/18/2026 - Tree height gauge replaced by an O(log n) bound
+* 10/18/2026 - Class description reflowed to the file's comment width
+* 10/18/2026 - Batch apply also used for the TCP server's pipelined mutations
+* 10/18/2026 - Stated that writes do not scale with threads, pointed at the scaling benchmark
+* 10/18/2026 - Audit trail kept only by durable managers, read without the read lock
+* 10/18/2026 - Mutations refused before touching any store once the write-ahead log has failed
+* 10/18/2026 - Bulk adds reject IDs below the first one the allocator hands out
+* 10/18/2026 - Priority-order visits recorded as their own operation
 */
 
-public class TaskManager {
+public class TaskManager implements Closeable {
 	
-	private PriorityQueue<Task> taskQueue;
-    private DoublyLinkedList historyLog;
+	public static final int DEFAULT_CHECKPOINT_INTERVAL = 100_000;	// logged mutations between snapshots
+	
+	/**
+	* Structure used to keep the tasks in due date, then priority order
+	*/
+	public enum SchedulerMode {
+		
+		HEAP,		// indexed binary heap: O(log n) add, remove and poll
+		CALENDAR;	// calendar queue with one bucket per day and priority: O(1) add and remove
+		
+		/**
+	    * Creates an empty scheduler of this kind
+	    * 
+	    * @return the new scheduler
+	    */
+		TaskScheduler newScheduler() {
+			return (this == CALENDAR ? new CalendarQueue() : new IndexedPriorityQueue(new TaskComparator()));
+		}
+	}
+	
+	private TaskScheduler taskQueue;
+    private HistoryLog historyLog;
+    private AuditTrail auditTrail;	// null in memory only, and while a durable manager replays its log
     private BinarySearchTree taskTree;
+    private TaskIdMap taskIndex;
+    private DueDateIndex dueDateIndex;
+    private TextIndex textIndex;
+    private PriorityIndex priorityIndex;
+    private QueryPlanner queryPlanner;
+    private final TaskMetrics metrics = new TaskMetrics();
+    private TaskWriteAheadLog writeAheadLog;	// null when the task list lives in memory only
+    private Path snapshotFile;
+    private int checkpointInterval;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    
+    // Lookups and range/priority reads share the read lock, every mutation takes the write
+    // lock so the stores are always updated together. The lock is not striped: the due date, 
+    // text and priority indexes, the history log and the write-ahead log are each one shared, 
+    // ordered structure, so writes to different tasks still meet on them
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
 
     /**
-    * Constructs a Task Manager with an empty history log, task priority queue, and task BST
+    * Constructs a Task Manager with an empty history log, task priority queue, task BST, 
+    * ID map, and due date index
     */
     public TaskManager() {
-        taskQueue = new PriorityQueue<>(new TaskComparator());
-        historyLog = new DoublyLinkedList();
+        this(SchedulerMode.HEAP);
+    }
+    
+    /**
+    * Constructs an empty Task Manager that orders its tasks with the given kind of scheduler
+    * 
+    * @param mode HEAP or CALENDAR
+    */
+    public TaskManager(SchedulerMode mode) {
+        taskQueue = mode.newScheduler();
+        historyLog = new HistoryLog();
         taskTree = new BinarySearchTree();
+        taskIndex = new TaskIdMap();
+        dueDateIndex = new DueDateIndex();
+        textIndex = new TextIndex();
+        priorityIndex = new PriorityIndex();
+        queryPlanner = new QueryPlanner(taskTree, taskIndex, dueDateIndex, priorityIndex, textIndex);
+        
+        metrics.registerGauge("tasks", this::size);
+        // Walks one path of the tree, getTreeShape() has the exact height
+        metrics.registerGauge("treeHeightBound", () -> underReadLock(() -> taskTree.getHeightBound()));
+        metrics.registerGauge("queueSize", () -> underReadLock(() -> taskQueue.size()));
+        metrics.registerGauge("historySize", this::getHistorySize);
     }
-
+    
     /**
-    * Displays Task Manager Menu Options
-    */
-    public void displayMenu() {
-		System.out.println("\n------------------------ Task Menu ------------------------");
-		System.out.println("0. Add New Task");
-		System.out.println("1. Search for Task");
-		System.out.println("2. Delete Task");
-		System.out.println("3. Edit Task");
-		System.out.println("4. Clear Task List");
-		System.out.println("5. View All Tasks (by Priority)");
-		System.out.println("6. View Task by Date Range");
-		System.out.println("7. View Task History Log (Latest to Oldest)");
-		System.out.println("8. View Task History Log (Oldest to Latest)");
-		System.out.println("9. View a Specific Task History Log");
-		System.out.println("10. Exit Program");
-		System.out.println("------------------------------------------------------------");
-	}
+    * Constructs a durable Task Manager backed by a write-ahead log file, keeping its snapshots 
+    * next to the log (same name plus ".snapshot") and taking one every 
+    * DEFAULT_CHECKPOINT_INTERVAL logged mutations. The audit trail is kept in a directory next 
+    * to the log (same name plus ".audit")
+    * 
+    * @param logFile path of the write-ahead log file (created if missing)
+    * 
+    * @throws IOException if the log or snapshot file cannot be opened or read
+    */
+    public TaskManager(Path logFile) throws IOException {
+    	this(logFile, logFile.resolveSibling(logFile.getFileName() + ".snapshot"), DEFAULT_CHECKPOINT_INTERVAL);
+    }
     
-	Scanner input = new Scanner(System.in);
-	
-	/**
-    * Executes task menu for user 
+    /**
+    * Constructs a durable Task Manager. The latest snapshot is loaded first, then any mutations 
+    * logged after it are replayed before new ones are logged. A log that is already longer than 
+    * the checkpoint interval is folded into a new snapshot right away. The audit trail is kept 
+    * in a directory next to the log (same name plus ".audit")
     * 
-    * @param manager TaskManager object to pass into
+    * @param logFile path of the write-ahead log file (created if missing)
+    * @param snapshotFile path of the snapshot file (may not exist yet)
+    * @param checkpointInterval number of logged mutations after which a new snapshot is taken
+    * 
+    * @throws IOException if the log or snapshot file cannot be opened or read
     */
-    public void menuExecution() {
-
-    	int choice = -1;
+    public TaskManager(Path logFile, Path snapshotFile, int checkpointInterval) throws IOException {
+    	this(logFile, snapshotFile, checkpointInterval, SchedulerMode.HEAP);
+    }
+    
+    /**
+    * Constructs a durable Task Manager that orders its tasks with the given kind of scheduler. 
+    * See TaskManager(Path, Path, int) for how the log and snapshot are used
+    * 
+    * @param logFile path of the write-ahead log file (created if missing)
+    * @param snapshotFile path of the snapshot file (may not exist yet)
+    * @param checkpointInterval number of logged mutations after which a new snapshot is taken
+    * @param mode HEAP or CALENDAR
+    * 
+    * @throws IOException if the log or snapshot file cannot be opened or read
+    */
+    public TaskManager(Path logFile, Path snapshotFile, int checkpointInterval, SchedulerMode mode) throws IOException {
     	
-    do {
+    	this(mode);
     	
-		displayMenu();
-
-    	System.out.println("\nEnter your choice (0-10): ");
-		if(!input.hasNextInt()) {
-			System.out.println("Invalid input. Enter a number from 0 to 10: ");
-			input.next();
-			continue;
-		}
-		
-		choice = input.nextInt();
-		input.nextLine();
-		
-    	switch(choice) {
+    	if(checkpointInterval < 1) {
+    		throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+    	}
     	
-    	case 0:
-    		addTask();
-    		break;
-    		
-    	case 1:
-        	System.out.print("Enter ID value to search: ");
-    		Task found = search();
-    		found.showOneTask();
-    		break;
-    		
-    	case 2:
-    	    deleteTask();
-    	    break;
-
-    	case 3:
-    	    editTask();
-    	    break;
-
-    	case 4:
-    	    clear();
-    	    break;
-
-    	case 5:
-    		printByPriority();
-    		break;
-    		
-    	case 6:
-    		range();
-    	    break;
-
-    	case 7:
-    	    historyLog.printInOrderHistory();
-    		break;
+    	this.snapshotFile = snapshotFile;
+    	this.checkpointInterval = checkpointInterval;
     	
-    	case 8:
-    	    historyLog.printReverseHistory();
-    		break;
-    		
-    	case 9:
-    		printOneLog();
-    		break;
+    	Task[] saved = TaskSnapshot.load(snapshotFile);
+    	if(saved.length > 0) {
+    		insertSorted(saved, saved.length);
+    	}
     	
-    	case 10:
-    		break;
-    		
-    	default:
-    		System.out.println("Invalid choice, please try again");
+    	TaskWriteAheadLog log = new TaskWriteAheadLog(logFile);
+    	
+    	// Replay must be idempotent: a crash between writing a snapshot and emptying the log 
+    	// replays mutations the snapshot already holds
+    	try {
+    		log.replay(new TaskWriteAheadLog.Replay() {
+    			public void add(Task task) {
+    				if(!taskIndex.containsKey(task.getID())) {
+    					applyAdd(task);
+    				}
+    			}
+    			public void addAll(List<Task> tasks) { applyAddAll(tasks.toArray(new Task[0]), tasks.size()); }
+    			public void delete(long ID) { applyDelete(ID); }
+    			public void editName(long ID, String newName) { applyEditName(ID, newName); }
+    			public void editDescription(long ID, String newDescription) { applyEditDescription(ID, newDescription); }
+    			public void editDueDate(long ID, int newDueDate) { applyEditDueDate(ID, newDueDate); }
+    			public void editPriority(long ID, int newPriority) { applyEditPriority(ID, newPriority); }
+    			public void clear() { applyClear(); }
+    		});
+    	} catch (IOException | RuntimeException e) {
+    		// A log that cannot be replayed is left as it is on disk, but its file is not kept open
+    		try {
+    			log.close();
+    		} catch (IOException closeFailure) {
+    			e.addSuppressed(closeFailure);
+    		}
+    		throw e;
     	}
-		
-    } while(choice != 10);
-    
-    System.out.println("Exiting...");
-    input.close();
+    	
+    	// Opened after the replay, since replayed mutations were audited when they were first made
+    	this.writeAheadLog = log;
+    	try {
+    		this.auditTrail = new AuditTrail(logFile.resolveSibling(logFile.getFileName() + ".audit"));
+    	} catch (IOException | RuntimeException e) {
+    		try {
+    			log.close();
+    		} catch (IOException closeFailure) {
+    			e.addSuppressed(closeFailure);
+    		}
+    		throw e;
+    	}
+    	
+    	// Each group commit forces the audit events before the log records they describe, so 
+    	// a mutation that survives a crash always has its audit event
+    	log.setCompanion(auditTrail);
+    	
+    	if(log.recordCount() >= checkpointInterval) {
+    		checkpoint();
+    	}
+    }
     
+    /**
+    * Creates a new task and inserts it into every store, then logs the activity
+    * 
+    * @param name string name of task
+    * @param description explanation of the task
+    * @param priority manual integer priority of task (between and including 1-5)
+    * @param dueDate integer due date in the form: YYYYMMDD
+    * 
+    * @return the new task object
+    * 
+    * @throws IllegalArgumentException if any of the values is invalid
+    */
+    public Task addTask(String name, String description, int priority, int dueDate) {
+    	
+    	long start = metrics.start();
+    	requireText(name, "name");
+    	requireText(description, "description");
+    	requireValidPriority(priority);
+    	requireValidDueDate(dueDate);
+    	
+    	Task task = new Task(name, description, priority, dueDate);
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		applyAdd(task);
+    		if(writeAheadLog != null) {
+    			sequence = writeAheadLog.logAdd(task);
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.ADD, start);
+    	return task;
     }
     
     /**
-	* Creates a new task by taking user input and inserts into BST, P.Q., and DLL history log
-	*/
-    public void addTask() {
+    * Adds many already created tasks at once. The ID map is sized once up front, an empty BST 
+    * is built bottom-up from the ID-sorted batch, the priority queue is heapified in O(n) when 
+    * the batch is large, and the whole batch is logged as a single history entry. Tasks whose 
+    * ID is already in the task list are skipped
+    * 
+    * @param tasks the task objects to add
+    * 
+    * @return number of tasks actually added
+    * 
+    * @throws IllegalArgumentException if any task has invalid values (nothing is added)
+    */
+    public int addTasks(Collection<Task> tasks) {
     	
-		System.out.print("Enter Task Name: ");
-		String name = input.nextLine();
-		
-		while(name.isBlank()) {
-			System.out.print("Invalid input. Please enter a task name: ");
-		    name = input.nextLine();
-			System.out.println();
-		}
-		
-		System.out.println();
-		
-		System.out.print("Enter Task Description: ");
-		String description = input.nextLine();
-		
-		while(description.isBlank()) {
-			System.out.print("Invalid input. Please enter a task description: ");
-		    description = input.nextLine();
-			System.out.println();
-		}
-		
-		System.out.println();
-		
-		System.out.print("Enter Task Priority (1-5): ");
-		int priorityNum = input.nextInt();
-	    input.nextLine();
-
-		priorityNum = readValidPriority(priorityNum);
-		
-		System.out.println();
-
-		int dueDate = 0;
-		dueDate = readValidDueDate(dueDate);
-
-		Task task = new Task(name, description, priorityNum, dueDate);
-		int ID = task.getID();
-		
-		taskTree.add(task);
-		historyLog.insertion(ID, name);
-		taskQueue.add(task);
-		
-		System.out.println("\nTask added successfully!");
-		task.showOneTask();
+    	long start = metrics.start();
+    	Task[] batch = tasks.toArray(new Task[0]);
+    	boolean sorted = true;
+    	
+    	for(int i = 0; i < batch.length; i++) {
+    		requireValidID(batch[i].getID());
+    		requireText(batch[i].getName(), "name");
+    		requireText(batch[i].getDescription(), "description");
+    		requireValidPriority(batch[i].getPriority());
+    		requireValidDueDate(batch[i].getDueDate());
+    		
+    		if(i > 0 && batch[i - 1].getID() >= batch[i].getID()) {
+    			sorted = false;
+    		}
+    	}
+    	
+    	if(!sorted) {
+    		Arrays.sort(batch, Comparator.comparingLong(Task::getID));
+    	}
+    	
+    	int count;
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		count = applyAddAll(batch, batch.length);
+    		if(count > 0 && writeAheadLog != null) {
+    			sequence = writeAheadLog.logAddAll(batch, count);
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.BULK_ADD, start);
+    	return count;
     }
     
     /**
-    * Searches for a specific task from task BST
+    * Looks up a task by ID
     * 
-    * @return returns the task object if found, otherwise null
-  	*/
-    public Task search() {
-    			
-		while (!input.hasNextInt()) {
-		    System.out.print("Invalid input. Enter a numeric ID: ");
-		    input.next();
-		}
-		
-		int searchID = input.nextInt(); input.nextLine();
-		
-		Task found = taskTree.search(searchID);
-		
-		while (found == null) {
-			
-		    System.out.print("Invalid ID entry. Insert again: ");
-		    
-		    while (!input.hasNextInt()) {
-			    System.out.print("Invalid input. Enter a numeric ID: ");
-			    input.next();
-			}
-		    
-		    searchID = input.nextInt(); input.nextLine();
-		    System.out.println();
-		    found = taskTree.search(searchID);
-		}
-		
-		return found;
+    * @param ID the task ID to find
+    * 
+    * @return the task object if found, null if it doesn't exist
+    */
+    public Task search(long ID) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return taskIndex.get(ID);
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.SEARCH, start);
+    	}
     }
     
     /**
-    * Deletes task from BST & P.Q. and logs the activity
-  	*/
-    public void deleteTask() {
+    * Deletes a task from every store and logs the activity
+    * 
+    * @param ID the ID of the task to delete
+    * 
+    * @return the deleted task object, or null if no task has that ID
+    */
+    public Task deleteTask(long ID) {
     	
-    	System.out.print("Enter ID value to delete: ");
-		
-		Task taskToDelete = search();
+    	long start = metrics.start();
+    	Task deleted;
+    	long sequence = 0;
     	
-		historyLog.deletion(taskToDelete);
-		taskTree.delete(taskToDelete);
-    	taskQueue.remove(taskToDelete);
-		System.out.println("Task deleted successfully!");
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		deleted = applyDelete(ID);
+    		if(deleted != null && writeAheadLog != null) {
+    			sequence = writeAheadLog.logDelete(ID);
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.DELETE, start);
+    	return deleted;
     }
     
     /**
-    * Allows user to make edits to existing tasks
-  	*/
-    public void editTask() {
-    	
-    	System.out.print("Enter a valid ID in order to make edits: ");
-    	Task taskToEdit = search();
-    	System.out.println("What would you like to edit?");
-    	System.out.println("Enter 0 to edit Task Name");
-    	System.out.println("Enter 1 to edit Description");
-    	System.out.println("Enter 2 to edit Due Date");
-    	System.out.println("Enter 3 to edit Priority");
+    * Changes the name of a task and logs the activity
+    * 
+    * @param ID the ID of the task to edit
+    * @param newName the task's new string name
+    * 
+    * @return the edited task object, or null if no task has that ID
+    * 
+    * @throws IllegalArgumentException if the name is blank
+    */
+    public Task editName(long ID, String newName) {
     	
-    	String fieldChanged = null;
-
-    	int choice = input.nextInt();
-    	input.nextLine();
+    	long start = metrics.start();
+    	requireText(newName, "name");
     	
-    	switch(choice) {
+    	Task edited;
+    	long sequence = 0;
     	
-    	case 0:
-    		System.out.print("Enter new task name: ");
-    		String newName = input.nextLine();
-    		
-    		while(newName == null || newName.isBlank()) {
-    			System.out.print("Enter a valid name: ");
-    			newName = input.nextLine();
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		edited = applyEditName(ID, newName);
+    		if(edited != null && writeAheadLog != null) {
+    			sequence = writeAheadLog.logEditName(ID, newName);
     		}
-    		
-    		taskToEdit.setName(newName);
-    		fieldChanged = "Task Name";
-    		
-    		break;
-    		
-    	case 1:
-    		System.out.print("Enter new task description: ");
-    		String newDescription = input.nextLine();
-    		
-    		while(newDescription == null || newDescription.isBlank()) {
-    			System.out.print("Enter a valid description: ");
-    			newDescription = input.nextLine();
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.EDIT, start);
+    	return edited;
+    }
+    
+    /**
+    * Changes the description of a task and logs the activity
+    * 
+    * @param ID the ID of the task to edit
+    * @param newDescription the task's new description
+    * 
+    * @return the edited task object, or null if no task has that ID
+    * 
+    * @throws IllegalArgumentException if the description is blank
+    */
+    public Task editDescription(long ID, String newDescription) {
+    	
+    	long start = metrics.start();
+    	requireText(newDescription, "description");
+    	
+    	Task edited;
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		edited = applyEditDescription(ID, newDescription);
+    		if(edited != null && writeAheadLog != null) {
+    			sequence = writeAheadLog.logEditDescription(ID, newDescription);
     		}
-    		
-    		taskToEdit.setDescription(newDescription);
-    		fieldChanged = "Description";
-    		
-    		break;
-    		
-    	case 2:
-    		int newDueDate = readValidDueDate(0);    		
-    		taskQueue.remove(taskToEdit);
-    		taskToEdit.setDueDate(newDueDate);
-    		taskQueue.add(taskToEdit);
-    		fieldChanged = "Due Date";
-    		
-    		break;
-    		
-    	case 3:
-    		System.out.print("Enter new task priority (1-5 inclusive): ");
-    		int newPriority = input.nextInt(); input.nextLine();
-    		
-    		newPriority = readValidPriority(newPriority);
-    		
-    		taskQueue.remove(taskToEdit);
-    		taskToEdit.setPriority(newPriority);
-    		taskQueue.add(taskToEdit);
-    		fieldChanged = "Task Priority";
-    		
-    		break;
-    		
-    	default:
-    		System.out.println("Invalid Choice Entry");
-    		return;
+    	} finally {
+    		writeLock.unlock();
     	}
     	
-    	historyLog.taskUpdate(fieldChanged, taskToEdit.getID(), taskToEdit.getName());
-    } 
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.EDIT, start);
+    	return edited;
+    }
     
     /**
-    * Validates if user input for due date is within boundaries
+    * Changes the due date of a task, re-orders it, and logs the activity
     * 
-    * @param newDueDate integer value input by the user initially
+    * @param ID the ID of the task to edit
+    * @param newDueDate the task's new due date (format: YYYYMMDD)
     * 
-    * @return int value of approved due date
+    * @return the edited task object, or null if no task has that ID
+    * 
+    * @throws IllegalArgumentException if the date is not a valid calendar date
     */
-    private int readValidDueDate(int newDueDate) {
+    public Task editDueDate(long ID, int newDueDate) {
     	
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-
-    	while (true) {
-		    System.out.print("Enter Due Date (YYYYMMDD): ");
-		    
-		    String dateInput = input.nextLine().trim();
-
-		    if (dateInput.length() != 8 || !dateInput.matches("\\d{8}$")) {
-		        System.out.println("Please enter exactly 8 numeric digits in YYYYMMDD format.");
-		        continue;
-		    }
-
-		    try {
-		        LocalDate.parse(dateInput, formatter);
-		        newDueDate = Integer.parseInt(dateInput);
-		        break;
-		        
-		    } catch (DateTimeParseException e) {
-		        System.out.println("That date is invalid. Try again.");
-		    }
-		}
+    	long start = metrics.start();
+    	requireValidDueDate(newDueDate);
+    	
+    	Task edited;
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		edited = applyEditDueDate(ID, newDueDate);
+    		if(edited != null && writeAheadLog != null) {
+    			sequence = writeAheadLog.logEditDueDate(ID, newDueDate);
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
     	
-    	return newDueDate;
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.EDIT, start);
+    	return edited;
     }
     
     /**
-    * Validates if user input for priority is within boundaries
+    * Changes the priority of a task, re-orders it, and logs the activity
+    * 
+    * @param ID the ID of the task to edit
+    * @param newPriority the task's new priority (between and including 1-5)
     * 
-    * @param newPriority integer value input by the user initially
+    * @return the edited task object, or null if no task has that ID
     * 
-    * @return int value of approved priority number
+    * @throws IllegalArgumentException if the priority is out of range
     */
-    private int readValidPriority(int newPriority) {
+    public Task editPriority(long ID, int newPriority) {
     	
-    	while (newPriority < 1 || newPriority > 5) {
-		    System.out.print("Invalid input. Please enter a number between 1 and 5 (inclusive): ");
-		    newPriority = input.nextInt();
-		    input.nextLine();
-		}
+    	long start = metrics.start();
+    	requireValidPriority(newPriority);
+    	
+    	Task edited;
+    	long sequence = 0;
     	
-    	return newPriority;
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		edited = applyEditPriority(ID, newPriority);
+    		if(edited != null && writeAheadLog != null) {
+    			sequence = writeAheadLog.logEditPriority(ID, newPriority);
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.EDIT, start);
+    	return edited;
     }
     
     /**
-    * Clears the task list in P.Q. & BST and logs the activity
+    * Clears the task list in P.Q., BST, ID map, due date & text indexes and logs the activity
   	*/
     public void clear() {
-    	taskTree.clear();
-    	historyLog.clear();
-    	taskQueue.clear();
-    	System.out.println("Entire Task List cleared");
+    	
+    	long start = metrics.start();
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		requireWritable();
+    		applyClear();
+    		if(writeAheadLog != null) {
+    			sequence = writeAheadLog.logClear();
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	awaitDurable(sequence);
+    	metrics.record(TaskMetrics.Operation.CLEAR, start);
     }
     
     /**
-    * Prints the task list by priority (1st by due date, 2nd by manual priority, 
-    * 3rd by time-stamp at which task was created)
-   	*/
-    public void printByPriority() {
+    * Applies a batch of queued mutations for a TaskWritePipeline, or the pipelined mutations of 
+    * a TaskServer connection: all of them under one write lock acquisition, with one wait for 
+    * the log to reach the disk, then completes their futures. A mutation that fails does not 
+    * stop the others
+    * 
+    * @param batch the mutations, in the order they were queued
+    * @param count number of mutations to take from the start of the array
+    */
+    void applyBatch(TaskMutation[] batch, int count) {
     	
-    	if(taskQueue.isEmpty()) {
-    		System.out.println("No Tasks in the list");
-    		return;
+    	long sequence = 0;
+    	
+    	writeLock.lock();
+    	try {
+    		for(int i = 0; i < count; i++) {
+    			TaskMutation mutation = batch[i];
+    			try {
+    				requireWritable();
+    				mutation.outcome = applyMutation(mutation);
+    				if(mutation.outcome != null && writeAheadLog != null) {
+    					sequence = logMutation(mutation);
+    				}
+    			} catch (RuntimeException e) {
+    				mutation.failure = e;
+    			}
+    		}
+    	} finally {
+    		writeLock.unlock();
+    	}
+    	
+    	RuntimeException syncFailure = null;
+    	try {
+    		awaitDurable(sequence);
+    	} catch (RuntimeException e) {
+    		syncFailure = e;
     	}
     	
-    	System.out.println("\n--- Tasks Sorted by Priority ---");
-    	System.out.println("Order: Earliest due date → Lowest priority number → Earliest created");
-    	System.out.println("(Priority scale: 1 = Highest priority, 5 = Lowest priority)\n");
-    	PriorityQueue<Task> copy = new PriorityQueue<>(taskQueue);
-    	while(!copy.isEmpty()) {
-    		copy.poll().showOneTask();
+    	for(int i = 0; i < count; i++) {
+    		TaskMutation mutation = batch[i];
+    		if(syncFailure != null && mutation.failure == null) {
+    			mutation.failure = syncFailure;
+    		}
+    		mutation.complete();
+    		metrics.record(mutation.kind.metric, mutation.start);
     	}
     }
-     
+    
     /**
-    * Print tasks in a range from a lower date to a higher date
-  	*/
-    public void range() {
+    * Returns the write-ahead log, for tests that make it fail
+    * 
+    * @return the log, or null when the task list lives in memory only
+    */
+    TaskWriteAheadLog getWriteAheadLog() {
+    	return writeAheadLog;
+    }
+    
+    /**
+    * Checks that a mutation can still be logged, before it changes any store. Once a write or 
+    * fsync of the log has failed, a durable manager is read-only: mutations are refused, and no 
+    * checkpoint saves the mutations whose sync failed. Reopen the manager to recover the state 
+    * that reached the disk. Caller holds the write lock
+    * 
+    * @throws UncheckedIOException if the write-ahead log can no longer be written
+    */
+    private void requireWritable() {
+    	
+    	if(writeAheadLog != null) {
+    		writeAheadLog.requireWritable();
+    	}
+    }
+    
+    /**
+    * Applies one queued mutation to every store. Caller holds the write lock
+    * 
+    * @param mutation the mutation
+    * 
+    * @return the added, deleted or edited task, or null if no task has the ID
+    */
+    private Task applyMutation(TaskMutation mutation) {
+    	
+    	switch(mutation.kind) {
+    	case ADD:
+    		applyAdd(mutation.task);
+    		return mutation.task;
+    	case DELETE:
+    		return applyDelete(mutation.ID);
+    	case EDIT_NAME:
+    		return applyEditName(mutation.ID, mutation.text);
+    	case EDIT_DESCRIPTION:
+    		return applyEditDescription(mutation.ID, mutation.text);
+    	case EDIT_DUE_DATE:
+    		return applyEditDueDate(mutation.ID, mutation.value);
+    	default:
+    		return applyEditPriority(mutation.ID, mutation.value);
+    	}
+    }
+    
+    /**
+    * Appends one applied mutation to the write-ahead log. Caller holds the write lock
+    * 
+    * @param mutation the mutation
+    * 
+    * @return the record's sequence number
+    */
+    private long logMutation(TaskMutation mutation) {
+    	
+    	switch(mutation.kind) {
+    	case ADD:
+    		return writeAheadLog.logAdd(mutation.task);
+    	case DELETE:
+    		return writeAheadLog.logDelete(mutation.ID);
+    	case EDIT_NAME:
+    		return writeAheadLog.logEditName(mutation.ID, mutation.text);
+    	case EDIT_DESCRIPTION:
+    		return writeAheadLog.logEditDescription(mutation.ID, mutation.text);
+    	case EDIT_DUE_DATE:
+    		return writeAheadLog.logEditDueDate(mutation.ID, mutation.value);
+    	default:
+    		return writeAheadLog.logEditPriority(mutation.ID, mutation.value);
+    	}
+    }
+    
+    /**
+    * Saves every task to a new snapshot and empties the write-ahead log. Lookups keep running 
+    * while the snapshot is written, mutations wait for it. Does nothing for an in-memory 
+    * Task Manager
+    * 
+    * @throws IOException if the snapshot cannot be written, or an earlier log write failed
+    */
+    public void checkpoint() throws IOException {
     	
-    	int low, high;
+    	if(writeAheadLog == null) {
+    		return;
+    	}
     	
-    	while(true) {
-    		System.out.print("Enter a beginning date (format: YYYYMMDD): ");
-    		low = readValidDueDate(0);
+    	long start = metrics.start();
+    	checkpointLock.lock();
+    	try {
+    		readLock.lock();
+    		try {
+    			// The tasks include mutations whose sync failed, so a failed log keeps its snapshot
+    			requireWritable();
+    			TaskSnapshot.write(snapshotFile, taskTree.toArray());
+    			writeAheadLog.reset();
+    		} catch (UncheckedIOException e) {
+    			throw e.getCause();
+    		} finally {
+    			readLock.unlock();
+    		}
+    	} finally {
+    		checkpointLock.unlock();
+    		metrics.record(TaskMetrics.Operation.CHECKPOINT, start);
+    	}
+    }
+    
+    /**
+    * Takes a final snapshot, so the next start has no log to replay, and closes the log file. 
+    * Also removes the metrics from JMX if they were registered
+    * 
+    * @throws IOException if the snapshot or the final log write fails
+    */
+    @Override
+    public void close() throws IOException {
     	
-    		System.out.print("Enter an end date (format: YYYYMMDD): ");
-    		high = readValidDueDate(0);
+    	metrics.unregister();
     	
-    		if(low > high) {
-    			System.out.println("Lower due date cannot be bigger than higher due date. Try again.");
-    			continue;
+    	if(writeAheadLog != null) {
+    		try {
+    			checkpoint();
+    		} finally {
+    			try {
+    				writeAheadLog.close();
+    			} finally {
+    				auditTrail.close();
+    			}
     		}
-    		break;
     	}
+    }
+    
+    /**
+    * Returns the counters, latency histograms and gauges of this Task Manager. Call 
+    * getMetrics().snapshot() for a report, or getMetrics().register(name) to publish them over JMX
+    * 
+    * @return the metrics
+    */
+    public TaskMetrics getMetrics() {
+    	return metrics;
+    }
+    
+    /**
+    * Reads a value under the read lock, for metrics gauges
+    * 
+    * @param value computes the value
+    * 
+    * @return the value
+    */
+    private long underReadLock(LongSupplier value) {
     	
-    	taskTree.printRange(low, high);
-    } 
+    	readLock.lock();
+    	try {
+    		return value.getAsLong();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
     
     /**
-    * Prints a specific log in history 
-  	*/
-     public void printOneLog() {
-     	
-     	if (historyLog.getSize() == 0) {
-             System.out.println("Nothing in Task History Log");
-             return;
-         }
-     	
-         System.out.print("Enter an integer value from 1 to " + historyLog.getSize() + ": ");
-         int logValue = input.nextInt();
-
-         while (logValue < 1 || logValue > historyLog.getSize()) {
-             System.out.print("Invalid input. Please enter a number between 1 and " + historyLog.getSize() + " (inclusive): ");
-             logValue = input.nextInt();
-         }
-
-         historyLog.printSpecificHistoryLog(logValue);
-     } 
+    * Waits until a write-ahead log record is on disk, then takes a snapshot if enough mutations 
+    * have been logged since the last one. Called after the write lock is released so that 
+    * concurrent mutations share one fsync
+    * 
+    * @param sequence the record's sequence number, or 0 if nothing was logged
+    * 
+    * @throws UncheckedIOException if the log or the snapshot cannot be written
+    */
+    private void awaitDurable(long sequence) {
+    	
+    	if(sequence <= 0) {
+    		return;
+    	}
+    	
+    	writeAheadLog.sync(sequence);
+    	
+    	// Only one thread takes the snapshot, the others carry on logging
+    	if(writeAheadLog.recordCount() >= checkpointInterval && checkpointLock.tryLock()) {
+    		try {
+    			if(writeAheadLog.recordCount() >= checkpointInterval) {
+    				checkpoint();
+    			}
+    		} catch (IOException e) {
+    			throw new UncheckedIOException(e);
+    		} finally {
+    			checkpointLock.unlock();
+    		}
+    	}
+    }
+    
+    /**
+    * Inserts a task into every store and the history log. Caller holds the write lock
+    * 
+    * @param task the task object to add
+    */
+    private void applyAdd(Task task) {
+    	taskTree.add(task);
+    	taskIndex.put(task);
+    	dueDateIndex.add(task);
+    	textIndex.add(task);
+    	priorityIndex.add(task);
+    	historyLog.insertion(task.getID(), task.getName());
+    	audit(HistoryEvent.Operation.CREATED, task.getID(), null, task.getName());
+    	taskQueue.add(task);
+    }
+    
+    /**
+    * Inserts a batch of ID-sorted tasks into every store with one history entry. Tasks that 
+    * repeat an ID are dropped and the kept tasks are moved to the front of the array. Caller 
+    * holds the write lock
+    * 
+    * @param batch the task objects to add, in ascending ID order
+    * @param length number of tasks in the batch
+    * 
+    * @return number of tasks added (the first entries of the array)
+    */
+    private int applyAddAll(Task[] batch, int length) {
+    	
+    	int count = 0;
+    	for(int i = 0; i < length; i++) {
+    		boolean repeated = (count > 0 && batch[count - 1].getID() == batch[i].getID());
+    		
+    		if(!repeated && !taskIndex.containsKey(batch[i].getID())) {
+    			batch[count++] = batch[i];
+    		}
+    	}
+    	
+    	if(count == 0) {
+    		return 0;
+    	}
+    	
+    	insertSorted(batch, count);
+    	historyLog.bulkInsertion(count);
+    	auditForTasks(HistoryEvent.Operation.IMPORTED, count, batch, count);
+    	return count;
+    }
+    
+    /**
+    * Inserts new ID-sorted tasks into the BST, ID map, due date, text and priority indexes and the 
+    * priority queue, building the BST bottom-up when it is empty. Leaves the history log alone
+    * 
+    * @param batch the task objects to add, in ascending ID order and not yet stored
+    * @param count number of tasks to take from the start of the array
+    */
+    private void insertSorted(Task[] batch, int count) {
+    	
+    	taskIndex.ensureCapacity(taskIndex.size() + count);
+    	
+    	if(taskTree.isEmpty()) {
+    		taskTree.buildFromSorted(batch, count);
+    	} else {
+    		for(int i = 0; i < count; i++) {
+    			taskTree.add(batch[i]);
+    		}
+    	}
+    	
+    	for(int i = 0; i < count; i++) {
+    		taskIndex.put(batch[i]);
+    		dueDateIndex.add(batch[i]);
+    		textIndex.add(batch[i]);
+    		priorityIndex.add(batch[i]);
+    	}
+    	
+    	taskQueue.addAll(batch, count);
+    }
+    
+    /**
+    * Removes a task from every store and logs it in history. Caller holds the write lock
+    * 
+    * @param ID the ID of the task to delete
+    * 
+    * @return the deleted task object, or null if no task has that ID
+    */
+    private Task applyDelete(long ID) {
+    	
+    	Task taskToDelete = taskIndex.remove(ID);
+    	
+    	if(taskToDelete == null) {
+    		return null;
+    	}
+    	
+    	historyLog.deletion(taskToDelete);
+    	audit(HistoryEvent.Operation.DELETED, ID, null, taskToDelete.getName());
+    	taskTree.delete(taskToDelete);
+    	dueDateIndex.delete(taskToDelete);
+    	textIndex.delete(taskToDelete);
+    	priorityIndex.delete(taskToDelete);
+    	taskQueue.remove(taskToDelete);
+    	return taskToDelete;
+    }
+    
+    /**
+    * Changes a task's name and logs it in history. Caller holds the write lock
+    * 
+    * @param ID the ID of the task to edit
+    * @param newName the task's new string name
+    * 
+    * @return the edited task object, or null if no task has that ID
+    */
+    private Task applyEditName(long ID, String newName) {
+    	
+    	Task taskToEdit = taskIndex.get(ID);
+    	
+    	if(taskToEdit == null) {
+    		return null;
+    	}
+    	
+    	String oldName = taskToEdit.getName();
+    	taskToEdit.setName(newName);
+    	textIndex.update(taskToEdit, oldName, taskToEdit.getDescription());
+    	historyLog.taskUpdate(HistoryEvent.Field.NAME, ID, newName);
+    	audit(HistoryEvent.Operation.UPDATED, ID, HistoryEvent.Field.NAME, newName);
+    	return taskToEdit;
+    }
+    
+    /**
+    * Changes a task's description and logs it in history. Caller holds the write lock
+    * 
+    * @param ID the ID of the task to edit
+    * @param newDescription the task's new description
+    * 
+    * @return the edited task object, or null if no task has that ID
+    */
+    private Task applyEditDescription(long ID, String newDescription) {
+    	
+    	Task taskToEdit = taskIndex.get(ID);
+    	
+    	if(taskToEdit == null) {
+    		return null;
+    	}
+    	
+    	String oldDescription = taskToEdit.getDescription();
+    	taskToEdit.setDescription(newDescription);
+    	textIndex.update(taskToEdit, taskToEdit.getName(), oldDescription);
+    	historyLog.taskUpdate(HistoryEvent.Field.DESCRIPTION, ID, taskToEdit.getName());
+    	audit(HistoryEvent.Operation.UPDATED, ID, HistoryEvent.Field.DESCRIPTION, taskToEdit.getName());
+    	return taskToEdit;
+    }
+    
+    /**
+    * Changes a task's due date, re-orders it, and logs it in history. Caller holds the write lock
+    * 
+    * @param ID the ID of the task to edit
+    * @param newDueDate the task's new due date (format: YYYYMMDD)
+    * 
+    * @return the edited task object, or null if no task has that ID
+    */
+    private Task applyEditDueDate(long ID, int newDueDate) {
+    	
+    	Task taskToEdit = taskIndex.get(ID);
+    	
+    	if(taskToEdit == null) {
+    		return null;
+    	}
+    	
+    	int oldDueDate = taskToEdit.getDueDate();
+    	taskToEdit.setDueDate(newDueDate);
+    	taskQueue.update(taskToEdit);
+    	dueDateIndex.update(taskToEdit, oldDueDate);
+    	historyLog.taskUpdate(HistoryEvent.Field.DUE_DATE, ID, taskToEdit.getName());
+    	audit(HistoryEvent.Operation.UPDATED, ID, HistoryEvent.Field.DUE_DATE, taskToEdit.getName());
+    	return taskToEdit;
+    }
+    
+    /**
+    * Changes a task's priority, re-orders it, and logs it in history. Caller holds the write lock
+    * 
+    * @param ID the ID of the task to edit
+    * @param newPriority the task's new priority (between and including 1-5)
+    * 
+    * @return the edited task object, or null if no task has that ID
+    */
+    private Task applyEditPriority(long ID, int newPriority) {
+    	
+    	Task taskToEdit = taskIndex.get(ID);
+    	
+    	if(taskToEdit == null) {
+    		return null;
+    	}
+    	
+    	int oldPriority = taskToEdit.getPriority();
+    	taskToEdit.setPriority(newPriority);
+    	priorityIndex.update(taskToEdit, oldPriority);
+    	taskQueue.update(taskToEdit);
+    	historyLog.taskUpdate(HistoryEvent.Field.PRIORITY, ID, taskToEdit.getName());
+    	audit(HistoryEvent.Operation.UPDATED, ID, HistoryEvent.Field.PRIORITY, taskToEdit.getName());
+    	return taskToEdit;
+    }
+    
+    /**
+    * Empties every store and logs it in history. Caller holds the write lock
+    */
+    private void applyClear() {
+    	if(auditTrail != null) {
+    		Task[] cleared = taskTree.toArray();
+    		auditForTasks(HistoryEvent.Operation.CLEARED, 0, cleared, cleared.length);
+    	}
+    	taskTree.clear();
+    	taskIndex.clear();
+    	dueDateIndex.clear();
+    	textIndex.clear();
+    	priorityIndex.clear();
+    	historyLog.clear();
+    	taskQueue.clear();
+    }
+    
+    /**
+    * Records a history event in the audit trail of a durable manager, unless the write-ahead log 
+    * is being replayed. Caller holds the write lock
+    * 
+    * @param operation what happened
+    * @param ID the task ID
+    * @param field the changed field for UPDATED, otherwise null
+    * @param taskName name of the task at the time
+    */
+    private void audit(HistoryEvent.Operation operation, long ID, HistoryEvent.Field field, String taskName) {
+    	
+    	if(auditTrail != null) {
+    		auditTrail.append(operation, ID, field, taskName);
+    	}
+    }
+    
+    /**
+    * Records an import or a clear in the audit trail of a durable manager under every task it 
+    * added or removed, unless the write-ahead log is being replayed. Caller holds the write lock
+    * 
+    * @param operation IMPORTED or CLEARED
+    * @param ID the number of tasks for IMPORTED, 0 for CLEARED
+    * @param tasks the tasks added or removed
+    * @param count number of tasks to take from the start of the array
+    */
+    private void auditForTasks(HistoryEvent.Operation operation, long ID, Task[] tasks, int count) {
+    	
+    	if(auditTrail != null) {
+    		long[] IDs = new long[count];
+    		for(int i = 0; i < count; i++) {
+    			IDs[i] = tasks[i].getID();
+    		}
+    		auditTrail.appendForTasks(operation, ID, IDs, count);
+    	}
+    }
+    
+    /**
+    * Returns the tasks due between two dates (inclusive), earliest due date first
+    * 
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    * 
+    * @return list of tasks in the range, empty if there are none
+    */
+    public List<Task> range(int low, int high) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return dueDateIndex.range(low, high);
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.RANGE, start);
+    	}
+    }
+    
+    /**
+    * Returns the tasks whose name or description contains every word of a text
+    * 
+    * @param words the words to find (case does not matter)
+    * 
+    * @return list of tasks in ID order, empty if there are none
+    */
+    public List<Task> searchText(String words) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return toTasks(textIndex.all(words));
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.TEXT_SEARCH, start);
+    	}
+    }
+    
+    /**
+    * Returns the tasks whose name or description contains at least one word of a text
+    * 
+    * @param words the words to find (case does not matter)
+    * 
+    * @return list of tasks in ID order, empty if there are none
+    */
+    public List<Task> searchAnyText(String words) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return toTasks(textIndex.any(words));
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.TEXT_SEARCH, start);
+    	}
+    }
+    
+    /**
+    * Returns the tasks with a word in their name or description starting with a prefix. 
+    * Earlier words of a multi-word prefix must appear whole
+    * 
+    * @param prefix the start of the word (case does not matter)
+    * 
+    * @return list of tasks in ID order, empty if there are none
+    */
+    public List<Task> searchPrefix(String prefix) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return toTasks(textIndex.prefix(prefix));
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.TEXT_SEARCH, start);
+    	}
+    }
+    
+    /**
+    * Returns the tasks matching every filter of a query, up to its limit. The query planner 
+    * reads from whichever index narrows the query the most, so the order of the tasks depends 
+    * on that index (ID order for ID, text and full scans, due date order for date ranges)
+    * 
+    * @param query the filters to apply
+    * 
+    * @return list of matching tasks, empty if there are none
+    */
+    public List<Task> query(TaskQuery query) {
+    	
+    	List<Task> found = new ArrayList<>();
+    	query(query, found::add);
+    	return found;
+    }
+    
+    /**
+    * Hands the tasks matching a query to a visitor one at a time, as they are found, without 
+    * collecting them. The visitor runs under the read lock and must not modify the Task Manager
+    * 
+    * @param query the filters to apply
+    * @param visitor receives each matching task, returns false to stop early
+    */
+    public void query(TaskQuery query, Predicate<? super Task> visitor) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		for(Task task : queryPlanner.plan(query)) {
+    			if(!visitor.test(task)) {
+    				return;
+    			}
+    		}
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.QUERY, start);
+    	}
+    }
+    
+    /**
+    * Returns the index the query planner would read for a query, without running it
+    * 
+    * @param query the filters to apply
+    * 
+    * @return the chosen access path
+    */
+    public QueryPlanner.AccessPath explain(TaskQuery query) {
+    	
+    	readLock.lock();
+    	try {
+    		return queryPlanner.plan(query).getAccessPath();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Looks up the tasks of a text search result. Caller holds the read lock
+    * 
+    * @param IDs task IDs in ascending order
+    * 
+    * @return list of tasks in the same order
+    */
+    private List<Task> toTasks(long[] IDs) {
+    	
+    	List<Task> found = new ArrayList<>(IDs.length);
+    	for(long ID : IDs) {
+    		found.add(taskIndex.get(ID));
+    	}
+    	return found;
+    }
+    
+    /**
+    * Returns the first k tasks by priority (1st by due date, 2nd by manual priority, 
+    * 3rd by time-stamp at which task was created)
+    * 
+    * @param k the maximum number of tasks to return
+    * 
+    * @return list of at most k tasks, highest priority first
+    */
+    public List<Task> topK(int k) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		return taskQueue.topK(k);
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.TOP_K, start);
+    	}
+    }
+    
+    /**
+    * Hands the tasks to a visitor in priority order, read lazily from the queue without copying 
+    * it. The visitor runs under the read lock and must not modify the Task Manager
+    * 
+    * @param visitor receives each task, highest priority first, returns false to stop early
+    */
+    public void forEachByPriority(Predicate<? super Task> visitor) {
+    	
+    	long start = metrics.start();
+    	readLock.lock();
+    	try {
+    		for(Task task : taskQueue) {
+    			if(!visitor.test(task)) {
+    				return;
+    			}
+    		}
+    	} finally {
+    		readLock.unlock();
+    		metrics.record(TaskMetrics.Operation.PRIORITY_SCAN, start);
+    	}
+    }
+    
+    /**
+    * Returns the number of tasks in the task list
+    * 
+    * @return number of tasks
+    */
+    public int size() {
+    	
+    	readLock.lock();
+    	try {
+    		return taskIndex.size();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Measures the shape of the task tree (height, minimal height, average depth). Visits 
+    * every task, so it is meant for occasional diagnostics
+    * 
+    * @return the current tree shape
+    */
+    public BinarySearchTree.Shape getTreeShape() {
+    	
+    	readLock.lock();
+    	try {
+    		return taskTree.getShape();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Checks that a name or description is present
+    * 
+    * @param text the value to check
+    * @param field the field name used in the error message
+    */
+    static void requireText(String text, String field) {
+    	
+    	if(text == null || text.isBlank()) {
+    		throw new IllegalArgumentException("Task " + field + " must not be blank");
+    	}
+    }
+    
+    /**
+    * Checks that an ID is one the allocator could have handed out
+    * 
+    * @param ID the value to check
+    */
+    static void requireValidID(long ID) {
+    	
+    	if(ID < TaskIdAllocator.FIRST_ID) {
+    		throw new IllegalArgumentException("Task ID must be at least " + TaskIdAllocator.FIRST_ID + ": " + ID);
+    	}
+    }
+    
+    /**
+    * Checks that a priority is within boundaries
+    * 
+    * @param priority the value to check
+    */
+    static void requireValidPriority(int priority) {
+    	
+    	if(priority < 1 || priority > 5) {
+    		throw new IllegalArgumentException("Priority must be between 1 and 5 (inclusive): " + priority);
+    	}
+    }
+    
+    /**
+    * Checks that a due date is a real calendar date in YYYYMMDD form
+    * 
+    * @param dueDate the value to check
+    */
+    static void requireValidDueDate(int dueDate) {
+    	
+    	if(dueDate < 10000101 || dueDate > 99991231) {
+    		throw new IllegalArgumentException("Due date must be in YYYYMMDD format: " + dueDate);
+    	}
+    	
+    	try {
+    		LocalDate.of(dueDate / 10000, (dueDate % 10000) / 100, dueDate % 100);
+    	} catch (java.time.DateTimeException e) {
+    		throw new IllegalArgumentException("Due date is not a valid date: " + dueDate);
+    	}
+    }
+    
+    /**
+    * Returns the task history log entries
+    * 
+    * @return list of history entries from latest to oldest
+    */
+    public List<String> getHistory() {
+    	return getHistory(true);
+    }
+    
+    /**
+    * Returns the task history log entries in either order
+    * 
+    * @param latestFirst true for latest to oldest, false for oldest to latest
+    * 
+    * @return list of history entries
+    */
+    public List<String> getHistory(boolean latestFirst) {
+    	
+    	readLock.lock();
+    	try {
+    		return historyLog.getEntries(latestFirst);
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns the maximum number of entries the task history log keeps
+    * 
+    * @return the history capacity
+    */
+    public int getHistoryCapacity() {
+    	
+    	readLock.lock();
+    	try {
+    		return historyLog.getCapacity();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Changes the maximum number of entries the task history log keeps. The buffer is allocated 
+    * once at this size, and the latest entries that fit are kept
+    * 
+    * @param capacity the new history capacity (1 or more)
+    * 
+    * @throws IllegalArgumentException if the capacity is less than 1
+    */
+    public void setHistoryCapacity(int capacity) {
+    	
+    	writeLock.lock();
+    	try {
+    		historyLog.setCapacity(capacity);
+    	} finally {
+    		writeLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns the number of entries in the task history log
+    * 
+    * @return number of history entries
+    */
+    public int getHistorySize() {
+    	
+    	readLock.lock();
+    	try {
+    		return historyLog.getSize();
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns a specific task history log entry
+    * 
+    * @param logValue the entry number to return (1 = most recent)
+    * 
+    * @return the history entry, or null if there is no such entry
+    */
+    public String getHistoryEntry(int logValue) {
+    	
+    	readLock.lock();
+    	try {
+    		if(logValue < 1 || logValue > historyLog.getSize()) {
+    			return null;
+    		}
+    		return historyLog.getEntry(logValue);
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns the history events still in the log about one task, from latest to oldest
+    * 
+    * @param ID the task ID
+    * 
+    * @return list of history events, empty if there are none
+    */
+    public List<HistoryEvent> getHistoryFor(long ID) {
+    	
+    	readLock.lock();
+    	try {
+    		return historyLog.getEvents(ID);
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns the history events still in the log of one kind, from latest to oldest
+    * 
+    * @param operation the kind of event
+    * 
+    * @return list of history events, empty if there are none
+    */
+    public List<HistoryEvent> getHistoryOf(HistoryEvent.Operation operation) {
+    	
+    	readLock.lock();
+    	try {
+    		return historyLog.getEvents(operation);
+    	} finally {
+    		readLock.unlock();
+    	}
+    }
+    
+    /**
+    * Returns every change ever made to one task from the audit trail, including the import 
+    * that added it or the clear that removed it, oldest first. Only a durable manager keeps an 
+    * audit trail; see getHistoryFor() for the recent history of one kept in memory
+    * 
+    * @param ID the task ID
+    * 
+    * @return list of audit events, empty if there are none or the manager is kept in memory
+    */
+    public List<HistoryEvent> getAuditFor(long ID) {
+    	return getAuditFor(ID, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+    
+    /**
+    * Returns the changes made to one task between two times (inclusive), oldest first
+    * 
+    * @param ID the task ID
+    * @param from earliest time, in milliseconds since the epoch
+    * @param to latest time, in milliseconds since the epoch
+    * 
+    * @return list of audit events, empty if there are none or the manager is kept in memory
+    */
+    public List<HistoryEvent> getAuditFor(long ID, long from, long to) {
+    	
+    	// The audit trail has its own lock, and its files are read without holding up mutations
+    	if(auditTrail == null) {
+    		return new ArrayList<>();
+    	}
+    	return auditTrail.forTask(ID, from, to);
+    }
+    
+    /**
+    * Returns the audit events of one kind between two times (inclusive), oldest first. Imports 
+    * count as creations and clears as deletions
+    * 
+    * @param operation the kind of event
+    * @param from earliest time, in milliseconds since the epoch
+    * @param to latest time, in milliseconds since the epoch
+    * 
+    * @return list of audit events, empty if there are none or the manager is kept in memory
+    */
+    public List<HistoryEvent> getAuditOf(HistoryEvent.Operation operation, long from, long to) {
+    	
+    	if(auditTrail == null) {
+    		return new ArrayList<>();
+    	}
+    	return auditTrail.ofOperation(operation, from, to);
+    }
+    
+    /**
+    * Returns every audit event between two times (inclusive), oldest first
+    * 
+    * @param from earliest time, in milliseconds since the epoch
+    * @param to latest time, in milliseconds since the epoch
+    * 
+    * @return list of audit events, empty if there are none or the manager is kept in memory
+    */
+    public List<HistoryEvent> getAuditBetween(long from, long to) {
+    	
+    	if(auditTrail == null) {
+    		return new ArrayList<>();
+    	}
+    	return auditTrail.between(from, to);
+    }
 }
 
 // END OF TaskManager.java
\ No newline at end of file
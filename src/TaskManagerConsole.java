@@ -0,0 +1,472 @@
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+* @author Ayra Babar
+* @file TaskManagerConsole.java
+* @brief This file contains the console menu for the Task Manager. It only reads user input, calls 
+*        the typed Task Manager operations, and prints their results
+*        
+* 10/18/2026 - Initial creation, moved out of TaskManager.java
+* 10/18/2026 - History capacity shown from the Task Manager
+* 10/18/2026 - Priority listing printed straight from the queue instead of a full copy
+*/
+
+public class TaskManagerConsole {
+	
+	private final TaskManager manager;
+	private final Scanner input;
+	
+	/**
+    * Constructs a console menu reading from standard input
+    * 
+    * @param manager TaskManager object to operate on
+    */
+	public TaskManagerConsole(TaskManager manager) {
+		this.manager = manager;
+		this.input = new Scanner(System.in);
+	}
+	
+    /**
+    * Displays Task Manager Menu Options
+    */
+    public void displayMenu() {
+		System.out.println("\n------------------------ Task Menu ------------------------");
+		System.out.println("0. Add New Task");
+		System.out.println("1. Search for Task");
+		System.out.println("2. Delete Task");
+		System.out.println("3. Edit Task");
+		System.out.println("4. Clear Task List");
+		System.out.println("5. View All Tasks (by Priority)");
+		System.out.println("6. View Task by Date Range");
+		System.out.println("7. View Task History Log (Latest to Oldest)");
+		System.out.println("8. View Task History Log (Oldest to Latest)");
+		System.out.println("9. View a Specific Task History Log");
+		System.out.println("10. Exit Program");
+		System.out.println("------------------------------------------------------------");
+	}
+    
+	/**
+    * Executes task menu for user 
+    */
+    public void menuExecution() {
+
+    	int choice = -1;
+    	
+    do {
+    	
+		displayMenu();
+
+    	System.out.println("\nEnter your choice (0-10): ");
+		if(!input.hasNextInt()) {
+			System.out.println("Invalid input. Enter a number from 0 to 10: ");
+			input.next();
+			continue;
+		}
+		
+		choice = input.nextInt();
+		input.nextLine();
+		
+    	switch(choice) {
+    	
+    	case 0:
+    		addTask();
+    		break;
+    		
+    	case 1:
+        	System.out.print("Enter ID value to search: ");
+    		Task found = search();
+    		found.showOneTask();
+    		break;
+    		
+    	case 2:
+    	    deleteTask();
+    	    break;
+
+    	case 3:
+    	    editTask();
+    	    break;
+
+    	case 4:
+    	    clear();
+    	    break;
+
+    	case 5:
+    		printByPriority();
+    		break;
+    		
+    	case 6:
+    		range();
+    	    break;
+
+    	case 7:
+    		printHistory(true);
+    		break;
+    	
+    	case 8:
+    		printHistory(false);
+    		break;
+    		
+    	case 9:
+    		printOneLog();
+    		break;
+    	
+    	case 10:
+    		break;
+    		
+    	default:
+    		System.out.println("Invalid choice, please try again");
+    	}
+		
+    } while(choice != 10);
+    
+    System.out.println("Exiting...");
+    input.close();
+    
+    }
+    
+    /**
+	* Creates a new task by taking user input and inserts into BST, P.Q., and history log
+	*/
+    public void addTask() {
+    	
+		System.out.print("Enter Task Name: ");
+		String name = input.nextLine();
+		
+		while(name.isBlank()) {
+			System.out.print("Invalid input. Please enter a task name: ");
+		    name = input.nextLine();
+			System.out.println();
+		}
+		
+		System.out.println();
+		
+		System.out.print("Enter Task Description: ");
+		String description = input.nextLine();
+		
+		while(description.isBlank()) {
+			System.out.print("Invalid input. Please enter a task description: ");
+		    description = input.nextLine();
+			System.out.println();
+		}
+		
+		System.out.println();
+		
+		System.out.print("Enter Task Priority (1-5): ");
+		int priorityNum = input.nextInt();
+	    input.nextLine();
+
+		priorityNum = readValidPriority(priorityNum);
+		
+		System.out.println();
+
+		int dueDate = 0;
+		dueDate = readValidDueDate(dueDate);
+
+		Task task = manager.addTask(name, description, priorityNum, dueDate);
+		
+		System.out.println("\nTask added successfully!");
+		task.showOneTask();
+    }
+    
+    /**
+    * Searches for a specific task from the task ID map
+    * 
+    * @return returns the task object if found, otherwise null
+  	*/
+    public Task search() {
+    			
+		while (!input.hasNextLong()) {
+		    System.out.print("Invalid input. Enter a numeric ID: ");
+		    input.next();
+		}
+		
+		long searchID = input.nextLong(); input.nextLine();
+		
+		Task found = manager.search(searchID);
+		
+		while (found == null) {
+			
+		    System.out.print("Invalid ID entry. Insert again: ");
+		    
+		    while (!input.hasNextLong()) {
+			    System.out.print("Invalid input. Enter a numeric ID: ");
+			    input.next();
+			}
+		    
+		    searchID = input.nextLong(); input.nextLine();
+		    System.out.println();
+		    found = manager.search(searchID);
+		}
+		
+		System.out.println("Task Found successfully!");
+		return found;
+    }
+    
+    /**
+    * Deletes task from BST, ID map, due date index & P.Q. and logs the activity
+  	*/
+    public void deleteTask() {
+    	
+    	System.out.print("Enter ID value to delete: ");
+		
+		Task taskToDelete = search();
+    	
+		if(manager.deleteTask(taskToDelete.getID()) == null) {
+			System.out.println("Task was already deleted");
+			return;
+		}
+		System.out.println("Task deleted successfully!");
+    }
+    
+    /**
+    * Allows user to make edits to existing tasks
+  	*/
+    public void editTask() {
+    	
+    	System.out.print("Enter a valid ID in order to make edits: ");
+    	Task taskToEdit = search();
+    	System.out.println("What would you like to edit?");
+    	System.out.println("Enter 0 to edit Task Name");
+    	System.out.println("Enter 1 to edit Description");
+    	System.out.println("Enter 2 to edit Due Date");
+    	System.out.println("Enter 3 to edit Priority");
+    	
+    	long ID = taskToEdit.getID();
+    	Task edited = null;
+
+    	int choice = input.nextInt();
+    	input.nextLine();
+    	
+    	switch(choice) {
+    	
+    	case 0:
+    		System.out.print("Enter new task name: ");
+    		String newName = input.nextLine();
+    		
+    		while(newName == null || newName.isBlank()) {
+    			System.out.print("Enter a valid name: ");
+    			newName = input.nextLine();
+    		}
+    		
+    		edited = manager.editName(ID, newName);
+    		
+    		break;
+    		
+    	case 1:
+    		System.out.print("Enter new task description: ");
+    		String newDescription = input.nextLine();
+    		
+    		while(newDescription == null || newDescription.isBlank()) {
+    			System.out.print("Enter a valid description: ");
+    			newDescription = input.nextLine();
+    		}
+    		
+    		edited = manager.editDescription(ID, newDescription);
+    		
+    		break;
+    		
+    	case 2:
+    		int newDueDate = readValidDueDate(0);    		
+    		edited = manager.editDueDate(ID, newDueDate);
+    		
+    		break;
+    		
+    	case 3:
+    		System.out.print("Enter new task priority (1-5 inclusive): ");
+    		int newPriority = input.nextInt(); input.nextLine();
+    		
+    		newPriority = readValidPriority(newPriority);
+    		
+    		edited = manager.editPriority(ID, newPriority);
+    		
+    		break;
+    		
+    	default:
+    		System.out.println("Invalid Choice Entry");
+    		return;
+    	}
+    	
+    	if(edited == null) {
+    		System.out.println("Task was deleted before the edit could be made");
+    	}
+    } 
+    
+    /**
+    * Validates if user input for due date is within boundaries
+    * 
+    * @param newDueDate integer value input by the user initially
+    * 
+    * @return int value of approved due date
+    */
+    private int readValidDueDate(int newDueDate) {
+    	
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    	while (true) {
+		    System.out.print("Enter Due Date (YYYYMMDD): ");
+		    
+		    String dateInput = input.nextLine().trim();
+
+		    if (dateInput.length() != 8 || !dateInput.matches("\\d{8}$")) {
+		        System.out.println("Please enter exactly 8 numeric digits in YYYYMMDD format.");
+		        continue;
+		    }
+
+		    try {
+		        LocalDate.parse(dateInput, formatter);
+		        newDueDate = Integer.parseInt(dateInput);
+		        break;
+		        
+		    } catch (DateTimeParseException e) {
+		        System.out.println("That date is invalid. Try again.");
+		    }
+		}
+    	
+    	return newDueDate;
+    }
+    
+    /**
+    * Validates if user input for priority is within boundaries
+    * 
+    * @param newPriority integer value input by the user initially
+    * 
+    * @return int value of approved priority number
+    */
+    private int readValidPriority(int newPriority) {
+    	
+    	while (newPriority < 1 || newPriority > 5) {
+		    System.out.print("Invalid input. Please enter a number between 1 and 5 (inclusive): ");
+		    newPriority = input.nextInt();
+		    input.nextLine();
+		}
+    	
+    	return newPriority;
+    }
+    
+    /**
+    * Clears the task list and logs the activity
+  	*/
+    public void clear() {
+    	
+    	manager.clear();
+    	System.out.println("Entire Task List cleared");
+    }
+    
+    /**
+    * Prints the task list by priority (1st by due date, 2nd by manual priority, 
+    * 3rd by time-stamp at which task was created)
+   	*/
+    public void printByPriority() {
+    	
+    	if(manager.size() == 0) {
+    		System.out.println("No Tasks in the list");
+    		return;
+    	}
+    	
+    	System.out.println("\n--- Tasks Sorted by Priority ---");
+    	System.out.println("Order: Earliest due date → Lowest priority number → Earliest created");
+    	System.out.println("(Priority scale: 1 = Highest priority, 5 = Lowest priority)\n");
+    	manager.forEachByPriority(task -> {
+    		task.showOneTask();
+    		return true;
+    	});
+    }
+     
+    /**
+    * Print tasks in a range from a lower date to a higher date
+  	*/
+    public void range() {
+    	
+    	int low, high;
+    	
+    	while(true) {
+    		System.out.print("Enter a beginning date (format: YYYYMMDD): ");
+    		low = readValidDueDate(0);
+    	
+    		System.out.print("Enter an end date (format: YYYYMMDD): ");
+    		high = readValidDueDate(0);
+    	
+    		if(low > high) {
+    			System.out.println("Lower due date cannot be bigger than higher due date. Try again.");
+    			continue;
+    		}
+    		break;
+    	}
+    	
+    	printRange(low, high);
+    } 
+    
+    /**
+    * Prints the tasks in a range from a lower date to a higher date
+    * 
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    */
+    private void printRange(int low, int high) {
+    	
+    	System.out.println("Printing Range from " + (low / 10000) + "-" + ((low % 10000) / 100) + "-" + (low % 100) 
+    		+ " to " + (high / 10000) + "-" + ((high % 10000) / 100) + "-" + (high % 100));
+    	
+    	for(Task task : manager.range(low, high)) {
+    		task.showOneTask();
+    	}
+    }
+    
+    /**
+    * Prints the entire task history log
+    * 
+    * @param latestFirst true to print from latest entry to oldest, false for oldest to latest
+    */
+    private void printHistory(boolean latestFirst) {
+    	
+    	List<String> entries = manager.getHistory(latestFirst);
+    	
+    	if(entries.isEmpty()) {
+    		System.out.println("Nothing in Task History Log\n");
+    		return;
+    	}
+    	
+    	System.out.println("Task History Log from " + (latestFirst ? "Latest to Oldest" : "Oldest to Latest") 
+    			+ " (Max Capacity of " + manager.getHistoryCapacity() + " Entries)");
+    	
+    	for(String entry : entries) {
+    		System.out.println("- " + entry);
+    	}
+    	System.out.println();
+    }
+    
+    /**
+    * Prints a specific log in history 
+  	*/
+     public void printOneLog() {
+     	
+     	int historySize = manager.getHistorySize();
+     	
+     	if (historySize == 0) {
+             System.out.println("Nothing in Task History Log");
+             return;
+         }
+     	
+         System.out.print("Enter an integer value from 1 to " + historySize + ": ");
+         int logValue = input.nextInt();
+
+         while (logValue < 1 || logValue > historySize) {
+             System.out.print("Invalid input. Please enter a number between 1 and " + historySize + " (inclusive): ");
+             logValue = input.nextInt();
+         }
+
+         String entry = manager.getHistoryEntry(logValue);
+         
+         if (entry == null) {
+        	 System.out.println("That history entry is no longer available");
+        	 return;
+         }
+         
+         System.out.println("Task History Entry " + logValue + ": " + entry);
+     }
+}
+
+// END OF TaskManagerConsole.java
\ No newline at end of file
@@ -1,20 +1,46 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+
 /**
 * @author Ayra Babar
 * @file TaskManagerProjectExecution.java
 * @brief This file runs the task manager
 * 
 * 06/29/2025 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Menu runs through TaskManagerConsole
+* 10/18/2026 - Tasks are kept in a write-ahead log file between runs
+* 10/18/2026 - Operation metrics published over JMX while the program runs
+* 10/18/2026 - Optional TCP service on the port given as second argument
+* 10/18/2026 - TCP service reports whether it runs on virtual threads or a thread pool
 */
 
 public class TaskManagerProjectExecution {
 
-	public static void main(String[] args) {
-		
-		// Create new task manager object in order to access task manager itself
-		TaskManager manager = new TaskManager();	
+	public static void main(String[] args) throws IOException {
 		
-		// Run the personal planner program
-		manager.menuExecution();
+		// Create new task manager object backed by the log file (first argument, or tasks.wal)
+		try(TaskManager manager = new TaskManager(Paths.get(args.length > 0 ? args[0] : "tasks.wal"))) {
+			
+			// Publish the operation metrics for JConsole and other JMX clients
+			manager.getMetrics().register("tasks");
+			
+			// Serve the same task list over TCP if a port is given (second argument)
+			TaskServer server = (args.length > 1 ? new TaskServer(manager, new InetSocketAddress(Integer.parseInt(args[1]))) : null);
+			if(server != null) {
+				System.out.println("Serving tasks on port " + server.getPort() + " with "
+						+ (server.usesVirtualThreads() ? "virtual threads" : "a thread pool, virtual threads need Java 21"));
+			}
+			
+			// Run the personal planner program through the console menu
+			try {
+				new TaskManagerConsole(manager).menuExecution();
+			} finally {
+				if(server != null) {
+					server.close();
+				}
+			}
+		}
 		
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,519 @@
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+* @author Ayra Babar
+* @file TaskMetrics.java
+* @brief This file contains the Task Manager's instrumentation: a call counter and a latency
+*        histogram per operation, plus named gauges read on demand. Recording is lock-free and
+*        allocates nothing: one atomic increment of the latency's bucket in an AtomicLongArray,
+*        a LongAdder for the total time, and a compare-and-set only when a new maximum is seen,
+*        so it can stay on under load. A snapshot copies everything out for reporting, and the
+*        same numbers are published over JMX through TaskMetricsMXBean
+*
+* Histograms use log-linear buckets in the style of HdrHistogram: every power of two is split
+* into 8 sub-buckets, so a recorded latency is known to within 12.5% from 1 ns up to the
+* largest long, in a fixed array of 488 counters.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Description of the recording path corrected: buckets are not striped
+* 10/18/2026 - Percentiles capped at the highest recorded latency
+* 10/18/2026 - Priority-order visits timed apart from top-K reads
+*/
+
+public class TaskMetrics implements TaskMetricsMXBean {
+
+	/**
+	* Operations measured by the Task Manager
+	*/
+	public enum Operation {
+		ADD,
+		BULK_ADD,
+		SEARCH,
+		DELETE,
+		EDIT,
+		CLEAR,
+		RANGE,
+		TOP_K,
+		PRIORITY_SCAN,
+		TEXT_SEARCH,
+		QUERY,
+		CHECKPOINT
+	}
+
+	/**
+	* Latency figures of one operation at the time of a snapshot
+	*/
+	public static final class OperationStats {
+
+		private final long count;
+		private final long meanNanos;
+		private final long p50Nanos;
+		private final long p90Nanos;
+		private final long p99Nanos;
+		private final long p999Nanos;
+		private final long maxNanos;
+
+		/**
+	    * @param histogram the operation's histogram
+	    */
+		private OperationStats(LatencyHistogram histogram) {
+			long[] counts = histogram.copyCounts();
+			long total = 0;
+			for(long bucketCount : counts) {
+				total += bucketCount;
+			}
+
+			this.count = total;
+			this.meanNanos = (total == 0 ? 0 : histogram.totalNanos.sum() / total);
+			this.maxNanos = histogram.maxNanos.get();
+
+			// A bucket's upper bound can lie above every latency recorded in it
+			this.p50Nanos = Math.min(maxNanos, LatencyHistogram.percentile(counts, total, 0.50));
+			this.p90Nanos = Math.min(maxNanos, LatencyHistogram.percentile(counts, total, 0.90));
+			this.p99Nanos = Math.min(maxNanos, LatencyHistogram.percentile(counts, total, 0.99));
+			this.p999Nanos = Math.min(maxNanos, LatencyHistogram.percentile(counts, total, 0.999));
+		}
+
+		/**
+	    * @return number of calls recorded
+	    */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+	    * @return mean latency in nanoseconds
+	    */
+		public long getMeanNanos() {
+			return meanNanos;
+		}
+
+		/**
+	    * @return median latency in nanoseconds
+	    */
+		public long getP50Nanos() {
+			return p50Nanos;
+		}
+
+		/**
+	    * @return 90th percentile latency in nanoseconds
+	    */
+		public long getP90Nanos() {
+			return p90Nanos;
+		}
+
+		/**
+	    * @return 99th percentile latency in nanoseconds
+	    */
+		public long getP99Nanos() {
+			return p99Nanos;
+		}
+
+		/**
+	    * @return 99.9th percentile latency in nanoseconds
+	    */
+		public long getP999Nanos() {
+			return p999Nanos;
+		}
+
+		/**
+	    * @return highest latency in nanoseconds
+	    */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+	    * Formats the figures on one line
+	    *
+	    * @return count, mean, percentiles and max in microseconds
+	    */
+		@Override
+		public String toString() {
+			return String.format("count=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+					count, meanNanos / 1e3, p50Nanos / 1e3, p90Nanos / 1e3, p99Nanos / 1e3, p999Nanos / 1e3, maxNanos / 1e3);
+		}
+	}
+
+	/**
+	* Copy of every counter and gauge at one moment
+	*/
+	public static final class Snapshot {
+
+		private final Map<Operation, OperationStats> operations;
+		private final Map<String, Long> gauges;
+
+		/**
+	    * @param operations figures of every operation
+	    * @param gauges value of every gauge
+	    */
+		private Snapshot(Map<Operation, OperationStats> operations, Map<String, Long> gauges) {
+			this.operations = Collections.unmodifiableMap(operations);
+			this.gauges = Collections.unmodifiableMap(gauges);
+		}
+
+		/**
+	    * Returns the figures of one operation
+	    *
+	    * @param operation the operation
+	    *
+	    * @return its latency figures
+	    */
+		public OperationStats get(Operation operation) {
+			return operations.get(operation);
+		}
+
+		/**
+	    * Returns the value of every gauge, in the order they were registered
+	    *
+	    * @return gauge values by name
+	    */
+		public Map<String, Long> getGauges() {
+			return gauges;
+		}
+
+		/**
+	    * Formats the snapshot as one line per called operation, then one line per gauge
+	    *
+	    * @return the report
+	    */
+		@Override
+		public String toString() {
+
+			StringBuilder report = new StringBuilder();
+
+			for(Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+				if(entry.getValue().getCount() > 0) {
+					report.append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+				}
+			}
+			for(Map.Entry<String, Long> entry : gauges.entrySet()) {
+				report.append(entry.getKey()).append(" = ").append(entry.getValue()).append('\n');
+			}
+
+			return report.toString();
+		}
+	}
+
+	/**
+	* Lock-free log-linear latency histogram. Package-private so its bucket math can be tested
+	* with exact latencies
+	*/
+	static final class LatencyHistogram {
+
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+		private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		/**
+	    * Records one latency
+	    *
+	    * @param nanos the latency in nanoseconds
+	    */
+		void record(long nanos) {
+
+			if(nanos < 0) {
+				nanos = 0;
+			}
+
+			counts.getAndIncrement(bucket(nanos));
+			totalNanos.add(nanos);
+
+			long max = maxNanos.get();
+			while(nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+				max = maxNanos.get();
+			}
+		}
+
+		/**
+	    * Sets the histogram back to zero
+	    */
+		void reset() {
+			for(int i = 0; i < BUCKETS; i++) {
+				counts.set(i, 0);
+			}
+			totalNanos.reset();
+			maxNanos.set(0);
+		}
+
+		/**
+	    * Copies the bucket counters
+	    *
+	    * @return count per bucket
+	    */
+		long[] copyCounts() {
+			long[] copy = new long[BUCKETS];
+			for(int i = 0; i < BUCKETS; i++) {
+				copy[i] = counts.get(i);
+			}
+			return copy;
+		}
+
+		/**
+	    * Maps a latency to its bucket: values below 8 get a bucket each, larger values use
+	    * their highest set bit and the 3 bits after it
+	    *
+	    * @param nanos a latency of 0 or more
+	    *
+	    * @return bucket index
+	    */
+		static int bucket(long nanos) {
+
+			if(nanos < SUB_BUCKETS) {
+				return (int) nanos;
+			}
+
+			int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+			int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+		}
+
+		/**
+	    * Returns the largest latency that falls in a bucket
+	    *
+	    * @param bucket bucket index
+	    *
+	    * @return upper bound of the bucket, in nanoseconds
+	    */
+		static long highestValue(int bucket) {
+
+			if(bucket < SUB_BUCKETS) {
+				return bucket;
+			}
+
+			int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			int subBucket = bucket % SUB_BUCKETS;
+			long lowest = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+			long width = 1L << (exponent - SUB_BUCKET_BITS);
+			return lowest + (width - 1);
+		}
+
+		/**
+	    * Finds the latency below which a fraction of the recorded calls fall
+	    *
+	    * @param counts count per bucket
+	    * @param total sum of the counts
+	    * @param fraction the percentile as a fraction (0.99 for p99)
+	    *
+	    * @return upper bound of the bucket holding the percentile, 0 if nothing was recorded
+	    */
+		static long percentile(long[] counts, long total, double fraction) {
+
+			if(total == 0) {
+				return 0;
+			}
+
+			long rank = Math.max(1, (long) Math.ceil(total * fraction));
+			long seen = 0;
+
+			for(int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if(seen >= rank) {
+					return highestValue(i);
+				}
+			}
+			return highestValue(counts.length - 1);
+		}
+	}
+
+	private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+	private final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+	private volatile boolean enabled = true;
+	private ObjectName registeredName;
+
+	/**
+    * Constructs metrics with every counter at zero and no gauges
+    */
+	public TaskMetrics() {
+		for(Operation operation : Operation.values()) {
+			histograms.put(operation, new LatencyHistogram());
+		}
+	}
+
+	/**
+    * Returns a start time for record(), or 0 when recording is turned off
+    *
+    * @return the current System.nanoTime(), or 0
+    */
+	public long start() {
+		return (enabled ? System.nanoTime() : 0);
+	}
+
+	/**
+    * Records one call of an operation that began at a start() time
+    *
+    * @param operation the operation
+    * @param startNanos the value returned by start()
+    */
+	public void record(Operation operation, long startNanos) {
+		if(startNanos != 0) {
+			histograms.get(operation).record(System.nanoTime() - startNanos);
+		}
+	}
+
+	/**
+    * Turns recording on or off. Gauges and snapshots keep working while it is off
+    *
+    * @param enabled true to record calls
+    */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+    * Checks whether calls are being recorded
+    *
+    * @return true if recording is on
+    */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+    * Adds a gauge, a value computed each time a snapshot is taken
+    *
+    * @param name name shown in snapshots and over JMX
+    * @param value returns the current value
+    */
+	public synchronized void registerGauge(String name, LongSupplier value) {
+		gauges.put(name, value);
+	}
+
+	/**
+    * Copies out every counter, histogram and gauge
+    *
+    * @return the snapshot
+    */
+	public Snapshot snapshot() {
+
+		Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+		for(Operation operation : Operation.values()) {
+			operations.put(operation, new OperationStats(histograms.get(operation)));
+		}
+
+		return new Snapshot(operations, getGauges());
+	}
+
+	/**
+    * Publishes these metrics on the platform MBean server
+    *
+    * @param name value of the "name" key of the MBean's object name
+    *
+    * @return the object name the metrics were registered under
+    *
+    * @throws IllegalStateException if the MBean cannot be registered
+    */
+	public synchronized ObjectName register(String name) {
+
+		try {
+			ObjectName objectName = new ObjectName("TaskManager:type=TaskMetrics,name=" + ObjectName.quote(name));
+			unregister();
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			registeredName = objectName;
+			return objectName;
+		} catch (JMException e) {
+			throw new IllegalStateException("Cannot register task metrics MBean " + name, e);
+		}
+	}
+
+	/**
+    * Removes these metrics from the platform MBean server. Does nothing if they are not registered
+    */
+	public synchronized void unregister() {
+
+		if(registeredName == null) {
+			return;
+		}
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if(server.isRegistered(registeredName)) {
+				server.unregisterMBean(registeredName);
+			}
+		} catch (JMException e) {
+			// Already gone, nothing left to clean up
+		}
+		registeredName = null;
+	}
+
+	@Override
+	public Map<String, Long> getOperationCounts() {
+		return perOperation(OperationStats::getCount);
+	}
+
+	@Override
+	public Map<String, Long> getMeanLatencyNanos() {
+		return perOperation(OperationStats::getMeanNanos);
+	}
+
+	@Override
+	public Map<String, Long> getP50LatencyNanos() {
+		return perOperation(OperationStats::getP50Nanos);
+	}
+
+	@Override
+	public Map<String, Long> getP99LatencyNanos() {
+		return perOperation(OperationStats::getP99Nanos);
+	}
+
+	@Override
+	public Map<String, Long> getP999LatencyNanos() {
+		return perOperation(OperationStats::getP999Nanos);
+	}
+
+	@Override
+	public Map<String, Long> getMaxLatencyNanos() {
+		return perOperation(OperationStats::getMaxNanos);
+	}
+
+	@Override
+	public synchronized Map<String, Long> getGauges() {
+
+		Map<String, Long> values = new LinkedHashMap<>();
+		for(Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+			values.put(gauge.getKey(), gauge.getValue().getAsLong());
+		}
+		return values;
+	}
+
+	@Override
+	public void reset() {
+		for(LatencyHistogram histogram : histograms.values()) {
+			histogram.reset();
+		}
+	}
+
+	/**
+    * Collects one figure of every operation
+    *
+    * @param figure picks the figure out of an operation's stats
+    *
+    * @return figure by operation name
+    */
+	private Map<String, Long> perOperation(ToLongFunction<OperationStats> figure) {
+
+		Map<String, Long> values = new LinkedHashMap<>();
+		for(Operation operation : Operation.values()) {
+			values.put(operation.name(), figure.applyAsLong(new OperationStats(histograms.get(operation))));
+		}
+		return values;
+	}
+}
+
+// END OF TaskMetrics.java
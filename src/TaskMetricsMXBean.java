@@ -0,0 +1,56 @@
+import java.util.Map;
+
+/**
+* @author Ayra Babar
+* @file TaskMetricsMXBean.java
+* @brief This file contains the JMX management interface of TaskMetrics, so the counters,
+*        latencies and gauges of a running Task Manager can be read from JConsole or any
+*        other JMX client. Maps are keyed by operation or gauge name
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public interface TaskMetricsMXBean {
+
+	/**
+    * @return number of calls of each operation
+    */
+	Map<String, Long> getOperationCounts();
+
+	/**
+    * @return mean latency of each operation, in nanoseconds
+    */
+	Map<String, Long> getMeanLatencyNanos();
+
+	/**
+    * @return median latency of each operation, in nanoseconds
+    */
+	Map<String, Long> getP50LatencyNanos();
+
+	/**
+    * @return 99th percentile latency of each operation, in nanoseconds
+    */
+	Map<String, Long> getP99LatencyNanos();
+
+	/**
+    * @return 99.9th percentile latency of each operation, in nanoseconds
+    */
+	Map<String, Long> getP999LatencyNanos();
+
+	/**
+    * @return highest latency of each operation, in nanoseconds
+    */
+	Map<String, Long> getMaxLatencyNanos();
+
+	/**
+    * @return current value of each gauge
+    */
+	Map<String, Long> getGauges();
+
+	/**
+    * Sets every counter and histogram back to zero
+    */
+	void reset();
+}
+
+// END OF TaskMetricsMXBean.java
@@ -0,0 +1,80 @@
+import java.util.concurrent.CompletableFuture;
+
+/**
+* @author Ayra Babar
+* @file TaskMutation.java
+* @brief This file contains one queued change to the task list, as passed from the producers of
+*        a TaskWritePipeline to its writer thread, or collected from a TaskServer connection's
+*        pipelined requests. It holds the arguments of the change and the future that is
+*        completed once the change is applied and durable
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Also collected by the TCP server to apply pipelined mutations in groups
+*/
+
+final class TaskMutation {
+
+	/**
+	* The Task Manager operation a mutation performs
+	*/
+	enum Kind {
+		ADD(TaskMetrics.Operation.ADD),
+		DELETE(TaskMetrics.Operation.DELETE),
+		EDIT_NAME(TaskMetrics.Operation.EDIT),
+		EDIT_DESCRIPTION(TaskMetrics.Operation.EDIT),
+		EDIT_DUE_DATE(TaskMetrics.Operation.EDIT),
+		EDIT_PRIORITY(TaskMetrics.Operation.EDIT);
+
+		final TaskMetrics.Operation metric;		// where its latency is recorded
+
+		/**
+	    * @param metric the metrics operation the mutation is counted under
+	    */
+		Kind(TaskMetrics.Operation metric) {
+			this.metric = metric;
+		}
+	}
+
+	final Kind kind;
+	final Task task;		// the new task for ADD, otherwise null
+	final long ID;
+	final String text;		// new name or description
+	final int value;		// new due date or priority
+	final long start;		// as returned by TaskMetrics.start()
+	final CompletableFuture<Task> result = new CompletableFuture<>();
+
+	// Written by the writer thread while it holds the write lock, read after the batch is durable
+	Task outcome;
+	RuntimeException failure;
+
+	/**
+    * @param kind the operation
+    * @param task the new task for ADD, otherwise null
+    * @param ID the task ID
+    * @param text new name or description, otherwise null
+    * @param value new due date or priority, otherwise 0
+    * @param start start time of the operation for the metrics
+    */
+	TaskMutation(Kind kind, Task task, long ID, String text, int value, long start) {
+		this.kind = kind;
+		this.task = task;
+		this.ID = ID;
+		this.text = text;
+		this.value = value;
+		this.start = start;
+	}
+
+	/**
+    * Completes the future with the outcome or the failure of the mutation
+    */
+	void complete() {
+
+		if(failure != null) {
+			result.completeExceptionally(failure);
+		} else {
+			result.complete(outcome);
+		}
+	}
+}
+
+// END OF TaskMutation.java
@@ -0,0 +1,274 @@
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+* @author Ayra Babar
+* @file TaskQuery.java
+* @brief This file contains a composite task filter: optional ranges on ID, due date, priority
+*        and creation time, plus whole words the name or description must contain, or the name
+*        alone, all combined with AND. Each setter narrows the query and returns it, so filters
+*        can be chained: new TaskQuery().priorityBetween(1, 2).dueBetween(20261018, 20261024)
+*        .nameContaining("report")
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Words the name alone must contain
+*/
+
+public class TaskQuery {
+
+	private long lowID = Long.MIN_VALUE;
+	private long highID = Long.MAX_VALUE;
+	private int lowDueDate = Integer.MIN_VALUE;
+	private int highDueDate = Integer.MAX_VALUE;
+	private int lowPriority = PriorityIndex.LOWEST;
+	private int highPriority = PriorityIndex.HIGHEST;
+	private long createdFrom = Long.MIN_VALUE;	// as returned by Task.getCreatedAtNanos()
+	private long createdTo = Long.MAX_VALUE;
+	private String words;
+	private Set<String> wordSet = Set.of();
+	private String nameWords;
+	private Set<String> nameWordSet = Set.of();
+	private int limit = Integer.MAX_VALUE;
+
+	/**
+    * Constructs a query that matches every task
+    */
+	public TaskQuery() {
+	}
+
+	/**
+    * Keeps only the task with one ID
+    *
+    * @param ID the task ID
+    *
+    * @return this query
+    */
+	public TaskQuery id(long ID) {
+		return idBetween(ID, ID);
+	}
+
+	/**
+    * Keeps only tasks with an ID between two values (inclusive)
+    *
+    * @param low smallest ID
+    * @param high largest ID
+    *
+    * @return this query
+    */
+	public TaskQuery idBetween(long low, long high) {
+		this.lowID = Math.max(lowID, low);
+		this.highID = Math.min(highID, high);
+		return this;
+	}
+
+	/**
+    * Keeps only tasks due between two dates (inclusive)
+    *
+    * @param low beginning due date (format: YYYYMMDD)
+    * @param high end due date (format: YYYYMMDD)
+    *
+    * @return this query
+    */
+	public TaskQuery dueBetween(int low, int high) {
+		this.lowDueDate = Math.max(lowDueDate, low);
+		this.highDueDate = Math.min(highDueDate, high);
+		return this;
+	}
+
+	/**
+    * Keeps only tasks with a priority between two levels (inclusive)
+    *
+    * @param low lowest priority level
+    * @param high highest priority level
+    *
+    * @return this query
+    */
+	public TaskQuery priorityBetween(int low, int high) {
+		this.lowPriority = Math.max(lowPriority, low);
+		this.highPriority = Math.min(highPriority, high);
+		return this;
+	}
+
+	/**
+    * Keeps only tasks created between two times (inclusive)
+    *
+    * @param from earliest creation time
+    * @param to latest creation time
+    *
+    * @return this query
+    */
+	public TaskQuery createdBetween(LocalDateTime from, LocalDateTime to) {
+		this.createdFrom = Math.max(createdFrom, Task.toNanos(from));
+		this.createdTo = Math.min(createdTo, Task.toNanos(to));
+		return this;
+	}
+
+	/**
+    * Keeps only tasks that contain every word of a text, each one somewhere in the name or the
+    * description. Words match whole, as split by the text index: "plan" does not match
+    * "planning". Replaces any words given before
+    *
+    * @param words the words to find (case does not matter)
+    *
+    * @return this query
+    */
+	public TaskQuery containing(String words) {
+		this.words = words;
+		this.wordSet = TextIndex.words(words);
+		return this;
+	}
+
+	/**
+    * Keeps only tasks whose name contains every word of a text, as whole words. Replaces any
+    * name words given before
+    *
+    * @param words the words to find in the name (case does not matter)
+    *
+    * @return this query
+    */
+	public TaskQuery nameContaining(String words) {
+		this.nameWords = words;
+		this.nameWordSet = TextIndex.words(words);
+		return this;
+	}
+
+	/**
+    * Stops after a number of matching tasks
+    *
+    * @param limit maximum number of tasks to return
+    *
+    * @return this query
+    *
+    * @throws IllegalArgumentException if the limit is negative
+    */
+	public TaskQuery limit(int limit) {
+
+		if(limit < 0) {
+			throw new IllegalArgumentException("Query limit must not be negative: " + limit);
+		}
+
+		this.limit = limit;
+		return this;
+	}
+
+	/**
+    * Checks whether a task passes every filter of the query
+    *
+    * @param task the task to check
+    *
+    * @return true if the task matches
+    */
+	public boolean matches(Task task) {
+		return task.getID() >= lowID && task.getID() <= highID
+				&& task.getDueDate() >= lowDueDate && task.getDueDate() <= highDueDate
+				&& task.getPriority() >= lowPriority && task.getPriority() <= highPriority
+				&& task.getCreatedAtNanos() >= createdFrom && task.getCreatedAtNanos() <= createdTo
+				&& TextIndex.containsAll(task, wordSet)
+				&& TextIndex.containsAll(task.getName(), nameWordSet);
+	}
+
+	/**
+    * Checks whether the filters contradict each other, so no task can match
+    *
+    * @return true if the query can never match
+    */
+	boolean isEmpty() {
+		return lowID > highID || lowDueDate > highDueDate || lowPriority > highPriority
+				|| createdFrom > createdTo || limit == 0;
+	}
+
+	/**
+    * @return true if the query restricts the ID
+    */
+	boolean hasIDRange() {
+		return lowID != Long.MIN_VALUE || highID != Long.MAX_VALUE;
+	}
+
+	/**
+    * @return true if the query restricts the due date
+    */
+	boolean hasDueDateRange() {
+		return lowDueDate != Integer.MIN_VALUE || highDueDate != Integer.MAX_VALUE;
+	}
+
+	/**
+    * @return true if the query leaves out at least one priority level
+    */
+	boolean hasPriorityRange() {
+		return lowPriority != PriorityIndex.LOWEST || highPriority != PriorityIndex.HIGHEST;
+	}
+
+	/**
+    * @return true if the query requires words in the name or description, or in the name
+    */
+	boolean hasWords() {
+		return !wordSet.isEmpty() || !nameWordSet.isEmpty();
+	}
+
+	/**
+    * @return smallest ID kept
+    */
+	long getLowID() {
+		return lowID;
+	}
+
+	/**
+    * @return largest ID kept
+    */
+	long getHighID() {
+		return highID;
+	}
+
+	/**
+    * @return earliest due date kept (format: YYYYMMDD)
+    */
+	int getLowDueDate() {
+		return lowDueDate;
+	}
+
+	/**
+    * @return latest due date kept (format: YYYYMMDD)
+    */
+	int getHighDueDate() {
+		return highDueDate;
+	}
+
+	/**
+    * @return lowest priority level kept
+    */
+	int getLowPriority() {
+		return lowPriority;
+	}
+
+	/**
+    * @return highest priority level kept
+    */
+	int getHighPriority() {
+		return highPriority;
+	}
+
+	/**
+    * Returns every word the query requires, for the text index. It indexes names and
+    * descriptions together, so it hands back a superset of the tasks with the name words
+    *
+    * @return the words of both text filters, or null if none
+    */
+	String getWords() {
+
+		if(nameWords == null) {
+			return words;
+		}
+		return (words == null ? nameWords : words + " " + nameWords);
+	}
+
+	/**
+    * Returns the maximum number of tasks to return
+    *
+    * @return the limit, Integer.MAX_VALUE if none was set
+    */
+	public int getLimit() {
+		return limit;
+	}
+}
+
+// END OF TaskQuery.java
@@ -0,0 +1,97 @@
+import java.util.List;
+
+/**
+* @author Ayra Babar
+* @file TaskScheduler.java
+* @brief This file contains the interface shared by the structures that keep tasks in due date,
+*        then priority order for the Task Manager. A task can be held by one scheduler at a time
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public interface TaskScheduler extends Iterable<Task> {
+
+	/**
+    * Checks if the scheduler is empty or not
+    *
+    * @return true if there are no tasks scheduled, false if otherwise
+    */
+	boolean isEmpty();
+
+	/**
+    * Returns the number of scheduled tasks
+    *
+    * @return number of tasks
+    */
+	int size();
+
+	/**
+    * Checks whether a task is currently scheduled here
+    *
+    * @param task the task object to look for
+    *
+    * @return true if the task is scheduled, false if otherwise
+    */
+	boolean contains(Task task);
+
+	/**
+    * Adds a task. A task that is already scheduled is ignored
+    *
+    * @param task the task object to add
+    */
+	void add(Task task);
+
+	/**
+    * Adds many tasks at once
+    *
+    * @param tasks the task objects to add
+    * @param count number of tasks to take from the start of the array
+    */
+	void addAll(Task[] tasks, int count);
+
+	/**
+    * Returns the first task without removing it
+    *
+    * @return the first task, or null if nothing is scheduled
+    */
+	Task peek();
+
+	/**
+    * Removes and returns the first task
+    *
+    * @return the first task, or null if nothing is scheduled
+    */
+	Task poll();
+
+	/**
+    * Removes a specific task
+    *
+    * @param task the task object to remove
+    *
+    * @return true if the task was scheduled and has been removed, false if otherwise
+    */
+	boolean remove(Task task);
+
+	/**
+    * Re-orders a task after its due date or priority has changed
+    *
+    * @param task the task object whose key changed
+    */
+	void update(Task task);
+
+	/**
+    * Returns the first k tasks in order without removing them
+    *
+    * @param k the maximum number of tasks to return
+    *
+    * @return list of at most k tasks, first task first
+    */
+	List<Task> topK(int k);
+
+	/**
+    * Removes every task
+    */
+	void clear();
+}
+
+// END OF TaskScheduler.java
@@ -0,0 +1,824 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+* @author Ayra Babar
+* @file TaskServer.java
+* @brief This file contains a TCP front-end for a shared Task Manager, so other processes can
+*        use the task store. One selector thread does all socket I/O without blocking; the
+*        requests on a connection are run by a worker pool, in order, and their responses go
+*        back in one write. Clients may pipeline: send many requests without waiting, and read
+*        the responses in the same order. Requests from different connections run in parallel,
+*        so on a durable Task Manager their log records share fsyncs
+*
+* On Java 21 and later every batch runs on its own virtual thread, so a batch waiting for a
+* lock or an fsync costs no platform thread and tens of thousands of connections need no
+* tuned pool; older runtimes use a fixed pool with one thread per core, see usesVirtualThreads().
+* Mutations pass an admission bound first: at most MAX_ADMITTED_MUTATIONS run or wait inside the
+* Task Manager at once, the rest wait in arrival order up to ADMISSION_TIMEOUT_MILLIS and are then
+* answered with an error
+*
+* Consecutive mutations in a batch are collected and applied together, up to
+* MAX_BATCHED_MUTATIONS at a time, under one write lock acquisition and one wait for the log to
+* reach the disk. Any other request first applies the mutations collected before it, so it sees
+* them, and responses stay in request order
+*
+* Protocol: UTF-8 text, one request per line, fields separated by tabs. Every response starts
+* with "OK", "NOT_FOUND" or "ERROR <message>"; responses holding several tasks give the count
+* after "OK" and then one line per task. A task line is: ID, name, description, priority and
+* due date, separated by tabs.
+*
+*   ADD <name> <description> <priority> <YYYYMMDD>   OK <task>
+*   GET <ID>                                         OK <task> | NOT_FOUND
+*   DELETE <ID>                                      OK <task> | NOT_FOUND
+*   EDIT <ID> NAME|DESCRIPTION|PRIORITY|DUE <value>  OK <task> | NOT_FOUND
+*   RANGE <YYYYMMDD> <YYYYMMDD>                      OK <count>, then the tasks by due date
+*   TOPK <k>                                         OK <count>, then the most urgent tasks
+*   SIZE                                             OK <number of tasks>
+*   PING                                             OK
+*   QUIT                                             OK, then the connection is closed
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Virtual thread per batch where available, admission bound on mutations
+* 10/18/2026 - A failed accept drops only that client, a failed batch still answers and closes,
+*              an oversized request gets its error and no stray QUIT response
+* 10/18/2026 - Pipelined mutations applied in groups, one lock and one log sync per group
+* 10/18/2026 - Admission in arrival order, so groups of many mutations are not starved
+* 10/18/2026 - Admission wait and permits reachable from tests
+*/
+
+public class TaskServer implements Closeable {
+
+	private static final int READ_BUFFER_SIZE = 16 * 1024;
+	private static final int MAX_LINE_LENGTH = 64 * 1024;		// longer requests close the connection
+	private static final int MAX_PIPELINE = 4096;				// queued requests before reading pauses
+	private static final int MAX_PENDING_OUTPUT = 4 * 1024 * 1024;	// unsent bytes before reading pauses
+	private static final int MAX_ADMITTED_MUTATIONS = 1024;			// mutations inside the Task Manager at once
+	private static final long ADMISSION_TIMEOUT_MILLIS = 5000;			// wait for admission before answering busy
+	private static final int MAX_BATCHED_MUTATIONS = 256;				// mutations applied under one lock acquisition
+	private static final String OVERSIZED = "\n";		// stands for a request over MAX_LINE_LENGTH, no real line holds a line break
+
+	/**
+	* The responses to one batch of requests, handed from a worker back to the selector thread
+	*/
+	private static final class Completion {
+
+		private final Connection connection;
+		private final ByteBuffer response;
+		private final boolean quit;
+
+		/**
+	    * @param connection the connection the batch came from
+	    * @param response the encoded responses, in request order
+	    * @param quit true if the batch ended with QUIT
+	    */
+		private Completion(Connection connection, ByteBuffer response, boolean quit) {
+			this.connection = connection;
+			this.response = response;
+			this.quit = quit;
+		}
+	}
+
+	/**
+	* State of one client connection. Only the selector thread touches it
+	*/
+	private static final class Connection {
+
+		private final SocketChannel channel;
+		private final SelectionKey key;
+		private ByteBuffer input = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		private List<String> requests = new ArrayList<>();		// complete lines not yet handed to a worker
+		private final Queue<ByteBuffer> output = new ArrayDeque<>();
+		private long pendingOutput;		// bytes queued in output
+		private boolean running;		// a worker is running a batch of this connection
+		private boolean closing;		// no more requests will be read
+
+		/**
+	    * @param channel the client socket
+	    * @param key its registration with the selector
+	    */
+		private Connection(SocketChannel channel, SelectionKey key) {
+			this.channel = channel;
+			this.key = key;
+		}
+	}
+
+	private final TaskManager manager;
+	private final ServerSocketChannel serverChannel;
+	private final Selector selector;
+	private final ExecutorService workers;
+	private final boolean virtualThreads;
+	private final Semaphore admission = new Semaphore(MAX_ADMITTED_MUTATIONS, true);		// fair, so a large group is not passed over by small ones
+	private final long admissionTimeoutMillis;
+	private final Queue<Completion> completions = new ConcurrentLinkedQueue<>();
+	private final Thread selectorThread;
+	private volatile boolean open = true;
+
+	/**
+    * Starts serving a Task Manager on a local address. Port 0 picks any free port, see
+    * getPort()
+    *
+    * @param manager the Task Manager to serve
+    * @param address address and port to listen on
+    *
+    * @throws IOException if the server socket cannot be opened
+    */
+	public TaskServer(TaskManager manager, InetSocketAddress address) throws IOException {
+		this(manager, address, ADMISSION_TIMEOUT_MILLIS);
+	}
+
+	/**
+    * Starts serving a Task Manager with a chosen wait for admission, for tests
+    *
+    * @param manager the Task Manager to serve
+    * @param address address and port to listen on
+    * @param admissionTimeoutMillis how long mutations wait for admission before answering busy
+    *
+    * @throws IOException if the server socket cannot be opened
+    */
+	TaskServer(TaskManager manager, InetSocketAddress address, long admissionTimeoutMillis) throws IOException {
+
+		this.manager = manager;
+		this.admissionTimeoutMillis = admissionTimeoutMillis;
+		this.selector = Selector.open();
+		this.serverChannel = ServerSocketChannel.open();
+
+		try {
+			serverChannel.bind(address);
+			serverChannel.configureBlocking(false);
+			serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+		} catch(IOException e) {
+			serverChannel.close();
+			selector.close();
+			throw e;
+		}
+
+		ExecutorService virtualExecutor = newVirtualThreadExecutor();
+		this.virtualThreads = (virtualExecutor != null);
+		this.workers = (virtualThreads ? virtualExecutor : newWorkerPool());
+
+		this.selectorThread = new Thread(this::selectLoop, "task-server-selector");
+		this.selectorThread.setDaemon(true);
+		this.selectorThread.start();
+	}
+
+	/**
+    * Opens an executor starting one virtual thread per task, through reflection so the server
+    * still compiles and runs on Java 17
+    *
+    * @return the executor, or null if the runtime has no virtual threads
+    */
+	private static ExecutorService newVirtualThreadExecutor() {
+
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch(ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+    * Opens a pool of daemon platform threads, one per core, for runtimes without virtual threads
+    *
+    * @return the pool
+    */
+	private static ExecutorService newWorkerPool() {
+
+		AtomicInteger workerCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+			Thread worker = new Thread(runnable, "task-server-worker-" + workerCount.incrementAndGet());
+			worker.setDaemon(true);
+			return worker;
+		});
+	}
+
+	/**
+    * Returns the admission bound, for tests that hold its permits
+    *
+    * @return the semaphore mutations are admitted through
+    */
+	Semaphore getAdmission() {
+		return admission;
+	}
+
+	/**
+    * Checks whether requests run on virtual threads
+    *
+    * @return true on Java 21 and later, false if a platform thread pool is used
+    */
+	public boolean usesVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+    * Returns the port the server listens on
+    *
+    * @return the local port
+    *
+    * @throws IOException if the port cannot be read
+    */
+	public int getPort() throws IOException {
+		return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+	}
+
+	/**
+    * Stops accepting connections, closes every open connection and waits for running requests
+    * to finish. The Task Manager itself is left open
+    *
+    * @throws IOException if the server socket cannot be closed
+    */
+	@Override
+	public void close() throws IOException {
+
+		if(!open) {
+			return;
+		}
+
+		open = false;
+		selector.wakeup();
+
+		try {
+			selectorThread.join();
+			workers.shutdown();
+			workers.awaitTermination(10, TimeUnit.SECONDS);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+    * Body of the selector thread: accepts connections, reads requests, hands them to workers
+    * and writes back the responses
+    */
+	private void selectLoop() {
+
+		try {
+			while(open) {
+				selector.select();
+
+				Completion completion;
+				while((completion = completions.poll()) != null) {
+					complete(completion);
+				}
+
+				for(SelectionKey key : selector.selectedKeys()) {
+					if(!key.isValid()) {
+						continue;
+					}
+					if(key.isAcceptable()) {
+						accept();
+						continue;
+					}
+
+					Connection connection = (Connection) key.attachment();
+					try {
+						if(key.isReadable()) {
+							read(connection);
+						}
+						if(key.isValid() && key.isWritable()) {
+							write(connection);
+						}
+					} catch(IOException e) {
+						disconnect(connection);
+					}
+				}
+				selector.selectedKeys().clear();
+			}
+		} catch(IOException e) {
+			// The selector failed, nothing more can be served
+		} finally {
+			for(SelectionKey key : selector.keys()) {
+				closeQuietly(key.channel());
+			}
+			closeQuietly(selector);
+		}
+	}
+
+	/**
+    * Accepts a waiting client connection. If the connection cannot be set up, for example
+    * because the process is out of file descriptors, only that client is dropped and the
+    * server keeps serving the others
+    */
+	private void accept() {
+
+		SocketChannel channel = null;
+
+		try {
+			channel = serverChannel.accept();
+			if(channel == null) {
+				return;
+			}
+
+			channel.configureBlocking(false);
+			channel.socket().setTcpNoDelay(true);
+			SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+			key.attach(new Connection(channel, key));
+		} catch(IOException e) {
+			if(channel != null) {
+				closeQuietly(channel);
+			}
+		}
+	}
+
+	/**
+    * Reads what the client has sent, splits it into request lines and starts a batch if none
+    * is running
+    *
+    * @param connection the readable connection
+    *
+    * @throws IOException if the socket fails
+    */
+	private void read(Connection connection) throws IOException {
+
+		int read = connection.channel.read(connection.input);
+		if(read < 0) {
+			connection.closing = true;		// the client is done sending, answer what it sent
+		}
+
+		ByteBuffer input = connection.input;
+		input.flip();
+		int lineStart = 0;
+
+		for(int i = input.position(); i < input.limit(); i++) {
+			if(input.get(i) == '\n') {
+				int end = (i > lineStart && input.get(i - 1) == '\r') ? i - 1 : i;
+				connection.requests.add(new String(input.array(), lineStart, end - lineStart, StandardCharsets.UTF_8));
+				lineStart = i + 1;
+			}
+		}
+
+		input.position(lineStart);
+		input.compact();
+
+		if(!input.hasRemaining()) {
+			if(input.capacity() >= MAX_LINE_LENGTH) {
+				connection.requests.add(OVERSIZED);	// answered with an error, then the connection closes
+				connection.closing = true;
+			} else {
+				ByteBuffer larger = ByteBuffer.allocate(input.capacity() * 2);
+				input.flip();
+				larger.put(input);
+				connection.input = larger;
+			}
+		}
+
+		dispatch(connection);
+		if(connection.closing) {
+			write(connection);		// closes the connection if nothing is left to answer
+		}
+	}
+
+	/**
+    * Hands the connection's queued requests to a worker, unless one is already running them
+    *
+    * @param connection the connection
+    */
+	private void dispatch(Connection connection) {
+
+		if(!connection.running && !connection.requests.isEmpty()) {
+			List<String> batch = connection.requests;
+			connection.requests = new ArrayList<>();
+			connection.running = true;
+			workers.execute(() -> runBatch(connection, batch));
+		}
+
+		updateInterest(connection);
+	}
+
+	/**
+    * Runs a batch of requests in order on a worker thread and queues the responses for the
+    * selector thread. The responses are queued even if a request fails with an Error; the
+    * failed request is then answered with an error and the connection closed, since the
+    * requests after it were never run
+    *
+    * @param connection the connection the requests came from
+    * @param batch the request lines
+    */
+	private void runBatch(Connection connection, List<String> batch) {
+
+		StringBuilder response = new StringBuilder(batch.size() * 64);
+		List<TaskMutation> writes = new ArrayList<>();
+		boolean quit = false;
+		boolean finished = false;
+
+		try {
+			for(String request : batch) {
+				if(handle(request, response, writes)) {
+					quit = true;
+					break;
+				}
+			}
+			applyWrites(writes, response);
+			finished = true;
+		} finally {
+			if(!finished) {
+				response.append("ERROR\tInternal error\n");
+				quit = true;
+			}
+
+			ByteBuffer bytes = ByteBuffer.wrap(response.toString().getBytes(StandardCharsets.UTF_8));
+			completions.add(new Completion(connection, bytes, quit));
+			selector.wakeup();
+		}
+	}
+
+	/**
+    * Queues the responses of a finished batch for writing and starts the next batch
+    *
+    * @param completion the finished batch
+    */
+	private void complete(Completion completion) {
+
+		Connection connection = completion.connection;
+		connection.running = false;
+
+		if(!connection.key.isValid()) {
+			return;
+		}
+
+		if(completion.response.hasRemaining()) {
+			connection.output.add(completion.response);
+			connection.pendingOutput += completion.response.remaining();
+		}
+
+		if(completion.quit) {
+			connection.closing = true;
+			connection.requests.clear();
+		}
+
+		try {
+			write(connection);
+		} catch(IOException e) {
+			disconnect(connection);
+			return;
+		}
+		dispatch(connection);
+	}
+
+	/**
+    * Writes as much queued output as the socket takes without blocking, and closes a finished
+    * connection once everything is sent
+    *
+    * @param connection the connection
+    *
+    * @throws IOException if the socket fails
+    */
+	private void write(Connection connection) throws IOException {
+
+		while(!connection.output.isEmpty()) {
+			ByteBuffer buffer = connection.output.peek();
+			connection.pendingOutput -= connection.channel.write(buffer);
+
+			if(buffer.hasRemaining()) {
+				break;
+			}
+			connection.output.poll();
+		}
+
+		if(connection.closing && connection.output.isEmpty() && !connection.running && connection.requests.isEmpty()) {
+			disconnect(connection);
+			return;
+		}
+		updateInterest(connection);
+	}
+
+	/**
+    * Reads only while the connection has room for more requests and output, and waits for
+    * writability only while output is queued
+    *
+    * @param connection the connection
+    */
+	private void updateInterest(Connection connection) {
+
+		if(!connection.key.isValid()) {
+			return;
+		}
+
+		int ops = 0;
+		if(!connection.closing && connection.requests.size() < MAX_PIPELINE && connection.pendingOutput < MAX_PENDING_OUTPUT) {
+			ops |= SelectionKey.OP_READ;
+		}
+		if(!connection.output.isEmpty()) {
+			ops |= SelectionKey.OP_WRITE;
+		}
+		connection.key.interestOps(ops);
+	}
+
+	/**
+    * Closes a connection. A batch still running finishes, and its responses are dropped
+    *
+    * @param connection the connection
+    */
+	private void disconnect(Connection connection) {
+		connection.key.cancel();
+		closeQuietly(connection.channel);
+	}
+
+	/**
+    * Runs one request line against the Task Manager and appends its response. A mutation is
+    * only collected, to be applied with the ones around it; any other request applies the
+    * collected mutations first
+    *
+    * @param request the request line
+    * @param response where the response lines are appended
+    * @param writes mutations collected but not yet applied, in request order
+    *
+    * @return true if the connection must be closed: the client sent QUIT or an oversized request
+    */
+	private boolean handle(String request, StringBuilder response, List<TaskMutation> writes) {
+
+		if(request == OVERSIZED) {
+			applyWrites(writes, response);
+			response.append("ERROR\tRequest longer than ").append(MAX_LINE_LENGTH).append(" bytes\n");
+			return true;
+		}
+
+		String[] fields = request.split("\t", -1);
+		String command = fields[0].toUpperCase(Locale.ROOT);
+
+		try {
+			TaskMutation mutation = toMutation(command, fields);
+			if(mutation != null) {
+				writes.add(mutation);
+				if(writes.size() == MAX_BATCHED_MUTATIONS) {
+					applyWrites(writes, response);
+				}
+				return false;
+			}
+
+			applyWrites(writes, response);
+
+			switch(command) {
+
+			case "GET":
+				requireFields(fields, 2);
+				appendResult(response, manager.search(Long.parseLong(fields[1])));
+				break;
+
+			case "RANGE":
+				requireFields(fields, 3);
+				appendTasks(response, manager.range(Integer.parseInt(fields[1]), Integer.parseInt(fields[2])));
+				break;
+
+			case "TOPK":
+				requireFields(fields, 2);
+				appendTasks(response, manager.topK(Integer.parseInt(fields[1])));
+				break;
+
+			case "SIZE":
+				response.append("OK\t").append(manager.size()).append('\n');
+				break;
+
+			case "PING":
+				response.append("OK\n");
+				break;
+
+			case "QUIT":
+				response.append("OK\n");
+				return true;
+
+			case "":
+				throw new IllegalArgumentException("Empty request");
+
+			default:
+				throw new IllegalArgumentException("Unknown command: " + fields[0]);
+			}
+
+		} catch(RuntimeException e) {
+			applyWrites(writes, response);		// a malformed mutation is answered after the ones before it
+			appendError(response, e);
+		}
+		return false;
+	}
+
+	/**
+    * Turns an ADD, DELETE or EDIT request into a mutation, checking its values the way the
+    * Task Manager would
+    *
+    * @param command the request's command, in upper case
+    * @param fields the request fields, command included
+    *
+    * @return the mutation, or null if the request is not a mutation
+    *
+    * @throws IllegalArgumentException if the request is malformed or a value is invalid
+    */
+	private TaskMutation toMutation(String command, String[] fields) {
+
+		long start = manager.getMetrics().start();
+
+		switch(command) {
+
+		case "ADD": {
+			requireFields(fields, 5);
+			int priority = Integer.parseInt(fields[3]);
+			int dueDate = Integer.parseInt(fields[4]);
+			TaskManager.requireText(fields[1], "name");
+			TaskManager.requireText(fields[2], "description");
+			TaskManager.requireValidPriority(priority);
+			TaskManager.requireValidDueDate(dueDate);
+
+			Task task = new Task(fields[1], fields[2], priority, dueDate);
+			return new TaskMutation(TaskMutation.Kind.ADD, task, task.getID(), null, 0, start);
+		}
+
+		case "DELETE":
+			requireFields(fields, 2);
+			return new TaskMutation(TaskMutation.Kind.DELETE, null, Long.parseLong(fields[1]), null, 0, start);
+
+		case "EDIT": {
+			requireFields(fields, 4);
+			long ID = Long.parseLong(fields[1]);
+			String value = fields[3];
+
+			switch(fields[2].toUpperCase(Locale.ROOT)) {
+			case "NAME":
+				TaskManager.requireText(value, "name");
+				return new TaskMutation(TaskMutation.Kind.EDIT_NAME, null, ID, value, 0, start);
+			case "DESCRIPTION":
+				TaskManager.requireText(value, "description");
+				return new TaskMutation(TaskMutation.Kind.EDIT_DESCRIPTION, null, ID, value, 0, start);
+			case "PRIORITY": {
+				int priority = Integer.parseInt(value);
+				TaskManager.requireValidPriority(priority);
+				return new TaskMutation(TaskMutation.Kind.EDIT_PRIORITY, null, ID, null, priority, start);
+			}
+			case "DUE": {
+				int dueDate = Integer.parseInt(value);
+				TaskManager.requireValidDueDate(dueDate);
+				return new TaskMutation(TaskMutation.Kind.EDIT_DUE_DATE, null, ID, null, dueDate, start);
+			}
+			default:
+				throw new IllegalArgumentException("Unknown field: " + fields[2]);
+			}
+		}
+
+		default:
+			return null;
+		}
+	}
+
+	/**
+    * Applies the collected mutations as one Task Manager batch, once the admission bound lets
+    * all of them in, and appends their responses in order
+    *
+    * @param writes the collected mutations, emptied afterwards
+    * @param response where the response lines are appended
+    */
+	private void applyWrites(List<TaskMutation> writes, StringBuilder response) {
+
+		if(writes.isEmpty()) {
+			return;
+		}
+
+		int count = writes.size();
+		String refusal = null;
+
+		try {
+			if(!admission.tryAcquire(count, admissionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				refusal = "Server busy, try again later";
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			refusal = "Server is shutting down";
+		}
+
+		if(refusal == null) {
+			try {
+				manager.applyBatch(writes.toArray(new TaskMutation[count]), count);
+			} finally {
+				admission.release(count);
+			}
+		}
+
+		for(TaskMutation mutation : writes) {
+			if(refusal != null) {
+				response.append("ERROR\t").append(refusal).append('\n');
+			} else if(mutation.failure != null) {
+				appendError(response, mutation.failure);
+			} else {
+				appendResult(response, mutation.outcome);
+			}
+		}
+		writes.clear();
+	}
+
+	/**
+    * Checks that a request has the right number of fields
+    *
+    * @param fields the request fields, command included
+    * @param count the expected number of fields
+    */
+	private static void requireFields(String[] fields, int count) {
+		if(fields.length != count) {
+			throw new IllegalArgumentException(fields[0].toUpperCase(Locale.ROOT) + " takes " + (count - 1) + " tab-separated arguments");
+		}
+	}
+
+	/**
+    * Appends the response for a request that failed
+    *
+    * @param response where the response is appended
+    * @param failure what the request failed with
+    */
+	private static void appendError(StringBuilder response, RuntimeException failure) {
+		if(failure instanceof IllegalArgumentException || failure instanceof IllegalStateException) {	// also covers malformed numbers
+			response.append("ERROR\t").append(clean(failure.getMessage())).append('\n');
+		} else {
+			response.append("ERROR\tInternal error: ").append(clean(failure.toString())).append('\n');
+		}
+	}
+
+	/**
+    * Appends the response for a request about one task
+    *
+    * @param response where the response is appended
+    * @param task the task, or null if it was not found
+    */
+	private static void appendResult(StringBuilder response, Task task) {
+		if(task == null) {
+			response.append("NOT_FOUND\n");
+		} else {
+			appendTask(response.append("OK\t"), task);
+		}
+	}
+
+	/**
+    * Appends the response for a request returning several tasks
+    *
+    * @param response where the response is appended
+    * @param tasks the tasks, in response order
+    */
+	private static void appendTasks(StringBuilder response, List<Task> tasks) {
+		response.append("OK\t").append(tasks.size()).append('\n');
+		for(Task task : tasks) {
+			appendTask(response, task);
+		}
+	}
+
+	/**
+    * Appends one task line
+    *
+    * @param response where the line is appended
+    * @param task the task
+    */
+	private static void appendTask(StringBuilder response, Task task) {
+		response.append(task.getID()).append('\t')
+				.append(clean(task.getName())).append('\t')
+				.append(clean(task.getDescription())).append('\t')
+				.append(task.getPriority()).append('\t')
+				.append(task.getDueDate()).append('\n');
+	}
+
+	/**
+    * Replaces tabs and line breaks, which would break the protocol, with spaces
+    *
+    * @param text the text to send
+    *
+    * @return the text, safe to put in a field
+    */
+	private static String clean(String text) {
+
+		if(text == null) {
+			return "";
+		}
+		if(text.indexOf('\t') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return text.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+	}
+
+	/**
+    * Closes a channel or selector, ignoring failures
+    *
+    * @param closeable the thing to close
+    */
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch(IOException e) {
+			// Nothing left to do with it
+		}
+	}
+}
+
+// END OF TaskServer.java
@@ -0,0 +1,232 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+* @author Ayra Babar
+* @file TaskSnapshot.java
+* @brief This file contains the binary snapshot format for the whole task list. A snapshot is
+*        written to a temporary file, forced to disk and atomically renamed over the previous one,
+*        so a crash leaves either the old or the new snapshot, never a partial one. Loading maps
+*        the file into memory and decodes every task in one sequential pass
+*
+* File layout: int magic, int version, int task count, int CRC32 of the body, long next task ID,
+* then the body: one length-prefixed record per task in ascending ID order (long ID, long creation
+* epoch second, int creation nano, byte priority, int due date, then name and description as
+* int length plus UTF-8 bytes). Snapshots are limited to 2 GB, the largest single mapping.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Creation times read and written without date-time objects
+* 10/18/2026 - Directory sync shared with the audit trail's segment files
+*/
+
+public final class TaskSnapshot {
+
+	private static final int MAGIC = 0x54534E50;	// "TSNP"
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = 24;
+	private static final int BUFFER_BYTES = 1 << 16;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/**
+    * Not instantiable, snapshots are written and loaded through the static methods
+    */
+	private TaskSnapshot() {
+	}
+
+	/**
+    * Writes a snapshot of the given tasks, replacing any snapshot already at the path
+    *
+    * @param file path of the snapshot file
+    * @param tasks the tasks to save, in ascending ID order
+    *
+    * @throws IOException if the snapshot cannot be written
+    */
+	public static void write(Path file, Task[] tasks) throws IOException {
+
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		CRC32 checksum = new CRC32();
+
+		try(FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+			channel.position(HEADER_BYTES);
+
+			for(Task task : tasks) {
+				byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+				byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+				int length = 8 + 8 + 4 + 1 + 4 + 4 + name.length + 4 + description.length;
+
+				if(buffer.remaining() < 4 + length) {
+					buffer = flush(channel, buffer, checksum, 4 + length);
+				}
+
+				long createdAtNanos = task.getCreatedAtNanos();
+				buffer.putInt(length);
+				buffer.putLong(task.getID());
+				buffer.putLong(Math.floorDiv(createdAtNanos, NANOS_PER_SECOND));
+				buffer.putInt((int) Math.floorMod(createdAtNanos, NANOS_PER_SECOND));
+				buffer.put((byte) task.getPriority());
+				buffer.putInt(task.getDueDate());
+				buffer.putInt(name.length);
+				buffer.put(name);
+				buffer.putInt(description.length);
+				buffer.put(description);
+			}
+
+			flush(channel, buffer, checksum, 0);
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			header.putInt(MAGIC);
+			header.putInt(VERSION);
+			header.putInt(tasks.length);
+			header.putInt((int) checksum.getValue());
+			header.putLong(TaskIdAllocator.peekNextID());
+			header.flip();
+			while(header.hasRemaining()) {
+				channel.write(header, header.position());
+			}
+
+			channel.force(true);
+		}
+
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		syncDirectory(file);
+	}
+
+	/**
+    * Loads every task from a snapshot. The file is memory-mapped and checked against its CRC
+    * before any task is decoded
+    *
+    * @param file path of the snapshot file
+    *
+    * @return the saved tasks in ascending ID order, or an empty array if there is no snapshot
+    *
+    * @throws IOException if the file cannot be read or is not a valid snapshot
+    */
+	public static Task[] load(Path file) throws IOException {
+
+		if(!Files.exists(file)) {
+			return new Task[0];
+		}
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			long size = channel.size();
+			if(size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+				throw new IOException("Not a task snapshot: " + file);
+			}
+
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+			if(mapped.getInt() != MAGIC || mapped.getInt() != VERSION) {
+				throw new IOException("Not a task snapshot: " + file);
+			}
+
+			int count = mapped.getInt();
+			int crc = mapped.getInt();
+			long nextID = mapped.getLong();
+
+			CRC32 checksum = new CRC32();
+			checksum.update(mapped.duplicate());
+			if((int) checksum.getValue() != crc) {
+				throw new IOException("Corrupt task snapshot: " + file);
+			}
+
+			TaskIdAllocator.reserveThrough(nextID - 1);
+
+			Task[] tasks = new Task[count];
+			byte[] scratch = new byte[256];
+
+			for(int i = 0; i < count; i++) {
+				int end = mapped.getInt() + mapped.position();
+				long ID = mapped.getLong();
+				long createdAtNanos = mapped.getLong() * NANOS_PER_SECOND + mapped.getInt();
+				int priority = mapped.get();
+				int dueDate = mapped.getInt();
+
+				int nameLength = mapped.getInt();
+				scratch = ensureLength(scratch, nameLength);
+				mapped.get(scratch, 0, nameLength);
+				String name = new String(scratch, 0, nameLength, StandardCharsets.UTF_8);
+
+				int descriptionLength = mapped.getInt();
+				scratch = ensureLength(scratch, descriptionLength);
+				mapped.get(scratch, 0, descriptionLength);
+				String description = new String(scratch, 0, descriptionLength, StandardCharsets.UTF_8);
+
+				tasks[i] = new Task(ID, name, description, priority, dueDate, createdAtNanos);
+				mapped.position(end);
+			}
+
+			return tasks;
+		}
+	}
+
+	/**
+    * Writes the buffered bytes to the channel and adds them to the checksum, growing the buffer
+    * if the next record does not fit an empty one
+    *
+    * @param channel the snapshot file
+    * @param buffer the filled buffer
+    * @param checksum running CRC of the body
+    * @param needed number of bytes the next record needs
+    *
+    * @return an empty buffer with room for the next record
+    *
+    * @throws IOException if the write fails
+    */
+	private static ByteBuffer flush(FileChannel channel, ByteBuffer buffer, CRC32 checksum, int needed) throws IOException {
+
+		buffer.flip();
+		checksum.update(buffer.array(), 0, buffer.limit());
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+
+		return (needed > buffer.capacity() ? ByteBuffer.allocate(needed) : buffer);
+	}
+
+	/**
+    * Returns a byte array at least as long as requested, reusing the current one if possible
+    *
+    * @param bytes the current array
+    * @param length the length needed
+    *
+    * @return an array of at least the given length
+    */
+	private static byte[] ensureLength(byte[] bytes, int length) {
+		return (bytes.length >= length ? bytes : new byte[Math.max(length, bytes.length * 2)]);
+	}
+
+	/**
+    * Forces the directory entry of a renamed file to disk. Not every platform can open a
+    * directory for this, in which case the rename is left to the file system
+    *
+    * @param file the renamed file
+    */
+	static void syncDirectory(Path file) {
+
+		Path directory = file.toAbsolutePath().getParent();
+		if(directory == null) {
+			return;
+		}
+
+		try(FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// Directories cannot be opened as channels on this platform
+		}
+	}
+}
+
+// END OF TaskSnapshot.java
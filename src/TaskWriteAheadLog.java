@@ -0,0 +1,713 @@
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+* @author Ayra Babar
+* @file TaskWriteAheadLog.java
+* @brief This file contains an append-only write-ahead log of task mutations. Records are
+*        buffered in memory and written with group commit: the first caller waiting for
+*        durability writes and fsyncs everything buffered so far, and every caller whose record
+*        was in that batch returns, so many mutations share one fsync
+*
+* Record layout: int payload length, int CRC32 of the payload, then the payload (one byte
+* operation code followed by its fields). Replay stops at the first incomplete or corrupt
+* record, which is where a crash interrupted the last write, and cuts the file there.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Record count since the last reset, for snapshot scheduling
+* 10/18/2026 - Creation times read and written without date-time objects
+* 10/18/2026 - Companion file flushed inside each group commit
+* 10/18/2026 - Companion file flushed before a reset drops the buffered records
+* 10/18/2026 - New records and resets refused once a write has failed
+*/
+
+public class TaskWriteAheadLog implements Closeable {
+
+	private static final byte ADD = 1;
+	private static final byte ADD_ALL = 2;
+	private static final byte DELETE = 3;
+	private static final byte EDIT_NAME = 4;
+	private static final byte EDIT_DESCRIPTION = 5;
+	private static final byte EDIT_DUE_DATE = 6;
+	private static final byte EDIT_PRIORITY = 7;
+	private static final byte CLEAR = 8;
+
+	private static final int HEADER_BYTES = 8;
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	/**
+	* Receives the logged mutations, in order, during replay
+	*/
+	public interface Replay {
+
+		/**
+	    * @param task a task that was added
+	    */
+		void add(Task task);
+
+		/**
+	    * @param tasks a batch of tasks that was imported at once
+	    */
+		void addAll(List<Task> tasks);
+
+		/**
+	    * @param ID the ID of a task that was deleted
+	    */
+		void delete(long ID);
+
+		/**
+	    * @param ID the ID of the edited task
+	    * @param newName the task's new name
+	    */
+		void editName(long ID, String newName);
+
+		/**
+	    * @param ID the ID of the edited task
+	    * @param newDescription the task's new description
+	    */
+		void editDescription(long ID, String newDescription);
+
+		/**
+	    * @param ID the ID of the edited task
+	    * @param newDueDate the task's new due date (format: YYYYMMDD)
+	    */
+		void editDueDate(long ID, int newDueDate);
+
+		/**
+	    * @param ID the ID of the edited task
+	    * @param newPriority the task's new priority
+	    */
+		void editPriority(long ID, int newPriority);
+
+		/**
+	    * Called when the whole task list was cleared
+	    */
+		void clear();
+	}
+
+	private final FileChannel channel;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition flushed = lock.newCondition();
+
+	private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+	private final DataOutputStream recordOut = new DataOutputStream(record);
+	private final CRC32 checksum = new CRC32();
+
+	private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+	private long appendedSequence;	// sequence number of the last buffered record
+	private long durableSequence;	// sequence number of the last record known to be on disk
+	private long resetSequence;		// sequence number of the last record before the last reset
+	private boolean flushing;
+	private Flushable companion;	// flushed by each group commit before the log is written
+	private IOException failure;	// once a write fails, the log refuses further work
+
+	/**
+    * Opens (or creates) a log file. Call replay() before logging new records
+    *
+    * @param file path of the log file
+    *
+    * @throws IOException if the file cannot be opened
+    */
+	public TaskWriteAheadLog(Path file) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	/**
+    * Reads every complete record from the start of the log and hands it to the replay target.
+    * A torn or corrupt tail is cut off so new records are appended after the last good one
+    *
+    * @param target receives the logged mutations in order
+    *
+    * @throws IOException if the file cannot be read
+    */
+	public void replay(Replay target) throws IOException {
+
+		lock.lock();
+		try {
+			long size = channel.size();
+			long position = 0;
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+			while(position + HEADER_BYTES <= size) {
+				header.clear();
+				readFully(header, position);
+				header.flip();
+				int length = header.getInt();
+				int crc = header.getInt();
+
+				if(length <= 0 || position + HEADER_BYTES + length > size) {
+					break;
+				}
+
+				ByteBuffer payload = ByteBuffer.allocate(length);
+				readFully(payload, position + HEADER_BYTES);
+
+				checksum.reset();
+				checksum.update(payload.array(), 0, length);
+				if((int) checksum.getValue() != crc) {
+					break;
+				}
+
+				payload.flip();
+				apply(payload, target);
+				position += HEADER_BYTES + length;
+				appendedSequence++;
+			}
+
+			durableSequence = appendedSequence;
+
+			if(position < size) {
+				channel.truncate(position);
+				channel.force(true);
+			}
+			channel.position(position);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Logs an added task
+    *
+    * @param task the new task
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logAdd(Task task) {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(ADD);
+			writeTask(task);
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Logs a batch of tasks imported at once as a single record
+    *
+    * @param tasks the imported tasks
+    * @param count number of tasks to take from the start of the array
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logAddAll(Task[] tasks, int count) {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(ADD_ALL);
+			recordOut.writeInt(count);
+			for(int i = 0; i < count; i++) {
+				writeTask(tasks[i]);
+			}
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Logs a deleted task
+    *
+    * @param ID the ID of the deleted task
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logDelete(long ID) {
+		return logID(DELETE, ID);
+	}
+
+	/**
+    * Logs a name change
+    *
+    * @param ID the ID of the edited task
+    * @param newName the task's new name
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logEditName(long ID, String newName) {
+		return logText(EDIT_NAME, ID, newName);
+	}
+
+	/**
+    * Logs a description change
+    *
+    * @param ID the ID of the edited task
+    * @param newDescription the task's new description
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logEditDescription(long ID, String newDescription) {
+		return logText(EDIT_DESCRIPTION, ID, newDescription);
+	}
+
+	/**
+    * Logs a due date change
+    *
+    * @param ID the ID of the edited task
+    * @param newDueDate the task's new due date (format: YYYYMMDD)
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logEditDueDate(long ID, int newDueDate) {
+		return logInt(EDIT_DUE_DATE, ID, newDueDate);
+	}
+
+	/**
+    * Logs a priority change
+    *
+    * @param ID the ID of the edited task
+    * @param newPriority the task's new priority
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logEditPriority(long ID, int newPriority) {
+		return logInt(EDIT_PRIORITY, ID, newPriority);
+	}
+
+	/**
+    * Logs that the whole task list was cleared
+    *
+    * @return sequence number to pass to sync()
+    */
+	public long logClear() {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(CLEAR);
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Waits until a logged record is on disk. If no write is in progress, this caller writes and
+    * fsyncs every buffered record itself; otherwise it waits for the write in progress (and, if
+    * needed, the next one) to cover its record
+    *
+    * @param sequence the sequence number returned when the record was logged
+    *
+    * @throws UncheckedIOException if the log could not be written
+    */
+	public void sync(long sequence) {
+
+		lock.lock();
+		try {
+			while(durableSequence < sequence) {
+
+				if(failure != null) {
+					throw new UncheckedIOException("Write-ahead log is no longer writable", failure);
+				}
+
+				if(flushing) {
+					flushed.awaitUninterruptibly();
+					continue;
+				}
+
+				flushing = true;
+				ByteArrayOutputStream batch = pending;
+				pending = new ByteArrayOutputStream(Math.max(32, batch.size()));
+				long batchEnd = appendedSequence;
+				Flushable before = companion;
+
+				lock.unlock();
+				IOException error = null;
+				try {
+					if(before != null) {
+						before.flush();
+					}
+					ByteBuffer bytes = ByteBuffer.wrap(batch.toByteArray());
+					while(bytes.hasRemaining()) {
+						channel.write(bytes);
+					}
+					channel.force(false);
+				} catch (IOException e) {
+					error = e;
+				} finally {
+					lock.lock();
+				}
+
+				flushing = false;
+				if(error != null) {
+					failure = error;
+				} else {
+					durableSequence = batchEnd;
+				}
+				flushed.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Checks that records can still be logged. Callers that change state before logging it
+    * call this first, so a failed log does not leave them with changes it will never hold
+    *
+    * @throws UncheckedIOException if an earlier write or fsync failed
+    */
+	public void requireWritable() {
+
+		lock.lock();
+		try {
+			if(failure != null) {
+				throw new UncheckedIOException("Write-ahead log is no longer writable", failure);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Sets a file that every group commit flushes before writing and forcing the log, so that
+    * whatever it holds about a record reaches the disk no later than the record itself
+    *
+    * @param companion the file to flush, or null for none
+    */
+	public void setCompanion(Flushable companion) {
+
+		lock.lock();
+		try {
+			this.companion = companion;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Returns the number of records in the log, counting replayed records and records not yet
+    * on disk
+    *
+    * @return records logged since the file was created or last reset
+    */
+	public long recordCount() {
+
+		lock.lock();
+		try {
+			return appendedSequence - resetSequence;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Empties the log, for example after its contents were saved somewhere else. Buffered records
+    * are dropped without being written, and count as durable from then on, so the companion is
+    * flushed first: no group commit will flush it for them later. A log whose write failed is
+    * not reset, since whatever was saved instead holds records that never reached the disk
+    *
+    * @throws IOException if an earlier write failed, the companion cannot be flushed or the file
+    *         cannot be truncated; the log is left as it was
+    */
+	public void reset() throws IOException {
+
+		lock.lock();
+		try {
+			while(flushing) {
+				flushed.awaitUninterruptibly();
+			}
+
+			if(failure != null) {
+				throw new IOException("Write-ahead log is no longer writable", failure);
+			}
+
+			if(companion != null) {
+				companion.flush();
+			}
+
+			pending.reset();
+			durableSequence = appendedSequence;
+			resetSequence = appendedSequence;
+			channel.truncate(0);
+			channel.position(0);
+			channel.force(true);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Writes out any buffered records and closes the file
+    *
+    * @throws IOException if the final write fails
+    */
+	@Override
+	public void close() throws IOException {
+
+		try {
+			sync(appendedSequence);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+    * Logs a record made of an operation code and a task ID
+    *
+    * @param operation the operation code
+    * @param ID the task ID
+    *
+    * @return sequence number to pass to sync()
+    */
+	private long logID(byte operation, long ID) {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(operation);
+			recordOut.writeLong(ID);
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Logs a record made of an operation code, a task ID, and a string value
+    *
+    * @param operation the operation code
+    * @param ID the task ID
+    * @param text the new string value
+    *
+    * @return sequence number to pass to sync()
+    */
+	private long logText(byte operation, long ID, String text) {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(operation);
+			recordOut.writeLong(ID);
+			writeString(text);
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Logs a record made of an operation code, a task ID, and an int value
+    *
+    * @param operation the operation code
+    * @param ID the task ID
+    * @param value the new int value
+    *
+    * @return sequence number to pass to sync()
+    */
+	private long logInt(byte operation, long ID, int value) {
+
+		lock.lock();
+		try {
+			record.reset();
+			recordOut.writeByte(operation);
+			recordOut.writeLong(ID);
+			recordOut.writeInt(value);
+			return appendRecord();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+    * Frames the record under construction and adds it to the pending batch. Caller holds the lock
+    *
+    * @return the record's sequence number
+    *
+    * @throws UncheckedIOException if an earlier write failed, no record would reach the disk
+    */
+	private long appendRecord() {
+
+		if(failure != null) {
+			throw new UncheckedIOException("Write-ahead log is no longer writable", failure);
+		}
+
+		int length = record.size();
+		byte[] payload = record.toByteArray();
+
+		checksum.reset();
+		checksum.update(payload, 0, length);
+		int crc = (int) checksum.getValue();
+
+		pending.write(length >>> 24);
+		pending.write(length >>> 16);
+		pending.write(length >>> 8);
+		pending.write(length);
+		pending.write(crc >>> 24);
+		pending.write(crc >>> 16);
+		pending.write(crc >>> 8);
+		pending.write(crc);
+		pending.write(payload, 0, length);
+
+		return ++appendedSequence;
+	}
+
+	/**
+    * Writes every field of a task into the record under construction
+    *
+    * @param task the task to write
+    *
+    * @throws IOException never, the record is in memory
+    */
+	private void writeTask(Task task) throws IOException {
+		long createdAtNanos = task.getCreatedAtNanos();
+		recordOut.writeLong(task.getID());
+		recordOut.writeLong(Math.floorDiv(createdAtNanos, NANOS_PER_SECOND));
+		recordOut.writeInt((int) Math.floorMod(createdAtNanos, NANOS_PER_SECOND));
+		recordOut.writeInt(task.getPriority());
+		recordOut.writeInt(task.getDueDate());
+		writeString(task.getName());
+		writeString(task.getDescription());
+	}
+
+	/**
+    * Writes a length-prefixed UTF-8 string into the record under construction
+    *
+    * @param text the string to write
+    *
+    * @throws IOException never, the record is in memory
+    */
+	private void writeString(String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		recordOut.writeInt(bytes.length);
+		recordOut.write(bytes);
+	}
+
+	/**
+    * Decodes one record payload and hands it to the replay target
+    *
+    * @param payload the record payload
+    * @param target receives the mutation
+    */
+	private static void apply(ByteBuffer payload, Replay target) {
+
+		byte operation = payload.get();
+
+		switch(operation) {
+
+		case ADD:
+			target.add(readTask(payload));
+			break;
+
+		case ADD_ALL:
+			int count = payload.getInt();
+			List<Task> tasks = new ArrayList<>(count);
+			for(int i = 0; i < count; i++) {
+				tasks.add(readTask(payload));
+			}
+			target.addAll(tasks);
+			break;
+
+		case DELETE:
+			target.delete(payload.getLong());
+			break;
+
+		case EDIT_NAME:
+			target.editName(payload.getLong(), readString(payload));
+			break;
+
+		case EDIT_DESCRIPTION:
+			target.editDescription(payload.getLong(), readString(payload));
+			break;
+
+		case EDIT_DUE_DATE:
+			target.editDueDate(payload.getLong(), payload.getInt());
+			break;
+
+		case EDIT_PRIORITY:
+			target.editPriority(payload.getLong(), payload.getInt());
+			break;
+
+		case CLEAR:
+			target.clear();
+			break;
+
+		default:
+			throw new IllegalStateException("Unknown write-ahead log operation: " + operation);
+		}
+	}
+
+	/**
+    * Reads a task written by writeTask()
+    *
+    * @param payload the record payload, positioned at the task
+    *
+    * @return the restored task, keeping its original ID and creation time
+    */
+	private static Task readTask(ByteBuffer payload) {
+		long ID = payload.getLong();
+		long createdAtNanos = payload.getLong() * NANOS_PER_SECOND + payload.getInt();
+		int priority = payload.getInt();
+		int dueDate = payload.getInt();
+		String name = readString(payload);
+		String description = readString(payload);
+		return new Task(ID, name, description, priority, dueDate, createdAtNanos);
+	}
+
+	/**
+    * Reads a string written by writeString()
+    *
+    * @param payload the record payload, positioned at the string
+    *
+    * @return the decoded string
+    */
+	private static String readString(ByteBuffer payload) {
+		int length = payload.getInt();
+		String text = new String(payload.array(), payload.position(), length, StandardCharsets.UTF_8);
+		payload.position(payload.position() + length);
+		return text;
+	}
+
+	/**
+    * Fills a buffer from a file position
+    *
+    * @param buffer the buffer to fill
+    * @param position the file position to read from
+    *
+    * @throws IOException if the file cannot be read or ends early
+    */
+	private void readFully(ByteBuffer buffer, long position) throws IOException {
+		while(buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if(read < 0) {
+				throw new IOException("Unexpected end of write-ahead log");
+			}
+			position += read;
+		}
+	}
+}
+
+// END OF TaskWriteAheadLog.java
\ No newline at end of file
@@ -0,0 +1,368 @@
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+* @author Ayra Babar
+* @file TaskWritePipeline.java
+* @brief This file contains an optional single-writer front for Task Manager mutations. Callers
+*        on any thread queue their changes in a lock-free ring buffer and get a future back;
+*        one writer thread drains the ring in batches and applies each batch with a single
+*        write lock acquisition and a single wait for the write-ahead log, so producers never
+*        contend on the lock and a batch of changes shares one fsync. Each future completes
+*        once its change is applied and durable, in the order the changes were queued.
+*        Lookups keep going straight to the Task Manager, and its synchronous mutation methods
+*        stay usable next to the pipeline
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Producers park on a full ring, a writer that dies fails every queued mutation
+*/
+
+public class TaskWritePipeline implements Closeable {
+
+	public static final int DEFAULT_CAPACITY = 16 * 1024;
+	private static final int MAX_BATCH = 1024;			// mutations applied under one lock acquisition
+	private static final long IDLE_PARK_NANOS = 1_000_000;	// writer re-checks the ring this often when idle
+
+	private final TaskManager manager;
+	private final MpscRing<TaskMutation> ring;
+	private final Thread writer;
+	private final AtomicInteger activeProducers = new AtomicInteger();
+	private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();	// parked on a full ring
+	private volatile Throwable writerFailure;		// set once the writer thread has died
+	private volatile boolean open = true;
+	private volatile boolean running = true;
+	private volatile boolean writerIdle;
+
+	/**
+    * Starts a pipeline with the default ring capacity
+    *
+    * @param manager the Task Manager to apply the mutations to
+    */
+	public TaskWritePipeline(TaskManager manager) {
+		this(manager, DEFAULT_CAPACITY);
+	}
+
+	/**
+    * Starts a pipeline and its writer thread
+    *
+    * @param manager the Task Manager to apply the mutations to
+    * @param capacity most mutations queued at once; producers wait while the ring is full
+    */
+	public TaskWritePipeline(TaskManager manager, int capacity) {
+		this.manager = manager;
+		this.ring = new MpscRing<>(capacity);
+		this.writer = new Thread(this::writeLoop, "task-write-pipeline");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+    * Queues a new task
+    *
+    * @param name string name of task
+    * @param description explanation of the task
+    * @param priority manual integer priority of task (between and including 1-5)
+    * @param dueDate integer due date in the form: YYYYMMDD
+    *
+    * @return future completed with the new task
+    *
+    * @throws IllegalArgumentException if any of the values is invalid
+    */
+	public CompletableFuture<Task> addTask(String name, String description, int priority, int dueDate) {
+
+		long start = manager.getMetrics().start();
+		TaskManager.requireText(name, "name");
+		TaskManager.requireText(description, "description");
+		TaskManager.requireValidPriority(priority);
+		TaskManager.requireValidDueDate(dueDate);
+
+		Task task = new Task(name, description, priority, dueDate);
+		return submit(new TaskMutation(TaskMutation.Kind.ADD, task, task.getID(), null, 0, start));
+	}
+
+	/**
+    * Queues the deletion of a task
+    *
+    * @param ID the ID of the task to delete
+    *
+    * @return future completed with the deleted task, or null if no task has that ID
+    */
+	public CompletableFuture<Task> deleteTask(long ID) {
+		long start = manager.getMetrics().start();
+		return submit(new TaskMutation(TaskMutation.Kind.DELETE, null, ID, null, 0, start));
+	}
+
+	/**
+    * Queues a change of task name
+    *
+    * @param ID the ID of the task to edit
+    * @param newName the task's new string name
+    *
+    * @return future completed with the edited task, or null if no task has that ID
+    *
+    * @throws IllegalArgumentException if the name is blank
+    */
+	public CompletableFuture<Task> editName(long ID, String newName) {
+		long start = manager.getMetrics().start();
+		TaskManager.requireText(newName, "name");
+		return submit(new TaskMutation(TaskMutation.Kind.EDIT_NAME, null, ID, newName, 0, start));
+	}
+
+	/**
+    * Queues a change of task description
+    *
+    * @param ID the ID of the task to edit
+    * @param newDescription the task's new description
+    *
+    * @return future completed with the edited task, or null if no task has that ID
+    *
+    * @throws IllegalArgumentException if the description is blank
+    */
+	public CompletableFuture<Task> editDescription(long ID, String newDescription) {
+		long start = manager.getMetrics().start();
+		TaskManager.requireText(newDescription, "description");
+		return submit(new TaskMutation(TaskMutation.Kind.EDIT_DESCRIPTION, null, ID, newDescription, 0, start));
+	}
+
+	/**
+    * Queues a change of task due date
+    *
+    * @param ID the ID of the task to edit
+    * @param newDueDate the task's new due date (format: YYYYMMDD)
+    *
+    * @return future completed with the edited task, or null if no task has that ID
+    *
+    * @throws IllegalArgumentException if the date is not a valid calendar date
+    */
+	public CompletableFuture<Task> editDueDate(long ID, int newDueDate) {
+		long start = manager.getMetrics().start();
+		TaskManager.requireValidDueDate(newDueDate);
+		return submit(new TaskMutation(TaskMutation.Kind.EDIT_DUE_DATE, null, ID, null, newDueDate, start));
+	}
+
+	/**
+    * Queues a change of task priority
+    *
+    * @param ID the ID of the task to edit
+    * @param newPriority the task's new priority (between and including 1-5)
+    *
+    * @return future completed with the edited task, or null if no task has that ID
+    *
+    * @throws IllegalArgumentException if the priority is out of range
+    */
+	public CompletableFuture<Task> editPriority(long ID, int newPriority) {
+		long start = manager.getMetrics().start();
+		TaskManager.requireValidPriority(newPriority);
+		return submit(new TaskMutation(TaskMutation.Kind.EDIT_PRIORITY, null, ID, null, newPriority, start));
+	}
+
+	/**
+    * Stops taking mutations, waits until every queued one is applied, and stops the writer
+    * thread. The Task Manager itself is left open
+    */
+	@Override
+	public void close() {
+
+		if(!open) {
+			return;
+		}
+		open = false;
+
+		// Producers that saw the pipeline open finish queueing before the writer is told to stop
+		while(activeProducers.get() > 0) {
+			Thread.onSpinWait();
+		}
+
+		running = false;
+		LockSupport.unpark(writer);
+
+		boolean interrupted = false;
+		while(writer.isAlive()) {
+			try {
+				writer.join();
+			} catch(InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+    * Puts a mutation in the ring, waiting while it is full, and wakes the writer if it is idle
+    *
+    * @param mutation the mutation to queue
+    *
+    * @return the mutation's future
+    *
+    * @throws IllegalStateException if the pipeline is closed or its writer thread has died
+    */
+	private CompletableFuture<Task> submit(TaskMutation mutation) {
+
+		activeProducers.incrementAndGet();
+		try {
+			if(!open) {
+				throw new IllegalStateException("Write pipeline is closed");
+			}
+			requireWriter();
+
+			while(!ring.offer(mutation)) {
+				awaitRoom();
+			}
+		} finally {
+			activeProducers.decrementAndGet();
+		}
+
+		if(writerIdle) {
+			LockSupport.unpark(writer);
+		}
+		return mutation.result;
+	}
+
+	/**
+    * Parks a producer that found the ring full until the writer has drained some of it
+    *
+    * @throws IllegalStateException if the writer thread has died
+    */
+	private void awaitRoom() {
+
+		Thread producer = Thread.currentThread();
+		waitingProducers.add(producer);
+		LockSupport.unpark(writer);		// make sure the writer is draining
+
+		// Queued before the checks, so a drain either comes early enough for them to see room
+		// or finds this thread in the queue and unparks it
+		try {
+			requireWriter();
+			if(ring.isFull()) {
+				LockSupport.park(this);
+			}
+		} finally {
+			waitingProducers.remove(producer);
+		}
+	}
+
+	/**
+    * Checks that the writer thread is still alive
+    *
+    * @throws IllegalStateException if it died
+    */
+	private void requireWriter() {
+
+		Throwable failure = writerFailure;
+		if(failure != null) {
+			throw new IllegalStateException("Write pipeline writer failed", failure);
+		}
+	}
+
+	/**
+    * Unparks every producer waiting for room in the ring
+    */
+	private void wakeProducers() {
+
+		Thread producer;
+		while((producer = waitingProducers.poll()) != null) {
+			LockSupport.unpark(producer);
+		}
+	}
+
+	/**
+    * Body of the writer thread: drains the ring in batches and applies them until the pipeline
+    * is closed and the ring is empty
+    */
+	private void writeLoop() {
+
+		TaskMutation[] batch = new TaskMutation[MAX_BATCH];
+
+		while(true) {
+			int count = ring.drain(batch, MAX_BATCH);
+
+			if(count > 0) {
+				wakeProducers();
+				try {
+					manager.applyBatch(batch, count);
+				} catch(RuntimeException e) {
+					fail(batch, count, e);
+				} catch(Throwable e) {
+					abandon(batch, count, e);
+					if(e instanceof Error) {
+						throw (Error) e;
+					}
+					return;
+				}
+				Arrays.fill(batch, 0, count, null);
+				continue;
+			}
+
+			// Every producer finished before running was cleared, so one more look is enough
+			if(!running) {
+				if(ring.isEmpty()) {
+					return;
+				}
+				continue;
+			}
+
+			// Announce the idle state before the last check, so a producer either sees it and
+			// wakes the writer or queued its mutation early enough for the check to find it
+			writerIdle = true;
+			if(ring.isEmpty() && running) {
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			}
+			writerIdle = false;
+		}
+	}
+
+	/**
+    * Stops the pipeline after the writer failed with something other than a RuntimeException,
+    * which leaves nobody to apply the queue: fails the batch, makes submit() throw, and fails
+    * every mutation still in the ring or being queued
+    *
+    * @param batch the batch that failed
+    * @param count number of mutations in the batch
+    * @param cause what the writer failed with
+    */
+	private void abandon(TaskMutation[] batch, int count, Throwable cause) {
+
+		writerFailure = cause;
+		fail(batch, count, cause);
+
+		IllegalStateException dropped = new IllegalStateException("Write pipeline writer failed", cause);
+
+		// Producers counted in activeProducers may still queue; any later one sees writerFailure
+		while(true) {
+			wakeProducers();
+			int drained = ring.drain(batch, MAX_BATCH);
+			fail(batch, drained, dropped);
+
+			if(drained == 0) {
+				if(activeProducers.get() == 0 && ring.isEmpty()) {
+					return;
+				}
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	/**
+    * Completes the futures of a batch with a failure
+    *
+    * @param batch the mutations
+    * @param count number of mutations to fail
+    * @param cause the failure
+    */
+	private static void fail(TaskMutation[] batch, int count, Throwable cause) {
+
+		for(int i = 0; i < count; i++) {
+			batch[i].result.completeExceptionally(cause);
+			batch[i] = null;
+		}
+	}
+}
+
+// END OF TaskWritePipeline.java
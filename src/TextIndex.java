@@ -0,0 +1,1033 @@
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+* @author Ayra Babar
+* @file TextIndex.java
+* @brief This file contains an inverted index over task names and descriptions. Text is split
+*        into lowercase words (runs of letters and digits), and each word maps to the sorted
+*        IDs of the tasks containing it. The words are kept in a sorted map so prefix queries
+*        only visit the matching words
+*
+* Posting lists are compressed: IDs are split into blocks of up to BLOCK_SIZE, each block
+* keeps its first and last ID as is and the gaps between the rest as variable-length bytes
+* (7 bits per byte). Appending a new, larger ID writes a few bytes at the end of the last
+* block, any other insert or removal rewrites one block. AND queries decode the shortest list
+* and check its IDs against the others, skipping whole blocks by their first and last ID.
+* allIterator() does the same lazily, decoding the shortest list one block at a time.
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Match size estimates and per-task word checks for the query planner
+* 10/18/2026 - Lazy AND iterator, so a query with a limit stops decoding once it has enough
+* 10/18/2026 - Word check on a single text, for name-only queries
+*/
+
+public class TextIndex {
+
+	private static final long[] NO_IDS = new long[0];
+
+	private TreeMap<String, PostingList> postings;
+
+	/**
+    * Constructs a new, empty text index
+    */
+	public TextIndex() {
+		this.postings = new TreeMap<>();
+	}
+
+	/**
+    * Checks if the index is empty or not
+    *
+    * @return true if no words are indexed, false if otherwise
+    */
+	public boolean isEmpty() {
+		return postings.isEmpty();
+	}
+
+	/**
+    * Returns the number of distinct words in the index
+    *
+    * @return number of indexed words
+    */
+	public int getTermCount() {
+		return postings.size();
+	}
+
+	/**
+    * Indexes the words of a task's name and description
+    *
+    * @param task the task object to index
+    */
+	public void add(Task task) {
+		for(String term : terms(task.getName(), task.getDescription())) {
+			postings.computeIfAbsent(term, key -> new PostingList()).add(task.getID());
+		}
+	}
+
+	/**
+    * Removes a task from the index. Must be called before the task's name or description changes
+    *
+    * @param task the task object to remove
+    */
+	public void delete(Task task) {
+		for(String term : terms(task.getName(), task.getDescription())) {
+			unlink(term, task.getID());
+		}
+	}
+
+	/**
+    * Re-indexes a task whose name or description has already been changed. Only the words
+    * that were added or dropped are touched
+    *
+    * @param task the task object with its new name and description set
+    * @param oldName the name the task was indexed under
+    * @param oldDescription the description the task was indexed under
+    */
+	public void update(Task task, String oldName, String oldDescription) {
+
+		Set<String> before = terms(oldName, oldDescription);
+		Set<String> after = terms(task.getName(), task.getDescription());
+
+		for(String term : before) {
+			if(!after.contains(term)) {
+				unlink(term, task.getID());
+			}
+		}
+
+		for(String term : after) {
+			if(!before.contains(term)) {
+				postings.computeIfAbsent(term, key -> new PostingList()).add(task.getID());
+			}
+		}
+	}
+
+	/**
+    * Clears the entire index
+    */
+	public void clear() {
+		postings.clear();
+	}
+
+	/**
+    * Returns the tasks containing a word
+    *
+    * @param word the word to look up (case does not matter)
+    *
+    * @return task IDs in ascending order, empty if there are none
+    */
+	public long[] term(String word) {
+
+		PostingList list = postings.get(normalize(word));
+		return (list == null ? NO_IDS : list.toArray());
+	}
+
+	/**
+    * Returns the tasks containing every word of a text
+    *
+    * @param text the words to look up, separated by spaces or punctuation
+    *
+    * @return task IDs in ascending order, empty if there are none or the text has no words
+    */
+	public long[] all(String text) {
+
+		Set<String> words = terms(text, null);
+		PostingList[] lists = new PostingList[words.size()];
+		int count = 0;
+
+		for(String word : words) {
+			PostingList list = postings.get(word);
+			if(list == null) {
+				return NO_IDS;
+			}
+			lists[count++] = list;
+		}
+
+		return intersect(lists, count, null);
+	}
+
+	/**
+    * Returns the tasks containing every word of a text one at a time, finding each only when
+    * asked for it. The shortest posting list is decoded a block at a time and each of its IDs
+    * is checked against the others, so stopping early skips the rest of the work. The index
+    * must not be modified while iterating
+    *
+    * @param text the words to look up, separated by spaces or punctuation
+    *
+    * @return iterator over task IDs in ascending order, empty if there are none or the text
+    *         has no words
+    */
+	public PrimitiveIterator.OfLong allIterator(String text) {
+
+		Set<String> words = terms(text, null);
+		PostingList[] lists = new PostingList[words.size()];
+		int count = 0;
+
+		for(String word : words) {
+			PostingList list = postings.get(word);
+			if(list == null) {
+				return Arrays.stream(NO_IDS).iterator();
+			}
+			lists[count++] = list;
+		}
+
+		if(count == 0) {
+			return Arrays.stream(NO_IDS).iterator();
+		}
+
+		// Shortest list first, it drives the walk and the others are only probed
+		Arrays.sort(lists, 0, count, (a, b) -> Integer.compare(a.size, b.size));
+
+		PostingList.Cursor driver = lists[0].cursor();
+		PostingList.Cursor[] probes = new PostingList.Cursor[count - 1];
+		for(int i = 1; i < count; i++) {
+			probes[i - 1] = lists[i].cursor();
+		}
+
+		return new PrimitiveIterator.OfLong() {
+
+			private long next;
+			private boolean found;
+
+			@Override
+			public boolean hasNext() {
+
+				if(found) {
+					return true;
+				}
+
+				while(driver.hasNext()) {
+					long ID = driver.next();
+
+					boolean inAll = true;
+					for(PostingList.Cursor probe : probes) {
+						if(!probe.contains(ID)) {
+							inAll = false;
+							break;
+						}
+					}
+
+					if(inAll) {
+						next = ID;
+						found = true;
+						return true;
+					}
+				}
+				return false;
+			}
+
+			@Override
+			public long nextLong() {
+
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				found = false;
+				return next;
+			}
+		};
+	}
+
+	/**
+    * Returns the tasks containing at least one word of a text
+    *
+    * @param text the words to look up, separated by spaces or punctuation
+    *
+    * @return task IDs in ascending order, empty if there are none or the text has no words
+    */
+	public long[] any(String text) {
+
+		Set<String> words = terms(text, null);
+		PostingList[] lists = new PostingList[words.size()];
+		int count = 0;
+
+		for(String word : words) {
+			PostingList list = postings.get(word);
+			if(list != null) {
+				lists[count++] = list;
+			}
+		}
+
+		return union(lists, count);
+	}
+
+	/**
+    * Returns the tasks with a word starting with a prefix. When the prefix holds several
+    * words, as typed into a search box, the tasks must contain all the earlier words and a
+    * word starting with the last one
+    *
+    * @param prefix the start of the word (case does not matter)
+    *
+    * @return task IDs in ascending order, empty if there are none or the prefix has no words
+    */
+	public long[] prefix(String prefix) {
+
+		String[] words = split(prefix);
+
+		if(words.length == 0) {
+			return NO_IDS;
+		}
+
+		String last = words[words.length - 1];
+		Map<String, PostingList> matches = postings.subMap(last, true, last + Character.MAX_VALUE, false);
+		long[] started = union(matches.values().toArray(new PostingList[0]), matches.size());
+
+		if(words.length == 1 || started.length == 0) {
+			return started;
+		}
+
+		PostingList[] lists = new PostingList[words.length - 1];
+		for(int i = 0; i < lists.length; i++) {
+			lists[i] = postings.get(words[i]);
+			if(lists[i] == null) {
+				return NO_IDS;
+			}
+		}
+
+		return intersect(lists, lists.length, started);
+	}
+
+	/**
+    * Returns an upper bound on the number of tasks containing every word of a text, without
+    * decoding any posting list
+    *
+    * @param text the words to look up
+    *
+    * @return size of the shortest posting list, 0 if a word is missing, or -1 if the text has
+    *         no words
+    */
+	public int estimate(String text) {
+
+		Set<String> words = terms(text, null);
+		int smallest = -1;
+
+		for(String word : words) {
+			PostingList list = postings.get(word);
+			if(list == null) {
+				return 0;
+			}
+			if(smallest < 0 || list.size < smallest) {
+				smallest = list.size;
+			}
+		}
+
+		return smallest;
+	}
+
+	/**
+    * Splits a text into its distinct lowercase words, the same way indexed text is split
+    *
+    * @param text the text to split, may be null
+    *
+    * @return set of words
+    */
+	static Set<String> words(String text) {
+		return terms(text, null);
+	}
+
+	/**
+    * Checks whether a task's name or description holds every word of a set, without the index
+    *
+    * @param task the task to check
+    * @param words lowercase words, as returned by words()
+    *
+    * @return true if every word is present
+    */
+	static boolean containsAll(Task task, Set<String> words) {
+
+		for(String word : words) {
+			if(!containsWord(task.getName(), word) && !containsWord(task.getDescription(), word)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+    * Checks whether one text holds every word of a set, without the index
+    *
+    * @param text the text to search, may be null
+    * @param words lowercase words, as returned by words()
+    *
+    * @return true if every word is present
+    */
+	static boolean containsAll(String text, Set<String> words) {
+
+		for(String word : words) {
+			if(!containsWord(text, word)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+    * Checks whether a text holds a whole word, comparing in place instead of splitting the text
+    *
+    * @param text the text to search, may be null
+    * @param word a lowercase word
+    *
+    * @return true if one of the text's words equals the word
+    */
+	private static boolean containsWord(String text, String word) {
+
+		if(text == null) {
+			return false;
+		}
+
+		int i = 0;
+		while(i < text.length()) {
+			int codePoint = text.codePointAt(i);
+
+			if(!Character.isLetterOrDigit(codePoint)) {
+				i += Character.charCount(codePoint);
+				continue;
+			}
+
+			// Compare one word of the text against the wanted word, then skip to its end
+			int j = 0;
+			boolean same = true;
+			while(i < text.length()) {
+				codePoint = text.codePointAt(i);
+				if(!Character.isLetterOrDigit(codePoint)) {
+					break;
+				}
+
+				if(same) {
+					int lower = Character.toLowerCase(codePoint);
+					if(j < word.length() && word.codePointAt(j) == lower) {
+						j += Character.charCount(lower);
+					} else {
+						same = false;
+					}
+				}
+				i += Character.charCount(codePoint);
+			}
+
+			if(same && j == word.length()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+    * Removes one task ID from a word's posting list, dropping the word once no task has it
+    *
+    * @param term the word
+    * @param ID the task ID
+    */
+	private void unlink(String term, long ID) {
+
+		PostingList list = postings.get(term);
+
+		if(list != null && list.remove(ID) && list.size == 0) {
+			postings.remove(term);
+		}
+	}
+
+	/**
+    * Returns the IDs found in every posting list (and in the starting IDs, if given)
+    *
+    * @param lists the posting lists
+    * @param count number of lists in the array
+    * @param start IDs to start from, or null to start from the shortest list
+    *
+    * @return IDs in ascending order
+    */
+	private static long[] intersect(PostingList[] lists, int count, long[] start) {
+
+		if(count == 0) {
+			return (start == null ? NO_IDS : start);
+		}
+
+		// Shortest list first, so every later check runs over as few IDs as possible
+		Arrays.sort(lists, 0, count, (a, b) -> Integer.compare(a.size, b.size));
+
+		long[] ids = (start == null ? lists[0].toArray() : start);
+		int length = ids.length;
+
+		for(int i = (start == null ? 1 : 0); i < count && length > 0; i++) {
+			length = lists[i].retainAll(ids, length);
+		}
+
+		return (length == ids.length ? ids : Arrays.copyOf(ids, length));
+	}
+
+	/**
+    * Returns the IDs found in any of the posting lists
+    *
+    * @param lists the posting lists
+    * @param count number of lists in the array
+    *
+    * @return IDs in ascending order, without repeats
+    */
+	private static long[] union(PostingList[] lists, int count) {
+
+		if(count == 0) {
+			return NO_IDS;
+		}
+		if(count == 1) {
+			return lists[0].toArray();
+		}
+
+		int total = 0;
+		for(int i = 0; i < count; i++) {
+			total += lists[i].size;
+		}
+
+		long[] ids = new long[total];
+		int length = 0;
+		for(int i = 0; i < count; i++) {
+			length = lists[i].copyTo(ids, length);
+		}
+
+		Arrays.sort(ids);
+
+		int unique = 0;
+		for(int i = 0; i < length; i++) {
+			if(unique == 0 || ids[unique - 1] != ids[i]) {
+				ids[unique++] = ids[i];
+			}
+		}
+
+		return (unique == length ? ids : Arrays.copyOf(ids, unique));
+	}
+
+	/**
+    * Splits a name and description into their distinct lowercase words
+    *
+    * @param name the first text, may be null
+    * @param description the second text, may be null
+    *
+    * @return set of words
+    */
+	private static Set<String> terms(String name, String description) {
+
+		Set<String> words = new HashSet<>();
+		for(String word : split(name)) {
+			words.add(word);
+		}
+		for(String word : split(description)) {
+			words.add(word);
+		}
+		return words;
+	}
+
+	/**
+    * Normalizes a single query word the same way indexed text is split
+    *
+    * @param word the query word
+    *
+    * @return the lowercase word, or an empty string if it has no letters or digits
+    */
+	private static String normalize(String word) {
+		String[] words = split(word);
+		return (words.length == 0 ? "" : words[0]);
+	}
+
+	/**
+    * Splits text into lowercase runs of letters and digits
+    *
+    * @param text the text to split, may be null
+    *
+    * @return the words in order, with repeats
+    */
+	private static String[] split(String text) {
+
+		if(text == null || text.isEmpty()) {
+			return new String[0];
+		}
+
+		String[] words = new String[4];
+		int count = 0;
+		StringBuilder word = new StringBuilder();
+
+		for(int i = 0; i <= text.length(); ) {
+			int codePoint = (i < text.length() ? text.codePointAt(i) : ' ');
+
+			if(Character.isLetterOrDigit(codePoint)) {
+				word.appendCodePoint(Character.toLowerCase(codePoint));
+			} else if(word.length() > 0) {
+				if(count == words.length) {
+					words = Arrays.copyOf(words, count * 2);
+				}
+				words[count++] = word.toString();
+				word.setLength(0);
+			}
+
+			i += (i < text.length() ? Character.charCount(codePoint) : 1);
+		}
+
+		return (count == words.length ? words : Arrays.copyOf(words, count));
+	}
+
+	/**
+	* Sorted task IDs of one word, compressed in blocks. A list with a single ID keeps it in a
+	* field and allocates no blocks, since most words belong to very few tasks
+	*/
+	private static final class PostingList {
+
+		private static final int BLOCK_SIZE = 128;
+
+		private int size;
+		private long single;		// the only ID while blocks is null
+
+		private long[] firstIDs;
+		private long[] lastIDs;
+		private int[] counts;		// IDs per block
+		private int[] lengths;		// bytes used per block
+		private byte[][] blocks;	// gaps after each block's first ID
+		private int blockCount;
+
+		/**
+	    * Adds an ID to the list
+	    *
+	    * @param ID the task ID
+	    *
+	    * @return true if it was added, false if it was already there
+	    */
+		boolean add(long ID) {
+
+			if(size == 0 && blocks == null) {
+				single = ID;
+				size = 1;
+				return true;
+			}
+
+			if(blocks == null) {
+				if(single == ID) {
+					return false;
+				}
+				firstIDs = new long[4];
+				lastIDs = new long[4];
+				counts = new int[4];
+				lengths = new int[4];
+				blocks = new byte[4][];
+				encode(0, new long[] {single}, 0, 1);
+				blockCount = 1;
+			}
+
+			if(blockCount == 0) {
+				insertBlock(0);
+				encode(0, new long[] {ID}, 0, 1);
+				size++;
+				return true;
+			}
+
+			int block = Math.max(0, findBlock(ID));
+			long last = lastIDs[block];
+
+			// Fast path: a new largest ID goes on the end of the last block, or starts a new one
+			if(block == blockCount - 1 && ID > last) {
+				if(counts[block] < BLOCK_SIZE) {
+					appendGap(block, ID - last);
+					lastIDs[block] = ID;
+					counts[block]++;
+				} else {
+					insertBlock(blockCount);
+					encode(blockCount - 1, new long[] {ID}, 0, 1);
+				}
+				size++;
+				return true;
+			}
+
+			long[] ids = new long[counts[block] + 1];
+			int length = decode(block, ids);
+			int position = Arrays.binarySearch(ids, 0, length, ID);
+
+			if(position >= 0) {
+				return false;
+			}
+
+			position = -position - 1;
+			System.arraycopy(ids, position, ids, position + 1, length - position);
+			ids[position] = ID;
+			length++;
+
+			if(length > BLOCK_SIZE) {
+				int half = length / 2;
+				insertBlock(block + 1);
+				encode(block, ids, 0, half);
+				encode(block + 1, ids, half, length);
+			} else {
+				encode(block, ids, 0, length);
+			}
+
+			size++;
+			return true;
+		}
+
+		/**
+	    * Removes an ID from the list
+	    *
+	    * @param ID the task ID
+	    *
+	    * @return true if it was removed, false if it was not there
+	    */
+		boolean remove(long ID) {
+
+			if(blocks == null) {
+				if(size == 1 && single == ID) {
+					size = 0;
+					return true;
+				}
+				return false;
+			}
+
+			int block = findBlock(ID);
+
+			if(block < 0 || ID > lastIDs[block]) {
+				return false;
+			}
+
+			long[] ids = new long[counts[block]];
+			int length = decode(block, ids);
+			int position = Arrays.binarySearch(ids, 0, length, ID);
+
+			if(position < 0) {
+				return false;
+			}
+
+			System.arraycopy(ids, position + 1, ids, position, length - position - 1);
+			length--;
+
+			if(length == 0) {
+				removeBlock(block);
+			} else {
+				encode(block, ids, 0, length);
+			}
+
+			size--;
+			return true;
+		}
+
+		/**
+	    * Decodes the whole list
+	    *
+	    * @return IDs in ascending order
+	    */
+		long[] toArray() {
+			long[] ids = new long[size];
+			copyTo(ids, 0);
+			return ids;
+		}
+
+		/**
+	    * Decodes the whole list into an array
+	    *
+	    * @param target array with room for every ID
+	    * @param offset where to start writing
+	    *
+	    * @return the offset after the last ID written
+	    */
+		int copyTo(long[] target, int offset) {
+
+			if(blocks == null) {
+				if(size == 1) {
+					target[offset++] = single;
+				}
+				return offset;
+			}
+
+			for(int block = 0; block < blockCount; block++) {
+				offset += decode(block, target, offset);
+			}
+			return offset;
+		}
+
+		/**
+	    * Keeps only the IDs that are also in this list, in place. Blocks that cannot hold the
+	    * next ID are skipped without decoding
+	    *
+	    * @param ids IDs in ascending order
+	    * @param length number of IDs to check
+	    *
+	    * @return number of IDs kept at the start of the array
+	    */
+		int retainAll(long[] ids, int length) {
+
+			Cursor cursor = cursor();
+			int kept = 0;
+
+			for(int i = 0; i < length; i++) {
+				if(cursor.contains(ids[i])) {
+					ids[kept++] = ids[i];
+				}
+			}
+
+			return kept;
+		}
+
+		/**
+	    * Opens a cursor at the start of the list
+	    *
+	    * @return a new cursor
+	    */
+		Cursor cursor() {
+			return new Cursor();
+		}
+
+		/**
+		* Position in a posting list, holding one decoded block. A cursor either reads the list
+		* in order with next(), or answers contains() for IDs asked in ascending order; not both
+		*/
+		final class Cursor {
+
+			private final long[] decoded = new long[BLOCK_SIZE];
+			private int decodedBlock = -1;
+			private int decodedLength;
+			private int block;			// next block to read, or the block last probed
+			private int position;		// next decoded ID to read
+
+			/**
+		    * @return true if next() has another ID to return
+		    */
+			boolean hasNext() {
+
+				if(blocks == null) {
+					return (size == 1 && block == 0);
+				}
+				return (position < decodedLength || block < blockCount);
+			}
+
+			/**
+		    * Returns the next ID of the list, decoding the next block when the current one is used up.
+		    * Call hasNext() first
+		    *
+		    * @return the next ID in ascending order
+		    */
+			long next() {
+
+				if(blocks == null) {
+					block = 1;
+					return single;
+				}
+
+				if(position == decodedLength) {
+					decodedLength = decode(block, decoded);
+					decodedBlock = block++;
+					position = 0;
+				}
+				return decoded[position++];
+			}
+
+			/**
+		    * Checks whether an ID is in the list. Blocks that cannot hold the ID are skipped
+		    * without decoding, and no block before the last one probed is looked at again
+		    *
+		    * @param ID the task ID, not smaller than the one asked before
+		    *
+		    * @return true if the list holds the ID
+		    */
+			boolean contains(long ID) {
+
+				if(blocks == null) {
+					return (size == 1 && ID == single);
+				}
+				if(block >= blockCount) {
+					return false;
+				}
+
+				if(ID > lastIDs[block]) {
+					block = findBlock(ID);
+					if(ID > lastIDs[block]) {
+						return false;
+					}
+				}
+
+				if(ID < firstIDs[block]) {
+					return false;
+				}
+
+				if(block != decodedBlock) {
+					decodedLength = decode(block, decoded);
+					decodedBlock = block;
+				}
+
+				return (Arrays.binarySearch(decoded, 0, decodedLength, ID) >= 0);
+			}
+		}
+
+		/**
+	    * Finds the last block whose first ID is not larger than an ID
+	    *
+	    * @param ID the task ID
+	    *
+	    * @return block index, or -1 if the ID is smaller than every block
+	    */
+		private int findBlock(long ID) {
+
+			int low = 0;
+			int high = blockCount - 1;
+			int found = -1;
+
+			while(low <= high) {
+				int middle = (low + high) >>> 1;
+				if(firstIDs[middle] <= ID) {
+					found = middle;
+					low = middle + 1;
+				} else {
+					high = middle - 1;
+				}
+			}
+
+			return found;
+		}
+
+		/**
+	    * Decodes one block
+	    *
+	    * @param block block index
+	    * @param target array with room for the block's IDs
+	    *
+	    * @return number of IDs decoded
+	    */
+		private int decode(int block, long[] target) {
+			return decode(block, target, 0);
+		}
+
+		/**
+	    * Decodes one block into an array
+	    *
+	    * @param block block index
+	    * @param target array with room for the block's IDs
+	    * @param offset where to start writing
+	    *
+	    * @return number of IDs decoded
+	    */
+		private int decode(int block, long[] target, int offset) {
+
+			byte[] bytes = blocks[block];
+			long ID = firstIDs[block];
+			int count = counts[block];
+			int position = 0;
+
+			target[offset] = ID;
+
+			for(int i = 1; i < count; i++) {
+				long gap = 0;
+				int shift = 0;
+				byte next;
+				do {
+					next = bytes[position++];
+					gap |= (long) (next & 0x7F) << shift;
+					shift += 7;
+				} while(next < 0);
+
+				ID += gap;
+				target[offset + i] = ID;
+			}
+
+			return count;
+		}
+
+		/**
+	    * Writes a run of sorted IDs as one block
+	    *
+	    * @param block block index
+	    * @param ids the IDs
+	    * @param from first index of the run
+	    * @param to index after the run
+	    */
+		private void encode(int block, long[] ids, int from, int to) {
+
+			byte[] bytes = new byte[Math.max(4, (to - from - 1) * 2)];
+			int length = 0;
+
+			for(int i = from + 1; i < to; i++) {
+				long gap = ids[i] - ids[i - 1];
+				while(true) {
+					if(length + 1 > bytes.length) {
+						bytes = Arrays.copyOf(bytes, bytes.length * 2);
+					}
+					if((gap & ~0x7FL) == 0) {
+						bytes[length++] = (byte) gap;
+						break;
+					}
+					bytes[length++] = (byte) ((gap & 0x7F) | 0x80);
+					gap >>>= 7;
+				}
+			}
+
+			firstIDs[block] = ids[from];
+			lastIDs[block] = ids[to - 1];
+			counts[block] = to - from;
+			lengths[block] = length;
+			blocks[block] = bytes;
+		}
+
+		/**
+	    * Writes one gap at the end of a block
+	    *
+	    * @param block block index
+	    * @param gap difference from the block's last ID
+	    */
+		private void appendGap(int block, long gap) {
+
+			byte[] bytes = blocks[block];
+			int length = lengths[block];
+
+			if(length + 10 > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(length + 10, bytes.length * 2));
+				blocks[block] = bytes;
+			}
+
+			while((gap & ~0x7FL) != 0) {
+				bytes[length++] = (byte) ((gap & 0x7F) | 0x80);
+				gap >>>= 7;
+			}
+			bytes[length++] = (byte) gap;
+			lengths[block] = length;
+		}
+
+		/**
+	    * Opens an empty slot for a block
+	    *
+	    * @param block index of the new block
+	    */
+		private void insertBlock(int block) {
+
+			if(blockCount == firstIDs.length) {
+				int capacity = blockCount * 2;
+				firstIDs = Arrays.copyOf(firstIDs, capacity);
+				lastIDs = Arrays.copyOf(lastIDs, capacity);
+				counts = Arrays.copyOf(counts, capacity);
+				lengths = Arrays.copyOf(lengths, capacity);
+				blocks = Arrays.copyOf(blocks, capacity);
+			}
+
+			int moved = blockCount - block;
+			System.arraycopy(firstIDs, block, firstIDs, block + 1, moved);
+			System.arraycopy(lastIDs, block, lastIDs, block + 1, moved);
+			System.arraycopy(counts, block, counts, block + 1, moved);
+			System.arraycopy(lengths, block, lengths, block + 1, moved);
+			System.arraycopy(blocks, block, blocks, block + 1, moved);
+			blockCount++;
+		}
+
+		/**
+	    * Closes the slot of an emptied block
+	    *
+	    * @param block index of the block
+	    */
+		private void removeBlock(int block) {
+
+			int moved = blockCount - block - 1;
+			System.arraycopy(firstIDs, block + 1, firstIDs, block, moved);
+			System.arraycopy(lastIDs, block + 1, lastIDs, block, moved);
+			System.arraycopy(counts, block + 1, counts, block, moved);
+			System.arraycopy(lengths, block + 1, lengths, block, moved);
+			System.arraycopy(blocks, block + 1, blocks, block, moved);
+			blockCount--;
+			blocks[blockCount] = null;
+		}
+	}
+}
+
+// END OF TextIndex.java
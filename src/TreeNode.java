@@ -4,15 +4,19 @@
 * @brief This file contains binary search tree node structure implementations
 * 
 * 06/28/2025 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Parent link and node color added for red-black balancing
+* 10/18/2026 - Subtree size kept in every node
 */
 
 public class TreeNode {
 	
 	private Task task;
-	private TreeNode left, right;
+	private TreeNode left, right, parent;
+	private boolean red;
+	private int size;	// number of nodes in the subtree rooted here
 	
 	 /**
-     * Constructs a new TreeNode with given task data and default links
+     * Constructs a new red TreeNode with given task data, default links and a subtree size of 1
      *
      * @param task the task object to add to BST
      */
@@ -20,6 +24,9 @@ public class TreeNode {
 		this.task = task;
 		this.left = null;
 		this.right = null;
+		this.parent = null;
+		this.red = true;
+		this.size = 1;
 	}
 	
 	/**
@@ -75,6 +82,60 @@ public class TreeNode {
 	public void setLeft(TreeNode newLeft) {
 		this.left = newLeft;
 	}
+	
+	/**
+	* Returns the parent of the node
+	*
+	* @return the parent TreeNode, or null if this node is the root
+	*/
+	public TreeNode getParent() {
+		return parent;
+	}
+	
+	/**
+	* Sets the parent of the TreeNode
+	* 
+	* @param newParent the TreeNode that will become the parent 
+	*/
+	public void setParent(TreeNode newParent) {
+		this.parent = newParent;
+	}
+	
+	/**
+	* Checks the color of the node
+	*
+	* @return true if the node is red, false if it is black
+	*/
+	public boolean isRed() {
+		return red;
+	}
+	
+	/**
+	* Sets the color of the TreeNode
+	* 
+	* @param red true to color the node red, false to color it black
+	*/
+	public void setRed(boolean red) {
+		this.red = red;
+	}
+	
+	/**
+	* Returns the number of nodes in the subtree rooted at this node
+	*
+	* @return the subtree size, 1 for a leaf
+	*/
+	public int getSize() {
+		return size;
+	}
+	
+	/**
+	* Sets the number of nodes in the subtree rooted at this node
+	* 
+	* @param size the new subtree size
+	*/
+	public void setSize(int size) {
+		this.size = size;
+	}
 }
 
 // END OF TreeNode.java
\ No newline at end of file
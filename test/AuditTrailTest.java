@@ -0,0 +1,424 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+* @author Ayra Babar
+* @file AuditTrailTest.java
+* @brief This file contains the tests for the audit trail: lookups by task and by operation,
+*        imports and clears indexed under every affected task, reloading from the file, and
+*        audit events reaching the disk together with the write-ahead log records they describe
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Crash after a checkpoint emptied the log before a mutation's sync
+* 10/18/2026 - Full segments written out and read back from disk, only the newest segment
+*              loaded on reopen, crash leftovers cleaned up, no audit trail kept in memory only
+*/
+
+public class AuditTrailTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void importAndClearAreListedForEveryAffectedTask() throws IOException {
+
+		try(TaskManager manager = durable()) {
+				Task single = manager.addTask("Single", "Added alone", 2, 20261101);
+			List<Task> batch = batch(3);
+			manager.addTasks(batch);
+			manager.clear();
+
+			long imported = batch.get(1).getID();
+			assertEquals(List.of(HistoryEvent.Operation.IMPORTED, HistoryEvent.Operation.CLEARED),
+					operations(manager.getAuditFor(imported)));
+			assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.CLEARED),
+					operations(manager.getAuditFor(single.getID())));
+		}
+	}
+
+	@Test
+	public void deletionsIncludeClearsAndCreationsIncludeImports() throws IOException {
+
+		try(TaskManager manager = durable()) {
+			Task deleted = manager.addTask("Deleted", "Removed by hand", 2, 20261101);
+			manager.deleteTask(deleted.getID());
+			manager.addTasks(batch(2));
+			manager.clear();
+
+			assertEquals(List.of(HistoryEvent.Operation.DELETED, HistoryEvent.Operation.CLEARED),
+					operations(manager.getAuditOf(HistoryEvent.Operation.DELETED, Long.MIN_VALUE, Long.MAX_VALUE)));
+			assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.IMPORTED),
+					operations(manager.getAuditOf(HistoryEvent.Operation.CREATED, Long.MIN_VALUE, Long.MAX_VALUE)));
+			assertEquals(1, manager.getAuditOf(HistoryEvent.Operation.CLEARED, Long.MIN_VALUE, Long.MAX_VALUE).size());
+		}
+	}
+
+	@Test
+	public void clearIsListedOnlyForTasksPresentAtTheTime() throws IOException {
+
+		try(TaskManager manager = durable()) {
+			Task gone = manager.addTask("Gone", "Deleted before the clear", 1, 20261101);
+			manager.deleteTask(gone.getID());
+			manager.addTask("Present", "Cleared", 1, 20261101);
+			manager.clear();
+
+			assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.DELETED),
+					operations(manager.getAuditFor(gone.getID())));
+		}
+	}
+
+	@Test
+	public void managerKeptInMemoryHasNoAuditTrail() {
+
+		TaskManager manager = new TaskManager();
+		for(int i = 0; i < 1_000; i++) {
+			Task task = manager.addTask("Churned", "Added and deleted", 3, 20261101);
+			manager.deleteTask(task.getID());
+		}
+		Task kept = manager.addTask("Kept", "Still in the history log", 3, 20261101);
+
+		assertTrue(manager.getAuditFor(kept.getID()).isEmpty());
+		assertTrue(manager.getAuditBetween(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+		assertTrue(manager.getAuditOf(HistoryEvent.Operation.DELETED, Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+		assertEquals(List.of(HistoryEvent.Operation.CREATED), operations(manager.getHistoryFor(kept.getID())));
+	}
+
+	@Test
+	public void fullSegmentsAreWrittenOutAndReadFromDisk() throws IOException {
+
+		Path audit = directory.resolve("segments.audit");
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			appendTenEvents(trail);
+			trail.flush();
+
+			// Events 0-3 and 4-7 are in segment files, 8 and 9 in the newest segment's log
+			assertEquals(List.of("00000000000000000000.seg", "00000000000000000004.seg", "00000000000000000008.log"),
+					fileNames(audit));
+			assertEquals(2, trail.residentEvents());
+			assertTenEvents(trail);
+
+			// An import posted under 16 tasks reaches the postings limit of a 4-event segment
+			long[] many = new long[16];
+			for(int i = 0; i < many.length; i++) {
+				many[i] = 100 + i;
+			}
+			trail.appendForTasks(HistoryEvent.Operation.IMPORTED, many.length, many, many.length);
+			trail.flush();
+			assertEquals(0, trail.residentEvents());
+			assertEquals(11, trail.size());
+			assertEquals(List.of(HistoryEvent.Operation.IMPORTED), operations(trail.forTask(107)));
+		}
+	}
+
+	@Test
+	public void reopenLoadsOnlyTheNewestSegment() throws IOException {
+
+		Path audit = directory.resolve("segments.audit");
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			appendTenEvents(trail);
+		}
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			assertEquals(2, trail.residentEvents());
+			assertTenEvents(trail);
+
+			// New events carry on from the newest segment
+			trail.append(HistoryEvent.Operation.DELETED, 2, null, "Two");
+			trail.append(HistoryEvent.Operation.DELETED, 3, null, "Three");
+			assertEquals(12, trail.size());
+			assertEquals(4, trail.residentEvents());
+			trail.flush();
+			assertEquals(0, trail.residentEvents());
+		}
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			assertEquals(12, trail.size());
+			assertEquals(0, trail.residentEvents());
+			assertEquals(HistoryEvent.Operation.DELETED, last(trail.forTask(3)).getOperation());
+			assertEquals(List.of("00000000000000000000.seg", "00000000000000000004.seg", "00000000000000000008.seg"),
+					fileNames(audit));
+		}
+	}
+
+	@Test
+	public void crashLeftoversAreCleanedUpOnOpen() throws IOException {
+
+		Path audit = directory.resolve("segments.audit");
+		Path log = audit.resolve("00000000000000000000.log");
+		Path copy = directory.resolve("first.log");
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			for(int i = 0; i < 3; i++) {
+				trail.append(HistoryEvent.Operation.CREATED, i, null, "Task " + i);
+			}
+			trail.flush();
+			Files.copy(log, copy);
+
+			trail.append(HistoryEvent.Operation.CREATED, 3, null, "Task 3");
+			trail.flush();
+			assertFalse(Files.exists(log));
+		}
+
+		// A crash after the segment file was renamed but before its log was deleted, and one
+		// while the next segment file was still being written
+		Files.copy(copy, log);
+		Files.write(audit.resolve("00000000000000000004.seg.tmp"), new byte[] {1, 2, 3});
+
+		try(AuditTrail trail = new AuditTrail(audit, 4)) {
+			assertEquals(List.of("00000000000000000000.seg"), fileNames(audit));
+			assertEquals(4, trail.size());
+			assertEquals(1, trail.forTask(2).size());
+			assertEquals(4, trail.between(Long.MIN_VALUE, Long.MAX_VALUE).size());
+		}
+	}
+
+	@Test
+	public void reloadKeepsPerTaskPostings() throws IOException {
+
+		Path file = directory.resolve("tasks.audit");
+		long[] IDs = {11, 12, 13};
+
+		try(AuditTrail trail = new AuditTrail(file)) {
+			trail.append(HistoryEvent.Operation.CREATED, 10, null, "Ten");
+			trail.appendForTasks(HistoryEvent.Operation.IMPORTED, 3, IDs, 3);
+			trail.append(HistoryEvent.Operation.UPDATED, 12, HistoryEvent.Field.NAME, "Twelve");
+			trail.appendForTasks(HistoryEvent.Operation.CLEARED, 0, new long[] {10, 11, 12, 13}, 4);
+		}
+
+		try(AuditTrail trail = new AuditTrail(file)) {
+			assertEquals(4, trail.size());
+			assertEquals(List.of(HistoryEvent.Operation.IMPORTED, HistoryEvent.Operation.UPDATED, HistoryEvent.Operation.CLEARED),
+					operations(trail.forTask(12)));
+			assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.CLEARED),
+					operations(trail.forTask(10)));
+			assertEquals(3, trail.forTask(11).get(0).getTaskID());
+			assertEquals("Twelve", trail.forTask(12).get(1).getTaskName());
+		}
+	}
+
+	@Test
+	public void eventsAreOnDiskOnceTheirMutationIsDurable() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+		Path audit = directory.resolve("tasks.wal.audit");
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			Task task = manager.addTask("Audited", "Before any close", 3, 20261101);
+			manager.editPriority(task.getID(), 1);
+			manager.addTasks(batch(2));
+
+			// What a crash right now would leave on disk
+			Path copy = directory.resolve("crashed.audit");
+			copyDirectory(audit, copy);
+			try(AuditTrail trail = new AuditTrail(copy)) {
+				assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.UPDATED),
+						operations(trail.forTask(task.getID())));
+				assertEquals(3, trail.size());
+			}
+		}
+	}
+
+	@Test
+	public void checkpointWritesTheEventsOfTheRecordsItDrops() throws IOException {
+
+		Path audit = directory.resolve("tasks.wal.audit");
+		Path copy = directory.resolve("crashed.audit");
+		Task task = new Task("Checkpointed", "Logged, not yet synced", 2, 20261101);
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(directory.resolve("tasks.wal"));
+				AuditTrail trail = new AuditTrail(audit)) {
+			log.setCompanion(trail);
+
+			// A mutation is logged and audited, then a checkpoint empties the log before the
+			// mutation's own sync runs, so that sync has nothing left to write
+			long sequence = log.logAdd(task);
+			trail.append(HistoryEvent.Operation.CREATED, task.getID(), null, task.getName());
+			log.reset();
+			log.sync(sequence);
+
+			// What a crash right now would leave on disk
+			copyDirectory(audit, copy);
+		}
+
+		try(AuditTrail trail = new AuditTrail(copy)) {
+			assertEquals(List.of(HistoryEvent.Operation.CREATED), operations(trail.forTask(task.getID())));
+		}
+	}
+
+	@Test
+	public void reopenedManagerDoesNotAuditReplayedMutationsTwice() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+		Task task;
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			task = manager.addTask("Once", "Audited once", 3, 20261101);
+			manager.addTasks(batch(2));
+		}
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			assertEquals(List.of(HistoryEvent.Operation.CREATED), operations(manager.getAuditFor(task.getID())));
+			manager.clear();
+			assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.CLEARED),
+					operations(manager.getAuditFor(task.getID())));
+		}
+	}
+
+	/**
+    * Opens a durable Task Manager in the test directory
+    *
+    * @return the Task Manager
+    *
+    * @throws IOException if its files cannot be opened
+    */
+	private TaskManager durable() throws IOException {
+		return new TaskManager(directory.resolve("tasks.wal"), directory.resolve("tasks.wal.snapshot"), 1_000_000);
+	}
+
+	/**
+    * Appends ten events about tasks 1 to 3, one of them an import of tasks 2 and 3
+    *
+    * @param trail the audit trail
+    */
+	private static void appendTenEvents(AuditTrail trail) {
+
+		trail.append(HistoryEvent.Operation.CREATED, 1, null, "One");
+		trail.appendForTasks(HistoryEvent.Operation.IMPORTED, 2, new long[] {2, 3}, 2);
+		for(int i = 0; i < 7; i++) {
+			trail.append(HistoryEvent.Operation.UPDATED, 1 + i % 3, HistoryEvent.Field.PRIORITY, "Edit " + i);
+		}
+		trail.append(HistoryEvent.Operation.DELETED, 1, null, "One");
+	}
+
+	/**
+    * Checks the lookups over the events of appendTenEvents()
+    *
+    * @param trail the audit trail
+    */
+	private static void assertTenEvents(AuditTrail trail) {
+
+		assertEquals(10, trail.size());
+		assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.UPDATED, HistoryEvent.Operation.UPDATED,
+				HistoryEvent.Operation.UPDATED, HistoryEvent.Operation.DELETED), operations(trail.forTask(1)));
+		assertEquals(List.of(HistoryEvent.Operation.IMPORTED, HistoryEvent.Operation.UPDATED, HistoryEvent.Operation.UPDATED),
+				operations(trail.forTask(3)));
+		assertEquals("Edit 4", trail.forTask(2).get(2).getTaskName());
+		assertEquals(HistoryEvent.Field.PRIORITY, trail.forTask(2).get(2).getField());
+		assertEquals(List.of(HistoryEvent.Operation.CREATED, HistoryEvent.Operation.IMPORTED),
+				operations(trail.ofOperation(HistoryEvent.Operation.CREATED, Long.MIN_VALUE, Long.MAX_VALUE)));
+		assertEquals(7, trail.ofOperation(HistoryEvent.Operation.UPDATED, Long.MIN_VALUE, Long.MAX_VALUE).size());
+		assertTrue(trail.forTask(4).isEmpty());
+
+		List<HistoryEvent> all = trail.between(Long.MIN_VALUE, Long.MAX_VALUE);
+		assertEquals(10, all.size());
+		assertEquals("One", all.get(0).getTaskName());
+		assertNull(all.get(1).getTaskName());
+		assertEquals(2, all.get(1).getTaskID());
+		for(int i = 1; i < all.size(); i++) {
+			assertTrue(all.get(i - 1).getTimestamp() <= all.get(i).getTimestamp());
+		}
+
+		// Time bounds are inclusive and skip segments outside them
+		long first = all.get(0).getTimestamp();
+		long last = all.get(9).getTimestamp();
+		assertTrue(trail.between(Long.MIN_VALUE, first - 1).isEmpty());
+		assertTrue(trail.between(last + 1, Long.MAX_VALUE).isEmpty());
+		assertEquals(10, trail.between(first, last).size());
+	}
+
+	/**
+    * Copies every file of a directory, as a crash would leave it
+    *
+    * @param source the directory to copy
+    * @param target the new directory
+    *
+    * @throws IOException if a file cannot be copied
+    */
+	private static void copyDirectory(Path source, Path target) throws IOException {
+
+		Files.createDirectories(target);
+		for(String name : fileNames(source)) {
+			Files.copy(source.resolve(name), target.resolve(name));
+		}
+	}
+
+	/**
+    * Lists the file names in a directory
+    *
+    * @param directory the directory
+    *
+    * @return the names, sorted
+    *
+    * @throws IOException if the directory cannot be listed
+    */
+	private static List<String> fileNames(Path directory) throws IOException {
+
+		List<String> names = new ArrayList<>();
+		try(DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for(Path file : files) {
+				names.add(file.getFileName().toString());
+			}
+		}
+		Collections.sort(names);
+		return names;
+	}
+
+	/**
+    * Returns the last event of a list
+    *
+    * @param events the events
+    *
+    * @return the newest event
+    */
+	private static HistoryEvent last(List<HistoryEvent> events) {
+		return events.get(events.size() - 1);
+	}
+
+	/**
+    * Creates tasks for a bulk import
+    *
+    * @param count number of tasks
+    *
+    * @return the tasks
+    */
+	private static List<Task> batch(int count) {
+
+		List<Task> tasks = new ArrayList<>();
+		for(int i = 0; i < count; i++) {
+			tasks.add(new Task("Imported " + i, "Bulk task", 1 + i % 5, 20261101 + i));
+		}
+		return tasks;
+	}
+
+	/**
+    * Returns the operations of a list of events
+    *
+    * @param events the events
+    *
+    * @return their operations, in the same order
+    */
+	private static List<HistoryEvent.Operation> operations(List<HistoryEvent> events) {
+
+		List<HistoryEvent.Operation> found = new ArrayList<>();
+		for(HistoryEvent event : events) {
+			found.add(event.getOperation());
+		}
+		return found;
+	}
+}
+
+// END OF AuditTrailTest.java
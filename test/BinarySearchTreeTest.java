@@ -0,0 +1,176 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file BinarySearchTreeTest.java
+* @brief This file contains the tests for the O(log n) tree height bound used by the metrics
+*        gauges: it never falls below the real height and stays within the red-black limit,
+*        and for random inserts and deletes checked against a TreeMap: searches, ID order,
+*        size, range counts and range iteration
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Random inserts and deletes checked against a TreeMap
+*/
+
+public class BinarySearchTreeTest {
+
+	@Test
+	public void emptyTreeHasNoHeight() {
+		assertEquals(0, new BinarySearchTree().getHeightBound());
+	}
+
+	@Test
+	public void boundCoversHeightThroughInsertsAndDeletes() {
+
+		Random random = new Random(7);
+		BinarySearchTree tree = new BinarySearchTree();
+		List<Task> tasks = new ArrayList<>();
+
+		for(int i = 0; i < 5_000; i++) {
+			Task task = new Task("Task " + i, "Height test", 1 + random.nextInt(5), 20261101);
+			tasks.add(task);
+			tree.add(task);
+			if(i % 97 == 0) {
+				assertBounded(tree);
+			}
+		}
+
+		Collections.shuffle(tasks, random);
+		for(int i = 0; i < 4_000; i++) {
+			tree.delete(tasks.get(i));
+			if(i % 89 == 0) {
+				assertBounded(tree);
+			}
+		}
+		assertBounded(tree);
+	}
+
+	@Test
+	public void boundCoversHeightAfterBottomUpBuild() {
+
+		for(int count : new int[] {1, 2, 3, 7, 8, 100, 1023, 1024, 1025}) {
+			Task[] sorted = new Task[count];
+			for(int i = 0; i < count; i++) {
+				sorted[i] = new Task("Task " + i, "Build test", 3, 20261101);
+			}
+
+			BinarySearchTree tree = new BinarySearchTree();
+			tree.buildFromSorted(sorted, count);
+			assertBounded(tree);
+		}
+	}
+
+	@Test
+	public void managerPublishesTheBoundAsAGauge() {
+
+		TaskManager manager = new TaskManager();
+		for(int i = 0; i < 100; i++) {
+			manager.addTask("Task " + i, "Gauge test", 2, 20261101);
+		}
+
+		long bound = manager.getMetrics().getGauges().get("treeHeightBound");
+		assertTrue(bound >= manager.getTreeShape().getHeight());
+	}
+
+	@Test
+	public void randomInsertsAndDeletesMatchATreeMap() {
+
+		Random random = new Random(20261018);
+		BinarySearchTree tree = new BinarySearchTree();
+		TreeMap<Long, Task> expected = new TreeMap<>();
+		long base = TaskIdAllocator.peekNextID();
+		int span = 3_000;		// few IDs, so inserts hit duplicates and deletes hit inner nodes
+
+		for(int round = 0; round < 20_000; round++) {
+			long ID = base + random.nextInt(span);
+
+			if(random.nextInt(5) < 3) {
+				Task task = new Task(ID, "Task " + ID, "Random test", 3, 20261101, 0L);
+				assertEquals(!expected.containsKey(ID), tree.add(task));
+				expected.putIfAbsent(ID, task);
+			} else {
+				Task removed = expected.remove(ID);
+				if(removed != null) {
+					tree.delete(removed);
+				}
+				assertNull(tree.search(ID));
+			}
+
+			if(round % 500 == 0) {
+				assertMatches(tree, expected, random, base, span);
+			}
+		}
+		assertMatches(tree, expected, random, base, span);
+
+		// Empty the tree again, mostly through nodes with two children
+		List<Task> remaining = new ArrayList<>(expected.values());
+		Collections.shuffle(remaining, random);
+		for(Task task : remaining) {
+			tree.delete(task);
+			expected.remove(task.getID());
+			assertEquals(expected.size(), tree.getSize());
+		}
+		assertTrue(tree.isEmpty());
+		assertEquals(0, tree.toArray().length);
+		assertFalse(tree.rangeIterator(Long.MIN_VALUE, Long.MAX_VALUE).hasNext());
+	}
+
+	/**
+    * Checks every lookup of the tree against a TreeMap holding the same tasks
+    *
+    * @param tree the tree to check
+    * @param expected the same tasks by ID
+    * @param random source of the ranges to check
+    * @param base smallest ID in use
+    * @param span number of IDs in use
+    */
+	private static void assertMatches(BinarySearchTree tree, TreeMap<Long, Task> expected, Random random, long base, int span) {
+
+		assertEquals(expected.size(), tree.getSize());
+		assertArrayEquals(expected.values().toArray(new Task[0]), tree.toArray());
+
+		for(Map.Entry<Long, Task> entry : expected.entrySet()) {
+			assertSame(entry.getValue(), tree.search(entry.getKey()));
+		}
+
+		for(int i = 0; i < 20; i++) {
+			long low = base - 5 + random.nextInt(span + 10);
+			long high = low + random.nextInt(span / 4);
+			Collection<Task> inRange = expected.subMap(low, true, high, true).values();
+
+			assertEquals(inRange.size(), tree.countRange(low, high));
+			List<Task> iterated = new ArrayList<>();
+			tree.rangeIterator(low, high).forEachRemaining(iterated::add);
+			assertEquals(new ArrayList<>(inRange), iterated);
+		}
+		assertEquals(0, tree.countRange(base + 10, base));
+		assertBounded(tree);
+	}
+
+	/**
+    * Checks the bound against the measured height and the red-black limit of 2 log2(n + 1)
+    *
+    * @param tree the tree to check
+    */
+	private static void assertBounded(BinarySearchTree tree) {
+
+		int height = tree.getHeight();
+		int bound = tree.getHeightBound();
+		double limit = 2 * Math.log(tree.getSize() + 1) / Math.log(2);
+
+		assertTrue(bound >= height, "bound " + bound + " below height " + height);
+		assertTrue(bound <= limit + 2, "bound " + bound + " above red-black limit " + limit);
+	}
+}
+
+// END OF BinarySearchTreeTest.java
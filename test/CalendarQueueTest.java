@@ -0,0 +1,260 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file CalendarQueueTest.java
+* @brief This file contains the tests for the calendar queue scheduler: first in, first out within
+*        a bucket, poll order matching TaskComparator across the edge of the 512-day window, far
+*        future dates, removal from the later buckets, and tasks added behind the window
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class CalendarQueueTest {
+
+	private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+	private static final int WINDOW_DAYS = 512;		// days covered by the queue's bucket ring
+
+	private final TaskComparator comparator = new TaskComparator();
+
+	@Test
+	public void bucketIsFirstInFirstOut() {
+
+		CalendarQueue queue = new CalendarQueue();
+		Task first = task(0, 2);
+		Task second = task(0, 2);
+		Task third = task(0, 2);
+
+		// Added against creation order: the bucket keeps the order they were added in
+		queue.add(third);
+		queue.add(first);
+		queue.add(second);
+		assertEquals(List.of(third, first, second), queue.topK(5));
+
+		// A re-keyed task goes to the back of its bucket, even when its key did not change
+		queue.update(third);
+		assertEquals(List.of(first, second, third), queue.topK(5));
+
+		assertSame(first, queue.poll());
+		assertSame(second, queue.poll());
+		assertSame(third, queue.poll());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void pollOrderMatchesTheComparatorAcrossTheWindow() {
+
+		Random random = new Random(15);
+		CalendarQueue queue = new CalendarQueue();
+		List<Task> tasks = new ArrayList<>();
+
+		// Added in creation order, so each bucket's FIFO order is also the comparator's order.
+		// The dates span three windows, so buckets are spliced in from the later map as it polls
+		for(int i = 0; i < 5_000; i++) {
+			Task task = task(random.nextInt(3 * WINDOW_DAYS), 1 + random.nextInt(5));
+			tasks.add(task);
+			queue.add(task);
+		}
+
+		tasks.sort(comparator);
+		assertEquals(tasks.subList(0, 100), queue.topK(100));
+		assertPollsInOrder(queue, tasks);
+	}
+
+	@Test
+	public void mixedChangesKeepDateAndPriorityOrder() {
+
+		Random random = new Random(1_015);
+		CalendarQueue queue = new CalendarQueue();
+		List<Task> queued = new ArrayList<>();
+
+		for(int round = 0; round < 20_000; round++) {
+			int action = random.nextInt(10);
+
+			if(action < 5 || queued.isEmpty()) {
+				// Mostly near dates, some before the window and some far beyond it
+				int day = (random.nextInt(10) == 0) ? random.nextInt(20 * WINDOW_DAYS) - 5 * WINDOW_DAYS
+						: random.nextInt(2 * WINDOW_DAYS);
+				Task task = task(day, 1 + random.nextInt(5));
+				queue.add(task);
+				queued.add(task);
+			} else if(action < 7) {
+				Task task = queued.remove(random.nextInt(queued.size()));
+				assertTrue(queue.remove(task));
+				assertFalse(queue.contains(task));
+			} else if(action < 8) {
+				Task task = queued.get(random.nextInt(queued.size()));
+				task.setDueDate(date(random.nextInt(3 * WINDOW_DAYS)));
+				queue.update(task);
+			} else {
+				Task polled = queue.poll();
+				Task expected = Collections.min(queued, comparator);
+				assertEquals(expected.getDueDate(), polled.getDueDate());
+				assertEquals(expected.getPriority(), polled.getPriority());
+				assertTrue(queued.remove(polled));
+			}
+
+			assertEquals(queued.size(), queue.size());
+		}
+
+		while(!queue.isEmpty()) {
+			Task polled = queue.poll();
+			Task expected = Collections.min(queued, comparator);
+			assertEquals(expected.getDueDate(), polled.getDueDate());
+			assertEquals(expected.getPriority(), polled.getPriority());
+			assertTrue(queued.remove(polled));
+		}
+		assertTrue(queued.isEmpty());
+	}
+
+	@Test
+	public void farFutureDatesComeLast() {
+
+		CalendarQueue queue = new CalendarQueue();
+		Task end = new Task("End of time", "Far future", 5, 99991231);
+		Task soon = task(0, 3);
+		Task nextYear = task(400, 1);
+		Task farAway = new Task("Far away", "Far future", 1, 50000101);
+
+		queue.add(end);
+		queue.add(soon);
+		queue.add(farAway);
+		queue.add(nextYear);
+
+		assertEquals(List.of(soon, nextYear, farAway, end), queue.topK(10));
+		assertSame(soon, queue.poll());
+		assertSame(nextYear, queue.poll());
+
+		// Only later buckets are left: the window jumps to them
+		assertSame(farAway, queue.peek());
+		assertSame(farAway, queue.poll());
+		assertSame(end, queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void removesTasksFromLaterBuckets() {
+
+		CalendarQueue queue = new CalendarQueue();
+		Task near = task(0, 1);
+		Task sharedFirst = task(2 * WINDOW_DAYS, 3);
+		Task sharedMiddle = task(2 * WINDOW_DAYS, 3);
+		Task sharedLast = task(2 * WINDOW_DAYS, 3);
+		Task alone = task(3 * WINDOW_DAYS, 2);
+
+		for(Task task : List.of(near, sharedFirst, sharedMiddle, sharedLast, alone)) {
+			queue.add(task);
+		}
+
+		assertTrue(queue.contains(sharedMiddle));
+		assertTrue(queue.remove(sharedMiddle));
+		assertFalse(queue.contains(sharedMiddle));
+		assertFalse(queue.remove(sharedMiddle));
+
+		assertTrue(queue.remove(alone));
+		assertFalse(queue.contains(alone));
+		assertEquals(3, queue.size());
+
+		// The emptied bucket is gone and the shared one still links its first and last tasks
+		assertEquals(List.of(near, sharedFirst, sharedLast), queue.topK(10));
+		assertTrue(queue.remove(sharedFirst));
+		queue.add(alone);
+		assertEquals(List.of(near, sharedLast, alone), queue.topK(10));
+		assertPollsInOrder(queue, List.of(near, sharedLast, alone));
+	}
+
+	@Test
+	public void addingBehindTheWindowSlidesItBack() {
+
+		CalendarQueue queue = new CalendarQueue();
+		Task start = task(1_000, 2);
+		Task windowEnd = task(1_000 + WINDOW_DAYS - 1, 2);
+		queue.add(start);
+		queue.add(windowEnd);
+
+		// Far enough back that the window's last bucket must move out to the later map
+		Task early = task(1_000 - 300, 4);
+		queue.add(early);
+		assertEquals(List.of(early, start, windowEnd), queue.topK(10));
+
+		// Behind the window again, after polling has moved the cursor past the first buckets
+		assertSame(early, queue.poll());
+		assertSame(start, queue.peek());
+		Task earlier = task(0, 5);
+		Task between = task(1_000 - 10, 1);
+		queue.add(between);
+		queue.add(earlier);
+
+		assertEquals(4, queue.size());
+		assertPollsInOrder(queue, List.of(earlier, between, start, windowEnd));
+	}
+
+	@Test
+	public void clearEmptiesWindowAndLaterBuckets() {
+
+		CalendarQueue queue = new CalendarQueue();
+		Task near = task(0, 1);
+		Task far = task(4 * WINDOW_DAYS, 1);
+		queue.add(near);
+		queue.add(far);
+
+		queue.clear();
+		assertTrue(queue.isEmpty());
+		assertFalse(queue.contains(near));
+		assertFalse(queue.contains(far));
+		assertNull(queue.peek());
+
+		queue.add(far);
+		queue.add(near);
+		assertPollsInOrder(queue, List.of(near, far));
+	}
+
+	/**
+    * Polls every task and checks the order
+    *
+    * @param queue the queue to empty
+    * @param expected the tasks in the order they must come out
+    */
+	private static void assertPollsInOrder(CalendarQueue queue, List<Task> expected) {
+
+		for(int i = 0; i < expected.size(); i++) {
+			assertSame(expected.get(i), queue.poll(), "poll " + i);
+		}
+		assertTrue(queue.isEmpty());
+		assertNull(queue.poll());
+	}
+
+	/**
+    * Creates a task due a number of days after the first day
+    *
+    * @param day days after the first day
+    * @param priority the task priority
+    *
+    * @return the task
+    */
+	private static Task task(int day, int priority) {
+		return new Task("Day " + day, "Calendar test", priority, date(day));
+	}
+
+	/**
+    * Converts a day offset to a due date
+    *
+    * @param day days after the first day
+    *
+    * @return the due date (format: YYYYMMDD)
+    */
+	private static int date(int day) {
+		LocalDate date = FIRST_DAY.plusDays(day);
+		return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+	}
+}
+
+// END OF CalendarQueueTest.java
@@ -0,0 +1,95 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file DueDateIndexTest.java
+* @brief This file contains the tests for the due date index: range counts from the Fenwick tree
+*        agreeing with the tasks the range actually holds while dates are added, moved and
+*        removed, for well-formed dates spread over centuries and for dates with no slot
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class DueDateIndexTest {
+
+	@Test
+	public void countsMatchTheRangeAsTheIndexChanges() {
+
+		Random random = new Random(20261018);
+		DueDateIndex index = new DueDateIndex();
+		List<Task> tasks = new ArrayList<>();
+
+		for(int round = 0; round < 4_000; round++) {
+			int action = random.nextInt(10);
+
+			if(action < 6 || tasks.isEmpty()) {
+				Task task = new Task("Task " + round, "Counted", 1 + round % 5, randomDate(random));
+				tasks.add(task);
+				index.add(task);
+			} else if(action < 8) {
+				Task task = tasks.get(random.nextInt(tasks.size()));
+				int oldDueDate = task.getDueDate();
+				task.setDueDate(randomDate(random));
+				index.update(task, oldDueDate);
+			} else {
+				index.delete(tasks.remove(random.nextInt(tasks.size())));
+			}
+
+			if(round % 50 == 0) {
+				for(int check = 0; check < 20; check++) {
+					int low = randomDate(random);
+					int high = (random.nextBoolean() ? randomDate(random) : low + random.nextInt(400));
+					assertEquals(index.range(low, high).size(), index.count(low, high), low + " to " + high);
+				}
+				assertEquals(tasks.size(), index.count(Integer.MIN_VALUE, Integer.MAX_VALUE));
+			}
+		}
+
+		index.clear();
+		assertEquals(0, index.count(Integer.MIN_VALUE, Integer.MAX_VALUE));
+		index.add(new Task("After clear", "Counted again", 1, 20261101));
+		assertEquals(1, index.count(20261101, 20261101));
+	}
+
+	@Test
+	public void boundsBetweenWellFormedDatesCountTheDaysInside() {
+
+		DueDateIndex index = new DueDateIndex();
+		for(int date : new int[] {20261130, 20261201, 20261231, 20270101, 20270131}) {
+			index.add(new Task("Due " + date, "Edge", 1, date));
+		}
+
+		assertEquals(2, index.count(20261200, 20261232));		// day 0 and day 32 of December
+		assertEquals(2, index.count(20261132, 20270100));		// past November, before January 1st
+		assertEquals(5, index.count(20261100, 20271300));		// month 0 and month 13
+		assertEquals(0, index.count(20270132, 20279999));
+		assertEquals(0, index.count(20261201, 20261130));
+	}
+
+	/**
+    * Picks a due date, mostly near the present, sometimes centuries away, sometimes malformed
+    *
+    * @param random the random source
+    *
+    * @return the due date (format: YYYYMMDD)
+    */
+	private static int randomDate(Random random) {
+
+		int kind = random.nextInt(20);
+		if(kind == 0) {
+			return random.nextInt(100_000_000);								// anything, often no slot
+		}
+		if(kind == 1) {
+			return (1000 + random.nextInt(9000)) * 10000 + 101 + random.nextInt(1200);	// any century
+		}
+		return (2024 + random.nextInt(6)) * 10000 + (1 + random.nextInt(12)) * 100 + 1 + random.nextInt(31);
+	}
+}
+
+// END OF DueDateIndexTest.java
@@ -0,0 +1,274 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file HistoryLogTest.java
+* @brief This file contains the tests for the history ring buffer: overwriting the oldest entries
+*        once it is full, reading entries from either end, and shrinking or growing the capacity
+*        after the ring has wrapped around. Also checks the structured events: lookups by task
+*        and by operation, and messages that read as they always have
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Event lookups by task and operation, rendered message text
+*/
+
+public class HistoryLogTest {
+
+	@Test
+	public void keepsTheLatestEntriesOnceFull() {
+
+		HistoryLog log = new HistoryLog(4);
+		assertTrue(log.isEmpty());
+
+		for(int i = 1; i <= 10; i++) {
+			log.insertion(i, "Task " + i);
+			assertEquals(Math.min(i, 4), log.getSize());
+		}
+
+		assertEquals(4, log.getCapacity());
+		assertEquals(created(7, 8, 9, 10), log.getEntries(false));
+		assertEquals(reversed(created(7, 8, 9, 10)), log.getEntries(true));
+	}
+
+	@Test
+	public void readsEntriesFromEitherEnd() {
+
+		HistoryLog log = new HistoryLog(5);
+
+		// Not yet full, then wrapped around so the oldest entry sits in the middle of the ring
+		for(int i = 1; i <= 3; i++) {
+			log.insertion(i, "Task " + i);
+		}
+		assertEnds(log, 3, 1);
+
+		for(int i = 4; i <= 12; i++) {
+			log.insertion(i, "Task " + i);
+		}
+		assertEnds(log, 12, 8);
+
+		for(int i = 1; i <= 5; i++) {
+			assertEquals(log.getEntry(i), log.getEntryFromOldest(6 - i));
+			assertEquals(12 - i + 1, log.getEvent(i).getTaskID());
+		}
+
+		assertThrows(IndexOutOfBoundsException.class, () -> log.getEntry(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> log.getEntry(6));
+		assertThrows(IndexOutOfBoundsException.class, () -> log.getEntryFromOldest(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> log.getEntryFromOldest(6));
+		assertThrows(IndexOutOfBoundsException.class, () -> new HistoryLog().getEntry(1));
+	}
+
+	@Test
+	public void shrinksAWrappedRingToTheLatestEntries() {
+
+		HistoryLog log = wrapped();
+
+		log.setCapacity(3);
+		assertEquals(3, log.getCapacity());
+		assertEquals(created(9, 10, 11), log.getEntries(false));
+
+		// The ring is full right after shrinking, so the next entry overwrites the oldest
+		log.insertion(12, "Task 12");
+		assertEquals(created(10, 11, 12), log.getEntries(false));
+		assertEnds(log, 12, 10);
+	}
+
+	@Test
+	public void growsAWrappedRingKeepingEveryEntry() {
+
+		HistoryLog log = wrapped();
+
+		log.setCapacity(8);
+		assertEquals(8, log.getCapacity());
+		assertEquals(created(7, 8, 9, 10, 11), log.getEntries(false));
+
+		for(int i = 12; i <= 15; i++) {
+			log.insertion(i, "Task " + i);
+		}
+		assertEquals(created(8, 9, 10, 11, 12, 13, 14, 15), log.getEntries(false));
+		assertEnds(log, 15, 8);
+
+		// Growing to the same size keeps the order too
+		log.setCapacity(8);
+		assertEquals(created(8, 9, 10, 11, 12, 13, 14, 15), log.getEntries(false));
+		assertThrows(IllegalArgumentException.class, () -> log.setCapacity(0));
+		assertThrows(IllegalArgumentException.class, () -> new HistoryLog(0));
+	}
+
+	@Test
+	public void findsEventsByTaskLatestFirst() {
+
+		HistoryLog log = new HistoryLog();
+		log.insertion(7, "Plan trip");
+		log.insertion(8, "Pack bags");
+		log.taskUpdate(HistoryEvent.Field.NAME, 7, "Plan holiday");
+		log.bulkInsertion(7);	// a batch of 7 tasks, not an event about task 7
+		log.taskUpdate(HistoryEvent.Field.PRIORITY, 7, "Plan holiday");
+		log.deletion(new Task(8, "Pack bags", "Suitcase", 2, 20261101, 0L));
+
+		List<HistoryEvent> events = log.getEvents(7);
+		assertEquals(3, events.size());
+		assertEvent(events.get(0), HistoryEvent.Operation.UPDATED, 7, HistoryEvent.Field.PRIORITY, "Plan holiday");
+		assertEvent(events.get(1), HistoryEvent.Operation.UPDATED, 7, HistoryEvent.Field.NAME, "Plan holiday");
+		assertEvent(events.get(2), HistoryEvent.Operation.CREATED, 7, null, "Plan trip");
+
+		assertEquals(2, log.getEvents(8).size());
+		assertEquals(HistoryEvent.Operation.DELETED, log.getEvents(8).get(0).getOperation());
+		assertEquals(List.of(), log.getEvents(9));
+
+		// CLEARED is stored with ID 0, but is not about a task either
+		log.clear();
+		assertEquals(1, log.getSize());
+		assertEquals(List.of(), log.getEvents(0));
+		assertEquals(List.of(), log.getEvents(7));
+	}
+
+	@Test
+	public void findsEventsByOperationLatestFirst() {
+
+		HistoryLog log = new HistoryLog(4);
+		log.insertion(1, "First");
+		log.insertion(2, "Second");
+		log.bulkInsertion(25);
+		log.taskUpdate(HistoryEvent.Field.DUE_DATE, 1, "First");
+		log.insertion(3, "Third");	// overwrites the creation of task 1
+
+		List<HistoryEvent> created = log.getEvents(HistoryEvent.Operation.CREATED);
+		assertEquals(2, created.size());
+		assertEquals(3, created.get(0).getTaskID());
+		assertEquals(2, created.get(1).getTaskID());
+
+		List<HistoryEvent> imported = log.getEvents(HistoryEvent.Operation.IMPORTED);
+		assertEquals(1, imported.size());
+		assertEvent(imported.get(0), HistoryEvent.Operation.IMPORTED, 25, null, null);
+
+		assertEquals(List.of(), log.getEvents(HistoryEvent.Operation.DELETED));
+		assertEquals(List.of(), log.getEvents(HistoryEvent.Operation.CLEARED));
+
+		log.clear();
+		assertEquals(1, log.getEvents(HistoryEvent.Operation.CLEARED).size());
+		assertEquals(List.of(), log.getEvents(HistoryEvent.Operation.CREATED));
+	}
+
+	@Test
+	public void rendersTheOriginalMessages() {
+
+		HistoryLog log = new HistoryLog();
+		long before = System.currentTimeMillis();
+		log.insertion(42, "Write report");
+		log.taskUpdate(HistoryEvent.Field.NAME, 42, "Write summary");
+		log.taskUpdate(HistoryEvent.Field.DESCRIPTION, 42, "Write summary");
+		log.taskUpdate(HistoryEvent.Field.DUE_DATE, 42, "Write summary");
+		log.taskUpdate(HistoryEvent.Field.PRIORITY, 42, "Write summary");
+		log.deletion(new Task(42, "Write summary", "Quarterly", 1, 20261101, 0L));
+		log.bulkInsertion(1000);
+		long after = System.currentTimeMillis();
+
+		assertEquals(List.of(
+				"Task 42, 'Write report' created and added to task list",
+				"Task 42, 'Write summary' had its Task Name updated",
+				"Task 42, 'Write summary' had its Description updated",
+				"Task 42, 'Write summary' had its Due Date updated",
+				"Task 42, 'Write summary' had its Task Priority updated",
+				"Task 42, 'Write summary' deleted from task list",
+				"1000 tasks imported and added to task list"), log.getEntries(false));
+
+		// The stored events render the same text as the entries
+		for(int i = 1; i <= log.getSize(); i++) {
+			HistoryEvent event = log.getEvent(i);
+			assertEquals(log.getEntry(i), event.toString());
+			assertTrue(event.getTimestamp() >= before && event.getTimestamp() <= after);
+		}
+
+		log.clear();
+		assertEquals(List.of("Task History and List cleared"), log.getEntries());
+		assertEquals("Task History and List cleared", 
+				HistoryEvent.render(HistoryEvent.Operation.CLEARED, 0, null, null));
+	}
+
+	/**
+    * Checks the parts of an event
+    *
+    * @param event the event to check
+    * @param operation the expected operation
+    * @param taskID the expected task ID, or number of tasks for IMPORTED
+    * @param field the expected changed field, or null
+    * @param taskName the expected task name, or null
+    */
+	private static void assertEvent(HistoryEvent event, HistoryEvent.Operation operation, long taskID, 
+			HistoryEvent.Field field, String taskName) {
+
+		assertEquals(operation, event.getOperation());
+		assertEquals(taskID, event.getTaskID());
+		assertEquals(field, event.getField());
+		assertEquals(taskName, event.getTaskName());
+	}
+
+	/**
+    * Makes a log of capacity 5 that has wrapped around, holding the creations of tasks 7 to 11
+    *
+    * @return the log
+    */
+	private static HistoryLog wrapped() {
+
+		HistoryLog log = new HistoryLog(5);
+		for(int i = 1; i <= 11; i++) {
+			log.insertion(i, "Task " + i);
+		}
+		return log;
+	}
+
+	/**
+    * Checks the latest and oldest entries, read from both ends
+    *
+    * @param log the log to check
+    * @param latest ID of the latest task created
+    * @param oldest ID of the oldest task created that is still kept
+    */
+	private static void assertEnds(HistoryLog log, long latest, long oldest) {
+
+		int size = log.getSize();
+		assertEquals(created(latest).get(0), log.getEntry(1));
+		assertEquals(created(latest).get(0), log.getEntryFromOldest(size));
+		assertEquals(created(oldest).get(0), log.getEntryFromOldest(1));
+		assertEquals(created(oldest).get(0), log.getEntry(size));
+	}
+
+	/**
+    * Builds the messages of task creations
+    *
+    * @param IDs the task IDs, named "Task <ID>"
+    *
+    * @return the messages, in the same order
+    */
+	private static List<String> created(long... IDs) {
+
+		List<String> messages = new ArrayList<>();
+		for(long ID : IDs) {
+			messages.add("Task " + ID + ", 'Task " + ID + "' created and added to task list");
+		}
+		return messages;
+	}
+
+	/**
+    * Reverses a list of messages
+    *
+    * @param messages the messages
+    *
+    * @return a reversed copy
+    */
+	private static List<String> reversed(List<String> messages) {
+
+		List<String> copy = new ArrayList<>(messages);
+		Collections.reverse(copy);
+		return copy;
+	}
+}
+
+// END OF HistoryLogTest.java
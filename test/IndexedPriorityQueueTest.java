@@ -0,0 +1,336 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file IndexedPriorityQueueTest.java
+* @brief This file contains the tests for the indexed priority queue: removing and updating
+*        tasks deep inside the heap in both sift directions, the bottom-up heapify of bulk adds,
+*        top-K paging, the lazy sorted iterator, and polling in the same order as a sorted set
+*        over the same tasks
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Lazy iterator and the Task Manager's priority-order visit: order, early stop, heap untouched
+*/
+
+public class IndexedPriorityQueueTest {
+
+	private static final int[] DUE_DATES = {20261101, 20261115, 20261201, 20261215, 20270101, 20270115};
+
+	private final TaskComparator comparator = new TaskComparator();
+
+	@Test
+	public void updatedInnerTaskMovesUpOrDown() {
+
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(comparator);
+		List<Task> tasks = tasks(63, 20261201);
+		tasks.forEach(queue::add);
+
+		// Sorted tasks added in order fill the heap level by level, so position 5 is inner
+		Task inner = tasks.get(5);
+		assertEquals(5, inner.getQueueIndex());
+
+		inner.setDueDate(20261101);
+		queue.update(inner);
+		assertSame(inner, queue.peek());
+		assertHeap(queue);
+
+		inner.setDueDate(20270101);
+		queue.update(inner);
+		assertTrue(inner.getQueueIndex() >= queue.size() / 2);
+		assertHeap(queue);
+
+		assertPollOrder(queue, tasks);
+	}
+
+	@Test
+	public void removedInnerTaskIsReplacedInBothDirections() {
+
+		// Position 0 is due first, the right subtree (2, 5, 6, 11-14) before the left one
+		Task[] heap = new Task[15];
+		for(int i = 0; i < heap.length; i++) {
+			boolean right = (i == 2 || i == 5 || i == 6 || i >= 11);
+			heap[i] = restored(i == 0 ? 20261101 : right ? 20261115 : 20261201);
+		}
+
+		// A batch already in heap order is left as it is by the heapify
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(comparator);
+		queue.addAll(heap, heap.length);
+		assertArrayEquals(heap, queue.toArray());
+		List<Task> tasks = new ArrayList<>(List.of(heap));
+
+		// The last task fills the hole at 3, then moves up past its parent at 1
+		assertTrue(queue.remove(heap[3]));
+		assertEquals(-1, heap[3].getQueueIndex());
+		assertFalse(queue.contains(heap[3]));
+		assertFalse(queue.remove(heap[3]));
+		assertEquals(1, heap[14].getQueueIndex());
+		tasks.remove(heap[3]);
+		assertHeap(queue);
+
+		// The last task is now the largest of its subtree, it fills the hole at 2 and moves down
+		assertTrue(queue.remove(heap[2]));
+		assertEquals(13, queue.size());
+		assertTrue(heap[13].getQueueIndex() > 2);
+		tasks.remove(heap[2]);
+		assertHeap(queue);
+
+		assertPollOrder(queue, tasks);
+	}
+
+	@Test
+	public void bulkAddHeapifiesInLinearTime() {
+
+		int count = 1 << 14;
+		int[] compares = new int[1];
+		Comparator<Task> counting = (a, b) -> {
+			compares[0]++;
+			return comparator.compare(a, b);
+		};
+
+		// Worst case for adding one at a time: every task is smaller than all before it
+		long base = TaskIdAllocator.peekNextID() + count;
+		List<Task> tasks = new ArrayList<>();
+		for(int i = 0; i < count; i++) {
+			tasks.add(new Task(base - i, "Task", "Queue test", 3, 20261201, 0L));
+		}
+		Task[] batch = tasks.toArray(new Task[0]);
+
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(counting);
+		queue.addAll(batch, count);
+		assertTrue(compares[0] <= 2 * count, "compares: " + compares[0]);
+		assertEquals(count, queue.size());
+		assertHeap(queue);
+
+		// A batch smaller than the queue is sifted up task by task, duplicates are skipped
+		List<Task> more = tasks(100, 20261115);
+		Task[] small = more.toArray(new Task[101]);
+		small[100] = batch[0];
+		queue.addAll(small, 101);
+		assertEquals(count + 100, queue.size());
+		assertHeap(queue);
+
+		List<Task> all = new ArrayList<>(tasks);
+		all.addAll(more);
+		assertPollOrder(queue, all);
+	}
+
+	@Test
+	public void topKReturnsTheFirstTasksWithoutRemovingThem() {
+
+		Random random = new Random(20261018);
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(comparator);
+		TreeSet<Task> expected = new TreeSet<>(comparator);
+
+		for(int i = 0; i < 500; i++) {
+			Task task = restored(DUE_DATES[random.nextInt(DUE_DATES.length)], 1 + random.nextInt(5));
+			queue.add(task);
+			expected.add(task);
+		}
+
+		assertEquals(List.of(), queue.topK(0));
+		assertEquals(new ArrayList<>(expected).subList(0, 10), queue.topK(10));
+		assertEquals(new ArrayList<>(expected), queue.topK(1_000));
+		assertEquals(500, queue.size());
+		assertSame(expected.first(), queue.peek());
+		assertEquals(List.of(), new IndexedPriorityQueue(comparator).topK(5));
+	}
+
+	@Test
+	public void iteratorWalksInPriorityOrderWithoutChangingTheHeap() {
+
+		Random random = new Random(20261018);
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(comparator);
+		TreeSet<Task> expected = new TreeSet<>(comparator);
+
+		for(int i = 0; i < 1_000; i++) {
+			Task task = restored(DUE_DATES[random.nextInt(DUE_DATES.length)], 1 + random.nextInt(5));
+			queue.add(task);
+			expected.add(task);
+		}
+		Task[] before = queue.toArray();
+
+		List<Task> walked = new ArrayList<>();
+		Iterator<Task> ordered = queue.iterator();
+		while(ordered.hasNext()) {
+			walked.add(ordered.next());
+		}
+		assertEquals(new ArrayList<>(expected), walked);
+		assertThrows(NoSuchElementException.class, ordered::next);
+
+		// Stopping part way leaves the heap exactly as it was
+		Iterator<Task> partial = queue.iterator();
+		for(Task task : expected.headSet(walked.get(10))) {
+			assertSame(task, partial.next());
+		}
+		assertArrayEquals(before, queue.toArray());
+		assertHeap(queue);
+
+		queue.poll();
+		assertThrows(ConcurrentModificationException.class, partial::next);
+		assertFalse(new IndexedPriorityQueue(comparator).iterator().hasNext());
+	}
+
+	@Test
+	public void managerVisitsByPriorityAndStopsWhenAsked() {
+
+		Random random = new Random(20261018);
+		TaskManager manager = new TaskManager();
+		List<Task> expected = new ArrayList<>();
+		for(int i = 0; i < 300; i++) {
+			expected.add(manager.addTask("Task " + i, "Visited", 1 + random.nextInt(5), DUE_DATES[random.nextInt(DUE_DATES.length)]));
+		}
+		expected.sort(comparator);
+
+		List<Task> visited = new ArrayList<>();
+		manager.forEachByPriority(task -> visited.add(task));
+		assertEquals(expected, visited);
+
+		List<Task> firstTen = new ArrayList<>();
+		manager.forEachByPriority(task -> {
+			firstTen.add(task);
+			return firstTen.size() < 10;
+		});
+		assertEquals(expected.subList(0, 10), firstTen);
+
+		// Visiting left the queue as it was
+		assertEquals(expected, manager.topK(300));
+		assertEquals(300, manager.size());
+	}
+
+	@Test
+	public void randomMixPollsInTheSameOrderAsASortedSet() {
+
+		Random random = new Random(20261018);
+		IndexedPriorityQueue queue = new IndexedPriorityQueue(comparator);
+		TreeSet<Task> expected = new TreeSet<>(comparator);
+		List<Task> queued = new ArrayList<>();
+
+		for(int round = 0; round < 20_000; round++) {
+			int action = random.nextInt(10);
+
+			if(action < 4 || queued.isEmpty()) {
+				Task task = restored(DUE_DATES[random.nextInt(DUE_DATES.length)], 1 + random.nextInt(5));
+				queue.add(task);
+				expected.add(task);
+				queued.add(task);
+			} else if(action < 6) {
+				Task task = queued.remove(random.nextInt(queued.size()));
+				assertTrue(queue.remove(task));
+				assertTrue(expected.remove(task));
+			} else if(action < 9) {
+				// The sorted set has to forget the task before its key changes
+				Task task = queued.get(random.nextInt(queued.size()));
+				expected.remove(task);
+				if(random.nextBoolean()) {
+					task.setDueDate(DUE_DATES[random.nextInt(DUE_DATES.length)]);
+				} else {
+					task.setPriority(1 + random.nextInt(5));
+				}
+				queue.update(task);
+				expected.add(task);
+			} else {
+				Task task = queue.poll();
+				assertSame(expected.pollFirst(), task);
+				queued.remove(task);
+			}
+
+			assertEquals(expected.size(), queue.size());
+			assertSame(expected.isEmpty() ? null : expected.first(), queue.peek());
+		}
+
+		assertHeap(queue);
+		while(!expected.isEmpty()) {
+			assertSame(expected.pollFirst(), queue.poll());
+		}
+		assertNull(queue.poll());
+		assertTrue(queue.isEmpty());
+	}
+
+	/**
+    * Checks that every task is no smaller than its parent and knows its own heap position
+    *
+    * @param queue the queue to check
+    */
+	private void assertHeap(IndexedPriorityQueue queue) {
+
+		Task[] heap = queue.toArray();
+
+		for(int i = 0; i < heap.length; i++) {
+			assertEquals(i, heap[i].getQueueIndex());
+			if(i > 0) {
+				assertTrue(comparator.compare(heap[(i - 1) / 2], heap[i]) <= 0, "heap order broken at " + i);
+			}
+		}
+	}
+
+	/**
+    * Polls the whole queue and checks it against the tasks sorted by the comparator
+    *
+    * @param queue the queue to empty
+    * @param tasks the tasks it should hold
+    */
+	private void assertPollOrder(IndexedPriorityQueue queue, List<Task> tasks) {
+
+		List<Task> sorted = new ArrayList<>(tasks);
+		sorted.sort(comparator);
+
+		for(Task task : sorted) {
+			assertSame(task, queue.poll());
+			assertEquals(-1, task.getQueueIndex());
+		}
+		assertTrue(queue.isEmpty());
+	}
+
+	/**
+    * Creates tasks that share a due date and priority, so they are ordered by ID
+    *
+    * @param count number of tasks
+    * @param dueDate the due date (format: YYYYMMDD)
+    *
+    * @return the tasks, first task first
+    */
+	private static List<Task> tasks(int count, int dueDate) {
+
+		List<Task> tasks = new ArrayList<>();
+		for(int i = 0; i < count; i++) {
+			tasks.add(restored(dueDate));
+		}
+		return tasks;
+	}
+
+	/**
+    * Creates a task with priority 3 and the next free ID
+    *
+    * @param dueDate the due date (format: YYYYMMDD)
+    *
+    * @return the task
+    */
+	private static Task restored(int dueDate) {
+		return restored(dueDate, 3);
+	}
+
+	/**
+    * Creates a task with the next free ID
+    *
+    * @param dueDate the due date (format: YYYYMMDD)
+    * @param priority the task priority
+    *
+    * @return the task
+    */
+	private static Task restored(int dueDate, int priority) {
+		return new Task("Task", "Queue test", priority, dueDate);
+	}
+}
+
+// END OF IndexedPriorityQueueTest.java
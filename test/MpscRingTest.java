@@ -0,0 +1,139 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file MpscRingTest.java
+* @brief This file contains the tests for the multi-producer ring buffer: capacity rounding, a
+*        full ring refusing elements, order across many laps, and a stress test where several
+*        producers race one consumer without losing, repeating or reordering their elements
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class MpscRingTest {
+
+	@Test
+	public void capacityIsRoundedUpToAPowerOfTwo() {
+
+		assertEquals(1, new MpscRing<Long>(1).capacity());
+		assertEquals(8, new MpscRing<Long>(5).capacity());
+		assertEquals(1024, new MpscRing<Long>(1024).capacity());
+
+		assertThrows(IllegalArgumentException.class, () -> new MpscRing<Long>(0));
+		assertThrows(IllegalArgumentException.class, () -> new MpscRing<Long>((1 << 30) + 1));
+	}
+
+	@Test
+	public void fullRingRefusesUntilDrained() {
+
+		MpscRing<Long> ring = new MpscRing<>(8);
+		Long[] drained = new Long[8];
+
+		assertTrue(ring.isEmpty());
+		for(long i = 0; i < 8; i++) {
+			assertFalse(ring.isFull());
+			assertTrue(ring.offer(i));
+		}
+		assertTrue(ring.isFull());
+		assertFalse(ring.offer(8L));
+
+		assertEquals(3, ring.drain(drained, 3));
+		assertArrayEquals(new Long[] {0L, 1L, 2L}, Arrays.copyOf(drained, 3));
+		assertFalse(ring.isFull());
+
+		for(long i = 8; i < 11; i++) {
+			assertTrue(ring.offer(i));
+		}
+		assertFalse(ring.offer(11L));
+
+		assertEquals(8, ring.drain(drained, 8));
+		for(int i = 0; i < 8; i++) {
+			assertEquals(3L + i, drained[i]);
+		}
+		assertTrue(ring.isEmpty());
+		assertEquals(0, ring.drain(drained, 8));
+	}
+
+	@Test
+	public void orderHoldsAcrossManyLaps() {
+
+		MpscRing<Long> ring = new MpscRing<>(4);
+		Long[] drained = new Long[4];
+		long next = 0;
+		long expected = 0;
+
+		for(int lap = 0; lap < 10_000; lap++) {
+			int batch = 1 + lap % 4;
+			for(int i = 0; i < batch; i++) {
+				assertTrue(ring.offer(next++));
+			}
+
+			int count = ring.drain(drained, 4);
+			assertEquals(batch, count);
+			for(int i = 0; i < count; i++) {
+				assertEquals(expected++, drained[i]);
+			}
+		}
+	}
+
+	@Test
+	public void concurrentProducersLoseAndRepeatNothing() throws InterruptedException {
+
+		int producers = 4;
+		int perProducer = 100_000;
+		MpscRing<Long> ring = new MpscRing<>(64);		// small, so the ring is often full and wraps many times
+
+		List<Thread> threads = new ArrayList<>();
+		for(int p = 0; p < producers; p++) {
+			long producer = p;
+			Thread thread = new Thread(() -> {
+				for(long sequence = 0; sequence < perProducer; sequence++) {
+					Long element = (producer << 32) | sequence;
+					while(!ring.offer(element)) {
+						Thread.yield();
+					}
+				}
+			}, "ring-producer-" + p);
+			threads.add(thread);
+			thread.start();
+		}
+
+		long[] nextSequence = new long[producers];
+		Long[] drained = new Long[64];
+		long total = 0;
+		long deadline = System.nanoTime() + 60_000_000_000L;
+
+		while(total < (long) producers * perProducer) {
+			int count = ring.drain(drained, drained.length);
+			if(count == 0) {
+				assertTrue(System.nanoTime() < deadline, "only " + total + " elements arrived");
+				Thread.yield();
+				continue;
+			}
+
+			for(int i = 0; i < count; i++) {
+				int producer = (int) (drained[i] >>> 32);
+				long sequence = drained[i] & 0xFFFFFFFFL;
+				assertEquals(nextSequence[producer], sequence, "producer " + producer + " out of order");
+				nextSequence[producer]++;
+			}
+			total += count;
+		}
+
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(ring.isEmpty());
+		for(int p = 0; p < producers; p++) {
+			assertEquals(perProducer, nextSequence[p]);
+		}
+	}
+}
+
+// END OF MpscRingTest.java
@@ -0,0 +1,176 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file QueryPlannerTest.java
+* @brief This file contains the tests for the query planner: the access path it picks for ID,
+*        due date, priority and text filters, alone and combined, and the tasks each plan
+*        returns checked against a scan of every task, including name-only word filters
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class QueryPlannerTest {
+
+	private static final String[] WORDS = {"report", "review", "budget", "plan", "call", "draft"};
+
+	private final TaskManager manager = new TaskManager();
+	private final List<Task> tasks = new ArrayList<>();
+
+	/**
+    * Fills the manager with 1,000 tasks spread over 200 due dates and every priority, with a
+    * rare word in a few names and in a few other descriptions
+    */
+	public QueryPlannerTest() {
+
+		for(int i = 0; i < 1_000; i++) {
+			String name = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + (i % 97 == 0 ? " urgent" : "");
+			String description = "Task number " + i + (i % 89 == 0 ? " urgent" : "");
+			int dueDate = date(LocalDate.of(2026, 1, 1).plusDays(i % 200));
+			tasks.add(manager.addTask(name, description, 1 + i % 5, dueDate));
+		}
+	}
+
+	@Test
+	public void singleIDIsLookedUp() {
+
+		Task task = tasks.get(500);
+
+		assertPlan(new TaskQuery().id(task.getID()), QueryPlanner.AccessPath.ID_LOOKUP, 
+				candidate -> candidate == task);
+		assertPlan(new TaskQuery().id(task.getID()).priorityBetween(1, 1).containing("urgent"), 
+				QueryPlanner.AccessPath.ID_LOOKUP, candidate -> false);
+		assertPlan(new TaskQuery().id(last() + 1), QueryPlanner.AccessPath.ID_LOOKUP, candidate -> false);
+	}
+
+	@Test
+	public void narrowestIndexIsRead() {
+
+		long first = tasks.get(0).getID();
+
+		assertPlan(new TaskQuery().idBetween(first + 10, first + 19), QueryPlanner.AccessPath.ID_RANGE, 
+				task -> task.getID() >= first + 10 && task.getID() <= first + 19);
+		assertPlan(new TaskQuery().dueBetween(20260110, 20260111), QueryPlanner.AccessPath.DUE_DATE, 
+				task -> task.getDueDate() >= 20260110 && task.getDueDate() <= 20260111);
+		assertPlan(new TaskQuery().priorityBetween(2, 2), QueryPlanner.AccessPath.PRIORITY, 
+				task -> task.getPriority() == 2);
+		assertPlan(new TaskQuery().containing("urgent"), QueryPlanner.AccessPath.TEXT, 
+				task -> hasWord(task.getName(), "urgent") || hasWord(task.getDescription(), "urgent"));
+	}
+
+	@Test
+	public void combinedFiltersReadTheMostSelectiveIndex() {
+
+		long first = tasks.get(0).getID();
+
+		// A wide ID range loses to a one-day due date range, and the other way round
+		assertPlan(new TaskQuery().idBetween(first, first + 899).dueBetween(20260301, 20260301), 
+				QueryPlanner.AccessPath.DUE_DATE, 
+				task -> task.getID() <= first + 899 && task.getDueDate() == 20260301);
+		assertPlan(new TaskQuery().idBetween(first + 5, first + 7).dueBetween(20260101, 20260630), 
+				QueryPlanner.AccessPath.ID_RANGE, 
+				task -> task.getID() >= first + 5 && task.getID() <= first + 7);
+
+		// A rare word beats a priority level, a priority level beats a common word
+		assertPlan(new TaskQuery().priorityBetween(1, 1).containing("urgent"), QueryPlanner.AccessPath.TEXT, 
+				task -> task.getPriority() == 1 && (hasWord(task.getName(), "urgent") || hasWord(task.getDescription(), "urgent")));
+		assertPlan(new TaskQuery().priorityBetween(4, 4).containing("Task"), QueryPlanner.AccessPath.PRIORITY, 
+				task -> task.getPriority() == 4);
+
+		// Creation time has no index of its own
+		assertPlan(new TaskQuery().createdBetween(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)), 
+				QueryPlanner.AccessPath.FULL_SCAN, task -> true);
+		assertPlan(new TaskQuery(), QueryPlanner.AccessPath.FULL_SCAN, task -> true);
+	}
+
+	@Test
+	public void contradictoryQueriesReadNothing() {
+
+		assertPlan(new TaskQuery().dueBetween(20260301, 20260201), QueryPlanner.AccessPath.NONE, task -> false);
+		assertPlan(new TaskQuery().priorityBetween(3, 2), QueryPlanner.AccessPath.NONE, task -> false);
+		assertPlan(new TaskQuery().idBetween(10, 20).idBetween(30, 40), QueryPlanner.AccessPath.NONE, task -> false);
+		assertPlan(new TaskQuery().containing("report").limit(0), QueryPlanner.AccessPath.NONE, task -> false);
+	}
+
+	@Test
+	public void nameWordsIgnoreTheDescription() {
+
+		assertPlan(new TaskQuery().nameContaining("urgent"), QueryPlanner.AccessPath.TEXT, 
+				task -> hasWord(task.getName(), "urgent"));
+		assertPlan(new TaskQuery().nameContaining("URGENT report"), QueryPlanner.AccessPath.TEXT, 
+				task -> hasWord(task.getName(), "urgent") && hasWord(task.getName(), "report"));
+
+		// "number" is in every description and no name
+		assertPlan(new TaskQuery().nameContaining("number"), QueryPlanner.AccessPath.FULL_SCAN, task -> false);
+		assertPlan(new TaskQuery().containing("number").nameContaining("draft").dueBetween(20260101, 20260105), 
+				QueryPlanner.AccessPath.DUE_DATE, 
+				task -> hasWord(task.getName(), "draft") && task.getDueDate() <= 20260105);
+
+		// Whole words only, in names as in descriptions
+		assertPlan(new TaskQuery().nameContaining("urg"), QueryPlanner.AccessPath.TEXT, task -> false);
+	}
+
+	/**
+    * Checks the access path a query is planned with and the tasks it returns
+    *
+    * @param query the query
+    * @param accessPath the access path the planner should pick
+    * @param expected the condition a task meets to be returned
+    */
+	private void assertPlan(TaskQuery query, QueryPlanner.AccessPath accessPath, Predicate<Task> expected) {
+
+		assertEquals(accessPath, manager.explain(query));
+
+		List<Task> matching = new ArrayList<>();
+		for(Task task : tasks) {
+			if(expected.test(task)) {
+				matching.add(task);
+			}
+		}
+
+		List<Task> found = manager.query(query);
+		found.sort(Comparator.comparingLong(Task::getID));
+		assertEquals(matching, found);
+	}
+
+	/**
+    * Checks for a whole word, split separately from the text index
+    *
+    * @param text the text to search
+    * @param word a lowercase word
+    *
+    * @return true if the text holds the word
+    */
+	private static boolean hasWord(String text, String word) {
+		return List.of(text.toLowerCase().split("[^\\p{L}\\p{N}]+")).contains(word);
+	}
+
+	/**
+    * @return ID of the last task added
+    */
+	private long last() {
+		return tasks.get(tasks.size() - 1).getID();
+	}
+
+	/**
+    * Converts a date to the YYYYMMDD form
+    *
+    * @param date the date
+    *
+    * @return the date as an integer
+    */
+	private static int date(LocalDate date) {
+		return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+	}
+}
+
+// END OF QueryPlannerTest.java
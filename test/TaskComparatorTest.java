@@ -0,0 +1,128 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TaskComparatorTest.java
+* @brief This file contains the tests for the task ordering: due date, then priority, then
+*        creation order over the whole 64-bit ID space, and the epoch-based creation time-stamp
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Sort key checked on its own, including ties past the packed creation sequence
+* 10/18/2026 - IDs below the first allocated one refused when a task is restored
+*/
+
+public class TaskComparatorTest {
+
+	private final TaskComparator comparator = new TaskComparator();
+
+	@Test
+	public void ordersByDueDateThenPriorityThenID() {
+
+		long base = TaskIdAllocator.peekNextID() + 1_000;
+		Task later = restored(base, 1, 20261102);
+		Task lowPriority = restored(base + 1, 4, 20261101);
+		Task highPriority = restored(base + 2, 2, 20261101);
+		Task newer = restored(base + 3, 2, 20261101);
+
+		assertTrue(comparator.compare(lowPriority, later) < 0);
+		assertTrue(comparator.compare(highPriority, lowPriority) < 0);
+		assertTrue(comparator.compare(highPriority, newer) < 0);
+		assertTrue(comparator.compare(newer, highPriority) > 0);
+		assertEquals(0, comparator.compare(newer, newer));
+	}
+
+	@Test
+	public void sortKeyAloneOrdersByDueDatePriorityAndCreation() {
+
+		long base = TaskIdAllocator.peekNextID() + 2_000;
+		Task[] ordered = {
+			restored(base + 5, 1, 20261101),
+			restored(base + 9, 1, 20261101),
+			restored(base + 2, 3, 20261101),
+			restored(base + 1, 1, 20261102),
+			restored(base + 3, 5, 99991231)
+		};
+
+		for(int i = 1; i < ordered.length; i++) {
+			assertTrue(ordered[i - 1].getSortKey() < ordered[i].getSortKey(), "keys " + (i - 1) + " and " + i);
+			assertTrue(comparator.compare(ordered[i - 1], ordered[i]) < 0);
+		}
+		assertTrue(ordered[ordered.length - 1].getSortKey() > 0);
+	}
+
+	@Test
+	public void creationOrderHoldsPastThirtyThreeBitIDs() {
+
+		// IDs that share their low 33 bits, and a newer one whose low bits are smaller
+		long older = 5;
+		long wrapped = (1L << 33) + 5;
+		long newest = (1L << 33) + 1;
+
+		Task first = restored(older, 3, 20261101);
+		Task second = restored(newest, 3, 20261101);
+		Task third = restored(wrapped, 3, 20261101);
+
+		assertTrue(comparator.compare(first, second) < 0);
+		assertTrue(comparator.compare(first, third) < 0);
+		assertTrue(comparator.compare(second, third) < 0);
+		assertTrue(comparator.compare(third, first) > 0);
+
+		// Past the packed sequence limit the keys tie and the IDs decide
+		assertEquals(second.getSortKey(), third.getSortKey());
+		assertTrue(first.getSortKey() < second.getSortKey());
+	}
+
+	@Test
+	public void restoredTasksRejectIDsBelowTheFirstOne() {
+
+		long next = TaskIdAllocator.peekNextID();
+
+		assertThrows(IllegalArgumentException.class, () -> restored(0, 1, 20261101));
+		assertThrows(IllegalArgumentException.class, () -> restored(-5, 1, 20261101));
+		assertThrows(IllegalArgumentException.class, 
+				() -> new Task(Long.MIN_VALUE, "Task", "Negative", 1, 20261101, LocalDateTime.now()));
+		assertEquals(next, TaskIdAllocator.peekNextID());
+
+		Task first = restored(TaskIdAllocator.FIRST_ID, 3, 20261101);
+		assertEquals(((20261101L << 3 | 3) << 33) | TaskIdAllocator.FIRST_ID, first.getSortKey());
+	}
+
+	@Test
+	public void creationTimeIsEpochBased() {
+
+		long before = Task.toNanos(Instant.now());
+		Task task = new Task("Now", "Created now", 1, 20261101);
+		long after = Task.toNanos(Instant.now());
+
+		assertTrue(task.getCreatedAtNanos() >= before && task.getCreatedAtNanos() <= after);
+	}
+
+	@Test
+	public void localCreationTimeRoundTrips() {
+
+		LocalDateTime createdAt = LocalDateTime.of(2026, 3, 29, 12, 30, 15, 123_456_789);
+		Task task = new Task(TaskIdAllocator.peekNextID() + 5_000, "Old", "Restored", 1, 20261101, createdAt);
+
+		assertEquals(createdAt, task.getCreatedAt());
+	}
+
+	/**
+    * Restores a task with a chosen ID
+    *
+    * @param ID the task ID
+    * @param priority the task priority
+    * @param dueDate the due date (format: YYYYMMDD)
+    *
+    * @return the task
+    */
+	private static Task restored(long ID, int priority, int dueDate) {
+		return new Task(ID, "Task " + ID, "Ordering test", priority, dueDate, 0L);
+	}
+}
+
+// END OF TaskComparatorTest.java
@@ -0,0 +1,202 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TaskIdMapTest.java
+* @brief This file contains the tests for the open-addressing ID map: backward-shift removal in
+*        a probe run that wraps past the end of the table, growth past the load factor, clearing,
+*        the reserved ID 0 and negative IDs, and a random mix checked against a HashMap
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Tasks with the reserved or a negative ID can no longer be created
+*/
+
+public class TaskIdMapTest {
+
+	private static final int TABLE_LENGTH = 32;		// new TaskIdMap() holds 16 tasks under the 0.7 load factor
+
+	@Test
+	public void removalInsideAWrappingRunKeepsTheRestReachable() {
+
+		// Three IDs homed on the last slot fill slots 31, 0 and 1 of a new map, and an ID homed
+		// on slot 0 extends the run to slot 2
+		List<Long> last = IDsHomedAt(TABLE_LENGTH - 1, 3);
+		long first = IDsHomedAt(0, 1).get(0);
+
+		for(int runLength = 3; runLength <= 4; runLength++) {
+			for(int removed = 0; removed < runLength; removed++) {
+				TaskIdMap map = new TaskIdMap();
+				List<Task> tasks = new ArrayList<>();
+				for(long ID : last) {
+					tasks.add(task(ID));
+				}
+				if(runLength == 4) {
+					tasks.add(task(first));
+				}
+				for(Task task : tasks) {
+					assertNull(map.put(task));
+				}
+
+				Task gone = tasks.remove(removed);
+				assertSame(gone, map.remove(gone.getID()));
+				assertNull(map.get(gone.getID()));
+				assertEquals(runLength - 1, map.size());
+
+				for(Task task : tasks) {
+					assertSame(task, map.get(task.getID()), "ID " + task.getID() + " after removing " + gone.getID());
+				}
+				for(Task task : tasks) {
+					assertSame(task, map.remove(task.getID()));
+				}
+				assertTrue(map.isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void growsPastTheLoadFactorWithoutLosingTasks() {
+
+		TaskIdMap map = new TaskIdMap();
+		List<Task> tasks = new ArrayList<>();
+
+		// The default table resizes at its 22nd task, 1000 tasks take it through several doublings
+		for(long ID = 1; ID <= 1_000; ID++) {
+			Task task = task(ID);
+			tasks.add(task);
+			assertNull(map.put(task));
+			assertEquals(tasks.size(), map.size());
+			if(ID == 21 || ID == 22 || ID == 23) {
+				for(Task stored : tasks) {
+					assertSame(stored, map.get(stored.getID()));
+				}
+			}
+		}
+
+		for(Task task : tasks) {
+			assertSame(task, map.get(task.getID()));
+		}
+		assertNull(map.get(1_001));
+	}
+
+	@Test
+	public void putReplacesATaskWithTheSameID() {
+
+		TaskIdMap map = new TaskIdMap();
+		Task original = task(5);
+		Task replacement = task(5);
+
+		assertNull(map.put(original));
+		assertSame(original, map.put(replacement));
+		assertSame(replacement, map.get(5));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void clearEmptiesTheMapAndKeepsItUsable() {
+
+		TaskIdMap map = new TaskIdMap(100);
+		for(long ID = 1; ID <= 100; ID++) {
+			map.put(task(ID));
+		}
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.size());
+		for(long ID = 1; ID <= 100; ID++) {
+			assertNull(map.get(ID));
+		}
+
+		Task task = task(42);
+		map.put(task);
+		assertSame(task, map.get(42));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void reservedAndNegativeIDs() {
+
+		TaskIdMap map = new TaskIdMap();
+		map.put(task(1));
+
+		assertNull(map.get(0));
+		assertFalse(map.containsKey(0));
+		assertNull(map.remove(0));
+
+		assertNull(map.get(-1));
+		assertNull(map.remove(-1));
+		assertNull(map.get(Long.MIN_VALUE));
+		assertEquals(1, map.size());
+
+		// No task can carry the reserved key or a negative ID
+		assertThrows(IllegalArgumentException.class, () -> task(0));
+		assertThrows(IllegalArgumentException.class, () -> task(-7));
+	}
+
+	@Test
+	public void randomMixMatchesAHashMap() {
+
+		Random random = new Random(20261018);
+		TaskIdMap map = new TaskIdMap();
+		Map<Long, Task> expected = new HashMap<>();
+
+		for(int round = 0; round < 50_000; round++) {
+			long ID = 1 + random.nextInt(300);		// few IDs, so runs collide and wrap often
+
+			if(random.nextInt(3) == 0) {
+				assertSame(expected.remove(ID), map.remove(ID));
+			} else {
+				Task task = task(ID);
+				assertSame(expected.put(ID, task), map.put(task));
+			}
+			assertEquals(expected.size(), map.size());
+
+			if(round % 1_000 == 0) {
+				for(long check = 1; check <= 300; check++) {
+					assertSame(expected.get(check), map.get(check));
+				}
+			}
+		}
+	}
+
+	/**
+    * Creates a task with a given ID
+    *
+    * @param ID the task ID
+    *
+    * @return the task
+    */
+	private static Task task(long ID) {
+		return new Task(ID, "Task " + ID, "Mapped", 1, 20261101, 0L);
+	}
+
+	/**
+    * Finds positive IDs whose home slot in a new map is a given slot, with
+    * the same hash as TaskIdMap
+    *
+    * @param slot the home slot
+    * @param count number of IDs to find
+    *
+    * @return the IDs, in increasing order
+    */
+	private static List<Long> IDsHomedAt(int slot, int count) {
+
+		List<Long> IDs = new ArrayList<>();
+		for(long ID = 1; IDs.size() < count; ID++) {
+			long hash = ID * 0x9E3779B97F4A7C15L;
+			if(((int) (hash ^ (hash >>> 32)) & (TABLE_LENGTH - 1)) == slot) {
+				IDs.add(ID);
+			}
+		}
+		return IDs;
+	}
+}
+
+// END OF TaskIdMapTest.java
\ No newline at end of file
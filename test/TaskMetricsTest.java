@@ -0,0 +1,266 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TaskMetricsTest.java
+* @brief This file contains the tests for the Task Manager metrics: the log-linear bucket math of
+*        the latency histogram at 0, 1, every sub-bucket boundary and the largest long, percentiles
+*        that rise with the fraction and stay within 12.5% of the exact value, snapshot counts and
+*        gauges, and publishing over JMX
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Top-K reads and priority-order visits counted apart
+*/
+
+public class TaskMetricsTest {
+
+	private static final int BUCKETS = 488;		// 61 powers of two with 8 sub-buckets each
+	private static final double[] FRACTIONS = {0.0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999, 1.0};
+
+	@Test
+	public void smallLatenciesGetABucketEach() {
+
+		for(long nanos = 0; nanos < 8; nanos++) {
+			assertEquals(nanos, TaskMetrics.LatencyHistogram.bucket(nanos));
+			assertEquals(nanos, TaskMetrics.LatencyHistogram.highestValue((int) nanos));
+		}
+
+		TaskMetrics.LatencyHistogram histogram = new TaskMetrics.LatencyHistogram();
+		histogram.record(0);
+		histogram.record(1);
+		histogram.record(-5);		// a clock step back is counted as 0
+
+		long[] counts = histogram.copyCounts();
+		assertEquals(BUCKETS, counts.length);
+		assertEquals(2, counts[0]);
+		assertEquals(1, counts[1]);
+		assertEquals(0, TaskMetrics.LatencyHistogram.percentile(counts, 3, 0.5));
+		assertEquals(1, TaskMetrics.LatencyHistogram.percentile(counts, 3, 1.0));
+	}
+
+	@Test
+	public void bucketsTileEveryLongWithoutGaps() {
+
+		assertEquals(0, TaskMetrics.LatencyHistogram.bucket(0));
+
+		// Every bucket ends one below where the next one starts
+		for(int bucket = 0; bucket < BUCKETS - 1; bucket++) {
+			long highest = TaskMetrics.LatencyHistogram.highestValue(bucket);
+			assertEquals(bucket, TaskMetrics.LatencyHistogram.bucket(highest), "end of bucket " + bucket);
+			assertEquals(bucket + 1, TaskMetrics.LatencyHistogram.bucket(highest + 1), "start of bucket " + (bucket + 1));
+		}
+
+		assertEquals(BUCKETS - 1, TaskMetrics.LatencyHistogram.bucket(Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, TaskMetrics.LatencyHistogram.highestValue(BUCKETS - 1));
+	}
+
+	@Test
+	public void subBucketBoundariesOfEveryPowerOfTwo() {
+
+		for(int exponent = 3; exponent < 63; exponent++) {
+			long width = 1L << (exponent - 3);
+
+			for(int subBucket = 0; subBucket < 8; subBucket++) {
+				long lowest = (1L << exponent) + subBucket * width;
+				int bucket = (exponent - 2) * 8 + subBucket;
+
+				assertEquals(bucket, TaskMetrics.LatencyHistogram.bucket(lowest), "2^" + exponent + " sub-bucket " + subBucket);
+				assertEquals(bucket, TaskMetrics.LatencyHistogram.bucket(lowest + width - 1));
+				assertEquals(bucket - 1, TaskMetrics.LatencyHistogram.bucket(lowest - 1));
+				assertEquals(lowest + width - 1, TaskMetrics.LatencyHistogram.highestValue(bucket));
+
+				// The bucket's upper bound overstates any latency in it by at most 12.5%
+				assertTrue(width - 1 <= lowest / 8);
+			}
+		}
+	}
+
+	@Test
+	public void recordsTheLargestLong() {
+
+		TaskMetrics.LatencyHistogram histogram = new TaskMetrics.LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(Long.MAX_VALUE - 1);
+
+		long[] counts = histogram.copyCounts();
+		assertEquals(2, counts[BUCKETS - 1]);
+		assertEquals(Long.MAX_VALUE, TaskMetrics.LatencyHistogram.percentile(counts, 2, 0.5));
+		assertEquals(Long.MAX_VALUE, TaskMetrics.LatencyHistogram.percentile(counts, 2, 1.0));
+	}
+
+	@Test
+	public void percentilesRiseAndStayWithinTheBucketError() {
+
+		Random random = new Random(21);
+		long[][] inputs = {
+			sequence(10_000),
+			randomLatencies(random, 100_000, 1_000_000L),
+			randomLatencies(random, 50_000, Long.MAX_VALUE / 4),
+			{42},
+		};
+
+		for(long[] latencies : inputs) {
+			TaskMetrics.LatencyHistogram histogram = new TaskMetrics.LatencyHistogram();
+			for(long nanos : latencies) {
+				histogram.record(nanos);
+			}
+
+			long[] sorted = latencies.clone();
+			Arrays.sort(sorted);
+			long[] counts = histogram.copyCounts();
+			long previous = 0;
+
+			for(double fraction : FRACTIONS) {
+				long reported = TaskMetrics.LatencyHistogram.percentile(counts, sorted.length, fraction);
+				long exact = sorted[(int) Math.max(0, Math.ceil(sorted.length * fraction) - 1)];
+
+				assertTrue(reported >= previous, "p" + fraction + " fell below the one before it");
+				assertTrue(reported >= exact, "p" + fraction + " " + reported + " below " + exact);
+				assertTrue(reported - exact <= exact / 8, "p" + fraction + " " + reported + " too far above " + exact);
+				previous = reported;
+			}
+		}
+
+		assertEquals(0, TaskMetrics.LatencyHistogram.percentile(new long[BUCKETS], 0, 0.99));
+	}
+
+	@Test
+	public void snapshotCountsCallsAndReadsGauges() {
+
+		TaskMetrics metrics = new TaskMetrics();
+		AtomicLong queued = new AtomicLong(3);
+		metrics.registerGauge("queued", queued::get);
+		metrics.registerGauge("constant", () -> 7);
+
+		for(int i = 0; i < 5; i++) {
+			metrics.record(TaskMetrics.Operation.ADD, metrics.start());
+		}
+		metrics.record(TaskMetrics.Operation.SEARCH, metrics.start());
+
+		metrics.setEnabled(false);
+		assertEquals(0, metrics.start());
+		metrics.record(TaskMetrics.Operation.ADD, metrics.start());
+		metrics.setEnabled(true);
+
+		queued.set(11);
+		TaskMetrics.Snapshot snapshot = metrics.snapshot();
+		TaskMetrics.OperationStats adds = snapshot.get(TaskMetrics.Operation.ADD);
+
+		assertEquals(5, adds.getCount());
+		assertEquals(1, snapshot.get(TaskMetrics.Operation.SEARCH).getCount());
+		assertEquals(0, snapshot.get(TaskMetrics.Operation.DELETE).getCount());
+		assertTrue(adds.getP50Nanos() <= adds.getP90Nanos() && adds.getP90Nanos() <= adds.getP99Nanos()
+				&& adds.getP99Nanos() <= adds.getP999Nanos() && adds.getP999Nanos() <= adds.getMaxNanos());
+		assertTrue(adds.getMeanNanos() <= adds.getMaxNanos());
+
+		assertEquals(List.of("queued", "constant"), List.copyOf(snapshot.getGauges().keySet()));
+		assertEquals(11L, snapshot.getGauges().get("queued"));
+		assertEquals(7L, snapshot.getGauges().get("constant"));
+		assertTrue(snapshot.toString().contains("ADD: count=5"));
+		assertFalse(snapshot.toString().contains("DELETE"));
+
+		metrics.reset();
+		assertEquals(0, metrics.snapshot().get(TaskMetrics.Operation.ADD).getCount());
+		assertEquals(0, metrics.snapshot().get(TaskMetrics.Operation.ADD).getMaxNanos());
+	}
+
+	@Test
+	public void taskManagerRecordsItsOperations() {
+
+		TaskManager manager = new TaskManager();
+		Task task = manager.addTask("Measured", "Counted by the metrics", 2, 20261101);
+		manager.search(task.getID());
+		manager.search(task.getID() + 1);
+		manager.editName(task.getID(), "Measured again");
+		manager.range(20261101, 20261130);
+		manager.topK(5);
+		manager.forEachByPriority(visited -> true);
+		manager.forEachByPriority(visited -> false);
+
+		TaskMetrics.Snapshot snapshot = manager.getMetrics().snapshot();
+		assertEquals(1, snapshot.get(TaskMetrics.Operation.ADD).getCount());
+		assertEquals(2, snapshot.get(TaskMetrics.Operation.SEARCH).getCount());
+		assertEquals(1, snapshot.get(TaskMetrics.Operation.EDIT).getCount());
+		assertEquals(1, snapshot.get(TaskMetrics.Operation.RANGE).getCount());
+		assertEquals(1, snapshot.get(TaskMetrics.Operation.TOP_K).getCount());
+		assertEquals(2, snapshot.get(TaskMetrics.Operation.PRIORITY_SCAN).getCount());
+		assertEquals(1L, snapshot.getGauges().get("tasks"));
+		assertEquals(1L, snapshot.getGauges().get("queueSize"));
+	}
+
+	@Test
+	public void registersAndUnregistersOverJmx() throws JMException {
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		TaskMetrics metrics = new TaskMetrics();
+		metrics.registerGauge("answer", () -> 42);
+		metrics.record(TaskMetrics.Operation.QUERY, metrics.start());
+
+		ObjectName name = metrics.register("metrics-test");
+		try {
+			assertTrue(server.isRegistered(name));
+			assertNotNull(server.getAttribute(name, "OperationCounts"));
+			assertNotNull(server.getAttribute(name, "Gauges"));
+
+			// A second manager cannot take a name that is in use
+			assertThrows(IllegalStateException.class, () -> new TaskMetrics().register("metrics-test"));
+
+			// Registering again under the same name replaces the earlier registration
+			assertEquals(name, metrics.register("metrics-test"));
+			assertTrue(server.isRegistered(name));
+		} finally {
+			metrics.unregister();
+		}
+
+		assertFalse(server.isRegistered(name));
+		metrics.unregister();		// nothing left to remove
+	}
+
+	/**
+    * Returns the latencies 1 to n
+    *
+    * @param n number of latencies
+    *
+    * @return the latencies, in increasing order
+    */
+	private static long[] sequence(int n) {
+		long[] latencies = new long[n];
+		for(int i = 0; i < n; i++) {
+			latencies[i] = i + 1;
+		}
+		return latencies;
+	}
+
+	/**
+    * Returns random latencies spread evenly over the powers of two below a bound
+    *
+    * @param random random source
+    * @param n number of latencies
+    * @param bound exclusive upper bound
+    *
+    * @return the latencies, in no particular order
+    */
+	private static long[] randomLatencies(Random random, int n, long bound) {
+		int bits = 64 - Long.numberOfLeadingZeros(bound);
+		long[] latencies = new long[n];
+		for(int i = 0; i < n; i++) {
+			long value = random.nextLong() >>> (64 - 1 - random.nextInt(bits));
+			latencies[i] = Math.min(bound - 1, value);
+		}
+		return latencies;
+	}
+}
+
+// END OF TaskMetricsTest.java
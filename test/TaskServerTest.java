@@ -0,0 +1,400 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TaskServerTest.java
+* @brief This file contains the tests for the TCP front-end, run against a server on a local
+*        port: pipelined responses in request order, oversized requests, QUIT with requests
+*        still queued, half-closed connections, requests that fail with an Error, and the
+*        admission bound on mutations, checked by holding its permits
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Pipelined mutations applied in groups, reads seeing the mutations before them
+* 10/18/2026 - Executor in use reported for the running Java version
+* 10/18/2026 - Admission bound: busy answer on timeout, a full group admitted ahead of smaller ones
+*/
+
+public class TaskServerTest {
+
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+	private static final int READ_TIMEOUT_MILLIS = 10_000;
+	private static final int MAX_BATCHED_MUTATIONS = 256;
+
+	private TaskServer server;
+
+	@AfterEach
+	public void stopServer() throws IOException {
+		if(server != null) {
+			server.close();
+		}
+	}
+
+	@Test
+	public void pipelinedResponsesComeBackInRequestOrder() throws IOException {
+
+		start(new TaskManager());
+		int count = 2_000;
+
+		StringBuilder requests = new StringBuilder();
+		for(int i = 0; i < count; i++) {
+			requests.append("ADD\tTask ").append(i).append("\tPipelined\t").append(1 + i % 5).append("\t20261101\n");
+			if(i % 100 == 0) {
+				requests.append("PING\n");
+			}
+		}
+		requests.append("SIZE\n");
+
+		try(Socket socket = connect()) {
+			send(socket, requests.toString());
+			BufferedReader reader = reader(socket);
+
+			for(int i = 0; i < count; i++) {
+				String[] fields = reader.readLine().split("\t");
+				assertEquals("OK", fields[0]);
+				assertEquals("Task " + i, fields[2]);
+				if(i % 100 == 0) {
+					assertEquals("OK", reader.readLine());
+				}
+			}
+			assertEquals("OK\t" + count, reader.readLine());
+		}
+	}
+
+	@Test
+	public void pipelinedMutationsAreAppliedInGroups() throws IOException {
+
+		AtomicInteger batches = new AtomicInteger();
+		AtomicInteger mutations = new AtomicInteger();
+		start(new TaskManager() {
+			@Override
+			void applyBatch(TaskMutation[] batch, int count) {
+				batches.incrementAndGet();
+				mutations.addAndGet(count);
+				super.applyBatch(batch, count);
+			}
+		});
+		int count = 1_000;
+
+		StringBuilder requests = new StringBuilder();
+		for(int i = 0; i < count; i++) {
+			requests.append("ADD\tTask ").append(i).append("\tGrouped\t").append(1 + i % 5).append("\t20261101\n");
+		}
+		requests.append("SIZE\n");
+
+		try(Socket socket = connect()) {
+			send(socket, requests.toString());
+			BufferedReader reader = reader(socket);
+
+			for(int i = 0; i < count; i++) {
+				assertEquals("Task " + i, reader.readLine().split("\t")[2]);
+			}
+			assertEquals("OK\t" + count, reader.readLine());
+		}
+
+		assertEquals(count, mutations.get());
+		assertTrue(batches.get() <= count / 10, batches.get() + " batches for " + count + " mutations");
+	}
+
+	@Test
+	public void readsSeeTheMutationsBeforeThem() throws IOException {
+
+		start(new TaskManager());
+
+		try(Socket socket = connect()) {
+			send(socket, "ADD\tFirst\tKept\t2\t20261101\n"
+					+ "ADD\tBad\tPriority out of range\t9\t20261101\n"
+					+ "DELETE\t-1\n"
+					+ "SIZE\n"
+					+ "ADD\tSecond\tKept\t1\t20261102\n"
+					+ "TOPK\t5\n");
+			BufferedReader reader = reader(socket);
+
+			assertTrue(reader.readLine().startsWith("OK\t"));
+			assertTrue(reader.readLine().startsWith("ERROR\tPriority"));
+			assertEquals("NOT_FOUND", reader.readLine());
+			assertEquals("OK\t1", reader.readLine());
+			assertTrue(reader.readLine().startsWith("OK\t"));
+			assertEquals("OK\t2", reader.readLine());
+			assertEquals("First", reader.readLine().split("\t")[1]);
+			assertEquals("Second", reader.readLine().split("\t")[1]);
+		}
+	}
+
+	@Test
+	public void oversizedRequestIsAnsweredWithAnErrorThenClosed() throws IOException {
+
+		start(new TaskManager());
+
+		try(Socket socket = connect()) {
+			// Exactly one full line buffer, so the server reads everything before it closes
+			send(socket, "PING\n" + "x".repeat(MAX_LINE_LENGTH));
+			BufferedReader reader = reader(socket);
+
+			assertEquals("OK", reader.readLine());
+			assertTrue(reader.readLine().startsWith("ERROR\t"));
+			assertNull(reader.readLine());
+		}
+
+		assertServing();
+	}
+
+	@Test
+	public void quitDropsTheRequestsQueuedBehindIt() throws IOException {
+
+		TaskManager manager = new TaskManager();
+		start(manager);
+
+		try(Socket socket = connect()) {
+			send(socket, "PING\nQUIT\nADD\tNever\tAfter QUIT\t1\t20261101\nSIZE\n");
+			BufferedReader reader = reader(socket);
+
+			assertEquals("OK", reader.readLine());
+			assertEquals("OK", reader.readLine());
+			assertNull(reader.readLine());
+		}
+
+		assertEquals(0, manager.size());
+		assertServing();
+	}
+
+	@Test
+	public void halfClosedConnectionIsAnsweredThenClosed() throws IOException {
+
+		start(new TaskManager());
+
+		try(Socket socket = connect()) {
+			send(socket, "ADD\tHalf\tClosed\t2\t20261101\nSIZE\nPING\n");
+			socket.shutdownOutput();
+			BufferedReader reader = reader(socket);
+
+			assertTrue(reader.readLine().startsWith("OK\t"));
+			assertEquals("OK\t1", reader.readLine());
+			assertEquals("OK", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	public void clientClosingWithoutRequestsIsDropped() throws IOException {
+
+		start(new TaskManager());
+
+		try(Socket socket = connect()) {
+			socket.shutdownOutput();
+			assertNull(reader(socket).readLine());
+		}
+
+		assertServing();
+	}
+
+	@Test
+	public void reportsVirtualThreadsOnlyWhereTheRuntimeHasThem() throws IOException {
+
+		start(new TaskManager());
+		assertEquals(Runtime.version().feature() >= 21, server.usesVirtualThreads());
+		assertServing();
+	}
+
+	@Test
+	public void requestFailingWithAnErrorIsAnsweredAndClosesTheConnection() throws IOException {
+
+		start(new TaskManager() {
+			@Override
+			public Task search(long ID) {
+				throw new Error("Injected failure");
+			}
+		});
+
+		try(Socket socket = connect()) {
+			send(socket, "PING\nGET\t1\nPING\n");
+			BufferedReader reader = reader(socket);
+
+			assertEquals("OK", reader.readLine());
+			assertTrue(reader.readLine().startsWith("ERROR\t"));
+			assertNull(reader.readLine());
+		}
+
+		assertServing();
+	}
+
+	@Test
+	public void mutationsWaitingTooLongForAdmissionAreAnsweredBusy() throws Exception {
+
+		TaskManager manager = new TaskManager();
+		server = new TaskServer(manager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 200);
+		Semaphore admission = server.getAdmission();
+		int held = admission.drainPermits();
+
+		try(Socket socket = connect()) {
+			BufferedReader reader = reader(socket);
+
+			send(socket, "ADD\tRefused\tNo permits\t2\t20261101\nDELETE\t1\nSIZE\n");
+			assertEquals("ERROR\tServer busy, try again later", reader.readLine());
+			assertEquals("ERROR\tServer busy, try again later", reader.readLine());
+			assertEquals("OK\t0", reader.readLine());
+			assertEquals(0, manager.size());
+
+			admission.release(held);
+			send(socket, "ADD\tAdmitted\tPermits back\t2\t20261101\nSIZE\n");
+			assertTrue(reader.readLine().startsWith("OK\t"));
+			assertEquals("OK\t1", reader.readLine());
+		}
+	}
+
+	@Test
+	public void fullGroupIsAdmittedAheadOfSmallerOnes() throws Exception {
+
+		List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+		server = new TaskServer(new TaskManager() {
+			@Override
+			void applyBatch(TaskMutation[] batch, int count) {
+				batches.add(count);
+				super.applyBatch(batch, count);
+			}
+		}, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), READ_TIMEOUT_MILLIS);
+
+		// Leave one permit too few for a full group
+		Semaphore admission = server.getAdmission();
+		int held = admission.drainPermits();
+		admission.release(MAX_BATCHED_MUTATIONS - 1);
+		held -= MAX_BATCHED_MUTATIONS - 1;
+
+		StringBuilder group = new StringBuilder();
+		for(int i = 0; i < MAX_BATCHED_MUTATIONS; i++) {
+			group.append("ADD\tGrouped ").append(i).append("\tFull group\t3\t20261101\n");
+		}
+
+		try(Socket large = connect(); Socket first = connect(); Socket second = connect()) {
+			send(large, group.toString());
+			assertTrue(awaitQueued(admission, 1, READ_TIMEOUT_MILLIS), "the group never waited for admission");
+
+			// Single mutations would fit in the free permits, but wait behind the group. With 
+			// fewer workers than connections they may not reach the bound at all
+			send(first, "ADD\tSmall\tFirst\t1\t20261101\n");
+			send(second, "ADD\tSmall\tSecond\t1\t20261101\n");
+			awaitQueued(admission, 3, 500);
+			assertEquals(List.of(), batches);
+
+			admission.release();
+			held--;
+			BufferedReader largeReader = reader(large);
+			for(int i = 0; i < MAX_BATCHED_MUTATIONS; i++) {
+				assertEquals("Grouped " + i, largeReader.readLine().split("\t")[2]);
+			}
+			assertTrue(reader(first).readLine().startsWith("OK\t"));
+			assertTrue(reader(second).readLine().startsWith("OK\t"));
+		} finally {
+			admission.release(held);
+		}
+
+		assertEquals(List.of(MAX_BATCHED_MUTATIONS, 1, 1), batches);
+	}
+
+	/**
+    * Waits until a number of groups are waiting for admission, or a time has passed
+    *
+    * @param admission the admission bound
+    * @param count the number of waiting groups
+    * @param millis the longest wait
+    *
+    * @return true if that many groups are waiting
+    *
+    * @throws InterruptedException if interrupted while waiting
+    */
+	private static boolean awaitQueued(Semaphore admission, int count, long millis) throws InterruptedException {
+
+		long deadline = System.currentTimeMillis() + millis;
+		while(admission.getQueueLength() < count) {
+			if(System.currentTimeMillis() >= deadline) {
+				return false;
+			}
+			Thread.sleep(5);
+		}
+		return true;
+	}
+
+	/**
+    * Starts a server for a Task Manager on any free local port
+    *
+    * @param manager the Task Manager to serve
+    *
+    * @throws IOException if the server cannot be started
+    */
+	private void start(TaskManager manager) throws IOException {
+		server = new TaskServer(manager, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+	}
+
+	/**
+    * Opens a client connection to the server
+    *
+    * @return the connected socket
+    *
+    * @throws IOException if the connection fails
+    */
+	private Socket connect() throws IOException {
+
+		Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+		socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+		return socket;
+	}
+
+	/**
+    * Checks that the server still answers a new connection
+    *
+    * @throws IOException if the connection fails
+    */
+	private void assertServing() throws IOException {
+
+		try(Socket socket = connect()) {
+			send(socket, "PING\n");
+			assertEquals("OK", reader(socket).readLine());
+		}
+	}
+
+	/**
+    * Sends requests without waiting for their responses
+    *
+    * @param socket the client socket
+    * @param requests the request lines
+    *
+    * @throws IOException if the socket fails
+    */
+	private static void send(Socket socket, String requests) throws IOException {
+
+		OutputStream output = socket.getOutputStream();
+		output.write(requests.getBytes(StandardCharsets.UTF_8));
+		output.flush();
+	}
+
+	/**
+    * Opens a line reader on the responses
+    *
+    * @param socket the client socket
+    *
+    * @return the reader
+    *
+    * @throws IOException if the socket fails
+    */
+	private static BufferedReader reader(Socket socket) throws IOException {
+		return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+	}
+}
+
+// END OF TaskServerTest.java
@@ -0,0 +1,212 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+* @author Ayra Babar
+* @file TaskSnapshotTest.java
+* @brief This file contains the tests for binary snapshots: exact round trips, rejection of files
+*        that fail the magic number or CRC check, and replacement of the previous snapshot
+*        through a temporary file and an atomic rename
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class TaskSnapshotTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void missingSnapshotLoadsAsEmpty() throws IOException {
+		assertEquals(0, TaskSnapshot.load(directory.resolve("none.snapshot")).length);
+	}
+
+	@Test
+	public void roundTripKeepsEveryField() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		Task[] tasks = sampleTasks(200);
+
+		TaskSnapshot.write(file, tasks);
+		Task[] loaded = TaskSnapshot.load(file);
+
+		assertEquals(tasks.length, loaded.length);
+		for(int i = 0; i < tasks.length; i++) {
+			assertEquals(tasks[i].getID(), loaded[i].getID());
+			assertEquals(tasks[i].getName(), loaded[i].getName());
+			assertEquals(tasks[i].getDescription(), loaded[i].getDescription());
+			assertEquals(tasks[i].getPriority(), loaded[i].getPriority());
+			assertEquals(tasks[i].getDueDate(), loaded[i].getDueDate());
+			assertEquals(tasks[i].getCreatedAtNanos(), loaded[i].getCreatedAtNanos());
+		}
+	}
+
+	@Test
+	public void recordsLargerThanTheWriteBufferRoundTrip() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		String description = "x".repeat(200_000);
+		Task[] tasks = {new Task("Huge", description, 3, 20261020), new Task("Small", "s", 1, 20261021)};
+
+		TaskSnapshot.write(file, tasks);
+		Task[] loaded = TaskSnapshot.load(file);
+
+		assertEquals(description, loaded[0].getDescription());
+		assertEquals("Small", loaded[1].getName());
+	}
+
+	@Test
+	public void loadReservesSavedIDs() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		Task[] tasks = sampleTasks(3);
+		TaskSnapshot.write(file, tasks);
+
+		TaskSnapshot.load(file);
+		assertTrue(TaskIdAllocator.peekNextID() > tasks[2].getID());
+	}
+
+	@Test
+	public void corruptBodyIsRejected() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		TaskSnapshot.write(file, sampleTasks(20));
+
+		flipByte(file, Files.size(file) / 2);
+
+		IOException error = assertThrows(IOException.class, () -> TaskSnapshot.load(file));
+		assertTrue(error.getMessage().startsWith("Corrupt task snapshot"));
+	}
+
+	@Test
+	public void wrongMagicIsRejected() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		TaskSnapshot.write(file, sampleTasks(2));
+
+		flipByte(file, 0);
+
+		IOException error = assertThrows(IOException.class, () -> TaskSnapshot.load(file));
+		assertTrue(error.getMessage().startsWith("Not a task snapshot"));
+	}
+
+	@Test
+	public void truncatedFileIsRejected() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		Files.write(file, new byte[10]);
+
+		assertThrows(IOException.class, () -> TaskSnapshot.load(file));
+	}
+
+	@Test
+	public void writeReplacesPreviousSnapshotAndLeavesNoTemporaryFile() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		Path temporary = directory.resolve("tasks.snapshot.tmp");
+
+		TaskSnapshot.write(file, sampleTasks(5));
+		assertFalse(Files.exists(temporary));
+
+		Task[] newer = sampleTasks(3);
+		TaskSnapshot.write(file, newer);
+
+		Task[] loaded = TaskSnapshot.load(file);
+		assertEquals(3, loaded.length);
+		assertEquals(newer[0].getID(), loaded[0].getID());
+		assertFalse(Files.exists(temporary));
+	}
+
+	@Test
+	public void leftoverTemporaryFileDoesNotAffectTheSnapshot() throws IOException {
+
+		Path file = directory.resolve("tasks.snapshot");
+		Path temporary = directory.resolve("tasks.snapshot.tmp");
+		Task[] saved = sampleTasks(4);
+		TaskSnapshot.write(file, saved);
+
+		// A write that crashed before its rename leaves a partial temporary file behind
+		Files.write(temporary, new byte[] {1, 2, 3, 4, 5, 6, 7});
+		assertEquals(saved.length, TaskSnapshot.load(file).length);
+
+		TaskSnapshot.write(file, sampleTasks(2));
+		assertEquals(2, TaskSnapshot.load(file).length);
+		assertFalse(Files.exists(temporary));
+	}
+
+	@Test
+	public void managerRefusesCorruptSnapshot() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+		TaskSnapshot.write(snapshot, sampleTasks(10));
+		flipByte(snapshot, Files.size(snapshot) - 1);
+
+		assertThrows(IOException.class, () -> new TaskManager(log, snapshot, 1_000));
+	}
+
+	@Test
+	public void managerRestartsFromSnapshotWithEmptyLog() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+		Task kept;
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000)) {
+			kept = manager.addTask("Keep me", "Through the restart", 2, 20261030);
+			manager.addTask("Delete me", "Gone before close", 4, 20261031);
+			manager.deleteTask(kept.getID() + 1);
+		}
+
+		assertEquals(0, Files.size(log));
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000)) {
+			assertEquals(1, manager.size());
+			assertEquals("Keep me", manager.search(kept.getID()).getName());
+		}
+	}
+
+	/**
+    * Creates tasks in ascending ID order
+    *
+    * @param count number of tasks
+    *
+    * @return the tasks
+    */
+	private static Task[] sampleTasks(int count) {
+
+		Task[] tasks = new Task[count];
+		for(int i = 0; i < count; i++) {
+			tasks[i] = new Task("Task " + i + " ✓", "Description " + i, 1 + i % 5, 20261001 + i % 28);
+		}
+		return tasks;
+	}
+
+	/**
+    * Inverts the bits of one byte of a file
+    *
+    * @param file the file
+    * @param position the byte to change
+    *
+    * @throws IOException if the file cannot be read or written
+    */
+	private static void flipByte(Path file, long position) throws IOException {
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer one = ByteBuffer.allocate(1);
+			channel.read(one, position);
+			channel.write(ByteBuffer.wrap(new byte[] {(byte) ~one.get(0)}), position);
+		}
+	}
+}
+
+// END OF TaskSnapshotTest.java
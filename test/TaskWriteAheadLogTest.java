@@ -0,0 +1,572 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+* @author Ayra Babar
+* @file TaskWriteAheadLogTest.java
+* @brief This file contains the recovery tests for the write-ahead log: record framing and CRC
+*        checks, cutting a torn or corrupt tail, group commit, and rebuilding a durable Task
+*        Manager after a crash, including a crash between writing a snapshot and emptying the log.
+*        A crash is simulated by copying the files of a manager that is still open
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Failed sync tests: the log and its manager refuse writes, checkpoints and resets
+*/
+
+public class TaskWriteAheadLogTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void replaysEveryRecordInOrder() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		Task task = new Task("Write report", "Quarterly numbers", 2, 20261020);
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+			log.logAdd(task);
+			log.logEditName(task.getID(), "Write summary");
+			log.logEditDescription(task.getID(), "Yearly numbers");
+			log.logEditDueDate(task.getID(), 20261101);
+			log.logEditPriority(task.getID(), 4);
+			log.logAddAll(new Task[] {new Task("A", "a", 1, 20261020), new Task("B", "b", 1, 20261021)}, 2);
+			log.logDelete(task.getID());
+			log.sync(log.logClear());
+		}
+
+		Recorder replayed = replay(file);
+		assertEquals(List.of(
+				"add " + task.getID() + " Write report",
+				"editName " + task.getID() + " Write summary",
+				"editDescription " + task.getID() + " Yearly numbers",
+				"editDueDate " + task.getID() + " 20261101",
+				"editPriority " + task.getID() + " 4",
+				"addAll 2",
+				"delete " + task.getID(),
+				"clear"), replayed.records);
+	}
+
+	@Test
+	public void restoresTaskFieldsExactly() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		Task task = new Task("Ünïcode näme", "Description with\ttab", 5, 20261231);
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+			log.sync(log.logAdd(task));
+		}
+
+		Task restored = replay(file).tasks.get(0);
+		assertEquals(task.getID(), restored.getID());
+		assertEquals(task.getName(), restored.getName());
+		assertEquals(task.getDescription(), restored.getDescription());
+		assertEquals(task.getPriority(), restored.getPriority());
+		assertEquals(task.getDueDate(), restored.getDueDate());
+		assertEquals(task.getCreatedAtNanos(), restored.getCreatedAtNanos());
+	}
+
+	@Test
+	public void cutsTornTailAndAppendsAfterLastGoodRecord() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		writeDeletes(file, 1, 2, 3);
+		long goodSize = Files.size(file);
+
+		// A record whose header promises more bytes than the crash left behind
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			ByteBuffer torn = ByteBuffer.allocate(14);
+			torn.putInt(100).putInt(12345).putShort((short) 3).putInt(7);
+			torn.flip();
+			channel.write(torn);
+		}
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			Recorder replayed = new Recorder();
+			log.replay(replayed);
+			assertEquals(List.of("delete 1", "delete 2", "delete 3"), replayed.records);
+			assertEquals(goodSize, Files.size(file));
+			assertEquals(3, log.recordCount());
+
+			log.sync(log.logDelete(4));
+		}
+
+		assertEquals(List.of("delete 1", "delete 2", "delete 3", "delete 4"), replay(file).records);
+	}
+
+	@Test
+	public void cutsHeaderOnlyTail() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		writeDeletes(file, 1, 2);
+		long goodSize = Files.size(file);
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0}));
+		}
+
+		assertEquals(List.of("delete 1", "delete 2"), replay(file).records);
+		assertEquals(goodSize, Files.size(file));
+	}
+
+	@Test
+	public void stopsAtRecordWithBadChecksum() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		writeDeletes(file, 1, 2, 3);
+		long size = Files.size(file);
+		long recordBytes = size / 3;
+
+		// Flip one byte of the last record's payload
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer one = ByteBuffer.allocate(1);
+			channel.read(one, size - 1);
+			one.flip();
+			byte flipped = (byte) (one.get() ^ 0x5A);
+			channel.write(ByteBuffer.wrap(new byte[] {flipped}), size - 1);
+		}
+
+		assertEquals(List.of("delete 1", "delete 2"), replay(file).records);
+		assertEquals(size - recordBytes, Files.size(file));
+	}
+
+	@Test
+	public void stopsAtRecordWithZeroLength() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+		writeDeletes(file, 1);
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.allocate(8));
+		}
+		writeRaw(file, deleteRecord(2));
+
+		assertEquals(List.of("delete 1"), replay(file).records);
+	}
+
+	@Test
+	public void groupCommitMakesEveryWaitingRecordDurable() throws Exception {
+
+		Path file = directory.resolve("tasks.wal");
+		int threads = 8;
+		int perThread = 500;
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+
+			ExecutorService pool = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<?>> writers = new ArrayList<>();
+				for(int t = 0; t < threads; t++) {
+					long base = (long) t * perThread;
+					writers.add(pool.submit(() -> {
+						for(int i = 0; i < perThread; i++) {
+							log.sync(log.logDelete(base + i));
+						}
+						return null;
+					}));
+				}
+				for(Future<?> writer : writers) {
+					writer.get();
+				}
+			} finally {
+				pool.shutdown();
+			}
+
+			// Everything synced is already in the file, before close() writes anything
+			assertEquals(threads * perThread, replayCopy(file).records.size());
+		}
+
+		List<Long> IDs = new ArrayList<>();
+		for(String record : replay(file).records) {
+			IDs.add(Long.parseLong(record.substring("delete ".length())));
+		}
+		Collections.sort(IDs);
+		for(int i = 0; i < threads * perThread; i++) {
+			assertEquals(i, IDs.get(i));
+		}
+	}
+
+	@Test
+	public void syncOfAnOlderRecordReturnsOnceALaterOneIsDurable() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+			long first = log.logDelete(1);
+			long second = log.logDelete(2);
+			log.sync(second);
+			long size = Files.size(file);
+
+			log.sync(first);
+			assertEquals(size, Files.size(file));
+		}
+	}
+
+	@Test
+	public void resetEmptiesTheFile() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+			log.sync(log.logDelete(1));
+			log.reset();
+			assertEquals(0, log.recordCount());
+			assertEquals(0, Files.size(file));
+
+			log.sync(log.logDelete(2));
+		}
+
+		assertEquals(List.of("delete 2"), replay(file).records);
+	}
+
+	@Test
+	public void failedSyncRefusesNewRecordsAndResets() throws IOException {
+
+		Path file = directory.resolve("tasks.wal");
+
+		TaskWriteAheadLog log = new TaskWriteAheadLog(file);
+		log.replay(new Recorder());
+		log.sync(log.logDelete(1));
+		log.setCompanion(() -> { throw new IOException("disk full"); });
+
+		long sequence = log.logDelete(2);
+		UncheckedIOException failure = assertThrows(UncheckedIOException.class, () -> log.sync(sequence));
+		assertEquals("disk full", failure.getCause().getMessage());
+
+		assertThrows(UncheckedIOException.class, log::requireWritable);
+		assertThrows(UncheckedIOException.class, () -> log.logDelete(3));
+		assertThrows(IOException.class, log::reset);
+		assertThrows(IOException.class, log::close);
+
+		assertEquals(List.of("delete 1"), replay(file).records);
+	}
+
+	@Test
+	public void managerIsReadOnlyOnceItsLogFails() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+
+		TaskManager manager = new TaskManager(log, snapshot, 1_000_000);
+		Task kept = manager.addTask("Kept task", "Reached the disk", 2, 20261101);
+		List<String> durable = describe(manager);
+
+		manager.getWriteAheadLog().setCompanion(() -> { throw new IOException("disk full"); });
+		assertThrows(UncheckedIOException.class, () -> manager.addTask("Lost task", "Sync failed", 1, 20261102));
+		List<String> failed = describe(manager);
+
+		// Every later mutation is refused before it touches a store
+		assertThrows(UncheckedIOException.class, () -> manager.addTask("Refused", "Not applied", 1, 20261103));
+		assertThrows(UncheckedIOException.class, () -> manager.editName(kept.getID(), "Renamed"));
+		assertThrows(UncheckedIOException.class, () -> manager.deleteTask(kept.getID()));
+		assertThrows(UncheckedIOException.class, manager::clear);
+		assertEquals(failed, describe(manager));
+
+		// Neither a checkpoint nor closing saves the mutation whose sync failed
+		assertThrows(IOException.class, manager::checkpoint);
+		assertThrows(IOException.class, manager::close);
+
+		try(TaskManager restored = new TaskManager(log, snapshot, 1_000_000)) {
+			assertEquals(durable, describe(restored));
+		}
+	}
+
+	@Test
+	public void managerRebuildsStateAfterCrash() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			mutate(manager);
+			List<String> expected = describe(manager);
+
+			Path crashed = crashCopy(log, snapshot, "crashed");
+			try(TaskManager restored = open(crashed)) {
+				assertEquals(expected, describe(restored));
+			}
+		}
+	}
+
+	@Test
+	public void managerLosesOnlyTheTornLastMutation() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			mutate(manager);
+			List<String> beforeLast = describe(manager);
+			Task last = manager.addTask("Last task", "Torn by the crash", 1, 20270101);
+
+			Path crashed = crashCopy(log, snapshot, "crashed");
+			Path crashedLog = crashed.resolve("tasks.wal");
+			try(FileChannel channel = FileChannel.open(crashedLog, StandardOpenOption.WRITE)) {
+				channel.truncate(Files.size(crashedLog) - 3);
+			}
+
+			try(TaskManager restored = open(crashed)) {
+				assertEquals(beforeLast, describe(restored));
+				assertNull(restored.search(last.getID()));
+			}
+		}
+	}
+
+	@Test
+	public void replayIsIdempotentAfterCrashBetweenSnapshotAndLogReset() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			mutate(manager);
+			List<String> expected = describe(manager);
+
+			// The log as it was just before the checkpoint emptied it, next to the new snapshot
+			Path crashed = crashCopy(log, snapshot, "crashed");
+			manager.checkpoint();
+			Files.copy(snapshot, crashed.resolve("tasks.wal.snapshot"), StandardCopyOption.REPLACE_EXISTING);
+
+			try(TaskManager restored = open(crashed)) {
+				assertEquals(expected, describe(restored));
+			}
+		}
+	}
+
+	@Test
+	public void managerClosesTheLogWhenReplayFails() throws IOException {
+
+		Path log = directory.resolve("tasks.wal");
+		Path snapshot = directory.resolve("tasks.wal.snapshot");
+
+		// A well-framed record with an operation code the log does not know
+		writeRaw(log, frame(new byte[] {99}));
+
+		assertThrows(IllegalStateException.class, () -> new TaskManager(log, snapshot, 1_000_000));
+
+		// The log was left as it was for inspection
+		assertEquals(9, Files.size(log));
+		Files.delete(log);
+		try(TaskManager manager = new TaskManager(log, snapshot, 1_000_000)) {
+			assertEquals(0, manager.size());
+		}
+	}
+
+	/**
+    * Makes a mix of every kind of mutation, including ones that later mutations undo
+    *
+    * @param manager the durable Task Manager to change
+    */
+	private static void mutate(TaskManager manager) {
+
+		Task first = manager.addTask("Pay rent", "Before the fifth", 1, 20261105);
+		Task second = manager.addTask("Call plumber", "Kitchen sink", 3, 20261022);
+		Task third = manager.addTask("Book flights", "Holiday", 2, 20261201);
+
+		manager.editName(first.getID(), "Pay rent and bills");
+		manager.editDescription(second.getID(), "Kitchen and bathroom sinks");
+		manager.editDueDate(third.getID(), 20261215);
+		manager.editPriority(second.getID(), 1);
+		manager.deleteTask(third.getID());
+
+		List<Task> batch = new ArrayList<>();
+		for(int i = 0; i < 50; i++) {
+			batch.add(new Task("Imported " + i, "Bulk task", 1 + i % 5, 20261101 + i % 28));
+		}
+		manager.addTasks(batch);
+
+		manager.editPriority(batch.get(7).getID(), 5);
+		manager.deleteTask(batch.get(8).getID());
+		manager.addTask("After import", "Still there", 4, 20261120);
+	}
+
+	/**
+    * Describes every task of a Task Manager in priority order, so two managers can be compared
+    *
+    * @param manager the Task Manager to describe
+    *
+    * @return one line per task
+    */
+	private static List<String> describe(TaskManager manager) {
+
+		List<String> lines = new ArrayList<>();
+		for(Task task : manager.topK(Integer.MAX_VALUE)) {
+			lines.add(task.getID() + "|" + task.getName() + "|" + task.getDescription() + "|"
+					+ task.getPriority() + "|" + task.getDueDate() + "|" + task.getCreatedAtNanos());
+		}
+		return lines;
+	}
+
+	/**
+    * Copies the log and snapshot of an open Task Manager to a new directory, the state a crash
+    * would leave on disk
+    *
+    * @param log the log file
+    * @param snapshot the snapshot file
+    * @param name name of the new directory
+    *
+    * @return the new directory
+    *
+    * @throws IOException if a file cannot be copied
+    */
+	private Path crashCopy(Path log, Path snapshot, String name) throws IOException {
+
+		Path copy = Files.createDirectory(directory.resolve(name));
+		Files.copy(log, copy.resolve("tasks.wal"));
+		if(Files.exists(snapshot)) {
+			Files.copy(snapshot, copy.resolve("tasks.wal.snapshot"));
+		}
+		return copy;
+	}
+
+	/**
+    * Opens a durable Task Manager on the files of a crash copy
+    *
+    * @param crashed directory made by crashCopy()
+    *
+    * @return the restored Task Manager
+    *
+    * @throws IOException if the files cannot be read
+    */
+	private static TaskManager open(Path crashed) throws IOException {
+		return new TaskManager(crashed.resolve("tasks.wal"), crashed.resolve("tasks.wal.snapshot"), 1_000_000);
+	}
+
+	/**
+    * Logs one delete record per ID and closes the log
+    *
+    * @param file the log file
+    * @param IDs the task IDs
+    *
+    * @throws IOException if the log cannot be written
+    */
+	private static void writeDeletes(Path file, long... IDs) throws IOException {
+
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(new Recorder());
+			for(long ID : IDs) {
+				log.logDelete(ID);
+			}
+		}
+	}
+
+	/**
+    * Replays a log file from a fresh handle
+    *
+    * @param file the log file
+    *
+    * @return the replayed records
+    *
+    * @throws IOException if the log cannot be read
+    */
+	private static Recorder replay(Path file) throws IOException {
+
+		Recorder replayed = new Recorder();
+		try(TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+			log.replay(replayed);
+		}
+		return replayed;
+	}
+
+	/**
+    * Replays a copy of a log file that is still open elsewhere
+    *
+    * @param file the log file
+    *
+    * @return the replayed records
+    *
+    * @throws IOException if the log cannot be copied or read
+    */
+	private Recorder replayCopy(Path file) throws IOException {
+		Path copy = directory.resolve("copy.wal");
+		Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+		return replay(copy);
+	}
+
+	/**
+    * Builds a delete record payload in the log's format
+    *
+    * @param ID the task ID
+    *
+    * @return the framed record
+    */
+	private static byte[] deleteRecord(long ID) {
+		return frame(ByteBuffer.allocate(9).put((byte) 3).putLong(ID).array());
+	}
+
+	/**
+    * Frames a payload with its length and CRC32 the way the log does
+    *
+    * @param payload the record payload
+    *
+    * @return the framed record
+    */
+	private static byte[] frame(byte[] payload) {
+
+		CRC32 checksum = new CRC32();
+		checksum.update(payload);
+		return ByteBuffer.allocate(8 + payload.length)
+				.putInt(payload.length).putInt((int) checksum.getValue()).put(payload).array();
+	}
+
+	/**
+    * Appends bytes to a file, creating it if needed
+    *
+    * @param file the file
+    * @param bytes the bytes to append
+    *
+    * @throws IOException if the file cannot be written
+    */
+	private static void writeRaw(Path file, byte[] bytes) throws IOException {
+		Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	/**
+	* Replay target that records every mutation as a line of text
+	*/
+	private static class Recorder implements TaskWriteAheadLog.Replay {
+
+		final List<String> records = new ArrayList<>();
+		final List<Task> tasks = new ArrayList<>();
+
+		public void add(Task task) {
+			records.add("add " + task.getID() + " " + task.getName());
+			tasks.add(task);
+		}
+		public void addAll(List<Task> added) {
+			records.add("addAll " + added.size());
+			tasks.addAll(added);
+		}
+		public void delete(long ID) { records.add("delete " + ID); }
+		public void editName(long ID, String newName) { records.add("editName " + ID + " " + newName); }
+		public void editDescription(long ID, String newDescription) { records.add("editDescription " + ID + " " + newDescription); }
+		public void editDueDate(long ID, int newDueDate) { records.add("editDueDate " + ID + " " + newDueDate); }
+		public void editPriority(long ID, int newPriority) { records.add("editPriority " + ID + " " + newPriority); }
+		public void clear() { records.add("clear"); }
+	}
+}
+
+// END OF TaskWriteAheadLogTest.java
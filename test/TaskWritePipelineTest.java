@@ -0,0 +1,177 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TaskWritePipelineTest.java
+* @brief This file contains the tests for the single-writer mutation pipeline: futures completing
+*        in queue order, close() applying every accepted mutation while producers wait on a full
+*        ring, and a writer that dies failing every queued mutation instead of leaving it pending
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+*/
+
+public class TaskWritePipelineTest {
+
+	private static final long WAIT_SECONDS = 30;
+
+	@Test
+	public void mutationsApplyInQueueOrder() throws Exception {
+
+		TaskManager manager = new TaskManager();
+
+		try(TaskWritePipeline pipeline = new TaskWritePipeline(manager, 8)) {
+			Task task = pipeline.addTask("First", "Queued", 3, 20261101).get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+			CompletableFuture<Task> rename = pipeline.editName(task.getID(), "Renamed");
+			CompletableFuture<Task> reprioritize = pipeline.editPriority(task.getID(), 1);
+			CompletableFuture<Task> delete = pipeline.deleteTask(task.getID());
+			CompletableFuture<Task> missing = pipeline.editName(task.getID(), "Too late");
+
+			assertEquals("Renamed", rename.get(WAIT_SECONDS, TimeUnit.SECONDS).getName());
+			assertEquals(1, reprioritize.get(WAIT_SECONDS, TimeUnit.SECONDS).getPriority());
+			assertEquals(task.getID(), delete.get(WAIT_SECONDS, TimeUnit.SECONDS).getID());
+			assertNull(missing.get(WAIT_SECONDS, TimeUnit.SECONDS));
+		}
+
+		assertEquals(0, manager.size());
+	}
+
+	@Test
+	public void closeCompletesEveryAcceptedFuture() throws Exception {
+
+		TaskManager manager = new TaskManager();
+		TaskWritePipeline pipeline = new TaskWritePipeline(manager, 16);	// small, so producers wait on a full ring
+		int producers = 4;
+		int perProducer = 5_000;
+
+		List<List<CompletableFuture<Task>>> accepted = new ArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		AtomicInteger submitted = new AtomicInteger();
+
+		for(int p = 0; p < producers; p++) {
+			List<CompletableFuture<Task>> futures = new ArrayList<>();
+			accepted.add(futures);
+			int producer = p;
+
+			Thread thread = new Thread(() -> {
+				try {
+					for(int i = 0; i < perProducer; i++) {
+						futures.add(pipeline.addTask("Task " + producer + "-" + i, "Closing", 1 + i % 5, 20261101));
+						submitted.incrementAndGet();
+					}
+				} catch(IllegalStateException e) {
+					// The pipeline closed under this producer
+				}
+			}, "pipeline-producer-" + p);
+			threads.add(thread);
+			thread.start();
+		}
+
+		while(submitted.get() < 1_000) {
+			Thread.yield();
+		}
+		pipeline.close();
+
+		int total = 0;
+		for(int p = 0; p < producers; p++) {
+			threads.get(p).join();
+			for(CompletableFuture<Task> future : accepted.get(p)) {
+				assertTrue(future.isDone());
+				assertNotNull(future.get());
+			}
+			total += accepted.get(p).size();
+		}
+
+		assertEquals(total, manager.size());
+		assertThrows(IllegalStateException.class, () -> pipeline.addTask("After", "Closed", 1, 20261101));
+	}
+
+	@Test
+	public void writerErrorFailsQueuedMutationsAndStopsTheProducers() throws Exception {
+
+		CountDownLatch applying = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Error injected = new Error("Injected writer failure");
+
+		TaskManager manager = new TaskManager() {
+			@Override
+			void applyBatch(TaskMutation[] batch, int count) {
+				applying.countDown();
+				try {
+					release.await();
+				} catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw injected;
+			}
+		};
+
+		TaskWritePipeline pipeline = new TaskWritePipeline(manager, 4);
+		CompletableFuture<Task> first = pipeline.addTask("First", "Being applied", 1, 20261101);
+		assertTrue(applying.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+		List<CompletableFuture<Task>> queued = new ArrayList<>();
+		for(int i = 0; i < 4; i++) {
+			queued.add(pipeline.addTask("Queued " + i, "Never applied", 1, 20261101));
+		}
+
+		// One more producer finds the ring full and waits for room
+		CompletableFuture<CompletableFuture<Task>> blocked = new CompletableFuture<>();
+		Thread producer = new Thread(() -> {
+			try {
+				blocked.complete(pipeline.addTask("Blocked", "Waiting for room", 1, 20261101));
+			} catch(RuntimeException e) {
+				blocked.completeExceptionally(e);
+			}
+		}, "pipeline-blocked-producer");
+		producer.start();
+
+		release.countDown();
+
+		assertSame(injected, failure(first));
+		for(CompletableFuture<Task> future : queued) {
+			assertInstanceOf(IllegalStateException.class, failure(future));
+		}
+
+		producer.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+		assertFalse(producer.isAlive());
+		try {
+			assertInstanceOf(IllegalStateException.class, failure(blocked.get()));
+		} catch(ExecutionException e) {
+			assertInstanceOf(IllegalStateException.class, e.getCause());
+		}
+
+		assertThrows(IllegalStateException.class, () -> pipeline.addTask("After", "Writer died", 1, 20261101));
+		pipeline.close();
+	}
+
+	/**
+    * Waits for a future that must fail
+    *
+    * @param future the future
+    *
+    * @return what it failed with
+    */
+	private static Throwable failure(CompletableFuture<Task> future) throws InterruptedException, TimeoutException {
+
+		try {
+			future.get(WAIT_SECONDS, TimeUnit.SECONDS);
+		} catch(ExecutionException e) {
+			return e.getCause();
+		}
+		return fail("The future completed normally");
+	}
+}
+
+// END OF TaskWritePipelineTest.java
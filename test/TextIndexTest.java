@@ -0,0 +1,221 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+* @author Ayra Babar
+* @file TextIndexTest.java
+* @brief This file contains the tests for the text index: the lazy AND iterator finding the same
+*        tasks as the eager intersection across many compressed blocks, a text query with a
+*        limit stopping after enough matches, and AND, OR and prefix searches checked against a
+*        brute-force scan while tasks are renamed, redescribed and deleted
+*
+* 10/18/2026 - Initial creation & complete implementation of all methods
+* 10/18/2026 - Index kept up to date by edits and deletes, OR and prefix searches
+*/
+
+public class TextIndexTest {
+
+	private static final String[] WORDS = {"report", "review", "budget", "budgets", "plan", "planning",
+			"call", "client", "draft", "deadline", "team", "travel", "q3", "2026"};
+
+	@Test
+	public void lazyIntersectionMatchesEagerIntersection() {
+
+		TextIndex index = new TextIndex();
+		for(int i = 0; i < 5_000; i++) {
+			String name = (i % 2 == 0 ? "even" : "odd") + (i % 3 == 0 ? " three" : "") + (i % 7 == 0 ? " seven" : "");
+			index.add(new Task(name, "Task number " + i, 1 + i % 5, 20261101));
+		}
+
+		for(String words : List.of("even three", "three seven", "odd three seven", "number", "seven", "even odd", "missing three", "", "!!")) {
+			long[] expected = index.all(words);
+			List<Long> lazy = new ArrayList<>();
+			PrimitiveIterator.OfLong iterator = index.allIterator(words);
+			while(iterator.hasNext()) {
+				lazy.add(iterator.nextLong());
+			}
+
+			assertEquals(expected.length, lazy.size(), words);
+			for(int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], lazy.get(i), words);
+			}
+		}
+	}
+
+	@Test
+	public void searchesMatchABruteForceScanThroughEditsAndDeletes() {
+
+		Random random = new Random(20261018);
+		TaskManager manager = new TaskManager();
+		List<Task> live = new ArrayList<>();
+
+		for(int i = 0; i < 400; i++) {
+			live.add(manager.addTask(text(random, 3), text(random, 6), 1 + random.nextInt(5), 20261101));
+		}
+		assertSearchesMatch(manager, live, random);
+
+		for(int round = 0; round < 1_500; round++) {
+			Task task = live.get(random.nextInt(live.size()));
+			int action = random.nextInt(4);
+
+			if(action == 0) {
+				assertSame(task, manager.editName(task.getID(), text(random, 3)));
+			} else if(action == 1) {
+				assertSame(task, manager.editDescription(task.getID(), text(random, 6)));
+			} else if(action == 2) {
+				assertSame(task, manager.deleteTask(task.getID()));
+				live.remove(task);
+			} else {
+				live.add(manager.addTask(text(random, 3), text(random, 6), 1 + random.nextInt(5), 20261101));
+			}
+
+			if(round % 100 == 0) {
+				assertSearchesMatch(manager, live, random);
+			}
+		}
+		assertSearchesMatch(manager, live, random);
+
+		manager.clear();
+		assertEquals(List.of(), manager.searchAnyText(String.join(" ", WORDS)));
+		assertEquals(List.of(), manager.searchPrefix("a"));
+	}
+
+	@Test
+	public void textQueryStopsAtItsLimit() {
+
+		TaskManager manager = new TaskManager();
+		List<Long> expected = new ArrayList<>();
+		for(int i = 0; i < 1_000; i++) {
+			Task task = manager.addTask("Shared word " + i, (i % 4 == 0 ? "quarterly report" : "daily report"), 1 + i % 5, 20261101);
+			if(i % 4 == 0 && expected.size() < 10) {
+				expected.add(task.getID());
+			}
+		}
+
+		TaskQuery query = new TaskQuery().containing("quarterly report").limit(10);
+		assertEquals(QueryPlanner.AccessPath.TEXT, manager.explain(query));
+
+		List<Long> found = new ArrayList<>();
+		for(Task task : manager.query(query)) {
+			found.add(task.getID());
+		}
+		assertEquals(expected, found);
+	}
+
+	/**
+    * Checks AND, OR and prefix searches, single and multi-word, against a scan of every task
+    *
+    * @param manager the Task Manager to search
+    * @param live the tasks it holds
+    * @param random source of the words to search for
+    */
+	private static void assertSearchesMatch(TaskManager manager, List<Task> live, Random random) {
+
+		for(int i = 0; i < 10; i++) {
+			String one = WORDS[random.nextInt(WORDS.length)];
+			String two = one + " " + WORDS[random.nextInt(WORDS.length)].toUpperCase();
+			String start = WORDS[random.nextInt(WORDS.length)].substring(0, 1 + random.nextInt(2));
+
+			assertEquals(scan(live, words -> words.containsAll(split(two))), ids(manager.searchText(two)), two);
+			assertEquals(scan(live, words -> words.contains(one)), ids(manager.searchText(one)), one);
+			assertEquals(scan(live, words -> words.stream().anyMatch(split(two)::contains)), ids(manager.searchAnyText(two)), two);
+			assertEquals(scan(live, words -> words.stream().anyMatch(word -> word.startsWith(start))), 
+					ids(manager.searchPrefix(start)), start);
+
+			// Earlier words of a prefix must appear whole, the last one may be cut short
+			String typed = one + ", " + start;
+			assertEquals(scan(live, words -> words.contains(one) && words.stream().anyMatch(word -> word.startsWith(start))), 
+					ids(manager.searchPrefix(typed)), typed);
+		}
+
+		assertEquals(List.of(), manager.searchText("absent"));
+		assertEquals(List.of(), manager.searchAnyText("!!"));
+		assertEquals(List.of(), manager.searchPrefix("zz"));
+	}
+
+	/**
+    * Finds the tasks whose words pass a check, by reading every task
+    *
+    * @param live the tasks to read
+    * @param check the condition on the set of words of a task's name and description
+    *
+    * @return IDs of the matching tasks in ascending order
+    */
+	private static List<Long> scan(List<Task> live, Predicate<Set<String>> check) {
+
+		List<Long> found = new ArrayList<>();
+		for(Task task : live) {
+			Set<String> words = split(task.getName() + " " + task.getDescription());
+			if(check.test(words)) {
+				found.add(task.getID());
+			}
+		}
+		Collections.sort(found);
+		return found;
+	}
+
+	/**
+    * Splits text into lowercase words, separately from the index's own splitting
+    *
+    * @param text the text
+    *
+    * @return the distinct words
+    */
+	private static Set<String> split(String text) {
+
+		Set<String> words = new HashSet<>();
+		for(String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+			if(!word.isEmpty()) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+
+	/**
+    * Makes random text from the small vocabulary, with mixed case and punctuation
+    *
+    * @param random the source of words
+    * @param count number of words
+    *
+    * @return the text
+    */
+	private static String text(Random random, int count) {
+
+		StringBuilder text = new StringBuilder();
+		for(int i = 0; i < count; i++) {
+			String word = WORDS[random.nextInt(WORDS.length)];
+			text.append(random.nextInt(4) == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+			text.append(random.nextInt(5) == 0 ? "-" : " ");
+		}
+		return text.toString().trim();
+	}
+
+	/**
+    * Lists the IDs of tasks
+    *
+    * @param tasks the tasks
+    *
+    * @return their IDs, in the same order
+    */
+	private static List<Long> ids(List<Task> tasks) {
+
+		List<Long> IDs = new ArrayList<>();
+		for(Task task : tasks) {
+			IDs.add(task.getID());
+		}
+		return IDs;
+	}
+}
+
+// END OF TextIndexTest.java